@@ -0,0 +1,80 @@
+/**
+ * This Source Code Form is part of the HexaGlue project.
+ * Copyright (c) 2025 Scalastic
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ *
+ * Commercial licensing options are available for organizations wishing
+ * to use HexaGlue under terms different from the MPL 2.0.
+ * Contact: info@hexaglue.io
+ */
+package io.hexaglue.plugin.jpa.benchmarks;
+
+import io.hexaglue.plugin.jpa.analysis.PortMethodAnalyzer;
+import io.hexaglue.plugin.jpa.util.TypeUtils;
+import io.hexaglue.spi.ir.ports.PortMethodView;
+import io.hexaglue.spi.types.TypeRef;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Benchmarks the fine-grained analysis helpers called for every method and property.
+ *
+ * <ul>
+ *   <li>{@link TypeUtils#toTypeName}: over every distinct type reference of the model</li>
+ *   <li>{@link PortMethodAnalyzer#analyzeMethod}: over every method of every port</li>
+ * </ul>
+ *
+ * @since 0.4.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class AnalysisBenchmark {
+
+    @Param({"10", "100", "1000"})
+    public int ports;
+
+    private List<TypeRef> typeRefs;
+    private List<PortMethodView> methods;
+    private PortMethodAnalyzer methodAnalyzer;
+
+    @Setup
+    public void setUp() {
+        SyntheticDomainModel model = SyntheticDomainModel.withPorts(ports);
+        typeRefs = model.typeRefs();
+        methods = model.methods();
+        methodAnalyzer = new PortMethodAnalyzer();
+    }
+
+    @Benchmark
+    public void toTypeName(Blackhole blackhole) {
+        for (TypeRef typeRef : typeRefs) {
+            blackhole.consume(TypeUtils.toTypeName(typeRef));
+        }
+    }
+
+    @Benchmark
+    public void analyzeMethod(Blackhole blackhole) {
+        for (PortMethodView method : methods) {
+            blackhole.consume(methodAnalyzer.analyzeMethod(method));
+        }
+    }
+}
@@ -0,0 +1,136 @@
+/**
+ * This Source Code Form is part of the HexaGlue project.
+ * Copyright (c) 2025 Scalastic
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ *
+ * Commercial licensing options are available for organizations wishing
+ * to use HexaGlue under terms different from the MPL 2.0.
+ * Contact: info@hexaglue.io
+ */
+package io.hexaglue.plugin.jpa.benchmarks;
+
+import io.hexaglue.plugin.jpa.analysis.DomainTypeIndex;
+import io.hexaglue.plugin.jpa.analysis.JpaGenerationPlanBuilder;
+import io.hexaglue.plugin.jpa.generator.AdapterGenerator;
+import io.hexaglue.plugin.jpa.generator.ConverterGenerator;
+import io.hexaglue.plugin.jpa.generator.EmbeddableGenerator;
+import io.hexaglue.plugin.jpa.generator.EntityGenerator;
+import io.hexaglue.plugin.jpa.generator.MapperGenerator;
+import io.hexaglue.plugin.jpa.generator.RepositoryGenerator;
+import io.hexaglue.plugin.jpa.model.JpaGenerationPlan;
+import io.hexaglue.spi.codegen.MergeMode;
+import io.hexaglue.spi.ir.domain.DomainTypeView;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Benchmarks the {@code generate} method of every generator.
+ *
+ * <p>Plans are built once during setup, so each benchmark measures JavaPoet rendering only.
+ * One operation renders the artifact for every port of the model; embeddable and converter
+ * benchmarks render one file per port, from the shared {@code Address} and {@code Email}
+ * Value Objects.</p>
+ *
+ * @since 0.4.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class GeneratorBenchmark {
+
+    @Param({"10", "100", "1000"})
+    public int ports;
+
+    private List<JpaGenerationPlan> plans;
+    private DomainTypeView address;
+    private DomainTypeView email;
+
+    private EntityGenerator entityGenerator;
+    private RepositoryGenerator repositoryGenerator;
+    private MapperGenerator mapperGenerator;
+    private AdapterGenerator adapterGenerator;
+    private EmbeddableGenerator embeddableGenerator;
+    private ConverterGenerator converterGenerator;
+
+    @Setup
+    public void setUp() {
+        SyntheticDomainModel model = SyntheticDomainModel.withPorts(ports);
+        DomainTypeIndex typeIndex = DomainTypeIndex.of(model.context()).warmUp(model.ports());
+        JpaGenerationPlanBuilder builder =
+                new JpaGenerationPlanBuilder(model.context(), model.options(), typeIndex, diagnostic -> {});
+        plans = model.ports().stream().map(builder::build).toList();
+        address = model.domainType("com.example.bench.shared.Address");
+        email = model.domainType("com.example.bench.shared.Email");
+
+        String basePackage = model.options().basePackage();
+        entityGenerator = new EntityGenerator(model.options());
+        repositoryGenerator = new RepositoryGenerator(
+                model.options().featureFlags().generateQueryMethods(),
+                model.options().queryOptions());
+        boolean explicitWiring = model.options().featureFlags().explicitWiring();
+        mapperGenerator = new MapperGenerator(typeIndex, explicitWiring);
+        adapterGenerator = new AdapterGenerator(typeIndex, explicitWiring);
+        embeddableGenerator = new EmbeddableGenerator(basePackage);
+        converterGenerator = new ConverterGenerator(basePackage);
+    }
+
+    @Benchmark
+    public void entity(Blackhole blackhole) {
+        for (JpaGenerationPlan plan : plans) {
+            blackhole.consume(entityGenerator.generate(plan.entityModel(), MergeMode.OVERWRITE));
+        }
+    }
+
+    @Benchmark
+    public void repository(Blackhole blackhole) {
+        for (JpaGenerationPlan plan : plans) {
+            blackhole.consume(repositoryGenerator.generate(plan, MergeMode.OVERWRITE));
+        }
+    }
+
+    @Benchmark
+    public void mapper(Blackhole blackhole) {
+        for (JpaGenerationPlan plan : plans) {
+            blackhole.consume(mapperGenerator.generate(plan, MergeMode.OVERWRITE));
+        }
+    }
+
+    @Benchmark
+    public void adapter(Blackhole blackhole) {
+        for (JpaGenerationPlan plan : plans) {
+            blackhole.consume(adapterGenerator.generate(plan, MergeMode.OVERWRITE));
+        }
+    }
+
+    @Benchmark
+    public void embeddable(Blackhole blackhole) {
+        for (int i = 0; i < plans.size(); i++) {
+            blackhole.consume(embeddableGenerator.generate(address, MergeMode.OVERWRITE));
+        }
+    }
+
+    @Benchmark
+    public void converter(Blackhole blackhole) {
+        for (int i = 0; i < plans.size(); i++) {
+            blackhole.consume(converterGenerator.generate(email, MergeMode.OVERWRITE));
+        }
+    }
+}
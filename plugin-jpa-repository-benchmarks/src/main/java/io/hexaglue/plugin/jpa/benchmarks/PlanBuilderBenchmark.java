@@ -0,0 +1,67 @@
+/**
+ * This Source Code Form is part of the HexaGlue project.
+ * Copyright (c) 2025 Scalastic
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ *
+ * Commercial licensing options are available for organizations wishing
+ * to use HexaGlue under terms different from the MPL 2.0.
+ * Contact: info@hexaglue.io
+ */
+package io.hexaglue.plugin.jpa.benchmarks;
+
+import io.hexaglue.plugin.jpa.analysis.DomainTypeIndex;
+import io.hexaglue.plugin.jpa.analysis.JpaGenerationPlanBuilder;
+import io.hexaglue.spi.ir.ports.PortView;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Benchmarks {@link JpaGenerationPlanBuilder#build} over a whole synthetic model.
+ *
+ * <p>One operation plans every port of the model with a fresh {@link DomainTypeIndex},
+ * which is what the plugin does once per generation run.</p>
+ *
+ * @since 0.4.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PlanBuilderBenchmark {
+
+    @Param({"10", "100", "1000"})
+    public int ports;
+
+    private SyntheticDomainModel model;
+
+    @Setup
+    public void setUp() {
+        model = SyntheticDomainModel.withPorts(ports);
+    }
+
+    @Benchmark
+    public void buildPlans(Blackhole blackhole) {
+        DomainTypeIndex typeIndex = DomainTypeIndex.of(model.context()).warmUp(model.ports());
+        JpaGenerationPlanBuilder builder =
+                new JpaGenerationPlanBuilder(model.context(), model.options(), typeIndex, blackhole::consume);
+        for (PortView port : model.ports()) {
+            blackhole.consume(builder.build(port));
+        }
+    }
+}
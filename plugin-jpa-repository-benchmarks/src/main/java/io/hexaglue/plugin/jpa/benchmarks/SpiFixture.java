@@ -0,0 +1,160 @@
+/**
+ * This Source Code Form is part of the HexaGlue project.
+ * Copyright (c) 2025 Scalastic
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ *
+ * Commercial licensing options are available for organizations wishing
+ * to use HexaGlue under terms different from the MPL 2.0.
+ * Contact: info@hexaglue.io
+ */
+package io.hexaglue.plugin.jpa.benchmarks;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * Fixture implementation of an SPI interface, answering its methods from precomputed values.
+ *
+ * <p>Unlike a mock, a fixture neither records invocations nor matches arguments: a call is a
+ * lookup of the method name, and accessors allocate nothing. Its cost is therefore negligible
+ * and constant, so that benchmark scores measure the plugin rather than its inputs.</p>
+ *
+ * <p>Methods without an answer run their default implementation, if the interface declares one,
+ * and otherwise return an empty {@link Optional}, {@link List}, {@link Set} or {@link Map},
+ * {@code false}, zero or null. The SPI views are therefore implemented without listing every
+ * method, and the fixtures keep compiling when the engine adds methods to them.</p>
+ *
+ * @param <T> SPI interface
+ * @since 0.4.0
+ */
+final class SpiFixture<T> {
+
+    private final Class<T> type;
+    private final Map<String, Function<Object[], Object>> answers = new HashMap<>();
+    private final Set<String> selfMethods = new HashSet<>();
+
+    private SpiFixture(Class<T> type) {
+        this.type = Objects.requireNonNull(type, "type");
+    }
+
+    /**
+     * Starts a fixture of the given SPI interface.
+     *
+     * @param type SPI interface
+     * @param <T> SPI interface
+     * @return fixture builder
+     */
+    static <T> SpiFixture<T> of(Class<T> type) {
+        return new SpiFixture<>(type);
+    }
+
+    /**
+     * Answers a method, whatever its arguments, with a fixed value.
+     *
+     * @param method method name
+     * @param value returned value
+     * @return this fixture
+     */
+    SpiFixture<T> returns(String method, Object value) {
+        answers.put(method, arguments -> value);
+        return this;
+    }
+
+    /**
+     * Answers a method with a value computed from its arguments.
+     *
+     * @param method method name
+     * @param answer function of the call arguments
+     * @return this fixture
+     */
+    SpiFixture<T> answers(String method, Function<Object[], Object> answer) {
+        answers.put(method, Objects.requireNonNull(answer, "answer"));
+        return this;
+    }
+
+    /**
+     * Answers a method, whatever its arguments, with the fixture itself.
+     *
+     * @param method method name, e.g. {@code withNullability} of an immutable type reference
+     * @return this fixture
+     */
+    SpiFixture<T> returnsSelf(String method) {
+        selfMethods.add(method);
+        return this;
+    }
+
+    /**
+     * Creates the fixture instance.
+     *
+     * @return implementation of the SPI interface
+     */
+    T build() {
+        Map<String, Function<Object[], Object>> methods = Map.copyOf(answers);
+        Set<String> self = Set.copyOf(selfMethods);
+        InvocationHandler handler = (proxy, method, arguments) -> {
+            if (self.contains(method.getName())) {
+                return proxy;
+            }
+            Function<Object[], Object> answer = methods.get(method.getName());
+            if (answer != null) {
+                return answer.apply(arguments);
+            }
+            if (method.getDeclaringClass() == Object.class) {
+                return objectMethod(proxy, method, arguments);
+            }
+            if (method.isDefault()) {
+                return InvocationHandler.invokeDefault(proxy, method, arguments);
+            }
+            return emptyValue(method.getReturnType());
+        };
+        return type.cast(Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[] {type}, handler));
+    }
+
+    /**
+     * Implements {@code equals}, {@code hashCode} and {@code toString} with identity semantics.
+     */
+    private Object objectMethod(Object proxy, Method method, Object[] arguments) {
+        return switch (method.getName()) {
+            case "equals" -> proxy == arguments[0];
+            case "hashCode" -> System.identityHashCode(proxy);
+            default -> type.getSimpleName() + "Fixture@" + Integer.toHexString(System.identityHashCode(proxy));
+        };
+    }
+
+    private static Object emptyValue(Class<?> returnType) {
+        if (returnType == Optional.class) {
+            return Optional.empty();
+        }
+        if (returnType == List.class) {
+            return List.of();
+        }
+        if (returnType == Set.class) {
+            return Set.of();
+        }
+        if (returnType == Map.class) {
+            return Map.of();
+        }
+        if (returnType == boolean.class) {
+            return false;
+        }
+        if (returnType == int.class) {
+            return 0;
+        }
+        if (returnType == long.class) {
+            return 0L;
+        }
+        return null;
+    }
+}
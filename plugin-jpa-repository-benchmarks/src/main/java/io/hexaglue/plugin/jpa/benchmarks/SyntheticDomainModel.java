@@ -0,0 +1,290 @@
+/**
+ * This Source Code Form is part of the HexaGlue project.
+ * Copyright (c) 2025 Scalastic
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ *
+ * Commercial licensing options are available for organizations wishing
+ * to use HexaGlue under terms different from the MPL 2.0.
+ * Contact: info@hexaglue.io
+ */
+package io.hexaglue.plugin.jpa.benchmarks;
+
+import io.hexaglue.plugin.jpa.config.JpaPluginOptions;
+import io.hexaglue.spi.context.GenerationContextSpec;
+import io.hexaglue.spi.context.NameSpec;
+import io.hexaglue.spi.diagnostics.DiagnosticReporter;
+import io.hexaglue.spi.ir.IrView;
+import io.hexaglue.spi.ir.domain.DomainModelView;
+import io.hexaglue.spi.ir.domain.DomainPropertyView;
+import io.hexaglue.spi.ir.domain.DomainTypeKind;
+import io.hexaglue.spi.ir.domain.DomainTypeView;
+import io.hexaglue.spi.ir.ports.PortDirection;
+import io.hexaglue.spi.ir.ports.PortMethodView;
+import io.hexaglue.spi.ir.ports.PortModelView;
+import io.hexaglue.spi.ir.ports.PortParameterView;
+import io.hexaglue.spi.ir.ports.PortView;
+import io.hexaglue.spi.options.OptionsView;
+import io.hexaglue.spi.types.CollectionKind;
+import io.hexaglue.spi.types.CollectionMetadata;
+import io.hexaglue.spi.types.Nullability;
+import io.hexaglue.spi.types.ParameterizedRef;
+import io.hexaglue.spi.types.TypeKind;
+import io.hexaglue.spi.types.TypeName;
+import io.hexaglue.spi.types.TypeRef;
+import io.hexaglue.spi.types.TypeSystemSpec;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Synthetic HexaGlue IR used as benchmark input.
+ *
+ * <p>Each of the {@code portCount} aggregates has the shape of a typical repository port:</p>
+ * <ul>
+ *   <li>A single-field identifier ({@code CustomerNId} wrapping a {@code UUID})</li>
+ *   <li>Basic properties (String, Instant), an enum and a single-field Value Object ({@code Email})</li>
+ *   <li>A multi-field Value Object ({@code Address}) mapped as an embeddable</li>
+ *   <li>A one-to-many collection of child entities ({@code List<OrderLineN>})</li>
+ *   <li>CRUD methods plus derived {@code findBy}, {@code existsBy} and {@code countBy} queries</li>
+ * </ul>
+ *
+ * <p>The SPI views are {@link SpiFixture}s rather than mocks, so that their cost is negligible
+ * and does not grow during a run.</p>
+ *
+ * @since 0.4.0
+ */
+public final class SyntheticDomainModel {
+
+    private static final String PLUGIN_ID = "io.hexaglue.plugin.jpa";
+    private static final String BASE_PACKAGE = "com.example.bench";
+
+    private final Map<String, DomainTypeView> domainTypes = new HashMap<>();
+    private final Map<String, TypeRef> typeRefs = new HashMap<>();
+    private final List<PortView> ports = new ArrayList<>();
+    private final GenerationContextSpec context;
+    private final JpaPluginOptions options;
+
+    private SyntheticDomainModel(int portCount) {
+        createSharedTypes();
+        for (int i = 0; i < portCount; i++) {
+            ports.add(createAggregateWithPort(i));
+        }
+        context = createContext();
+        options = JpaPluginOptions.resolve(context.options().forPlugin(PLUGIN_ID), context);
+    }
+
+    /**
+     * Creates a model with the given number of repository ports.
+     *
+     * @param portCount number of ports (and aggregates)
+     * @return synthetic model
+     */
+    public static SyntheticDomainModel withPorts(int portCount) {
+        return new SyntheticDomainModel(portCount);
+    }
+
+    public GenerationContextSpec context() {
+        return context;
+    }
+
+    public JpaPluginOptions options() {
+        return options;
+    }
+
+    public List<PortView> ports() {
+        return ports;
+    }
+
+    /**
+     * Returns every distinct type reference of the model (method signatures and properties).
+     *
+     * @return type references
+     */
+    public List<TypeRef> typeRefs() {
+        return List.copyOf(typeRefs.values());
+    }
+
+    /**
+     * Returns every method of every port.
+     *
+     * @return port methods
+     */
+    public List<PortMethodView> methods() {
+        return ports.stream().flatMap(port -> port.methods().stream()).toList();
+    }
+
+    /**
+     * Returns the domain type with the given qualified name.
+     *
+     * @param qualifiedName qualified name
+     * @return domain type
+     */
+    public DomainTypeView domainType(String qualifiedName) {
+        return domainTypes.get(qualifiedName);
+    }
+
+    private void createSharedTypes() {
+        String shared = BASE_PACKAGE + ".shared.";
+        domainType(shared + "Email", DomainTypeKind.RECORD, property("value", classRef("java.lang.String")));
+        domainType(
+                shared + "Address",
+                DomainTypeKind.RECORD,
+                property("street", classRef("java.lang.String")),
+                property("city", classRef("java.lang.String")),
+                property("zipCode", classRef("java.lang.String")));
+        domainType(shared + "Status", DomainTypeKind.ENUMERATION);
+    }
+
+    private PortView createAggregateWithPort(int index) {
+        String pkg = BASE_PACKAGE + ".m" + index + ".";
+        String aggregate = pkg + "Customer" + index;
+        String id = aggregate + "Id";
+        String line = pkg + "OrderLine" + index;
+
+        TypeRef email = classRef(BASE_PACKAGE + ".shared.Email");
+        TypeRef status = classRef(BASE_PACKAGE + ".shared.Status");
+
+        domainType(id, DomainTypeKind.IDENTIFIER, property("value", classRef("java.util.UUID")));
+        domainType(
+                line,
+                DomainTypeKind.ENTITY,
+                property("sku", classRef("java.lang.String")),
+                property("quantity", classRef("int")));
+        domainType(
+                aggregate,
+                DomainTypeKind.AGGREGATE_ROOT,
+                property("id", classRef(id)),
+                property("name", classRef("java.lang.String")),
+                property("email", email),
+                property("address", classRef(BASE_PACKAGE + ".shared.Address")),
+                property("status", status),
+                property("createdAt", classRef("java.time.Instant")),
+                property("lines", parameterizedRef("java.util.List", classRef(line), CollectionKind.LIST)));
+
+        TypeRef aggregateRef = classRef(aggregate);
+        TypeRef idRef = classRef(id);
+        TypeRef optionalAggregate = parameterizedRef("java.util.Optional", aggregateRef, null);
+        TypeRef listOfAggregates = parameterizedRef("java.util.List", aggregateRef, CollectionKind.LIST);
+
+        List<PortMethodView> methods = List.of(
+                method("save", aggregateRef, parameter("customer", aggregateRef)),
+                method("findById", optionalAggregate, parameter("id", idRef)),
+                method("findAll", listOfAggregates),
+                method("findByName", listOfAggregates, parameter("name", classRef("java.lang.String"))),
+                method("findByEmail", optionalAggregate, parameter("email", email)),
+                method("existsByEmail", classRef("boolean"), parameter("email", email)),
+                method("countByStatus", classRef("long"), parameter("status", status)),
+                method("deleteById", classRef("void"), parameter("id", idRef)));
+        return SpiFixture.of(PortView.class)
+                .returns("qualifiedName", pkg + "Customer" + index + "Repository")
+                .returns("simpleName", "Customer" + index + "Repository")
+                .returns("direction", PortDirection.DRIVEN)
+                .returns("methods", methods)
+                .build();
+    }
+
+    private GenerationContextSpec createContext() {
+        DomainModelView domain = SpiFixture.of(DomainModelView.class)
+                .answers("findType", arguments -> Optional.ofNullable(domainTypes.get((String) arguments[0])))
+                .build();
+        PortModelView portModel = SpiFixture.of(PortModelView.class)
+                .answers("allPorts", arguments -> arguments[0] == PortDirection.DRIVEN ? ports : List.of())
+                .build();
+        IrView model = SpiFixture.of(IrView.class)
+                .returns("domain", domain)
+                .returns("ports", portModel)
+                .build();
+        TypeSystemSpec types = SpiFixture.of(TypeSystemSpec.class)
+                .answers("classRef", arguments -> classRef((String) arguments[0]))
+                .returns("objectType", classRef("java.lang.Object"))
+                .build();
+
+        // Every option resolves to its default value
+        OptionsView.PluginOptionsView pluginOptions = SpiFixture.of(OptionsView.PluginOptionsView.class)
+                .answers("getOrDefault", arguments -> arguments[2])
+                .build();
+        OptionsView optionsView = SpiFixture.of(OptionsView.class)
+                .returns("forPlugin", pluginOptions)
+                .build();
+        NameSpec names = SpiFixture.of(NameSpec.class).returns("basePackage", BASE_PACKAGE).build();
+
+        // Diagnostics are discarded: report() has no answer and returns nothing
+        return SpiFixture.of(GenerationContextSpec.class)
+                .returns("model", model)
+                .returns("diagnostics", SpiFixture.of(DiagnosticReporter.class).build())
+                .returns("types", types)
+                .returns("options", optionsView)
+                .returns("names", names)
+                .build();
+    }
+
+    private void domainType(String qualifiedName, DomainTypeKind kind, DomainPropertyView... properties) {
+        DomainTypeView type = SpiFixture.of(DomainTypeView.class)
+                .returns("qualifiedName", qualifiedName)
+                .returns("simpleName", qualifiedName.substring(qualifiedName.lastIndexOf('.') + 1))
+                .returns("kind", kind)
+                .returns("properties", List.of(properties))
+                .build();
+        domainTypes.put(qualifiedName, type);
+    }
+
+    private DomainPropertyView property(String name, TypeRef type) {
+        return SpiFixture.of(DomainPropertyView.class)
+                .returns("name", name)
+                .returns("type", type)
+                .build();
+    }
+
+    private PortMethodView method(String name, TypeRef returnType, PortParameterView... parameters) {
+        return SpiFixture.of(PortMethodView.class)
+                .returns("name", name)
+                .returns("returnType", returnType)
+                .returns("parameters", List.of(parameters))
+                .build();
+    }
+
+    private PortParameterView parameter(String name, TypeRef type) {
+        return SpiFixture.of(PortParameterView.class)
+                .returns("name", name)
+                .returns("type", type)
+                .build();
+    }
+
+    private TypeRef classRef(String qualifiedName) {
+        return typeRefs.computeIfAbsent(qualifiedName, name -> {
+            TypeKind kind = name.contains(".") ? TypeKind.CLASS : TypeKind.PRIMITIVE;
+            return typeRef(SpiFixture.of(TypeRef.class), name, kind)
+                    .returns("collectionMetadata", Optional.empty())
+                    .build();
+        });
+    }
+
+    private TypeRef parameterizedRef(String rawType, TypeRef argument, CollectionKind collectionKind) {
+        String rendered = rawType + "<" + argument.render() + ">";
+        return typeRefs.computeIfAbsent(rendered, name -> {
+            Optional<CollectionMetadata> metadata = collectionKind == null
+                    ? Optional.empty()
+                    : Optional.of(SpiFixture.of(CollectionMetadata.class)
+                            .returns("kind", collectionKind)
+                            .returns("elementType", argument)
+                            .build());
+            return typeRef(SpiFixture.of(ParameterizedRef.class), name, TypeKind.PARAMETERIZED)
+                    .returns("typeArguments", List.of(argument))
+                    .returns("collectionMetadata", metadata)
+                    .build();
+        });
+    }
+
+    private static <T extends TypeRef> SpiFixture<T> typeRef(SpiFixture<T> type, String rendered, TypeKind kind) {
+        return type.returns("kind", kind)
+                .returns("name", TypeName.of(rendered))
+                .returns("render", rendered)
+                .returns("nullability", Nullability.UNSPECIFIED)
+                .returnsSelf("withNullability");
+    }
+}
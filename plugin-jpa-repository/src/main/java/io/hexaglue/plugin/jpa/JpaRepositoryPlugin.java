@@ -12,17 +12,31 @@
  */
 package io.hexaglue.plugin.jpa;
 
+import io.hexaglue.plugin.jpa.analysis.DomainTypeIndex;
 import io.hexaglue.plugin.jpa.analysis.JpaGenerationPlanBuilder;
 import io.hexaglue.plugin.jpa.analysis.PortAnalyzer;
+import io.hexaglue.plugin.jpa.config.JpaBatchingOptions;
+import io.hexaglue.plugin.jpa.config.JpaExecutionOptions;
 import io.hexaglue.plugin.jpa.config.JpaPluginOptions;
+import io.hexaglue.plugin.jpa.diagnostics.DiagnosticCollector;
 import io.hexaglue.plugin.jpa.diagnostics.JpaDiagnosticCodes;
 import io.hexaglue.plugin.jpa.generator.AdapterGenerator;
+import io.hexaglue.plugin.jpa.generator.BatchingConfigurationGenerator;
 import io.hexaglue.plugin.jpa.generator.ConverterGenerator;
 import io.hexaglue.plugin.jpa.generator.EmbeddableGenerator;
 import io.hexaglue.plugin.jpa.generator.EntityGenerator;
+import io.hexaglue.plugin.jpa.generator.ManagedTypesConfigurationGenerator;
 import io.hexaglue.plugin.jpa.generator.MapperGenerator;
+import io.hexaglue.plugin.jpa.generator.PersistenceConfigurationGenerator;
 import io.hexaglue.plugin.jpa.generator.RepositoryGenerator;
+import io.hexaglue.plugin.jpa.generator.RuntimeHintsConfigurationGenerator;
+import io.hexaglue.plugin.jpa.generator.SupportClassRegistry;
+import io.hexaglue.plugin.jpa.generator.SupportClassRegistry.SupportClass;
+import io.hexaglue.plugin.jpa.incremental.FingerprintManifest;
+import io.hexaglue.plugin.jpa.incremental.IncrementalRun;
+import io.hexaglue.plugin.jpa.incremental.PortFingerprinter;
 import io.hexaglue.plugin.jpa.model.JpaGenerationPlan;
+import io.hexaglue.plugin.jpa.model.PropertyModel;
 import io.hexaglue.spi.HexaGluePlugin;
 import io.hexaglue.spi.HexaGlueVersion;
 import io.hexaglue.spi.PluginMetadata;
@@ -31,13 +45,23 @@ import io.hexaglue.spi.codegen.SourceFile;
 import io.hexaglue.spi.context.GenerationContextSpec;
 import io.hexaglue.spi.diagnostics.Diagnostic;
 import io.hexaglue.spi.diagnostics.DiagnosticSeverity;
+import io.hexaglue.spi.ir.domain.DomainPropertyView;
+import io.hexaglue.spi.ir.domain.DomainTypeView;
 import io.hexaglue.spi.ir.ports.PortDirection;
 import io.hexaglue.spi.ir.ports.PortView;
+import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.function.BiFunction;
 
 /**
  * HexaGlue plugin that generates Spring Data JPA persistence artifacts for DRIVEN ports.
@@ -53,6 +77,8 @@ import java.util.Set;
  *       <li>MapStruct Mapper (domain ↔ entity conversion)</li>
  *       <li>Adapter (port implementation)</li>
  *     </ul>
+ *     plus the embeddables and converters of the Value Objects they use, generated once
+ *     per run no matter how many ports share them
  *   </li>
  *   <li><strong>Validation</strong>: ID strategy compatibility, type mappability</li>
  *   <li><strong>Features</strong>: Auditing, soft delete, optimistic locking</li>
@@ -70,6 +96,12 @@ import java.util.Set;
  *       enableOptimisticLocking: true
  *       entitySuffix: Entity
  *       adapterSuffix: Adapter
+ *       parallelism: 1        # worker count, 0 = one per processor
+ *       jdbcBatchSize: 50     # generates a Hibernate JDBC batching configuration
+ *       streamFetchSize: 500  # JDBC fetch size of streaming query methods
+ *       generateManagedTypes: true  # registers the generated classes without scanning
+ *       generateRuntimeHints: true  # registers the generated classes for native images
+ *       explicitWiring: true        # wires adapters, mappers and repositories without scanning
  * }</pre>
  *
  * @since 0.4.0
@@ -166,68 +198,255 @@ public final class JpaRepositoryPlugin implements HexaGluePlugin {
                                 "Generating JPA artifacts for %d repository port(s)", repositoryPorts.size()))
                         .build());
 
-        // Step 3: Generate artifacts for each port
+        // Step 3: Index domain types once and find ports unchanged since the last run
+        DomainTypeIndex typeIndex = DomainTypeIndex.of(context).warmUp(repositoryPorts);
+        SupportClassRegistry supportClasses = new SupportClassRegistry();
+        IncrementalRun incremental = startIncremental(context, repositoryPorts, options, typeIndex);
+        List<PortView> stalePorts = repositoryPorts.stream()
+                .filter(port -> !incremental.isUpToDate(port))
+                .toList();
+
+        // Step 4: Build plans and render artifacts (concurrently when parallelism > 1)
+        Iterator<PortArtifacts> renderedPorts = renderAll(context, stalePorts, options, typeIndex, supportClasses)
+                .iterator();
+
+        // Step 5: Report diagnostics and write files in port declaration order
         int successCount = 0;
+        List<PortView> generatedPorts = new ArrayList<>();
         for (PortView port : repositoryPorts) {
+            if (incremental.isUpToDate(port)) {
+                reportUpToDate(context, port);
+                List<String> previousSupportClasses = incremental.previousSupportClasses(port);
+                previousSupportClasses.stream()
+                        .map(SupportClass::decode)
+                        .flatMap(Optional::stream)
+                        .forEach(supportClasses::registerExisting);
+                incremental.completed(port, previousSupportClasses, incremental.previousArtifacts(port));
+                generatedPorts.add(port);
+                successCount++;
+                continue;
+            }
+
+            PortArtifacts artifacts = renderedPorts.next();
+            artifacts.diagnostics().replayTo(context.diagnostics());
+            if (artifacts.failure() != null) {
+                reportGenerationFailure(context, artifacts.port(), artifacts.failure());
+                continue;
+            }
             try {
-                if (generateArtifacts(context, port, options)) {
+                if (writeArtifacts(context, artifacts)) {
+                    incremental.completed(
+                            port,
+                            artifacts.supportClasses().stream()
+                                    .map(SupportClass::encode)
+                                    .toList(),
+                            artifacts.files().stream()
+                                    .map(SourceFile::qualifiedTypeName)
+                                    .toList());
+                    generatedPorts.add(port);
                     successCount++;
                 }
+            } catch (Exception e) {
+                reportGenerationFailure(context, artifacts.port(), e);
+            }
+        }
+
+        // Step 6: Write the Value Object support classes shared by the ports, once each.
+        // The manifest is only updated if they were all written, so that the ports needing
+        // a missing class are regenerated on the next run.
+        if (writeSupportClasses(context, supportClasses, options)) {
+            finishIncremental(context, incremental, options);
+        }
+
+        // Step 7: Write run-wide configuration
+        writeBatchingConfiguration(context, options);
+        writeManagedTypesConfiguration(context, generatedPorts, supportClasses, options);
+        writeRuntimeHintsConfiguration(context, generatedPorts, supportClasses, options);
+        writePersistenceConfiguration(context, generatedPorts, options);
+
+        context.diagnostics()
+                .report(Diagnostic.builder()
+                        .severity(DiagnosticSeverity.INFO)
+                        .code(JpaDiagnosticCodes.COMPLETE)
+                        .pluginId(PLUGIN_ID)
+                        .message(String.format(
+                                "JPA generation complete (%d/%d port(s) processed)",
+                                successCount, repositoryPorts.size()))
+                        .build());
+    }
+
+    /**
+     * Builds plans and renders source files for all ports.
+     *
+     * <p>With a parallelism of 1 ports are rendered on the calling thread. Otherwise they are
+     * submitted to a bounded {@link ForkJoinPool}. Results are always returned in the order of
+     * {@code ports}, regardless of completion order, so that writes and diagnostics can be
+     * replayed deterministically.</p>
+     *
+     * @param context generation context
+     * @param ports repository ports to process
+     * @param options resolved plugin options
+     * @param typeIndex domain type index, warmed up before any worker starts
+     * @param supportClasses run-wide registry the workers register Value Object support classes in
+     * @return rendered artifacts, one entry per port, in port order
+     */
+    private List<PortArtifacts> renderAll(
+            GenerationContextSpec context,
+            List<PortView> ports,
+            JpaPluginOptions options,
+            DomainTypeIndex typeIndex,
+            SupportClassRegistry supportClasses) {
+        // Generators are stateless and shared by all ports of the run
+        Generators generators = new Generators(
+                typeIndex,
+                supportClasses,
+                new EntityGenerator(options),
+                new RepositoryGenerator(options.featureFlags().generateQueryMethods(), options.queryOptions()),
+                new MapperGenerator(typeIndex, options.featureFlags().explicitWiring()),
+                new AdapterGenerator(typeIndex, options.featureFlags().explicitWiring()));
+
+        JpaExecutionOptions execution = options.executionOptions();
+        if (!execution.isParallel() || ports.size() < 2) {
+            return ports.stream()
+                    .map(port -> renderPort(context, port, options, generators))
+                    .toList();
+        }
+
+        ForkJoinPool pool = new ForkJoinPool(Math.min(execution.effectiveParallelism(), ports.size()));
+        try {
+            List<ForkJoinTask<PortArtifacts>> tasks = new ArrayList<>(ports.size());
+            for (PortView port : ports) {
+                tasks.add(pool.submit(() -> renderPort(context, port, options, generators)));
+            }
+
+            List<PortArtifacts> results = new ArrayList<>(ports.size());
+            for (ForkJoinTask<PortArtifacts> task : tasks) {
+                results.add(task.join());
+            }
+            return results;
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    /**
+     * Builds the plan and renders all source files for a single port.
+     *
+     * <p>This method has no side effect on the generation context: diagnostics are buffered
+     * and files are returned, never written. Failures are captured in the result.</p>
+     *
+     * <p>Value Object support classes are not rendered here but registered in the run-wide
+     * registry once the port artifacts are rendered, so that a Value Object shared by several
+     * ports is generated only once.</p>
+     */
+    private PortArtifacts renderPort(
+            GenerationContextSpec context, PortView port, JpaPluginOptions options, Generators generators) {
+        DiagnosticCollector diagnostics = new DiagnosticCollector();
+        try {
+            // Step 1: Analyze port and build generation plan
+            JpaGenerationPlanBuilder planBuilder =
+                    new JpaGenerationPlanBuilder(context, options, generators.typeIndex(), diagnostics);
+            JpaGenerationPlan plan = planBuilder.build(port);
+
+            // Step 2: Generate main artifacts
+            List<SourceFile> files = new ArrayList<>();
+            files.add(generators.entity().generate(plan.entityModel(), options.mergeMode()));
+            files.add(generators.repository().generate(plan, options.mergeMode()));
+            files.add(generators.mapper().generate(plan, options.mergeMode()));
+            files.add(generators.adapter().generate(plan, options.mergeMode()));
+
+            // Step 3: Register Value Object support classes
+            List<SupportClass> supportClasses = new ArrayList<>();
+            registerEmbeddablesForEntity(generators.typeIndex(), plan, generators.supportClasses(), supportClasses);
+            registerConvertersForEntity(generators.typeIndex(), plan, generators.supportClasses(), supportClasses);
+
+            return new PortArtifacts(
+                    port, plan, files, supportClasses.stream().distinct().toList(), diagnostics, null);
+        } catch (Exception e) {
+            return new PortArtifacts(port, null, List.of(), List.of(), diagnostics, e);
+        }
+    }
+
+    /**
+     * Writes the rendered files of a single port.
+     */
+    private boolean writeArtifacts(GenerationContextSpec context, PortArtifacts artifacts) {
+        for (SourceFile file : artifacts.files()) {
+            try {
+                context.output().write(file);
             } catch (Exception e) {
                 context.diagnostics()
                         .report(Diagnostic.builder()
                                 .severity(DiagnosticSeverity.ERROR)
-                                .code(JpaDiagnosticCodes.GENERATION_FAILED)
+                                .code(JpaDiagnosticCodes.WRITE_FAILED)
                                 .pluginId(PLUGIN_ID)
                                 .message(String.format(
-                                        "Failed to generate artifacts for port '%s': %s",
-                                        port.qualifiedName(), e.getMessage()))
+                                        "Failed to write file '%s': %s", file.qualifiedTypeName(), e.getMessage()))
                                 .cause(e)
                                 .build());
+                throw e;
             }
         }
 
+        JpaGenerationPlan plan = artifacts.plan();
         context.diagnostics()
                 .report(Diagnostic.builder()
                         .severity(DiagnosticSeverity.INFO)
-                        .code(JpaDiagnosticCodes.COMPLETE)
+                        .code(JpaDiagnosticCodes.GENERATED)
                         .pluginId(PLUGIN_ID)
                         .message(String.format(
-                                "JPA generation complete (%d/%d port(s) processed)",
-                                successCount, repositoryPorts.size()))
+                                "Generated JPA artifacts for port '%s': entity=%s, adapter=%s",
+                                artifacts.port().qualifiedName(),
+                                plan.entityQualifiedName(),
+                                plan.adapterQualifiedName()))
                         .build());
+
+        return true;
     }
 
     /**
-     * Generates all 4 artifacts for a single port.
+     * Renders and writes the support classes registered by the ports generated in this run.
+     *
+     * <p>Classes are processed in a stable order (embeddables, then converters, by Value Object
+     * name). A failure is reported and does not prevent the remaining classes from being written.</p>
+     *
+     * @return true if every support class was written
      */
-    private boolean generateArtifacts(GenerationContextSpec context, PortView port, JpaPluginOptions options) {
-        // Step 1: Analyze port and build generation plan
-        JpaGenerationPlanBuilder planBuilder = new JpaGenerationPlanBuilder(context, options);
-        JpaGenerationPlan plan = planBuilder.build(port);
-
-        // Step 2: Create generators
-        EntityGenerator entityGen = new EntityGenerator(options);
-        RepositoryGenerator repoGen =
-                new RepositoryGenerator(options.featureFlags().generateQueryMethods());
-        MapperGenerator mapperGen = new MapperGenerator(context);
-        AdapterGenerator adapterGen = new AdapterGenerator(context);
+    private boolean writeSupportClasses(
+            GenerationContextSpec context, SupportClassRegistry supportClasses, JpaPluginOptions options) {
         EmbeddableGenerator embeddableGen = new EmbeddableGenerator(options.basePackage());
         ConverterGenerator converterGen = new ConverterGenerator(options.basePackage());
 
-        // Step 3: Generate Value Object support classes
-        List<SourceFile> files = new ArrayList<>();
-        generateEmbeddablesForEntity(context, plan, embeddableGen, options.mergeMode(), files);
-        generateConvertersForEntity(context, plan, converterGen, options.mergeMode(), files);
-
-        // Step 4: Generate main artifacts
-        files.add(entityGen.generate(plan.entityModel(), options.mergeMode()));
-        files.add(repoGen.generate(plan, options.mergeMode()));
-        files.add(mapperGen.generate(plan, options.mergeMode()));
-        files.add(adapterGen.generate(plan, options.mergeMode()));
+        boolean allWritten = true;
+        for (SupportClassRegistry.PendingSupportClass pending : supportClasses.pending()) {
+            SupportClass supportClass = pending.supportClass();
+            SourceFile file;
+            try {
+                file = switch (supportClass.kind()) {
+                    case EMBEDDABLE ->
+                        embeddableGen.generate(pending.valueObject(), options.mergeMode(), supportClass.compositeId());
+                    case CONVERTER -> converterGen.generate(pending.valueObject(), options.mergeMode());
+                };
+            } catch (IllegalArgumentException e) {
+                // Skip if converter generation fails (e.g., multi-field VO)
+                continue;
+            } catch (Exception e) {
+                context.diagnostics()
+                        .report(Diagnostic.builder()
+                                .severity(DiagnosticSeverity.ERROR)
+                                .code(JpaDiagnosticCodes.GENERATION_FAILED)
+                                .pluginId(PLUGIN_ID)
+                                .message(String.format(
+                                        "Failed to generate %s for '%s': %s",
+                                        supportClass.kind().name().toLowerCase(Locale.ROOT),
+                                        supportClass.valueObjectName(),
+                                        e.getMessage()))
+                                .cause(e)
+                                .build());
+                allWritten = false;
+                continue;
+            }
 
-        // Step 4: Write files
-        for (SourceFile file : files) {
             try {
                 context.output().write(file);
             } catch (Exception e) {
@@ -240,136 +459,372 @@ public final class JpaRepositoryPlugin implements HexaGluePlugin {
                                         "Failed to write file '%s': %s", file.qualifiedTypeName(), e.getMessage()))
                                 .cause(e)
                                 .build());
-                throw e;
+                allWritten = false;
             }
         }
+        return allWritten;
+    }
+
+    /**
+     * Writes the Hibernate JDBC batching configuration, if a batch size is configured.
+     *
+     * <p>Warns when the ID strategy is IDENTITY, since Hibernate cannot batch such inserts.</p>
+     */
+    private void writeBatchingConfiguration(GenerationContextSpec context, JpaPluginOptions options) {
+        JpaBatchingOptions batching = options.batchingOptions();
+        if (!batching.isEnabled()) {
+            return;
+        }
+
+        if (options.idStrategy() == JpaPluginOptions.IdGenerationStrategy.IDENTITY) {
+            context.diagnostics()
+                    .report(Diagnostic.builder()
+                            .severity(DiagnosticSeverity.WARNING)
+                            .code(JpaDiagnosticCodes.BATCHING_DISABLED_BY_IDENTITY)
+                            .pluginId(PLUGIN_ID)
+                            .message(String.format(
+                                    "jdbcBatchSize=%d has no effect on inserts with idStrategy=IDENTITY: "
+                                            + "Hibernate executes each insert to obtain the generated key. "
+                                            + "Consider SEQUENCE or ASSIGNED IDs for batch writes.",
+                                    batching.jdbcBatchSize()))
+                            .build());
+        }
+
+        BatchingConfigurationGenerator generator = new BatchingConfigurationGenerator(options.basePackage());
+        try {
+            context.output().write(generator.generate(batching, options.mergeMode()));
+        } catch (Exception e) {
+            context.diagnostics()
+                    .report(Diagnostic.builder()
+                            .severity(DiagnosticSeverity.ERROR)
+                            .code(JpaDiagnosticCodes.WRITE_FAILED)
+                            .pluginId(PLUGIN_ID)
+                            .message(String.format(
+                                    "Failed to write file '%s': %s", generator.qualifiedName(), e.getMessage()))
+                            .cause(e)
+                            .build());
+        }
+    }
+
+    /**
+     * Writes the {@code PersistenceManagedTypes} configuration, if enabled.
+     *
+     * <p>Lists the entities of the ports generated or up to date in this run, then the support
+     * classes of every port.</p>
+     */
+    private void writeManagedTypesConfiguration(
+            GenerationContextSpec context,
+            List<PortView> generatedPorts,
+            SupportClassRegistry supportClasses,
+            JpaPluginOptions options) {
+        if (!options.featureFlags().generateManagedTypes()) {
+            return;
+        }
+
+        List<String> managedClassNames =
+                new ArrayList<>(generatedNames(generatedPorts, options, JpaGenerationPlanBuilder::entityQualifiedName));
+        supportClasses.all().stream()
+                .map(supportClass -> supportClass.qualifiedName(options.basePackage()))
+                .forEach(managedClassNames::add);
 
+        ManagedTypesConfigurationGenerator generator = new ManagedTypesConfigurationGenerator(options.basePackage());
+        try {
+            context.output().write(generator.generate(managedClassNames, options.mergeMode()));
+        } catch (Exception e) {
+            context.diagnostics()
+                    .report(Diagnostic.builder()
+                            .severity(DiagnosticSeverity.ERROR)
+                            .code(JpaDiagnosticCodes.WRITE_FAILED)
+                            .pluginId(PLUGIN_ID)
+                            .message(String.format(
+                                    "Failed to write file '%s': %s", generator.qualifiedName(), e.getMessage()))
+                            .cause(e)
+                            .build());
+        }
+    }
+
+    /**
+     * Writes the native image runtime hints configuration, if enabled.
+     *
+     * <p>Covers the entities and mappers of the ports generated or up to date in this run, and the
+     * support classes of every port.</p>
+     */
+    private void writeRuntimeHintsConfiguration(
+            GenerationContextSpec context,
+            List<PortView> generatedPorts,
+            SupportClassRegistry supportClasses,
+            JpaPluginOptions options) {
+        if (!options.featureFlags().generateRuntimeHints()) {
+            return;
+        }
+
+        RuntimeHintsConfigurationGenerator generator = new RuntimeHintsConfigurationGenerator(options.basePackage());
+        try {
+            context.output()
+                    .write(generator.generate(
+                            generatedNames(generatedPorts, options, JpaGenerationPlanBuilder::entityQualifiedName),
+                            supportClasses.all(),
+                            generatedNames(generatedPorts, options, JpaGenerationPlanBuilder::mapperQualifiedName),
+                            options.mergeMode()));
+        } catch (Exception e) {
+            context.diagnostics()
+                    .report(Diagnostic.builder()
+                            .severity(DiagnosticSeverity.ERROR)
+                            .code(JpaDiagnosticCodes.WRITE_FAILED)
+                            .pluginId(PLUGIN_ID)
+                            .message(String.format(
+                                    "Failed to write file '%s': %s", generator.qualifiedName(), e.getMessage()))
+                            .cause(e)
+                            .build());
+        }
+    }
+
+    /**
+     * Writes the explicit adapter, mapper and repository wiring configuration, if enabled.
+     *
+     * <p>Covers the ports generated or up to date in this run. Since the configuration declares
+     * {@code @EnableJpaRepositories}, a warning tells that Spring Boot no longer enables the
+     * repositories the plugin did not generate.</p>
+     */
+    private void writePersistenceConfiguration(
+            GenerationContextSpec context, List<PortView> generatedPorts, JpaPluginOptions options) {
+        if (!options.featureFlags().explicitWiring() || generatedPorts.isEmpty()) {
+            return;
+        }
+
+        PersistenceConfigurationGenerator generator = new PersistenceConfigurationGenerator(options.basePackage());
+        try {
+            context.output()
+                    .write(generator.generate(
+                            generatedNames(generatedPorts, options, JpaGenerationPlanBuilder::adapterQualifiedName),
+                            generatedNames(generatedPorts, options, JpaGenerationPlanBuilder::mapperQualifiedName),
+                            generatedNames(
+                                    generatedPorts, options, JpaGenerationPlanBuilder::springDataRepoQualifiedName),
+                            options.mergeMode()));
+            context.diagnostics()
+                    .report(Diagnostic.builder()
+                            .severity(DiagnosticSeverity.WARNING)
+                            .code(JpaDiagnosticCodes.REPOSITORY_AUTO_CONFIGURATION_DISABLED)
+                            .pluginId(PLUGIN_ID)
+                            .message(String.format(
+                                    "'%s' declares @EnableJpaRepositories for the %d generated repository(ies),"
+                                            + " so Spring Boot's repository auto-configuration backs off."
+                                            + " Enable any other Spring Data repository in your own configuration.",
+                                    generator.qualifiedName(),
+                                    generatedPorts.size()))
+                            .build());
+        } catch (Exception e) {
+            context.diagnostics()
+                    .report(Diagnostic.builder()
+                            .severity(DiagnosticSeverity.ERROR)
+                            .code(JpaDiagnosticCodes.WRITE_FAILED)
+                            .pluginId(PLUGIN_ID)
+                            .message(String.format(
+                                    "Failed to write file '%s': %s", generator.qualifiedName(), e.getMessage()))
+                            .cause(e)
+                            .build());
+        }
+    }
+
+    /**
+     * Returns the sorted qualified names of an artifact generated for each port.
+     */
+    private static List<String> generatedNames(
+            List<PortView> ports, JpaPluginOptions options, BiFunction<PortView, JpaPluginOptions, String> naming) {
+        return ports.stream().map(port -> naming.apply(port, options)).sorted().toList();
+    }
+
+    /**
+     * Fingerprints the ports and loads the manifest of the previous run, if incremental mode is on.
+     *
+     * <p>The manifest is resolved against the output directory of the module rather than the
+     * working directory, which is the reactor root in a multi-module build. If the output
+     * directory is not configured or the manifest cannot be read, a warning is reported and every
+     * port is regenerated.</p>
+     */
+    private IncrementalRun startIncremental(
+            GenerationContextSpec context, List<PortView> ports, JpaPluginOptions options, DomainTypeIndex typeIndex) {
+        JpaExecutionOptions execution = options.executionOptions();
+        if (!execution.incremental()) {
+            return IncrementalRun.disabled();
+        }
+        if (!execution.hasOutputDirectory()) {
+            context.diagnostics()
+                    .report(Diagnostic.builder()
+                            .severity(DiagnosticSeverity.WARNING)
+                            .code(JpaDiagnosticCodes.MANIFEST_UNAVAILABLE)
+                            .pluginId(PLUGIN_ID)
+                            .message("Incremental generation requires 'outputDirectory', the directory generated "
+                                    + "sources are written to; all ports will be regenerated")
+                            .build());
+            return IncrementalRun.disabled();
+        }
+
+        Path manifestPath = execution.manifestPath();
+        FingerprintManifest previous;
+        try {
+            previous = FingerprintManifest.read(manifestPath);
+        } catch (Exception e) {
+            reportManifestUnavailable(context, "read", manifestPath, e);
+            previous = FingerprintManifest.empty();
+        }
+
+        PortFingerprinter fingerprinter = new PortFingerprinter(
+                typeIndex, context.options().forPlugin(PLUGIN_ID), PLUGIN_VERSION + "|" + options.generationKey());
+        Map<String, String> fingerprints = new LinkedHashMap<>();
+        for (PortView port : ports) {
+            fingerprints.put(port.qualifiedName(), fingerprinter.fingerprint(port));
+        }
+        return IncrementalRun.of(previous, fingerprints, Path.of(execution.outputDirectory()));
+    }
+
+    /**
+     * Persists the fingerprints of the ports completed during this run, if incremental mode is on.
+     */
+    private void finishIncremental(
+            GenerationContextSpec context, IncrementalRun incremental, JpaPluginOptions options) {
+        if (!incremental.isEnabled()) {
+            return;
+        }
+        Path manifestPath = options.executionOptions().manifestPath();
+        try {
+            incremental.nextManifest().write(manifestPath);
+        } catch (Exception e) {
+            reportManifestUnavailable(context, "write", manifestPath, e);
+        }
+    }
+
+    private void reportUpToDate(GenerationContextSpec context, PortView port) {
         context.diagnostics()
                 .report(Diagnostic.builder()
                         .severity(DiagnosticSeverity.INFO)
-                        .code(JpaDiagnosticCodes.GENERATED)
+                        .code(JpaDiagnosticCodes.UP_TO_DATE)
                         .pluginId(PLUGIN_ID)
                         .message(String.format(
-                                "Generated JPA artifacts for port '%s': entity=%s, adapter=%s",
-                                port.qualifiedName(), plan.entityQualifiedName(), plan.adapterQualifiedName()))
+                                "Port '%s' unchanged since last run, JPA artifacts kept as is", port.qualifiedName()))
                         .build());
+    }
 
-        return true;
+    private void reportManifestUnavailable(
+            GenerationContextSpec context, String operation, Path manifestPath, Exception e) {
+        context.diagnostics()
+                .report(Diagnostic.builder()
+                        .severity(DiagnosticSeverity.WARNING)
+                        .code(JpaDiagnosticCodes.MANIFEST_UNAVAILABLE)
+                        .pluginId(PLUGIN_ID)
+                        .message(String.format(
+                                "Could not %s incremental manifest '%s', all ports will be regenerated: %s",
+                                operation, manifestPath, e.getMessage()))
+                        .cause(e)
+                        .build());
+    }
+
+    private void reportGenerationFailure(GenerationContextSpec context, PortView port, Exception e) {
+        context.diagnostics()
+                .report(Diagnostic.builder()
+                        .severity(DiagnosticSeverity.ERROR)
+                        .code(JpaDiagnosticCodes.GENERATION_FAILED)
+                        .pluginId(PLUGIN_ID)
+                        .message(String.format(
+                                "Failed to generate artifacts for port '%s': %s", port.qualifiedName(), e.getMessage()))
+                        .cause(e)
+                        .build());
     }
 
     /**
-     * Generates @Embeddable classes for all multi-field Value Objects found in the entity.
+     * Registers @Embeddable classes for all multi-field Value Objects found in the entity.
      *
-     * @param context generation context
+     * @param typeIndex domain type index
      * @param plan JPA generation plan
-     * @param embeddableGen embeddable generator
-     * @param mergeMode merge mode for files
-     * @param files list to add generated files to
+     * @param registry run-wide support class registry
+     * @param registered list to add the registered support classes to
      */
-    private void generateEmbeddablesForEntity(
-            GenerationContextSpec context,
+    private void registerEmbeddablesForEntity(
+            DomainTypeIndex typeIndex,
             JpaGenerationPlan plan,
-            EmbeddableGenerator embeddableGen,
-            io.hexaglue.spi.codegen.MergeMode mergeMode,
-            List<SourceFile> files) {
-
-        // Track processed VO types to avoid duplicates
-        java.util.Set<String> processedVoTypes = new java.util.HashSet<>();
+            SupportClassRegistry registry,
+            List<SupportClass> registered) {
 
-        // Step 1: Check if ID is composite and generate its embeddable
+        // Step 1: Check if ID is composite and register its embeddable
         if (plan.entityModel().idModel().isComposite()) {
             String idTypeName = plan.entityModel().idModel().originalType().render();
-            Optional<io.hexaglue.spi.ir.domain.DomainTypeView> idTypeOpt =
-                    context.model().domain().findType(idTypeName);
-
-            if (idTypeOpt.isPresent()) {
-                // Generate embeddable with Serializable and equals/hashCode for composite ID
-                SourceFile embeddableFile = embeddableGen.generate(idTypeOpt.get(), mergeMode, true);
-                files.add(embeddableFile);
-                processedVoTypes.add(idTypeName);
-            }
+            // Embeddable with Serializable and equals/hashCode for composite ID
+            typeIndex
+                    .findType(idTypeName)
+                    .ifPresent(idType ->
+                            registered.add(registry.register(SupportClassRegistry.Kind.EMBEDDABLE, idType, true)));
         }
 
         // Step 2: Scan entity properties for embedded Value Objects
-        for (io.hexaglue.plugin.jpa.model.PropertyModel property :
-                plan.entityModel().properties()) {
+        for (PropertyModel property : plan.entityModel().properties()) {
             if (property.embedded()) {
-                String voTypeName = property.type().render();
-
-                // Generate embeddable only once per VO type
-                if (!processedVoTypes.contains(voTypeName)) {
-                    Optional<io.hexaglue.spi.ir.domain.DomainTypeView> voTypeOpt =
-                            context.model().domain().findType(voTypeName);
-
-                    if (voTypeOpt.isPresent()) {
-                        // Regular embedded VOs don't need Serializable/equals/hashCode
-                        SourceFile embeddableFile = embeddableGen.generate(voTypeOpt.get(), mergeMode, false);
-                        files.add(embeddableFile);
-                        processedVoTypes.add(voTypeName);
-                    }
-                }
+                // Regular embedded VOs don't need Serializable/equals/hashCode
+                typeIndex
+                        .findType(property.type().render())
+                        .ifPresent(voType ->
+                                registered.add(registry.register(SupportClassRegistry.Kind.EMBEDDABLE, voType, false)));
             }
         }
     }
 
     /**
-     * Generates JPA AttributeConverter classes for single-field Value Objects found in the entity.
+     * Registers JPA AttributeConverter classes for single-field Value Objects found in the entity.
      *
      * <p>Converters are generated with autoApply=false, allowing manual application via @Convert.</p>
      *
-     * @param context generation context
+     * @param typeIndex domain type index
      * @param plan JPA generation plan
-     * @param converterGen converter generator
-     * @param mergeMode merge mode for files
-     * @param files list to add generated files to
+     * @param registry run-wide support class registry
+     * @param registered list to add the registered support classes to
      */
-    private void generateConvertersForEntity(
-            GenerationContextSpec context,
+    private void registerConvertersForEntity(
+            DomainTypeIndex typeIndex,
             JpaGenerationPlan plan,
-            ConverterGenerator converterGen,
-            io.hexaglue.spi.codegen.MergeMode mergeMode,
-            List<SourceFile> files) {
-
-        // Track processed VO types to avoid duplicates
-        java.util.Set<String> processedVoTypes = new java.util.HashSet<>();
+            SupportClassRegistry registry,
+            List<SupportClass> registered) {
 
         // Also generate converters for single-field VOs used by MapStruct
         // (These are currently handled by MapStruct mappers, but converters provide an alternative)
         String domainTypeName = plan.entityModel().domainType().render();
-        Optional<io.hexaglue.spi.ir.domain.DomainTypeView> domainTypeOpt =
-                context.model().domain().findType(domainTypeName);
+        Optional<DomainTypeView> domainTypeOpt = typeIndex.findType(domainTypeName);
 
         if (domainTypeOpt.isEmpty()) {
             return;
         }
 
-        io.hexaglue.spi.ir.domain.DomainTypeView domainType = domainTypeOpt.get();
-
-        // Scan properties for single-field Value Objects (not embedded, not already processed)
-        for (io.hexaglue.spi.ir.domain.DomainPropertyView property : domainType.properties()) {
-            String propertyTypeName = property.type().render();
-            Optional<io.hexaglue.spi.ir.domain.DomainTypeView> propertyDomainType =
-                    context.model().domain().findType(propertyTypeName);
-
-            if (propertyDomainType.isPresent()) {
-                io.hexaglue.spi.ir.domain.DomainTypeView voType = propertyDomainType.get();
-
-                // Single-field Value Object (excluding IDs which are unwrapped in entities)
-                if ((voType.kind() == io.hexaglue.spi.ir.domain.DomainTypeKind.RECORD
-                                || voType.kind() == io.hexaglue.spi.ir.domain.DomainTypeKind.IDENTIFIER)
-                        && voType.properties().size() == 1
-                        && !property.name().equalsIgnoreCase("id")
-                        && !processedVoTypes.contains(voType.qualifiedName())) {
-
-                    try {
-                        SourceFile converterFile = converterGen.generate(voType, mergeMode);
-                        files.add(converterFile);
-                        processedVoTypes.add(voType.qualifiedName());
-                    } catch (IllegalArgumentException e) {
-                        // Skip if converter generation fails (e.g., multi-field VO)
-                    }
-                }
+        // Scan properties for single-field Value Objects
+        for (DomainPropertyView property : domainTypeOpt.get().properties()) {
+            DomainTypeIndex.IndexedType propertyType = typeIndex.lookup(property.type());
+
+            // Single-field Value Object (excluding IDs which are unwrapped in entities)
+            if (propertyType.exists()
+                    && propertyType.singleFieldValueObject()
+                    && !property.name().equalsIgnoreCase("id")) {
+                registered.add(registry.register(
+                        SupportClassRegistry.Kind.CONVERTER, propertyType.view().get(), false));
             }
         }
     }
+
+    /**
+     * Type index, support class registry and generators shared by all ports of a generation run.
+     */
+    private record Generators(
+            DomainTypeIndex typeIndex,
+            SupportClassRegistry supportClasses,
+            EntityGenerator entity,
+            RepositoryGenerator repository,
+            MapperGenerator mapper,
+            AdapterGenerator adapter) {}
+
+    /**
+     * Rendering outcome of a single port: either its files or the failure that prevented them.
+     */
+    private record PortArtifacts(
+            PortView port,
+            JpaGenerationPlan plan,
+            List<SourceFile> files,
+            List<SupportClass> supportClasses,
+            DiagnosticCollector diagnostics,
+            Exception failure) {}
 }
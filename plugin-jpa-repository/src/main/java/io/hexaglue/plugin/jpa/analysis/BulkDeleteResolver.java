@@ -0,0 +1,143 @@
+/**
+ * This Source Code Form is part of the HexaGlue project.
+ * Copyright (c) 2025 Scalastic
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ *
+ * Commercial licensing options are available for organizations wishing
+ * to use HexaGlue under terms different from the MPL 2.0.
+ * Contact: info@hexaglue.io
+ */
+package io.hexaglue.plugin.jpa.analysis;
+
+import io.hexaglue.plugin.jpa.diagnostics.JpaDiagnosticCodes;
+import io.hexaglue.plugin.jpa.model.BulkDeleteModel;
+import io.hexaglue.plugin.jpa.model.EntityModel;
+import io.hexaglue.plugin.jpa.model.QueryMethodModel;
+import io.hexaglue.plugin.jpa.model.QueryMethodModel.QueryType;
+import io.hexaglue.spi.diagnostics.Diagnostic;
+import io.hexaglue.spi.diagnostics.DiagnosticSeverity;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+
+/**
+ * Translates deleteBy methods into bulk JPQL statements.
+ *
+ * <p>A deleteBy method is translated when its predicate has a JPQL translation (see
+ * {@link JpqlPredicateTranslator}) and it returns nothing, a count ({@code int}, {@code long})
+ * or {@code boolean}.
+ * Methods returning the deleted aggregates need them loaded and keep the derived delete.</p>
+ *
+ * <h2>Cascades and Soft Delete</h2>
+ * <p>Bulk statements bypass cascading. Aggregates with a {@code @OneToMany} or
+ * {@code @ElementCollection} are therefore only bulk-deleted when soft delete is enabled, in which
+ * case the statement updates {@code deletedAt} of the live matching rows and leaves the children
+ * in place, exactly like the soft delete by ID. Since the matching rows are not known, the
+ * statement clears the whole persistence context. Both the translated statement and the methods
+ * that keep the load-then-delete derived form are reported
+ * ({@link JpaDiagnosticCodes#BULK_DELETE} and {@link JpaDiagnosticCodes#UNSUPPORTED_BULK_DELETE}).</p>
+ *
+ * @since 0.4.0
+ */
+public final class BulkDeleteResolver {
+
+    private static final String PLUGIN_ID = "io.hexaglue.plugin.jpa";
+
+    /** Port return types a bulk statement can produce from its affected-row count. */
+    private static final Set<String> COUNT_RETURN_TYPES =
+            Set.of("void", "int", "long", "boolean", "java.lang.Integer", "java.lang.Long", "Integer", "Long");
+
+    private final Consumer<Diagnostic> diagnostics;
+
+    /**
+     * Creates a bulk delete resolver.
+     *
+     * @param diagnostics sink receiving diagnostics emitted during resolution
+     */
+    public BulkDeleteResolver(Consumer<Diagnostic> diagnostics) {
+        this.diagnostics = Objects.requireNonNull(diagnostics, "diagnostics");
+    }
+
+    /**
+     * Resolves the bulk statement of a deleteBy method.
+     *
+     * @param queryMethod query method detected on the port
+     * @param entityModel entity model of the aggregate
+     * @param portQualifiedName qualified name of the port, for diagnostics
+     * @return the query method with its bulk delete, or unchanged if it is not a translatable deleteBy
+     */
+    public QueryMethodModel resolve(QueryMethodModel queryMethod, EntityModel entityModel, String portQualifiedName) {
+        Objects.requireNonNull(queryMethod, "queryMethod");
+        Objects.requireNonNull(entityModel, "entityModel");
+        Objects.requireNonNull(portQualifiedName, "portQualifiedName");
+        if (queryMethod.queryType() != QueryType.DELETE_BY) {
+            return queryMethod;
+        }
+
+        if (!entityModel.enableSoftDelete() && !entityModel.supportsBulkDelete()) {
+            return unsupported(queryMethod, portQualifiedName, "the aggregate has collections to cascade to");
+        }
+        if (!COUNT_RETURN_TYPES.contains(queryMethod.returnType().render())) {
+            return unsupported(
+                    queryMethod,
+                    portQualifiedName,
+                    "it returns " + queryMethod.returnType().render() + " rather than a count");
+        }
+
+        Optional<String> condition = JpqlPredicateTranslator.translate(queryMethod, entityModel);
+        if (condition.isEmpty()
+                || queryMethod.parameters().stream()
+                        .anyMatch(param -> param.name().equals(BulkDeleteModel.DELETED_AT_PARAMETER))) {
+            return unsupported(queryMethod, portQualifiedName, "its predicate has no JPQL translation");
+        }
+
+        BulkDeleteModel bulkDelete = entityModel.enableSoftDelete()
+                ? softDelete(entityModel, condition.get())
+                : new BulkDeleteModel(
+                        "delete from " + entityModel.entityClassName() + " e where " + condition.get(), false);
+
+        diagnostics.accept(Diagnostic.builder()
+                .severity(DiagnosticSeverity.INFO)
+                .code(JpaDiagnosticCodes.BULK_DELETE)
+                .pluginId(PLUGIN_ID)
+                .message("'" + queryMethod.methodName() + "' in port '" + portQualifiedName + "' "
+                        + (bulkDelete.softDelete()
+                                ? "soft-deletes the matching rows with a single UPDATE; child rows are kept."
+                                : "deletes the matching rows with a single DELETE, without entity callbacks.")
+                        + " The persistence context is cleared afterwards, detaching every entity loaded"
+                        + " earlier in the transaction.")
+                .build());
+        return queryMethod.withBulkDelete(bulkDelete);
+    }
+
+    private static BulkDeleteModel softDelete(EntityModel entityModel, String condition) {
+        String deletedAt = ":" + BulkDeleteModel.DELETED_AT_PARAMETER;
+        StringBuilder assignments = new StringBuilder("e.deletedAt = ").append(deletedAt);
+        if (entityModel.enableAuditing()) {
+            assignments.append(", e.updatedAt = ").append(deletedAt);
+        }
+        if (entityModel.enableOptimisticLocking()) {
+            assignments.append(", e.version = e.version + 1");
+        }
+        return new BulkDeleteModel(
+                "update " + entityModel.entityClassName() + " e set " + assignments + " where (" + condition
+                        + ") and e.deletedAt is null",
+                true);
+    }
+
+    private QueryMethodModel unsupported(QueryMethodModel queryMethod, String portQualifiedName, String reason) {
+        diagnostics.accept(Diagnostic.builder()
+                .severity(DiagnosticSeverity.WARNING)
+                .code(JpaDiagnosticCodes.UNSUPPORTED_BULK_DELETE)
+                .pluginId(PLUGIN_ID)
+                .message("'" + queryMethod.methodName() + "' in port '" + portQualifiedName
+                        + "' is not generated as a bulk delete because " + reason
+                        + ". Spring Data loads the matching entities and deletes them one by one.")
+                .build());
+        return queryMethod;
+    }
+}
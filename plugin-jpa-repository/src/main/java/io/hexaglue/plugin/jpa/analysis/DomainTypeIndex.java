@@ -0,0 +1,272 @@
+/**
+ * This Source Code Form is part of the HexaGlue project.
+ * Copyright (c) 2025 Scalastic
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ *
+ * Commercial licensing options are available for organizations wishing
+ * to use HexaGlue under terms different from the MPL 2.0.
+ * Contact: info@hexaglue.io
+ */
+package io.hexaglue.plugin.jpa.analysis;
+
+import io.hexaglue.spi.context.GenerationContextSpec;
+import io.hexaglue.spi.ir.domain.DomainModelView;
+import io.hexaglue.spi.ir.domain.DomainPropertyView;
+import io.hexaglue.spi.ir.domain.DomainTypeKind;
+import io.hexaglue.spi.ir.domain.DomainTypeView;
+import io.hexaglue.spi.ir.ports.PortMethodView;
+import io.hexaglue.spi.ir.ports.PortParameterView;
+import io.hexaglue.spi.ir.ports.PortView;
+import io.hexaglue.spi.types.CollectionMetadata;
+import io.hexaglue.spi.types.ParameterizedRef;
+import io.hexaglue.spi.types.TypeRef;
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Memoized index of domain types shared by all analyzers and generators of a run.
+ *
+ * <p>The JPA pipeline asks the same questions about the same types many times per port
+ * ("is this a single-field Value Object?", "what is its inner type?"). This index answers
+ * them from precomputed {@link IndexedType} entries instead of calling
+ * {@link DomainModelView#findType(String)} and re-deriving the facts on every call.</p>
+ *
+ * <h2>Indexed Facts</h2>
+ * <ul>
+ *   <li><strong>View</strong>: the {@link DomainTypeView}, if the type exists in the IR</li>
+ *   <li><strong>Kind</strong>: the {@link DomainTypeKind} of the type</li>
+ *   <li><strong>Single-field Value Object</strong>: RECORD/IDENTIFIER with one property, unwrapped for persistence</li>
+ *   <li><strong>Composite</strong>: RECORD/IDENTIFIER with several properties (composite ID or embeddable)</li>
+ *   <li><strong>Inner property</strong>: the wrapped property of a single-field Value Object</li>
+ * </ul>
+ *
+ * <h2>Lifecycle</h2>
+ * <p>The plugin creates one index per run and calls {@link #warmUp(Collection)} before
+ * processing ports, which indexes every domain type reachable from the ports. Types that were
+ * not reached are indexed lazily on first lookup. Unknown types are cached as well, so repeated
+ * misses are as cheap as hits.</p>
+ *
+ * <p>The index is safe for concurrent use. Lookups of already indexed types are plain map reads
+ * that allocate nothing: the returned {@link Optional}s are created once, at indexing time.</p>
+ *
+ * @since 0.4.0
+ */
+public final class DomainTypeIndex {
+
+    private final DomainModelView domain;
+    private final ConcurrentMap<String, IndexedType> entries = new ConcurrentHashMap<>();
+
+    public DomainTypeIndex(DomainModelView domain) {
+        this.domain = Objects.requireNonNull(domain, "domain");
+    }
+
+    /**
+     * Creates an empty index over the domain model of a generation context.
+     *
+     * @param context generation context
+     * @return new index
+     */
+    public static DomainTypeIndex of(GenerationContextSpec context) {
+        Objects.requireNonNull(context, "context");
+        return new DomainTypeIndex(context.model().domain());
+    }
+
+    /**
+     * Indexes every domain type reachable from the given ports.
+     *
+     * <p>Starts from the parameter and return types of all port methods and walks property
+     * and collection element types transitively.</p>
+     *
+     * @param ports ports whose types should be indexed
+     * @return this index
+     */
+    public DomainTypeIndex warmUp(Collection<PortView> ports) {
+        Objects.requireNonNull(ports, "ports");
+
+        Deque<TypeRef> pending = new ArrayDeque<>();
+        for (PortView port : ports) {
+            for (PortMethodView method : port.methods()) {
+                pending.add(method.returnType());
+                for (PortParameterView parameter : method.parameters()) {
+                    pending.add(parameter.type());
+                }
+            }
+        }
+
+        while (!pending.isEmpty()) {
+            TypeRef type = pending.poll();
+
+            // Walk into generic wrappers such as Optional<X>, List<X>, Page<X>
+            type.collectionMetadata().map(CollectionMetadata::elementType).ifPresent(pending::add);
+            if (type instanceof ParameterizedRef parameterized) {
+                pending.addAll(parameterized.typeArguments());
+            }
+
+            String qualifiedName = type.render();
+            if (entries.containsKey(qualifiedName)) {
+                continue;
+            }
+            IndexedType indexed = lookup(qualifiedName);
+            indexed.view().ifPresent(view -> {
+                for (DomainPropertyView property : view.properties()) {
+                    pending.add(property.type());
+                }
+            });
+        }
+        return this;
+    }
+
+    /**
+     * Returns the indexed entry for a qualified type name, indexing it on first access.
+     *
+     * @param qualifiedName qualified type name (as rendered by {@link TypeRef#render()})
+     * @return indexed entry, never null (see {@link IndexedType#exists()})
+     */
+    public IndexedType lookup(String qualifiedName) {
+        Objects.requireNonNull(qualifiedName, "qualifiedName");
+        IndexedType indexed = entries.get(qualifiedName);
+        if (indexed != null) {
+            return indexed;
+        }
+        return entries.computeIfAbsent(qualifiedName, name -> IndexedType.of(domain.findType(name)));
+    }
+
+    /**
+     * Returns the indexed entry for a type reference.
+     *
+     * @param type type reference
+     * @return indexed entry, never null
+     */
+    public IndexedType lookup(TypeRef type) {
+        return lookup(type.render());
+    }
+
+    /**
+     * Finds a domain type by qualified name.
+     *
+     * @param qualifiedName qualified type name
+     * @return domain type view, or empty if the type is not part of the domain model
+     */
+    public Optional<DomainTypeView> findType(String qualifiedName) {
+        return lookup(qualifiedName).view();
+    }
+
+    /**
+     * Returns the kind of a domain type.
+     *
+     * @param qualifiedName qualified type name
+     * @return domain type kind, or empty if the type is not part of the domain model
+     */
+    public Optional<DomainTypeKind> kind(String qualifiedName) {
+        return lookup(qualifiedName).kind();
+    }
+
+    /**
+     * Returns the persistence type of a single-field Value Object.
+     *
+     * @param qualifiedName qualified type name
+     * @return inner type, or empty if the type is not a single-field Value Object
+     */
+    public Optional<TypeRef> unwrappedType(String qualifiedName) {
+        return lookup(qualifiedName).unwrappedType();
+    }
+
+    /**
+     * Returns the number of types currently indexed, including cached misses.
+     *
+     * @return index size
+     */
+    public int size() {
+        return entries.size();
+    }
+
+    /**
+     * Precomputed facts about one type name.
+     *
+     * @param view domain type view, or empty if the name is not a domain type
+     * @param kind domain type kind, or empty if the name is not a domain type
+     * @param singleFieldValueObject true for RECORD/IDENTIFIER types with exactly one property
+     * @param composite true for RECORD/IDENTIFIER types with more than one property
+     * @param innerProperty wrapped property of a single-field Value Object, otherwise empty
+     * @param unwrappedType type of {@code innerProperty}, otherwise empty
+     * @since 0.4.0
+     */
+    public record IndexedType(
+            Optional<DomainTypeView> view,
+            Optional<DomainTypeKind> kind,
+            boolean singleFieldValueObject,
+            boolean composite,
+            Optional<DomainPropertyView> innerProperty,
+            Optional<TypeRef> unwrappedType) {
+
+        private static final IndexedType MISSING =
+                new IndexedType(Optional.empty(), Optional.empty(), false, false, Optional.empty(), Optional.empty());
+
+        public IndexedType {
+            Objects.requireNonNull(view, "view");
+            Objects.requireNonNull(kind, "kind");
+            Objects.requireNonNull(innerProperty, "innerProperty");
+            Objects.requireNonNull(unwrappedType, "unwrappedType");
+        }
+
+        static IndexedType of(Optional<DomainTypeView> view) {
+            if (view == null || view.isEmpty()) {
+                return MISSING;
+            }
+
+            DomainTypeView type = view.get();
+            DomainTypeKind kind = type.kind();
+            List<DomainPropertyView> properties = type.properties();
+            boolean valueObject = kind == DomainTypeKind.RECORD || kind == DomainTypeKind.IDENTIFIER;
+            boolean singleField = valueObject && properties.size() == 1;
+            boolean composite = valueObject && properties.size() > 1;
+
+            Optional<DomainPropertyView> innerProperty =
+                    singleField ? Optional.of(properties.get(0)) : Optional.empty();
+            return new IndexedType(
+                    view,
+                    Optional.ofNullable(kind),
+                    singleField,
+                    composite,
+                    innerProperty,
+                    innerProperty.map(DomainPropertyView::type));
+        }
+
+        /**
+         * Returns true if the type is part of the domain model.
+         *
+         * @return true if the type exists in the IR
+         */
+        public boolean exists() {
+            return view.isPresent();
+        }
+
+        /**
+         * Returns true if the type is a Value Object (RECORD or IDENTIFIER), whatever its arity.
+         *
+         * @return true for Value Objects
+         */
+        public boolean isValueObject() {
+            return isKind(DomainTypeKind.RECORD) || isKind(DomainTypeKind.IDENTIFIER);
+        }
+
+        /**
+         * Returns true if the type has the given kind.
+         *
+         * @param expected expected kind
+         * @return true if the type exists and has the expected kind
+         */
+        public boolean isKind(DomainTypeKind expected) {
+            return kind.isPresent() && kind.get() == expected;
+        }
+    }
+}
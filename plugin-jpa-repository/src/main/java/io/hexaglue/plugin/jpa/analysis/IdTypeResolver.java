@@ -13,23 +13,22 @@
 package io.hexaglue.plugin.jpa.analysis;
 
 import io.hexaglue.plugin.jpa.config.JpaPluginOptions;
+import io.hexaglue.plugin.jpa.config.JpaSequenceOptions;
 import io.hexaglue.plugin.jpa.diagnostics.JpaDiagnosticCodes;
 import io.hexaglue.plugin.jpa.model.IdModel;
 import io.hexaglue.plugin.jpa.validation.IdStrategyValidator;
 import io.hexaglue.spi.context.GenerationContextSpec;
 import io.hexaglue.spi.diagnostics.Diagnostic;
 import io.hexaglue.spi.diagnostics.DiagnosticSeverity;
-import io.hexaglue.spi.ir.domain.DomainPropertyView;
-import io.hexaglue.spi.ir.domain.DomainTypeKind;
-import io.hexaglue.spi.ir.domain.DomainTypeView;
 import io.hexaglue.spi.ir.ports.PortMethodView;
 import io.hexaglue.spi.ir.ports.PortParameterView;
 import io.hexaglue.spi.ir.ports.PortView;
+import io.hexaglue.spi.options.OptionsView;
 import io.hexaglue.spi.types.TypeRef;
-import java.util.List;
 import java.util.Locale;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 /**
  * Resolves and unwraps ID types for JPA persistence.
@@ -69,10 +68,30 @@ public final class IdTypeResolver {
     private final GenerationContextSpec context;
     private final JpaPluginOptions options;
     private final IdStrategyValidator idStrategyValidator;
+    private final DomainTypeIndex typeIndex;
+    private final Consumer<Diagnostic> diagnostics;
 
     public IdTypeResolver(GenerationContextSpec context, JpaPluginOptions options) {
+        this(context, options, DomainTypeIndex.of(context), context.diagnostics()::report);
+    }
+
+    /**
+     * Constructor with a shared type index and an explicit diagnostic sink.
+     *
+     * @param context generation context
+     * @param options plugin options
+     * @param typeIndex domain type index shared by the run
+     * @param diagnostics sink receiving diagnostics emitted during resolution
+     */
+    public IdTypeResolver(
+            GenerationContextSpec context,
+            JpaPluginOptions options,
+            DomainTypeIndex typeIndex,
+            Consumer<Diagnostic> diagnostics) {
         this.context = Objects.requireNonNull(context, "context");
         this.options = Objects.requireNonNull(options, "options");
+        this.typeIndex = Objects.requireNonNull(typeIndex, "typeIndex");
+        this.diagnostics = Objects.requireNonNull(diagnostics, "diagnostics");
         this.idStrategyValidator = new IdStrategyValidator(PLUGIN_ID);
     }
 
@@ -95,29 +114,27 @@ public final class IdTypeResolver {
 
         // Infer original ID type from port methods
         TypeRef originalIdType = inferIdType(port).orElseGet(() -> {
-            context.diagnostics()
-                    .report(Diagnostic.builder()
-                            .severity(DiagnosticSeverity.WARNING)
-                            .code(JpaDiagnosticCodes.NO_ID_TYPE)
-                            .pluginId(PLUGIN_ID)
-                            .message("Could not infer ID type for port '" + port.qualifiedName()
-                                    + "'. Using java.lang.Object as fallback.")
-                            .build());
+            diagnostics.accept(Diagnostic.builder()
+                    .severity(DiagnosticSeverity.WARNING)
+                    .code(JpaDiagnosticCodes.NO_ID_TYPE)
+                    .pluginId(PLUGIN_ID)
+                    .message("Could not infer ID type for port '" + port.qualifiedName()
+                            + "'. Using java.lang.Object as fallback.")
+                    .build());
             return context.types().objectType();
         });
 
         // Check if this is a composite ID (multi-property Value Object)
         if (isCompositeId(originalIdType)) {
             // Composite IDs use @EmbeddedId with ASSIGNED strategy
-            context.diagnostics()
-                    .report(Diagnostic.builder()
-                            .severity(DiagnosticSeverity.INFO)
-                            .code(JpaDiagnosticCodes.CONFIG_RESOLVED)
-                            .pluginId(PLUGIN_ID)
-                            .message("Detected composite ID '" + originalIdType.render()
-                                    + "' for port '" + port.qualifiedName()
-                                    + "'. Will generate @EmbeddedId with @Embeddable class.")
-                            .build());
+            diagnostics.accept(Diagnostic.builder()
+                    .severity(DiagnosticSeverity.INFO)
+                    .code(JpaDiagnosticCodes.CONFIG_RESOLVED)
+                    .pluginId(PLUGIN_ID)
+                    .message("Detected composite ID '" + originalIdType.render()
+                            + "' for port '" + port.qualifiedName()
+                            + "'. Will generate @EmbeddedId with @Embeddable class.")
+                    .build());
             return IdModel.composite(originalIdType);
         }
 
@@ -128,9 +145,35 @@ public final class IdTypeResolver {
         validateStrategyCompatibility(unwrappedIdType, port);
 
         // Create ID model
+        if (options.idStrategy() == JpaPluginOptions.IdGenerationStrategy.SEQUENCE) {
+            return resolveSequenceId(port, unwrappedIdType, originalIdType);
+        }
         return IdModel.simple(unwrappedIdType, originalIdType, options.idStrategy(), options.sequenceName());
     }
 
+    /**
+     * Resolves a sequence-generated ID with the sequence settings of the port aggregate.
+     *
+     * <p>Per-aggregate options ({@code types.<fqcn>.sequenceName},
+     * {@code types.<fqcn>.sequenceAllocationSize}, {@code types.<fqcn>.sequenceOptimizer})
+     * override the global ones.</p>
+     */
+    private IdModel resolveSequenceId(PortView port, TypeRef unwrappedIdType, TypeRef originalIdType) {
+        OptionsView.PluginOptionsView pluginOptions = context.options().forPlugin(PLUGIN_ID);
+        String domainTypeName =
+                PortAnalyzer.inferDomainType(port).map(TypeRef::render).orElse("");
+
+        String sequenceName = pluginOptions
+                .getOrDefault("types." + domainTypeName + ".sequenceName", String.class, "")
+                .trim();
+        if (sequenceName.isEmpty()) {
+            sequenceName = options.sequenceName();
+        }
+
+        JpaSequenceOptions sequenceOptions = options.sequenceOptions().forType(pluginOptions, domainTypeName);
+        return IdModel.sequence(unwrappedIdType, originalIdType, sequenceName, sequenceOptions);
+    }
+
     /**
      * Checks if an ID type is composite (has multiple properties).
      *
@@ -140,21 +183,8 @@ public final class IdTypeResolver {
      * @return true if composite (multi-property), false otherwise
      */
     private boolean isCompositeId(TypeRef idType) {
-        String idTypeName = idType.render();
-
-        // Look up in domain model
-        Optional<DomainTypeView> domainType = context.model().domain().findType(idTypeName);
-
-        if (domainType.isPresent()) {
-            DomainTypeView type = domainType.get();
-
-            // Composite ID: Value Object with multiple properties
-            if (type.kind() == DomainTypeKind.IDENTIFIER || type.kind() == DomainTypeKind.RECORD) {
-                return type.properties().size() > 1;
-            }
-        }
-
-        return false;
+        // Composite ID: Value Object with multiple properties
+        return typeIndex.lookup(idType).composite();
     }
 
     /**
@@ -203,19 +233,10 @@ public final class IdTypeResolver {
     private TypeRef unwrapIdType(TypeRef idType) {
         String idTypeName = idType.render();
 
-        // Look up in domain model
-        Optional<DomainTypeView> domainType = context.model().domain().findType(idTypeName);
-
-        if (domainType.isPresent()) {
-            DomainTypeView type = domainType.get();
-
-            // Single-field Value Object: unwrap to inner type
-            if (type.kind() == DomainTypeKind.IDENTIFIER || type.kind() == DomainTypeKind.RECORD) {
-                List<DomainPropertyView> properties = type.properties();
-                if (properties.size() == 1) {
-                    return properties.get(0).type();
-                }
-            }
+        // Single-field Value Object: unwrap to inner type
+        Optional<TypeRef> innerType = typeIndex.unwrappedType(idTypeName);
+        if (innerType.isPresent()) {
+            return innerType.get();
         }
 
         // Fallback heuristic: XxxId types ending in "Id" → assume String
@@ -250,6 +271,6 @@ public final class IdTypeResolver {
         // Use IdStrategyValidator for comprehensive validation
         Optional<Diagnostic> diagnostic = idStrategyValidator.validate(unwrappedIdType, strategy, port.qualifiedName());
 
-        diagnostic.ifPresent(context.diagnostics()::report);
+        diagnostic.ifPresent(diagnostics);
     }
 }
@@ -0,0 +1,247 @@
+/**
+ * This Source Code Form is part of the HexaGlue project.
+ * Copyright (c) 2025 Scalastic
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ *
+ * Commercial licensing options are available for organizations wishing
+ * to use HexaGlue under terms different from the MPL 2.0.
+ * Contact: info@hexaglue.io
+ */
+package io.hexaglue.plugin.jpa.analysis;
+
+import io.hexaglue.plugin.jpa.diagnostics.JpaDiagnosticCodes;
+import io.hexaglue.plugin.jpa.model.EntityModel;
+import io.hexaglue.plugin.jpa.model.IndexModel;
+import io.hexaglue.plugin.jpa.model.PropertyModel;
+import io.hexaglue.plugin.jpa.model.QueryMethodModel;
+import io.hexaglue.plugin.jpa.model.QueryMethodModel.QueryType;
+import io.hexaglue.spi.diagnostics.Diagnostic;
+import io.hexaglue.spi.diagnostics.DiagnosticSeverity;
+import io.hexaglue.spi.options.OptionsView;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.regex.Pattern;
+
+/**
+ * Resolves the table indexes of an aggregate entity.
+ *
+ * <p>Each derived query predicate gets an index: an {@code And} chain becomes one composite
+ * index over its properties in predicate order, and each branch of an {@code Or} gets its own
+ * index. Only basic columns compared with index-friendly operators are indexed (equality,
+ * ranges, {@code In}, {@code Null}, {@code StartingWith}, booleans); {@code Containing},
+ * {@code EndingWith}, {@code Like}, negations and {@code IgnoreCase} comparisons are skipped
+ * because a B-tree index on the raw column cannot serve them.</p>
+ *
+ * <h2>Explicit Indexes</h2>
+ * <p>{@code types.<fqcn>.indexes} lists additional indexes, each a list (or comma-separated
+ * string) of property names. Properties that are not basic columns are reported with
+ * {@link JpaDiagnosticCodes#UNKNOWN_INDEX_PROPERTY} and the index is skipped.</p>
+ *
+ * <h2>Merging</h2>
+ * <p>Duplicate column lists are declared once. A derived index whose columns are a leading
+ * prefix of another index is dropped, since the longer index serves it, and so is a derived
+ * single-column index on a unique column, which its unique constraint already indexes.</p>
+ *
+ * @since 0.4.0
+ */
+public final class IndexResolver {
+
+    private static final String PLUGIN_ID = "io.hexaglue.plugin.jpa";
+    private static final String ID_PROPERTY = "id";
+
+    private static final Pattern OR_SEPARATOR = Pattern.compile("(?<=[a-z0-9])Or(?=[A-Z])");
+    private static final Pattern AND_SEPARATOR = Pattern.compile("(?<=[a-z0-9])And(?=[A-Z])");
+
+    /** Operators (after an optional "Is") that a B-tree index on the column can serve. */
+    private static final Set<String> INDEXABLE_OPERATORS = Set.of(
+            "",
+            "Equals",
+            "GreaterThan",
+            "GreaterThanEqual",
+            "LessThan",
+            "LessThanEqual",
+            "Between",
+            "Before",
+            "After",
+            "In",
+            "Null",
+            "NotNull",
+            "StartingWith",
+            "StartsWith",
+            "True",
+            "False");
+
+    private final OptionsView.PluginOptionsView pluginOptions;
+    private final Consumer<Diagnostic> diagnostics;
+
+    /**
+     * Creates an index resolver.
+     *
+     * @param pluginOptions plugin options view, for explicit indexes
+     * @param diagnostics sink receiving diagnostics emitted during resolution
+     */
+    public IndexResolver(OptionsView.PluginOptionsView pluginOptions, Consumer<Diagnostic> diagnostics) {
+        this.pluginOptions = Objects.requireNonNull(pluginOptions, "pluginOptions");
+        this.diagnostics = Objects.requireNonNull(diagnostics, "diagnostics");
+    }
+
+    /**
+     * Resolves the indexes of an aggregate entity.
+     *
+     * @param entityModel entity model of the aggregate
+     * @param queryMethods query methods generated on the repository
+     * @return indexes, explicit ones first, then derived ones in method order
+     */
+    public List<IndexModel> resolve(EntityModel entityModel, List<QueryMethodModel> queryMethods) {
+        Objects.requireNonNull(entityModel, "entityModel");
+        Objects.requireNonNull(queryMethods, "queryMethods");
+
+        Map<String, PropertyModel> columns = new LinkedHashMap<>();
+        entityModel.properties().stream()
+                .filter(property -> !property.embedded())
+                .forEach(property -> columns.putIfAbsent(property.name(), property));
+
+        Map<List<String>, IndexModel> indexes = new LinkedHashMap<>();
+        for (List<String> columnNames : explicitIndexes(entityModel, columns)) {
+            indexes.putIfAbsent(columnNames, IndexModel.of(entityModel.tableName(), columnNames, false));
+        }
+        for (QueryMethodModel queryMethod : queryMethods) {
+            for (List<String> columnNames : derivedIndexes(queryMethod, entityModel, columns)) {
+                indexes.putIfAbsent(columnNames, IndexModel.of(entityModel.tableName(), columnNames, true));
+            }
+        }
+
+        List<IndexModel> candidates = List.copyOf(indexes.values());
+        return candidates.stream()
+                .filter(index -> !index.derived() || candidates.stream().noneMatch(other -> index.isPrefixOf(other)))
+                .filter(index -> !index.derived() || !isAlreadyIndexed(index, columns))
+                .toList();
+    }
+
+    private List<List<String>> explicitIndexes(EntityModel entityModel, Map<String, PropertyModel> columns) {
+        String domainTypeName = entityModel.domainType().render();
+        Object raw = pluginOptions.getOrDefault("types." + domainTypeName + ".indexes", Object.class, null);
+        if (raw == null) {
+            return List.of();
+        }
+
+        List<List<String>> indexes = new ArrayList<>();
+        Collection<?> entries = raw instanceof Collection<?> collection ? collection : List.of(raw);
+        for (Object entry : entries) {
+            Collection<?> propertyNames = entry instanceof Collection<?> collection
+                    ? collection
+                    : Arrays.asList(String.valueOf(entry).split(","));
+            List<String> columnNames = new ArrayList<>();
+            for (Object value : propertyNames) {
+                String propertyName = String.valueOf(value).trim();
+                if (propertyName.isEmpty()) {
+                    continue;
+                }
+                PropertyModel property = columns.get(propertyName);
+                if (property == null) {
+                    diagnostics.accept(Diagnostic.builder()
+                            .severity(DiagnosticSeverity.WARNING)
+                            .code(JpaDiagnosticCodes.UNKNOWN_INDEX_PROPERTY)
+                            .pluginId(PLUGIN_ID)
+                            .message("Index " + propertyNames + " of '" + domainTypeName
+                                    + "' references '" + propertyName
+                                    + "', which is not a basic column of the aggregate. The index is not generated.")
+                            .build());
+                    columnNames = List.of();
+                    break;
+                }
+                columnNames.add(property.columnName());
+            }
+            if (!columnNames.isEmpty()) {
+                indexes.add(List.copyOf(columnNames));
+            }
+        }
+        return indexes;
+    }
+
+    private List<List<String>> derivedIndexes(
+            QueryMethodModel queryMethod, EntityModel entityModel, Map<String, PropertyModel> columns) {
+        if (queryMethod.queryType() == QueryType.FIND_ALL) {
+            return List.of();
+        }
+
+        String predicate = queryMethod.queryPredicate();
+        int orderBy = predicate.indexOf("OrderBy");
+        if (orderBy >= 0) {
+            predicate = predicate.substring(0, orderBy);
+        }
+        if (predicate.isEmpty() || predicate.endsWith("AllIgnoreCase")) {
+            return List.of();
+        }
+
+        // Keyset methods seek on the ID after the predicate columns
+        boolean seeksOnId = queryMethod.keysetIfPresent().isPresent()
+                && !entityModel.idModel().isComposite();
+
+        List<List<String>> indexes = new ArrayList<>();
+        for (String branch : OR_SEPARATOR.split(predicate)) {
+            List<String> columnNames = new ArrayList<>();
+            for (String part : AND_SEPARATOR.split(branch)) {
+                indexedColumn(part, columns)
+                        .filter(column -> !columnNames.contains(column))
+                        .ifPresent(columnNames::add);
+            }
+            if (!columnNames.isEmpty()) {
+                if (seeksOnId) {
+                    columnNames.add(ID_PROPERTY);
+                }
+                indexes.add(List.copyOf(columnNames));
+            }
+        }
+        return indexes;
+    }
+
+    /**
+     * Resolves the column of a predicate part such as {@code Status} or {@code CreatedAtAfter}.
+     *
+     * @return column name, or empty if the part is not an index-friendly comparison of a column
+     */
+    private static Optional<String> indexedColumn(String part, Map<String, PropertyModel> columns) {
+        if (part.isEmpty()) {
+            return Optional.empty();
+        }
+        String path = Character.toLowerCase(part.charAt(0)) + part.substring(1);
+        return columns.values().stream()
+                .sorted(Comparator.comparingInt(
+                                (PropertyModel property) -> property.name().length())
+                        .reversed())
+                .filter(property -> path.startsWith(property.name()))
+                .filter(property -> {
+                    String operator = path.substring(property.name().length());
+                    if (operator.startsWith("Is")) {
+                        operator = operator.substring("Is".length());
+                    }
+                    return INDEXABLE_OPERATORS.contains(operator);
+                })
+                .map(PropertyModel::columnName)
+                .findFirst();
+    }
+
+    private static boolean isAlreadyIndexed(IndexModel index, Map<String, PropertyModel> columns) {
+        if (index.columnNames().size() != 1) {
+            return false;
+        }
+        String column = index.columnNames().get(0);
+        return column.equals(ID_PROPERTY)
+                || columns.values().stream()
+                        .anyMatch(property ->
+                                property.unique() && property.columnName().equals(column));
+    }
+}
@@ -12,27 +12,37 @@
  */
 package io.hexaglue.plugin.jpa.analysis;
 
+import io.hexaglue.plugin.jpa.config.JpaCacheOptions;
+import io.hexaglue.plugin.jpa.config.JpaFetchOptions;
 import io.hexaglue.plugin.jpa.config.JpaPluginOptions;
+import io.hexaglue.plugin.jpa.config.JpaPluginOptions.NewEntityDetection;
 import io.hexaglue.plugin.jpa.diagnostics.JpaDiagnosticCodes;
+import io.hexaglue.plugin.jpa.heuristics.JpaPropertyHeuristics;
 import io.hexaglue.plugin.jpa.model.EntityModel;
 import io.hexaglue.plugin.jpa.model.IdModel;
 import io.hexaglue.plugin.jpa.model.JpaGenerationPlan;
+import io.hexaglue.plugin.jpa.model.KeysetModel;
 import io.hexaglue.plugin.jpa.model.PropertyModel;
 import io.hexaglue.plugin.jpa.model.QueryMethodModel;
 import io.hexaglue.plugin.jpa.model.RelationshipModel;
 import io.hexaglue.plugin.jpa.util.NamingUtils;
+import io.hexaglue.plugin.jpa.util.TypeUtils;
 import io.hexaglue.plugin.jpa.validation.RelationshipValidator;
 import io.hexaglue.spi.context.GenerationContextSpec;
 import io.hexaglue.spi.diagnostics.Diagnostic;
 import io.hexaglue.spi.diagnostics.DiagnosticSeverity;
 import io.hexaglue.spi.ir.domain.DomainPropertyView;
 import io.hexaglue.spi.ir.domain.DomainTypeView;
+import io.hexaglue.spi.ir.ports.PortMethodView;
 import io.hexaglue.spi.ir.ports.PortView;
+import io.hexaglue.spi.options.OptionsView;
 import io.hexaglue.spi.types.TypeRef;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.regex.Pattern;
 
 /**
  * Orchestrates the analysis of a port to build a complete JPA generation plan.
@@ -48,6 +58,8 @@ import java.util.Optional;
  *   <li><strong>Resolve properties</strong>: Analyze each domain property for JPA mapping</li>
  *   <li><strong>Detect relationships</strong>: Identify @OneToMany, @Embedded, @ElementCollection</li>
  *   <li><strong>Build entity model</strong>: Assemble complete entity metadata</li>
+ *   <li><strong>Analyze query methods</strong>: Detect derived queries, then derive table indexes
+ *       from their predicates</li>
  *   <li><strong>Generate names</strong>: Compute qualified names for all artifacts</li>
  *   <li><strong>Create plan</strong>: Package everything into JpaGenerationPlan</li>
  * </ol>
@@ -69,13 +81,39 @@ public final class JpaGenerationPlanBuilder {
 
     private static final String PLUGIN_ID = "io.hexaglue.plugin.jpa";
 
+    // "Or" between two property names of a derived query predicate (but not "OrderBy")
+    private static final Pattern OR_PREDICATE = Pattern.compile("(?<=[a-z0-9])Or(?=[A-Z])");
+
     private final GenerationContextSpec context;
     private final JpaPluginOptions options;
     private final RelationshipValidator relationshipValidator;
+    private final DomainTypeIndex typeIndex;
+    private final Consumer<Diagnostic> diagnostics;
 
     public JpaGenerationPlanBuilder(GenerationContextSpec context, JpaPluginOptions options) {
+        this(context, options, DomainTypeIndex.of(context), context.diagnostics()::report);
+    }
+
+    /**
+     * Constructor with a shared type index and an explicit diagnostic sink.
+     *
+     * <p>Used by the plugin to share one {@link DomainTypeIndex} across all ports of a run and
+     * to buffer the diagnostics of one port while several ports are analyzed concurrently.</p>
+     *
+     * @param context generation context
+     * @param options plugin options
+     * @param typeIndex domain type index shared by the run
+     * @param diagnostics sink receiving every diagnostic emitted while building a plan
+     */
+    public JpaGenerationPlanBuilder(
+            GenerationContextSpec context,
+            JpaPluginOptions options,
+            DomainTypeIndex typeIndex,
+            Consumer<Diagnostic> diagnostics) {
         this.context = Objects.requireNonNull(context, "context");
         this.options = Objects.requireNonNull(options, "options");
+        this.typeIndex = Objects.requireNonNull(typeIndex, "typeIndex");
+        this.diagnostics = Objects.requireNonNull(diagnostics, "diagnostics");
         this.relationshipValidator = new RelationshipValidator(PLUGIN_ID);
     }
 
@@ -100,19 +138,18 @@ public final class JpaGenerationPlanBuilder {
 
         // Step 1: Infer domain type
         TypeRef domainType = PortAnalyzer.inferDomainType(port).orElseGet(() -> {
-            context.diagnostics()
-                    .report(Diagnostic.builder()
-                            .severity(DiagnosticSeverity.WARNING)
-                            .code(JpaDiagnosticCodes.NO_DOMAIN_TYPE)
-                            .pluginId(PLUGIN_ID)
-                            .message("Could not infer domain type for port '" + port.qualifiedName()
-                                    + "'. Using java.lang.Object as fallback.")
-                            .build());
+            diagnostics.accept(Diagnostic.builder()
+                    .severity(DiagnosticSeverity.WARNING)
+                    .code(JpaDiagnosticCodes.NO_DOMAIN_TYPE)
+                    .pluginId(PLUGIN_ID)
+                    .message("Could not infer domain type for port '" + port.qualifiedName()
+                            + "'. Using java.lang.Object as fallback.")
+                    .build());
             return context.types().objectType();
         });
 
         // Step 2: Resolve ID model
-        IdTypeResolver idResolver = new IdTypeResolver(context, options);
+        IdTypeResolver idResolver = new IdTypeResolver(context, options, typeIndex, diagnostics);
         IdModel idModel = idResolver.resolve(port);
 
         // Step 3: Infer entity name from port name
@@ -126,10 +163,9 @@ public final class JpaGenerationPlanBuilder {
         // Step 5: Detect relationships
         List<RelationshipModel> relationships = detectRelationships(domainType);
 
-        // Step 6: Analyze port methods for query patterns
-        List<QueryMethodModel> queryMethods = analyzeQueryMethods(port);
-
-        // Step 7: Build entity model
+        // Step 6: Build entity model
+        boolean transactional = options.featureFlags()
+                .generateTransactionsFor(context.options().forPlugin(PLUGIN_ID), port.qualifiedName());
         EntityModel entityModel = EntityModel.builder()
                 .entityClassName(entityClassName)
                 .entityPackage(options.basePackage() + ".entity")
@@ -142,18 +178,30 @@ public final class JpaGenerationPlanBuilder {
                 .enableAuditing(options.featureFlags().enableAuditing())
                 .enableSoftDelete(options.featureFlags().enableSoftDelete())
                 .enableOptimisticLocking(options.featureFlags().enableOptimisticLocking())
+                .cache(JpaCacheOptions.forType(context.options().forPlugin(PLUGIN_ID), domainType.render())
+                        .orElse(null))
+                .dynamicUpdate(options.featureFlags()
+                        .enableDynamicUpdateFor(context.options().forPlugin(PLUGIN_ID), domainType.render()))
+                .newEntityDetection(resolveNewEntityDetection(domainType, idModel, transactional, port))
                 .build();
 
-        // Step 8: Generate qualified names for all artifacts
-        String basePackage = options.basePackage();
-        String entityQn = basePackage + ".entity." + entityClassName;
-        String repoQn = basePackage + ".springdata." + entityBaseName
-                + options.namingConventions().springDataRepositorySuffix();
-        String mapperQn = basePackage + ".mapper." + entityBaseName + "Mapper";
-        String adapterQn = basePackage + ".adapter." + entityBaseName
-                + options.namingConventions().adapterSuffix();
+        // Step 7: Analyze port methods for query patterns and projections
+        List<QueryMethodModel> queryMethods = analyzeQueryMethods(port, entityModel);
+        validateCachedQueries(entityModel, queryMethods, port);
+        validateBatchWrites(domainType, port);
+
+        // Step 8: Derive table indexes from the generated query predicates
+        entityModel = entityModel.withIndexes(new IndexResolver(
+                        context.options().forPlugin(PLUGIN_ID), diagnostics)
+                .resolve(entityModel, options.featureFlags().generateQueryMethods() ? queryMethods : List.of()));
+
+        // Step 9: Generate qualified names for all artifacts
+        String entityQn = entityQualifiedName(port, options);
+        String repoQn = springDataRepoQualifiedName(port, options);
+        String mapperQn = mapperQualifiedName(port, options);
+        String adapterQn = adapterQualifiedName(port, options);
 
-        // Step 9: Create plan
+        // Step 10: Create plan
         return JpaGenerationPlan.builder()
                 .port(port)
                 .entityModel(entityModel)
@@ -162,9 +210,111 @@ public final class JpaGenerationPlanBuilder {
                 .mapperQualifiedName(mapperQn)
                 .adapterQualifiedName(adapterQn)
                 .queryMethods(queryMethods)
+                .transactional(transactional)
                 .build();
     }
 
+    /**
+     * Returns the qualified name of the entity generated for a port, without analyzing the port.
+     *
+     * @param port repository port
+     * @param options resolved plugin options
+     * @return entity qualified name
+     */
+    public static String entityQualifiedName(PortView port, JpaPluginOptions options) {
+        Objects.requireNonNull(port, "port");
+        Objects.requireNonNull(options, "options");
+        return options.basePackage() + ".entity." + NamingUtils.inferEntityName(port.simpleName())
+                + options.namingConventions().entitySuffix();
+    }
+
+    /**
+     * Returns the qualified name of the mapper generated for a port, without analyzing the port.
+     *
+     * @param port repository port
+     * @param options resolved plugin options
+     * @return mapper qualified name
+     */
+    public static String mapperQualifiedName(PortView port, JpaPluginOptions options) {
+        Objects.requireNonNull(port, "port");
+        Objects.requireNonNull(options, "options");
+        return options.basePackage() + ".mapper." + NamingUtils.inferEntityName(port.simpleName()) + "Mapper";
+    }
+
+    /**
+     * Returns the qualified name of the Spring Data repository generated for a port, without
+     * analyzing the port.
+     *
+     * @param port repository port
+     * @param options resolved plugin options
+     * @return Spring Data repository qualified name
+     */
+    public static String springDataRepoQualifiedName(PortView port, JpaPluginOptions options) {
+        Objects.requireNonNull(port, "port");
+        Objects.requireNonNull(options, "options");
+        return options.basePackage() + ".springdata." + NamingUtils.inferEntityName(port.simpleName())
+                + options.namingConventions().springDataRepositorySuffix();
+    }
+
+    /**
+     * Returns the qualified name of the adapter generated for a port, without analyzing the port.
+     *
+     * @param port repository port
+     * @param options resolved plugin options
+     * @return adapter qualified name
+     */
+    public static String adapterQualifiedName(PortView port, JpaPluginOptions options) {
+        Objects.requireNonNull(port, "port");
+        Objects.requireNonNull(options, "options");
+        return options.basePackage() + ".adapter." + NamingUtils.inferEntityName(port.simpleName())
+                + options.namingConventions().adapterSuffix();
+    }
+
+    /**
+     * Resolves how the entity reports that it is new.
+     *
+     * <p>The per-type option {@code types.{fqn}.newEntityDetection} overrides the global
+     * {@code newEntityDetection}. Detection only applies to application-assigned object IDs:
+     * Spring Data already treats a null generated ID as new, and {@code Persistable} cannot
+     * return a primitive ID. It also requires transactional adapters, which load existing
+     * aggregates before saving them instead of relying on a merge.</p>
+     *
+     * @param domainType domain type reference
+     * @param idModel resolved ID model
+     * @param transactional true if the adapter of the port is transactional
+     * @param port port being generated
+     * @return detection to generate, {@code NONE} if not applicable
+     */
+    private NewEntityDetection resolveNewEntityDetection(
+            TypeRef domainType, IdModel idModel, boolean transactional, PortView port) {
+        NewEntityDetection detection = NewEntityDetection.parseOrDefault(
+                context.options()
+                        .forPlugin(PLUGIN_ID)
+                        .getOrDefault("types." + domainType.render() + ".newEntityDetection", String.class, ""),
+                options.newEntityDetection());
+        if (detection == NewEntityDetection.NONE
+                || idModel.requiresGeneratedValue()
+                || TypeUtils.isPrimitiveType(idModel.unwrappedType())) {
+            return NewEntityDetection.NONE;
+        }
+        if (!transactional) {
+            diagnostics.accept(Diagnostic.builder()
+                    .severity(DiagnosticSeverity.WARNING)
+                    .code(JpaDiagnosticCodes.NEW_ENTITY_DETECTION_IGNORED)
+                    .pluginId(PLUGIN_ID)
+                    .message("New entity detection of '" + domainType.render() + "' requires transactional adapters,"
+                            + " but transactions are disabled for port '" + port.qualifiedName()
+                            + "'. Spring Data will merge aggregates with an assigned ID.")
+                    .build());
+            return NewEntityDetection.NONE;
+        }
+        if (detection == NewEntityDetection.VERSION && !options.featureFlags().enableOptimisticLocking()) {
+            // Without a @Version field, fall back to the lifecycle callbacks
+            return NewEntityDetection.CALLBACK;
+        }
+        return detection;
+    }
+
     /**
      * Resolves the table name for a domain type.
      *
@@ -205,23 +355,26 @@ public final class JpaGenerationPlanBuilder {
         String domainTypeName = domainType.render();
 
         // Look up domain type in IR
-        Optional<DomainTypeView> domainTypeOpt = context.model().domain().findType(domainTypeName);
+        Optional<DomainTypeView> domainTypeOpt = typeIndex.findType(domainTypeName);
 
         if (domainTypeOpt.isEmpty()) {
-            context.diagnostics()
-                    .report(Diagnostic.builder()
-                            .severity(DiagnosticSeverity.WARNING)
-                            .code(JpaDiagnosticCodes.DOMAIN_TYPE_NOT_IN_IR)
-                            .pluginId(PLUGIN_ID)
-                            .message("Domain type '" + domainTypeName
-                                    + "' not found in IR. Skipping property generation.")
-                            .build());
+            diagnostics.accept(Diagnostic.builder()
+                    .severity(DiagnosticSeverity.WARNING)
+                    .code(JpaDiagnosticCodes.DOMAIN_TYPE_NOT_IN_IR)
+                    .pluginId(PLUGIN_ID)
+                    .message("Domain type '" + domainTypeName + "' not found in IR. Skipping property generation.")
+                    .build());
             return List.of();
         }
 
         DomainTypeView domainTypeView = domainTypeOpt.get();
-        PropertyTypeResolver propertyResolver =
-                new PropertyTypeResolver(context, context.options().forPlugin(PLUGIN_ID), domainTypeName);
+        PropertyTypeResolver propertyResolver = new PropertyTypeResolver(
+                context,
+                context.options().forPlugin(PLUGIN_ID),
+                domainTypeName,
+                new JpaPropertyHeuristics(),
+                typeIndex,
+                diagnostics);
 
         List<PropertyModel> properties = new ArrayList<>();
         for (DomainPropertyView property : domainTypeView.properties()) {
@@ -255,65 +408,219 @@ public final class JpaGenerationPlanBuilder {
         String domainTypeName = domainType.render();
 
         // Look up domain type in IR
-        Optional<DomainTypeView> domainTypeOpt = context.model().domain().findType(domainTypeName);
+        Optional<DomainTypeView> domainTypeOpt = typeIndex.findType(domainTypeName);
 
         if (domainTypeOpt.isEmpty()) {
-            context.diagnostics()
-                    .report(Diagnostic.builder()
-                            .severity(DiagnosticSeverity.WARNING)
-                            .code(JpaDiagnosticCodes.DOMAIN_TYPE_NOT_IN_IR)
-                            .pluginId(PLUGIN_ID)
-                            .message("Domain type '" + domainTypeName
-                                    + "' not found in IR. Skipping relationship detection.")
-                            .build());
+            diagnostics.accept(Diagnostic.builder()
+                    .severity(DiagnosticSeverity.WARNING)
+                    .code(JpaDiagnosticCodes.DOMAIN_TYPE_NOT_IN_IR)
+                    .pluginId(PLUGIN_ID)
+                    .message("Domain type '" + domainTypeName + "' not found in IR. Skipping relationship detection.")
+                    .build());
             return List.of();
         }
 
         DomainTypeView domainTypeView = domainTypeOpt.get();
-        RelationshipDetector relationshipDetector = new RelationshipDetector(context, domainTypeName);
+        RelationshipDetector relationshipDetector = new RelationshipDetector(context, domainTypeName, typeIndex);
 
         List<RelationshipModel> relationships = relationshipDetector.detectRelationships(domainTypeView);
 
         // Validate all relationships (orphan removal, cascade, inter-aggregate, circular dependencies)
         List<Diagnostic> validationDiagnostics = relationshipValidator.validateAll(relationships, domainTypeName);
-        validationDiagnostics.forEach(context.diagnostics()::report);
+        validationDiagnostics.forEach(diagnostics);
 
-        return relationships;
+        return resolveCollectionFetch(relationships, domainTypeName);
+    }
+
+    /**
+     * Resolves the batch or subselect fetching of the child collections.
+     *
+     * <p>Collections left out of the aggregate entity graph default to batch fetching.
+     * See {@link JpaFetchOptions}.</p>
+     */
+    private List<RelationshipModel> resolveCollectionFetch(
+            List<RelationshipModel> relationships, String domainTypeName) {
+        OptionsView.PluginOptionsView pluginOptions = context.options().forPlugin(PLUGIN_ID);
+        List<String> graphAttributes = EntityModel.aggregateGraphAttributes(relationships);
+        return relationships.stream()
+                .map(relationship -> relationship.isIntraAggregate() && relationship.isCollection()
+                        ? relationship.withCollectionFetch(options.fetchOptions()
+                                .forRelationship(
+                                        pluginOptions,
+                                        domainTypeName,
+                                        relationship.propertyName(),
+                                        graphAttributes.contains(relationship.propertyName())))
+                        : relationship)
+                .toList();
     }
 
     /**
      * Analyzes port methods to detect derived query method patterns.
      *
      * <p>This method uses {@link PortMethodAnalyzer} to detect Spring Data JPA
-     * query patterns like findByX, existsByX, countByX, etc.</p>
+     * query patterns like findByX, existsByX, countByX, etc., and {@link ProjectionResolver}
+     * to detect findBy methods returning a read model projected from the aggregate. deleteBy
+     * methods are translated into bulk statements by {@link BulkDeleteResolver}, and methods
+     * requiring an explicit query are declared with JPQL by {@link JpqlQueryResolver}. Other
+     * methods may be update-style methods, translated into partial updates by
+     * {@link PartialUpdateResolver}.</p>
      *
      * @param port port to analyze
+     * @param entityModel entity model of the aggregate
      * @return list of detected query methods
      */
-    private List<QueryMethodModel> analyzeQueryMethods(PortView port) {
+    private List<QueryMethodModel> analyzeQueryMethods(PortView port, EntityModel entityModel) {
         PortMethodAnalyzer methodAnalyzer = new PortMethodAnalyzer();
+        ProjectionResolver projectionResolver = new ProjectionResolver(typeIndex, diagnostics);
+        BulkDeleteResolver bulkDeleteResolver = new BulkDeleteResolver(diagnostics);
+        PartialUpdateResolver partialUpdateResolver = new PartialUpdateResolver(typeIndex, diagnostics);
+        JpqlQueryResolver jpqlQueryResolver =
+                new JpqlQueryResolver(context.options().forPlugin(PLUGIN_ID), options.queryOptions(), diagnostics);
+        // Projections, bulk deletes and partial updates are declared on the generated repository, only with
+        // query methods enabled
+        boolean resolveProjections = options.featureFlags().generateQueryMethods();
         List<QueryMethodModel> queryMethods = new ArrayList<>();
 
         // Analyze each port method
         for (var portMethod : port.methods()) {
-            Optional<QueryMethodModel> queryMethod = methodAnalyzer.analyzeMethod(portMethod);
+            Optional<QueryMethodModel> queryMethod = methodAnalyzer
+                    .analyzeMethod(portMethod)
+                    .map(method -> validateKeyset(method, entityModel, port))
+                    .map(method -> resolveProjections
+                            ? projectionResolver.resolve(method, entityModel, port.qualifiedName())
+                            : method)
+                    .map(method -> resolveProjections
+                            ? bulkDeleteResolver.resolve(method, entityModel, port.qualifiedName())
+                            : method)
+                    .map(method -> resolveProjections
+                            ? jpqlQueryResolver.resolve(method, entityModel, port.qualifiedName())
+                            : method)
+                    .or(() -> resolveProjections
+                            ? partialUpdateResolver.resolve(portMethod, entityModel, port.qualifiedName())
+                            : Optional.empty());
 
             if (queryMethod.isPresent()) {
                 queryMethods.add(queryMethod.get());
 
                 // Log info diagnostic for detected query method
-                context.diagnostics()
-                        .report(Diagnostic.builder()
-                                .severity(DiagnosticSeverity.INFO)
-                                .code(JpaDiagnosticCodes.QUERY_METHOD_DETECTED)
-                                .pluginId(PLUGIN_ID)
-                                .message("Detected Spring Data query method: '"
-                                        + portMethod.name() + "' in port '" + port.qualifiedName()
-                                        + "'. Query type: " + queryMethod.get().queryType())
-                                .build());
+                diagnostics.accept(Diagnostic.builder()
+                        .severity(DiagnosticSeverity.INFO)
+                        .code(JpaDiagnosticCodes.QUERY_METHOD_DETECTED)
+                        .pluginId(PLUGIN_ID)
+                        .message("Detected Spring Data query method: '"
+                                + portMethod.name() + "' in port '" + port.qualifiedName()
+                                + "'. Query type: " + queryMethod.get().queryType()
+                                + queryMethod
+                                        .get()
+                                        .keysetIfPresent()
+                                        .map(keyset -> ", keyset: " + keyset.kind())
+                                        .orElse("")
+                                + queryMethod
+                                        .get()
+                                        .projectionIfPresent()
+                                        .map(projection -> ", projection: " + projection.interfaceName())
+                                        .orElse(""))
+                        .build());
             }
         }
 
         return queryMethods;
     }
+
+    /**
+     * Checks that every cached query configured for the aggregate is a generated query method.
+     *
+     * <p>Only the derived query methods declared on the repository can carry the cacheable hint:
+     * delete, keyset and streaming methods are not cached.</p>
+     */
+    private void validateCachedQueries(EntityModel entityModel, List<QueryMethodModel> queryMethods, PortView port) {
+        entityModel.cacheIfPresent().ifPresent(cache -> {
+            for (String methodName : cache.cachedQueries().stream().sorted().toList()) {
+                boolean cacheable = options.featureFlags().generateQueryMethods()
+                        && queryMethods.stream()
+                                .anyMatch(method -> method.methodName().equals(methodName) && isCacheable(method));
+                if (!cacheable) {
+                    diagnostics.accept(Diagnostic.builder()
+                            .severity(DiagnosticSeverity.WARNING)
+                            .code(JpaDiagnosticCodes.UNCACHEABLE_QUERY)
+                            .pluginId(PLUGIN_ID)
+                            .message("Cached query '" + methodName + "' of '"
+                                    + entityModel.domainType().render()
+                                    + "' is not a cacheable query method of port '" + port.qualifiedName()
+                                    + "'. The query hint is not generated.")
+                            .build());
+                }
+            }
+        });
+    }
+
+    /**
+     * Checks that every batch write of the port writes the aggregate with a supported shape.
+     *
+     * <p>The adapter implements the other batch writes as stubs (see
+     * {@link PortAnalyzer#isSupportedBatchWrite}).</p>
+     */
+    private void validateBatchWrites(TypeRef domainType, PortView port) {
+        for (PortMethodView method : port.methods()) {
+            if (PortAnalyzer.isBatchWrite(method) && !PortAnalyzer.isSupportedBatchWrite(method, domainType)) {
+                diagnostics.accept(Diagnostic.builder()
+                        .severity(DiagnosticSeverity.WARNING)
+                        .code(JpaDiagnosticCodes.UNSUPPORTED_BATCH_WRITE)
+                        .pluginId(PLUGIN_ID)
+                        .message("Batch write '" + method.name() + "' in port '" + port.qualifiedName()
+                                + "' does not accept and return a collection of '" + domainType.render()
+                                + "'. Implement this method manually in the adapter.")
+                        .build());
+            }
+        }
+    }
+
+    /**
+     * Checks if a query method can be declared as a cacheable query on the repository.
+     *
+     * @param queryMethod query method
+     * @return true for derived find, count and exists methods
+     */
+    private static boolean isCacheable(QueryMethodModel queryMethod) {
+        return !queryMethod.isModifying()
+                && queryMethod.keysetIfPresent().isEmpty()
+                && queryMethod.streamingIfPresent().isEmpty();
+    }
+
+    /**
+     * Checks that a cursor keyset method can seek on the ID.
+     *
+     * <p>The seek condition ({@code AndIdGreaterThan}) and ordering ({@code OrderByIdAsc}) are
+     * appended to the derived query, which requires a simple ID, a predicate without
+     * {@code Or} (the seek condition would only bind to the last alternative) and no ordering of
+     * its own. Otherwise the keyset is dropped with a warning.</p>
+     */
+    private QueryMethodModel validateKeyset(QueryMethodModel queryMethod, EntityModel entityModel, PortView port) {
+        Optional<KeysetModel> keyset = queryMethod.keysetIfPresent();
+        if (keyset.isEmpty() || keyset.get().kind() != KeysetModel.Kind.CURSOR) {
+            return queryMethod;
+        }
+
+        String predicate = queryMethod.queryPredicate();
+        String reason;
+        if (entityModel.idModel().isComposite()) {
+            reason = "composite IDs cannot be used as a keyset cursor";
+        } else if (OR_PREDICATE.matcher(predicate).find()) {
+            reason = "predicates combined with 'Or' cannot be extended with a seek condition";
+        } else if (predicate.contains("OrderBy")) {
+            reason = "the method already declares an ordering, while the cursor seeks on the ID";
+        } else {
+            return queryMethod;
+        }
+
+        diagnostics.accept(Diagnostic.builder()
+                .severity(DiagnosticSeverity.WARNING)
+                .code(JpaDiagnosticCodes.UNSUPPORTED_KEYSET)
+                .pluginId(PLUGIN_ID)
+                .message("Method '" + queryMethod.methodName() + "' in port '" + port.qualifiedName()
+                        + "' looks keyset-paginated but " + reason
+                        + ". Implement this method manually in the adapter.")
+                .build());
+        return queryMethod.withKeyset(null);
+    }
 }
@@ -0,0 +1,162 @@
+/**
+ * This Source Code Form is part of the HexaGlue project.
+ * Copyright (c) 2025 Scalastic
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ *
+ * Commercial licensing options are available for organizations wishing
+ * to use HexaGlue under terms different from the MPL 2.0.
+ * Contact: info@hexaglue.io
+ */
+package io.hexaglue.plugin.jpa.analysis;
+
+import io.hexaglue.plugin.jpa.model.EntityModel;
+import io.hexaglue.plugin.jpa.model.PropertyModel;
+import io.hexaglue.plugin.jpa.model.QueryMethodModel;
+import io.hexaglue.plugin.jpa.model.QueryMethodModel.QueryParameter;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * Translates the predicate of a derived query method name into a JPQL condition.
+ *
+ * <p>{@code StatusAndCreatedAtBefore} becomes {@code e.status = :status and e.createdAt < :cutoff},
+ * binding the filter parameters of the method in declaration order. Only basic columns of the
+ * aggregate and its simple ID can be compared, with equality, negation, ranges, {@code In},
+ * {@code Null} or booleans; predicates using other operators, {@code IgnoreCase} or
+ * {@code OrderBy} are not translated.</p>
+ *
+ * @since 0.4.0
+ */
+final class JpqlPredicateTranslator {
+
+    private static final String ID_PROPERTY = "id";
+
+    private static final Pattern OR_SEPARATOR = Pattern.compile("(?<=[a-z0-9])Or(?=[A-Z])");
+    private static final Pattern AND_SEPARATOR = Pattern.compile("(?<=[a-z0-9])And(?=[A-Z])");
+
+    /** Operators (after an optional "Is") with a JPQL translation. */
+    private static final Set<String> SUPPORTED_OPERATORS = Set.of(
+            "",
+            "Equals",
+            "Not",
+            "GreaterThan",
+            "GreaterThanEqual",
+            "LessThan",
+            "LessThanEqual",
+            "Before",
+            "After",
+            "Between",
+            "In",
+            "NotIn",
+            "Null",
+            "NotNull",
+            "True",
+            "False");
+
+    /**
+     * Translates the predicate of a derived query method into a JPQL condition on alias {@code e}.
+     *
+     * @param queryMethod query method with a derived predicate
+     * @param entityModel entity model of the aggregate
+     * @return condition, or empty if a part of the predicate cannot be translated
+     */
+    static Optional<String> translate(QueryMethodModel queryMethod, EntityModel entityModel) {
+        String predicate = queryMethod.queryPredicate();
+        if (predicate.isEmpty() || predicate.contains("OrderBy") || predicate.endsWith("AllIgnoreCase")) {
+            return Optional.empty();
+        }
+
+        List<String> attributes = new ArrayList<>();
+        entityModel.properties().stream()
+                .filter(property -> !property.embedded())
+                .map(PropertyModel::name)
+                .forEach(attributes::add);
+        if (!entityModel.idModel().isComposite()) {
+            attributes.add(ID_PROPERTY);
+        }
+        attributes.sort(Comparator.comparingInt(String::length).reversed());
+
+        List<QueryParameter> parameters = queryMethod.filterParameters();
+        Iterator<QueryParameter> bindings = parameters.iterator();
+        List<String> branches = new ArrayList<>();
+        for (String branch : OR_SEPARATOR.split(predicate)) {
+            List<String> conditions = new ArrayList<>();
+            for (String part : AND_SEPARATOR.split(branch)) {
+                Optional<String> condition = translatePart(part, attributes, bindings);
+                if (condition.isEmpty()) {
+                    return Optional.empty();
+                }
+                conditions.add(condition.get());
+            }
+            branches.add(String.join(" and ", conditions));
+        }
+        if (bindings.hasNext()) {
+            return Optional.empty();
+        }
+        return Optional.of(String.join(" or ", branches));
+    }
+
+    /**
+     * Translates a predicate part such as {@code Status} or {@code CreatedAtBefore}, binding the
+     * next port parameters in declaration order.
+     */
+    private static Optional<String> translatePart(
+            String part, List<String> attributes, Iterator<QueryParameter> bindings) {
+        if (part.isEmpty()) {
+            return Optional.empty();
+        }
+        String path = Character.toLowerCase(part.charAt(0)) + part.substring(1);
+        for (String attribute : attributes) {
+            if (!path.startsWith(attribute)) {
+                continue;
+            }
+            String operator = path.substring(attribute.length());
+            if (operator.startsWith("Is")) {
+                operator = operator.substring("Is".length());
+            }
+            if (SUPPORTED_OPERATORS.contains(operator)) {
+                return translateOperator("e." + attribute, operator, bindings);
+            }
+        }
+        return Optional.empty();
+    }
+
+    private static Optional<String> translateOperator(
+            String attribute, String operator, Iterator<QueryParameter> bindings) {
+        return switch (operator) {
+            case "", "Equals" -> bind(attribute + " = ", bindings);
+            case "Not" -> bind(attribute + " <> ", bindings);
+            case "GreaterThan", "After" -> bind(attribute + " > ", bindings);
+            case "GreaterThanEqual" -> bind(attribute + " >= ", bindings);
+            case "LessThan", "Before" -> bind(attribute + " < ", bindings);
+            case "LessThanEqual" -> bind(attribute + " <= ", bindings);
+            case "In" -> bind(attribute + " in ", bindings);
+            case "NotIn" -> bind(attribute + " not in ", bindings);
+            case "Between" -> bind(attribute + " between ", bindings).flatMap(lower -> bind(lower + " and ", bindings));
+            case "Null" -> Optional.of(attribute + " is null");
+            case "NotNull" -> Optional.of(attribute + " is not null");
+            case "True" -> Optional.of(attribute + " = true");
+            case "False" -> Optional.of(attribute + " = false");
+            default -> Optional.empty();
+        };
+    }
+
+    private static Optional<String> bind(String condition, Iterator<QueryParameter> bindings) {
+        if (!bindings.hasNext()) {
+            return Optional.empty();
+        }
+        return Optional.of(condition + ":" + bindings.next().name());
+    }
+
+    private JpqlPredicateTranslator() {
+        // Prevent instantiation
+    }
+}
@@ -0,0 +1,187 @@
+/**
+ * This Source Code Form is part of the HexaGlue project.
+ * Copyright (c) 2025 Scalastic
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ *
+ * Commercial licensing options are available for organizations wishing
+ * to use HexaGlue under terms different from the MPL 2.0.
+ * Contact: info@hexaglue.io
+ */
+package io.hexaglue.plugin.jpa.analysis;
+
+import io.hexaglue.plugin.jpa.config.JpaQueryOptions;
+import io.hexaglue.plugin.jpa.diagnostics.JpaDiagnosticCodes;
+import io.hexaglue.plugin.jpa.model.EntityModel;
+import io.hexaglue.plugin.jpa.model.JpqlQueryModel;
+import io.hexaglue.plugin.jpa.model.QueryMethodModel;
+import io.hexaglue.plugin.jpa.model.QueryMethodModel.QueryType;
+import io.hexaglue.spi.diagnostics.Diagnostic;
+import io.hexaglue.spi.diagnostics.DiagnosticSeverity;
+import io.hexaglue.spi.options.OptionsView;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+/**
+ * Declares query methods with explicit JPQL queries instead of deriving them from their name.
+ *
+ * <h2>Count Queries</h2>
+ * <p>{@code ports.<fqcn>.methods.<method>.countQuery} sets the JPQL count query of a {@code Page}
+ * finder. Spring Data ignores count queries on derived methods, so the method is declared with
+ * the JPQL of its predicate (see {@link JpqlPredicateTranslator}) and the configured count query.
+ * A count query configured for a method that is not a {@code Page} finder, or whose predicate
+ * has no translation, is reported with {@link JpaDiagnosticCodes#UNSUPPORTED_COUNT_QUERY} and
+ * ignored.</p>
+ *
+ * <h2>Explicit Queries</h2>
+ * <p>When {@link JpaQueryOptions#explicitQueries()} is enabled, findBy, countBy and existsBy
+ * methods are declared with the JPQL of their predicate, and Page finders with a matching count
+ * query, so that Spring Data does not derive queries from method names at startup. Methods
+ * without an equivalent {@code @Query} (derived deletes, keyset, streaming, projected or limited
+ * methods, untranslatable predicates) stay derived and are reported with
+ * {@link JpaDiagnosticCodes#DERIVED_QUERY_KEPT}. findAll methods are inherited from
+ * {@code JpaRepository} and never derived.</p>
+ *
+ * @since 0.4.0
+ */
+public final class JpqlQueryResolver {
+
+    private static final String PLUGIN_ID = "io.hexaglue.plugin.jpa";
+
+    private final OptionsView.PluginOptionsView pluginOptions;
+    private final JpaQueryOptions queryOptions;
+    private final Consumer<Diagnostic> diagnostics;
+
+    /**
+     * Creates a JPQL query resolver.
+     *
+     * @param pluginOptions plugin options view, for per-method count queries
+     * @param queryOptions query options, for explicit queries
+     * @param diagnostics sink receiving diagnostics emitted during resolution
+     */
+    public JpqlQueryResolver(
+            OptionsView.PluginOptionsView pluginOptions,
+            JpaQueryOptions queryOptions,
+            Consumer<Diagnostic> diagnostics) {
+        this.pluginOptions = Objects.requireNonNull(pluginOptions, "pluginOptions");
+        this.queryOptions = Objects.requireNonNull(queryOptions, "queryOptions");
+        this.diagnostics = Objects.requireNonNull(diagnostics, "diagnostics");
+    }
+
+    /**
+     * Attaches an explicit JPQL query to a query method when one is required.
+     *
+     * @param queryMethod query method detected on the port
+     * @param entityModel entity model of the aggregate
+     * @param portQualifiedName qualified name of the port, for options and diagnostics
+     * @return the query method with its explicit query, or unchanged
+     */
+    public QueryMethodModel resolve(QueryMethodModel queryMethod, EntityModel entityModel, String portQualifiedName) {
+        Objects.requireNonNull(queryMethod, "queryMethod");
+        Objects.requireNonNull(entityModel, "entityModel");
+        Objects.requireNonNull(portQualifiedName, "portQualifiedName");
+
+        String countQuery = pluginOptions.getOrDefault(
+                "ports." + portQualifiedName + ".methods." + queryMethod.methodName() + ".countQuery",
+                String.class,
+                "");
+        if (countQuery.isBlank()) {
+            return queryOptions.explicitQueries()
+                    ? explicitQuery(queryMethod, entityModel, portQualifiedName)
+                    : queryMethod;
+        }
+        if (!queryMethod.returnsPage()) {
+            return unsupported(queryMethod, portQualifiedName, "it does not return a Page");
+        }
+
+        Optional<String> query = selectQuery(queryMethod, entityModel);
+        if (query.isEmpty()) {
+            return unsupported(queryMethod, portQualifiedName, "its predicate has no JPQL translation");
+        }
+        return queryMethod.withJpql(new JpqlQueryModel(query.get(), countQuery.trim()));
+    }
+
+    /**
+     * Declares a derived query method with the JPQL of its predicate.
+     */
+    private QueryMethodModel explicitQuery(
+            QueryMethodModel queryMethod, EntityModel entityModel, String portQualifiedName) {
+        if (queryMethod.queryType() == QueryType.FIND_ALL
+                || queryMethod.bulkDeleteIfPresent().isPresent()) {
+            return queryMethod;
+        }
+        Optional<String> derivedOnly = derivedOnlyReason(queryMethod);
+        if (derivedOnly.isPresent()) {
+            return derived(queryMethod, portQualifiedName, derivedOnly.get());
+        }
+        Optional<String> condition = JpqlPredicateTranslator.translate(queryMethod, entityModel);
+        if (condition.isEmpty()) {
+            return derived(queryMethod, portQualifiedName, "its predicate has no JPQL translation");
+        }
+
+        String from = " from " + entityModel.entityClassName() + " e where " + condition.get();
+        JpqlQueryModel jpql =
+                switch (queryMethod.queryType()) {
+                    case COUNT_BY -> new JpqlQueryModel("select count(e)" + from, null);
+                    case EXISTS_BY ->
+                        new JpqlQueryModel("select case when count(e) > 0 then true else false end" + from, null);
+                    default ->
+                        new JpqlQueryModel(
+                                "select e" + from, queryMethod.returnsPage() ? "select count(e)" + from : null);
+                };
+        return queryMethod.withJpql(jpql);
+    }
+
+    private static Optional<String> derivedOnlyReason(QueryMethodModel queryMethod) {
+        if (queryMethod.queryType() == QueryType.DELETE_BY) {
+            return Optional.of("it deletes entities one by one");
+        }
+        if (queryMethod.keysetIfPresent().isPresent()) {
+            return Optional.of("it uses keyset pagination");
+        }
+        if (queryMethod.streamingIfPresent().isPresent()) {
+            return Optional.of("it streams its results");
+        }
+        if (queryMethod.projectionIfPresent().isPresent()) {
+            return Optional.of("it returns a projection");
+        }
+        if (queryMethod.parameters().stream().anyMatch(QueryMethodModel.QueryParameter::isLimit)) {
+            return Optional.of("it takes a Limit");
+        }
+        return Optional.empty();
+    }
+
+    private static Optional<String> selectQuery(QueryMethodModel queryMethod, EntityModel entityModel) {
+        String select = "select e from " + entityModel.entityClassName() + " e";
+        if (queryMethod.queryType() == QueryType.FIND_ALL) {
+            return Optional.of(select);
+        }
+        return JpqlPredicateTranslator.translate(queryMethod, entityModel)
+                .map(condition -> select + " where " + condition);
+    }
+
+    private QueryMethodModel derived(QueryMethodModel queryMethod, String portQualifiedName, String reason) {
+        diagnostics.accept(Diagnostic.builder()
+                .severity(DiagnosticSeverity.INFO)
+                .code(JpaDiagnosticCodes.DERIVED_QUERY_KEPT)
+                .pluginId(PLUGIN_ID)
+                .message("Query method '" + queryMethod.methodName() + "' in port '" + portQualifiedName
+                        + "' is kept as a derived query because " + reason + ".")
+                .build());
+        return queryMethod;
+    }
+
+    private QueryMethodModel unsupported(QueryMethodModel queryMethod, String portQualifiedName, String reason) {
+        diagnostics.accept(Diagnostic.builder()
+                .severity(DiagnosticSeverity.WARNING)
+                .code(JpaDiagnosticCodes.UNSUPPORTED_COUNT_QUERY)
+                .pluginId(PLUGIN_ID)
+                .message("The count query of '" + queryMethod.methodName() + "' in port '" + portQualifiedName
+                        + "' is ignored because " + reason + ".")
+                .build());
+        return queryMethod;
+    }
+}
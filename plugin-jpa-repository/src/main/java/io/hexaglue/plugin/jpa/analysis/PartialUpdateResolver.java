@@ -0,0 +1,228 @@
+/**
+ * This Source Code Form is part of the HexaGlue project.
+ * Copyright (c) 2025 Scalastic
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ *
+ * Commercial licensing options are available for organizations wishing
+ * to use HexaGlue under terms different from the MPL 2.0.
+ * Contact: info@hexaglue.io
+ */
+package io.hexaglue.plugin.jpa.analysis;
+
+import io.hexaglue.plugin.jpa.diagnostics.JpaDiagnosticCodes;
+import io.hexaglue.plugin.jpa.model.EntityModel;
+import io.hexaglue.plugin.jpa.model.PartialUpdateModel;
+import io.hexaglue.plugin.jpa.model.PropertyModel;
+import io.hexaglue.plugin.jpa.model.QueryMethodModel;
+import io.hexaglue.plugin.jpa.model.QueryMethodModel.QueryParameter;
+import io.hexaglue.plugin.jpa.model.QueryMethodModel.QueryType;
+import io.hexaglue.plugin.jpa.util.NamingUtils;
+import io.hexaglue.spi.diagnostics.Diagnostic;
+import io.hexaglue.spi.diagnostics.DiagnosticSeverity;
+import io.hexaglue.spi.ir.domain.DomainPropertyView;
+import io.hexaglue.spi.ir.ports.PortMethodView;
+import io.hexaglue.spi.ir.ports.PortParameterView;
+import io.hexaglue.spi.types.TypeRef;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Translates update-style port methods into partial JPQL {@code UPDATE} statements.
+ *
+ * <p>A port method is update-style when its name starts with {@code update}, {@code mark},
+ * {@code set} or {@code change}, its first parameter is the aggregate ID and it has at least one
+ * other parameter. The ID parameter is typed as the domain ID, or named {@code id} and typed as
+ * its persistence type. Each other parameter must name a basic column of the aggregate, either
+ * directly ({@code updateStatus(OrderId id, OrderStatus status)} sets {@code status}) or
+ * qualified by the method subject ({@code markShipped(OrderId id, Instant at)} sets
+ * {@code shippedAt}). The method must return nothing, a count ({@code int}, {@code long}) or
+ * {@code boolean}.</p>
+ *
+ * <p>Each other parameter must also have the type of its column. A single-field Value Object
+ * whose inner type is the column type is accepted as well: like the ID, it is unwrapped by the
+ * adapter ({@code updateEmail(OrderId id, Email email)} binds {@code email.value()}), since the
+ * column holds the persistence type of the property.</p>
+ *
+ * <p>Translated methods are reported ({@link JpaDiagnosticCodes#PARTIAL_UPDATE}): the statement
+ * bypasses the domain model, so invariants checked by the aggregate are not enforced. Update-style
+ * methods that cannot be translated keep a stub implementation and are reported
+ * ({@link JpaDiagnosticCodes#UNSUPPORTED_PARTIAL_UPDATE}).</p>
+ *
+ * @since 0.4.0
+ */
+public final class PartialUpdateResolver {
+
+    private static final String PLUGIN_ID = "io.hexaglue.plugin.jpa";
+
+    private static final Pattern UPDATE_PATTERN = Pattern.compile("^(update|mark|set|change)([A-Z].*)$");
+
+    /** Port return types a partial update can produce from its affected-row count. */
+    private static final Set<String> COUNT_RETURN_TYPES =
+            Set.of("void", "int", "long", "boolean", "java.lang.Integer", "java.lang.Long", "Integer", "Long");
+
+    private final DomainTypeIndex typeIndex;
+    private final Consumer<Diagnostic> diagnostics;
+
+    /**
+     * Creates a partial update resolver.
+     *
+     * @param typeIndex domain type index shared by the run
+     * @param diagnostics sink receiving diagnostics emitted during resolution
+     */
+    public PartialUpdateResolver(DomainTypeIndex typeIndex, Consumer<Diagnostic> diagnostics) {
+        this.typeIndex = Objects.requireNonNull(typeIndex, "typeIndex");
+        this.diagnostics = Objects.requireNonNull(diagnostics, "diagnostics");
+    }
+
+    /**
+     * Resolves the partial update of a port method.
+     *
+     * @param portMethod port method that is not a derived query method
+     * @param entityModel entity model of the aggregate
+     * @param portQualifiedName qualified name of the port, for diagnostics
+     * @return the update method with its statement, or empty if the method is not a translatable update
+     */
+    public Optional<QueryMethodModel> resolve(
+            PortMethodView portMethod, EntityModel entityModel, String portQualifiedName) {
+        Objects.requireNonNull(portMethod, "portMethod");
+        Objects.requireNonNull(entityModel, "entityModel");
+        Objects.requireNonNull(portQualifiedName, "portQualifiedName");
+
+        Matcher matcher = UPDATE_PATTERN.matcher(portMethod.name());
+        List<PortParameterView> parameters = portMethod.parameters();
+        if (!matcher.matches() || parameters.size() < 2 || !isId(parameters.get(0), entityModel)) {
+            return Optional.empty();
+        }
+
+        if (entityModel.idModel().isComposite()) {
+            return unsupported(portMethod, portQualifiedName, "composite IDs cannot be bound to a JPQL parameter");
+        }
+        String returned = portMethod.returnType().render();
+        if (!COUNT_RETURN_TYPES.contains(returned)) {
+            return unsupported(portMethod, portQualifiedName, "it returns " + returned + " rather than a count");
+        }
+
+        PortParameterView id = parameters.get(0);
+        List<QueryParameter> queryParameters = new ArrayList<>();
+        queryParameters.add(new QueryParameter(id.name(), id.type(), "id"));
+        List<String> assignments = new ArrayList<>();
+        Map<String, String> unwrappedParameters = new LinkedHashMap<>();
+        for (PortParameterView parameter : parameters.subList(1, parameters.size())) {
+            Optional<PropertyModel> property = column(entityModel, matcher.group(2), parameter.name());
+            if (property.isEmpty()
+                    || entityModel.enableAuditing()
+                            && parameter.name().equals(PartialUpdateModel.UPDATED_AT_PARAMETER)) {
+                return unsupported(
+                        portMethod,
+                        portQualifiedName,
+                        "parameter '" + parameter.name() + "' is not a basic column of the aggregate");
+            }
+            TypeRef columnType = property.get().type();
+            if (!parameter.type().render().equals(columnType.render())) {
+                Optional<DomainPropertyView> inner = innerPropertyOf(parameter.type(), columnType);
+                if (inner.isEmpty()) {
+                    return unsupported(
+                            portMethod,
+                            portQualifiedName,
+                            "parameter '" + parameter.name() + "' is a " + parameter.type().render()
+                                    + " but column '" + property.get().name() + "' holds a " + columnType.render());
+                }
+                unwrappedParameters.put(parameter.name(), inner.get().name());
+            }
+            assignments.add("e." + property.get().name() + " = :" + parameter.name());
+            queryParameters.add(new QueryParameter(parameter.name(), columnType, property.get().name()));
+        }
+        if (entityModel.enableAuditing()) {
+            assignments.add("e.updatedAt = :" + PartialUpdateModel.UPDATED_AT_PARAMETER);
+        }
+        if (entityModel.enableOptimisticLocking()) {
+            assignments.add("e.version = e.version + 1");
+        }
+
+        String jpql = "update " + entityModel.entityClassName() + " e set " + String.join(", ", assignments)
+                + " where e.id = :" + id.name() + (entityModel.enableSoftDelete() ? " and e.deletedAt is null" : "");
+
+        diagnostics.accept(Diagnostic.builder()
+                .severity(DiagnosticSeverity.INFO)
+                .code(JpaDiagnosticCodes.PARTIAL_UPDATE)
+                .pluginId(PLUGIN_ID)
+                .message("'" + portMethod.name() + "' in port '" + portQualifiedName
+                        + "' updates the row with a single UPDATE, without loading the aggregate."
+                        + " Domain invariants and entity callbacks are bypassed.")
+                .build());
+        return Optional.of(QueryMethodModel.builder()
+                .methodName(portMethod.name())
+                .queryType(QueryType.UPDATE_BY_ID)
+                .parameters(queryParameters)
+                .returnType(portMethod.returnType())
+                .partialUpdate(new PartialUpdateModel(
+                        jpql, id.name(), unwrappedParameters, entityModel.enableAuditing()))
+                .build());
+    }
+
+    /**
+     * Checks if a parameter holds the aggregate ID: typed as the domain ID, or named {@code id}
+     * and typed as the persistence type of the ID.
+     *
+     * <p>The repository declares the ID with its persistence type, and the adapter unwraps only
+     * the domain ID: a parameter of any other type could not be passed to the statement.</p>
+     */
+    private static boolean isId(PortParameterView parameter, EntityModel entityModel) {
+        String type = parameter.type().render();
+        return type.equals(entityModel.idModel().originalType().render())
+                || parameter.name().equals("id")
+                        && type.equals(entityModel.idModel().unwrappedType().render());
+    }
+
+    /**
+     * Finds the inner property of a single-field Value Object stored in a column of the given type.
+     */
+    private Optional<DomainPropertyView> innerPropertyOf(TypeRef parameterType, TypeRef columnType) {
+        return typeIndex
+                .lookup(parameterType)
+                .innerProperty()
+                .filter(inner -> inner.type().render().equals(columnType.render()));
+    }
+
+    /**
+     * Finds the basic column a parameter sets: the property named like the parameter, or the
+     * property named by the method subject and the parameter ({@code shipped} + {@code at}).
+     */
+    private static Optional<PropertyModel> column(EntityModel entityModel, String subject, String parameterName) {
+        List<String> candidates =
+                List.of(parameterName, NamingUtils.decapitalize(subject) + NamingUtils.capitalize(parameterName));
+        for (String candidate : candidates) {
+            Optional<PropertyModel> property = entityModel.properties().stream()
+                    .filter(p -> !p.embedded())
+                    .filter(p -> p.name().equals(candidate))
+                    .findFirst();
+            if (property.isPresent()) {
+                return property;
+            }
+        }
+        return Optional.empty();
+    }
+
+    private Optional<QueryMethodModel> unsupported(PortMethodView portMethod, String portQualifiedName, String reason) {
+        diagnostics.accept(Diagnostic.builder()
+                .severity(DiagnosticSeverity.WARNING)
+                .code(JpaDiagnosticCodes.UNSUPPORTED_PARTIAL_UPDATE)
+                .pluginId(PLUGIN_ID)
+                .message("'" + portMethod.name() + "' in port '" + portQualifiedName
+                        + "' is not generated as a partial update because " + reason
+                        + ". Implement this method manually in the adapter.")
+                .build());
+        return Optional.empty();
+    }
+}
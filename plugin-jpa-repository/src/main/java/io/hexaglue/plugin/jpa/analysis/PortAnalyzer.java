@@ -16,9 +16,11 @@ import io.hexaglue.spi.ir.ports.PortMethodView;
 import io.hexaglue.spi.ir.ports.PortView;
 import io.hexaglue.spi.types.ParameterizedRef;
 import io.hexaglue.spi.types.TypeRef;
+import java.util.List;
 import java.util.Locale;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.regex.Pattern;
 
 /**
  * Analyzes ports to detect repository-like interfaces and extract metadata.
@@ -58,6 +60,20 @@ import java.util.Optional;
  */
 public final class PortAnalyzer {
 
+    /** Batch write method names: saveAll, persistAll, storeAll. */
+    private static final Pattern BATCH_WRITE_PATTERN = Pattern.compile("^(save|persist|store)All$");
+
+    /** Containers a batch write can accept or return, besides arrays. */
+    private static final List<String> BATCH_CONTAINERS = List.of(
+            "List",
+            "java.util.List",
+            "Collection",
+            "java.util.Collection",
+            "Set",
+            "java.util.Set",
+            "Iterable",
+            "java.lang.Iterable");
+
     private PortAnalyzer() {
         // Static utility class
     }
@@ -103,6 +119,66 @@ public final class PortAnalyzer {
         return false;
     }
 
+    /**
+     * Checks if a port method is a batch write ({@code saveAll}, {@code persistAll} or
+     * {@code storeAll} with a single parameter).
+     *
+     * @param method port method
+     * @return true if the method is a batch write
+     */
+    public static boolean isBatchWrite(PortMethodView method) {
+        Objects.requireNonNull(method, "method");
+        return BATCH_WRITE_PATTERN.matcher(method.name()).matches()
+                && method.parameters().size() == 1;
+    }
+
+    /**
+     * Checks if a batch write can be implemented with a single {@code repo.saveAll} call.
+     *
+     * <p>The parameter must be an array (or varargs), {@code List}, {@code Set},
+     * {@code Collection} or {@code Iterable} of the aggregate. The method must return
+     * {@code void} or a {@code List}, {@code Set}, {@code Collection} or {@code Iterable} of
+     * the aggregate.</p>
+     *
+     * @param method port method
+     * @param domainType aggregate managed by the port
+     * @return true if the method is a batch write of the aggregate with a supported shape
+     */
+    public static boolean isSupportedBatchWrite(PortMethodView method, TypeRef domainType) {
+        Objects.requireNonNull(domainType, "domainType");
+        if (!isBatchWrite(method)) {
+            return false;
+        }
+        String aggregate = domainType.render();
+        boolean acceptsAggregates = batchElementType(
+                        method.parameters().get(0).type().render())
+                .filter(aggregate::equals)
+                .isPresent();
+        String returned = method.returnType().render();
+        boolean returnsAggregates = returned.equals("void")
+                || !returned.endsWith("[]")
+                        && batchElementType(returned).filter(aggregate::equals).isPresent();
+        return acceptsAggregates && returnsAggregates;
+    }
+
+    /**
+     * Returns the element type of an array, or of a batch container ({@code List<? extends X>} → X).
+     */
+    private static Optional<String> batchElementType(String rendered) {
+        if (rendered.endsWith("[]")) {
+            return Optional.of(rendered.substring(0, rendered.length() - 2));
+        }
+        int open = rendered.indexOf('<');
+        if (open < 0 || !rendered.endsWith(">") || !BATCH_CONTAINERS.contains(rendered.substring(0, open))) {
+            return Optional.empty();
+        }
+        String element = rendered.substring(open + 1, rendered.length() - 1).trim();
+        if (element.startsWith("? extends ")) {
+            element = element.substring("? extends ".length()).trim();
+        }
+        return Optional.of(element);
+    }
+
     /**
      * Infers the domain type managed by a repository port.
      *
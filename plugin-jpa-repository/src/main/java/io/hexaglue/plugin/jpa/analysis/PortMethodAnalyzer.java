@@ -12,9 +12,11 @@
  */
 package io.hexaglue.plugin.jpa.analysis;
 
+import io.hexaglue.plugin.jpa.model.KeysetModel;
 import io.hexaglue.plugin.jpa.model.QueryMethodModel;
 import io.hexaglue.plugin.jpa.model.QueryMethodModel.QueryParameter;
 import io.hexaglue.plugin.jpa.model.QueryMethodModel.QueryType;
+import io.hexaglue.plugin.jpa.model.StreamingModel;
 import io.hexaglue.spi.ir.ports.PortMethodView;
 import io.hexaglue.spi.ir.ports.PortParameterView;
 import io.hexaglue.spi.types.TypeRef;
@@ -22,6 +24,7 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -41,6 +44,22 @@ import java.util.regex.Pattern;
  *   <li><strong>findAll(Pageable)</strong>: Pagination support</li>
  * </ul>
  *
+ * <h2>Slices</h2>
+ * <p>findBy and findAll methods with a {@code Pageable} parameter returning {@code Slice<T>}, or
+ * {@code Window<T>} without a {@code ScrollPosition}, are paginated without a {@code COUNT} query
+ * (see {@link QueryMethodModel#returnsSlice()}).</p>
+ *
+ * <h2>Keyset Pagination</h2>
+ * <p>findBy and findAll methods are keyset-paginated (see {@link KeysetModel}) when they either
+ * return {@code Window<T>} with a {@code ScrollPosition} parameter, or return a list and end with
+ * a cursor parameter ({@code after}, {@code afterId}, {@code cursor} or {@code lastId}) and an
+ * {@code int} limit parameter ({@code limit}, {@code size}, {@code pageSize} or
+ * {@code maxResults}).</p>
+ *
+ * <h2>Streaming</h2>
+ * <p>findBy and findAll methods stream their results (see {@link StreamingModel}) when they
+ * return {@code Stream<T>}, or return void and end with a {@code Consumer<T>} parameter.</p>
+ *
  * <h2>Usage</h2>
  * <pre>{@code
  * PortMethodAnalyzer analyzer = new PortMethodAnalyzer();
@@ -64,6 +83,10 @@ public final class PortMethodAnalyzer {
     // Property separator pattern (And, Or)
     private static final Pattern PROPERTY_SEPARATOR = Pattern.compile("(And|Or)");
 
+    // Keyset cursor and limit parameter names
+    private static final Set<String> CURSOR_PARAMETER_NAMES = Set.of("after", "afterId", "cursor", "lastId");
+    private static final Set<String> LIMIT_PARAMETER_NAMES = Set.of("limit", "size", "pageSize", "maxResults");
+
     /**
      * Analyzes a port method to detect if it's a query method.
      *
@@ -82,6 +105,24 @@ public final class PortMethodAnalyzer {
             return Optional.of(buildFindAllMethod(methodName, returnType, parameters));
         }
 
+        // Check for findAll pattern with keyset pagination or streaming (before checking basic CRUD)
+        if (methodName.equals("findAll")) {
+            Optional<KeysetModel> keyset = detectKeyset(methodName, "", returnType, parameters, 0);
+            if (keyset.isPresent()) {
+                return Optional.of(
+                        buildFindAllMethod(methodName, returnType, parameters).withKeyset(keyset.get()));
+            }
+
+            Optional<StreamingModel> streaming = detectStreaming("streamAllBy", returnType, parameters);
+            if (streaming.isPresent()
+                    && parameters.stream()
+                            .allMatch(p ->
+                                    isSpecialType(p.type()) || streaming.get().isConsumerParameter(p.name()))) {
+                return Optional.of(
+                        buildFindAllMethod(methodName, returnType, parameters).withStreaming(streaming.get()));
+            }
+        }
+
         // Skip basic CRUD methods already in JpaRepository
         if (isBasicCrudMethod(methodName)) {
             return Optional.empty();
@@ -142,15 +183,15 @@ public final class PortMethodAnalyzer {
         boolean hasPageable = hasPageableParameter(parameters);
         boolean returnsPage = isPageReturnType(returnType);
 
-        return new QueryMethodModel(
-                methodName,
-                QueryType.FIND_ALL,
-                queryParams,
-                returnType,
-                false, // returnsOptional
-                false, // returnsList (Page is different)
-                returnsPage,
-                hasPageable);
+        return QueryMethodModel.builder()
+                .methodName(methodName)
+                .queryType(QueryType.FIND_ALL)
+                .parameters(queryParams)
+                .returnType(returnType)
+                .returnsPage(returnsPage)
+                .returnsSlice(isSliceResult(returnType, parameters))
+                .hasPagination(hasPageable)
+                .build();
     }
 
     /**
@@ -167,15 +208,87 @@ public final class PortMethodAnalyzer {
         boolean returnsPage = isPageReturnType(returnType);
         boolean hasPageable = hasPageableParameter(parameters);
 
-        return new QueryMethodModel(
-                methodName,
-                QueryType.FIND_BY,
-                queryParams,
-                returnType,
-                returnsOptional,
-                returnsList,
-                returnsPage,
-                hasPageable);
+        return QueryMethodModel.builder()
+                .methodName(methodName)
+                .queryType(QueryType.FIND_BY)
+                .parameters(queryParams)
+                .returnType(returnType)
+                .returnsOptional(returnsOptional)
+                .returnsList(returnsList)
+                .returnsPage(returnsPage)
+                .returnsSlice(isSliceResult(returnType, parameters))
+                .hasPagination(hasPageable)
+                .keyset(detectKeyset(methodName, propertyExpression, returnType, parameters, propertyNames.size())
+                        .orElse(null))
+                .streaming(detectStreaming(methodName, returnType, parameters).orElse(null))
+                .build();
+    }
+
+    /**
+     * Detects a streaming signature: {@code Stream<T>} result, or void result with a trailing
+     * {@code Consumer<T>} parameter.
+     */
+    private Optional<StreamingModel> detectStreaming(
+            String repositoryMethodName, TypeRef returnType, List<PortParameterView> parameters) {
+
+        if (isStreamReturnType(returnType)) {
+            return Optional.of(new StreamingModel(StreamingModel.Kind.STREAM, repositoryMethodName, null));
+        }
+
+        if (returnType.render().equals("void") && !parameters.isEmpty()) {
+            PortParameterView last = parameters.get(parameters.size() - 1);
+            if (isConsumerType(last.type())) {
+                return Optional.of(new StreamingModel(StreamingModel.Kind.CONSUMER, repositoryMethodName, last.name()));
+            }
+        }
+
+        return Optional.empty();
+    }
+
+    /**
+     * Detects a keyset-paginated signature.
+     *
+     * <p>Either {@code Window<T>} with a {@code ScrollPosition} parameter, or a list result whose
+     * parameters following the property parameters are exactly a cursor and an {@code int} limit.</p>
+     */
+    private Optional<KeysetModel> detectKeyset(
+            String methodName,
+            String predicate,
+            TypeRef returnType,
+            List<PortParameterView> parameters,
+            int propertyCount) {
+
+        if (isWindowReturnType(returnType) && parameters.stream().anyMatch(p -> isScrollPositionType(p.type()))) {
+            boolean ordered =
+                    predicate.contains("OrderBy") || parameters.stream().anyMatch(p -> isSortType(p.type()));
+            return Optional.of(KeysetModel.scroll(predicate, methodName, ordered));
+        }
+
+        if (!isListReturnType(returnType)) {
+            return Optional.empty();
+        }
+
+        List<PortParameterView> extraParameters = parameters.stream()
+                .filter(p -> !isSpecialType(p.type()))
+                .skip(propertyCount)
+                .toList();
+        if (extraParameters.size() != 2) {
+            return Optional.empty();
+        }
+
+        Optional<PortParameterView> cursor = extraParameters.stream()
+                .filter(p -> CURSOR_PARAMETER_NAMES.contains(p.name()))
+                .findFirst();
+        Optional<PortParameterView> limit = extraParameters.stream()
+                .filter(p -> LIMIT_PARAMETER_NAMES.contains(p.name()))
+                .filter(p -> isIntType(p.type()))
+                .findFirst();
+        if (cursor.isEmpty() || limit.isEmpty()) {
+            return Optional.empty();
+        }
+
+        return Optional.of(
+                KeysetModel.cursor(predicate, cursor.get().name(), limit.get().name()));
     }
 
     /**
@@ -187,15 +300,13 @@ public final class PortMethodAnalyzer {
         List<String> propertyNames = extractPropertyNames(propertyExpression);
         List<QueryParameter> queryParams = buildQueryParameters(parameters, propertyNames);
 
-        return new QueryMethodModel(
-                methodName,
-                QueryType.EXISTS_BY,
-                queryParams,
-                returnType,
-                false, // returnsOptional
-                false, // returnsList
-                false, // returnsPage
-                false); // hasPagination (existsBy doesn't support pagination)
+        // existsBy doesn't support pagination
+        return QueryMethodModel.builder()
+                .methodName(methodName)
+                .queryType(QueryType.EXISTS_BY)
+                .parameters(queryParams)
+                .returnType(returnType)
+                .build();
     }
 
     /**
@@ -207,15 +318,13 @@ public final class PortMethodAnalyzer {
         List<String> propertyNames = extractPropertyNames(propertyExpression);
         List<QueryParameter> queryParams = buildQueryParameters(parameters, propertyNames);
 
-        return new QueryMethodModel(
-                methodName,
-                QueryType.COUNT_BY,
-                queryParams,
-                returnType,
-                false, // returnsOptional
-                false, // returnsList
-                false, // returnsPage
-                false); // hasPagination (countBy doesn't support pagination)
+        // countBy doesn't support pagination
+        return QueryMethodModel.builder()
+                .methodName(methodName)
+                .queryType(QueryType.COUNT_BY)
+                .parameters(queryParams)
+                .returnType(returnType)
+                .build();
     }
 
     /**
@@ -227,15 +336,13 @@ public final class PortMethodAnalyzer {
         List<String> propertyNames = extractPropertyNames(propertyExpression);
         List<QueryParameter> queryParams = buildQueryParameters(parameters, propertyNames);
 
-        return new QueryMethodModel(
-                methodName,
-                QueryType.DELETE_BY,
-                queryParams,
-                returnType,
-                false, // returnsOptional
-                false, // returnsList
-                false, // returnsPage
-                false); // hasPagination (deleteBy doesn't support pagination)
+        // deleteBy doesn't support pagination
+        return QueryMethodModel.builder()
+                .methodName(methodName)
+                .queryType(QueryType.DELETE_BY)
+                .parameters(queryParams)
+                .returnType(returnType)
+                .build();
     }
 
     /**
@@ -273,8 +380,8 @@ public final class PortMethodAnalyzer {
             String paramName = portParam.name();
             TypeRef paramType = portParam.type();
 
-            // Check if it's a Pageable or Sort parameter
-            if (isPageableType(paramType) || isSortType(paramType)) {
+            // Check if it's a Pageable, Sort, ScrollPosition or Limit parameter
+            if (isSpecialType(paramType)) {
                 queryParams.add(new QueryParameter(paramName, paramType, ""));
             } else if (propertyIndex < propertyNames.size()) {
                 // Map to property name
@@ -319,6 +426,44 @@ public final class PortMethodAnalyzer {
         return typeName.startsWith("Page<") || typeName.startsWith("org.springframework.data.domain.Page<");
     }
 
+    /**
+     * Checks if a paginated method is read as a {@code Slice}: a {@code Slice<T>} result, or a
+     * {@code Window<T>} result paginated with a {@code Pageable} instead of a {@code ScrollPosition}.
+     */
+    private boolean isSliceResult(TypeRef returnType, List<PortParameterView> parameters) {
+        String typeName = returnType.render();
+        if (!hasPageableParameter(parameters)) {
+            return false;
+        }
+        return typeName.startsWith("Slice<")
+                || typeName.startsWith("org.springframework.data.domain.Slice<")
+                || isWindowReturnType(returnType) && parameters.stream().noneMatch(p -> isScrollPositionType(p.type()));
+    }
+
+    /**
+     * Checks if return type is Stream.
+     */
+    private boolean isStreamReturnType(TypeRef returnType) {
+        String typeName = returnType.render();
+        return typeName.startsWith("Stream<") || typeName.startsWith("java.util.stream.Stream<");
+    }
+
+    /**
+     * Checks if type is Consumer.
+     */
+    private boolean isConsumerType(TypeRef type) {
+        String typeName = type.render();
+        return typeName.startsWith("Consumer<") || typeName.startsWith("java.util.function.Consumer<");
+    }
+
+    /**
+     * Checks if return type is Window.
+     */
+    private boolean isWindowReturnType(TypeRef returnType) {
+        String typeName = returnType.render();
+        return typeName.startsWith("Window<") || typeName.startsWith("org.springframework.data.domain.Window<");
+    }
+
     /**
      * Checks if parameters include a Pageable parameter.
      */
@@ -341,4 +486,35 @@ public final class PortMethodAnalyzer {
         String typeName = type.render();
         return typeName.equals("Sort") || typeName.equals("org.springframework.data.domain.Sort");
     }
+
+    /**
+     * Checks if type is ScrollPosition.
+     */
+    private boolean isScrollPositionType(TypeRef type) {
+        String typeName = type.render();
+        return typeName.equals("ScrollPosition") || typeName.equals("org.springframework.data.domain.ScrollPosition");
+    }
+
+    /**
+     * Checks if type is Limit.
+     */
+    private boolean isLimitType(TypeRef type) {
+        String typeName = type.render();
+        return typeName.equals("Limit") || typeName.equals("org.springframework.data.domain.Limit");
+    }
+
+    /**
+     * Checks if type is a Spring Data special parameter (Pageable, Sort, ScrollPosition, Limit).
+     */
+    private boolean isSpecialType(TypeRef type) {
+        return isPageableType(type) || isSortType(type) || isScrollPositionType(type) || isLimitType(type);
+    }
+
+    /**
+     * Checks if type is int or Integer.
+     */
+    private boolean isIntType(TypeRef type) {
+        String typeName = type.render();
+        return typeName.equals("int") || typeName.equals("Integer") || typeName.equals("java.lang.Integer");
+    }
 }
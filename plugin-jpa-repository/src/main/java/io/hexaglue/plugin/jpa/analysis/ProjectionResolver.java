@@ -0,0 +1,198 @@
+/**
+ * This Source Code Form is part of the HexaGlue project.
+ * Copyright (c) 2025 Scalastic
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ *
+ * Commercial licensing options are available for organizations wishing
+ * to use HexaGlue under terms different from the MPL 2.0.
+ * Contact: info@hexaglue.io
+ */
+package io.hexaglue.plugin.jpa.analysis;
+
+import io.hexaglue.plugin.jpa.diagnostics.JpaDiagnosticCodes;
+import io.hexaglue.plugin.jpa.model.EntityModel;
+import io.hexaglue.plugin.jpa.model.ProjectionModel;
+import io.hexaglue.plugin.jpa.model.ProjectionModel.ProjectionProperty;
+import io.hexaglue.plugin.jpa.model.PropertyModel;
+import io.hexaglue.plugin.jpa.model.QueryMethodModel;
+import io.hexaglue.plugin.jpa.model.QueryMethodModel.QueryType;
+import io.hexaglue.plugin.jpa.model.RelationshipModel;
+import io.hexaglue.plugin.jpa.model.StreamingModel;
+import io.hexaglue.spi.diagnostics.Diagnostic;
+import io.hexaglue.spi.diagnostics.DiagnosticSeverity;
+import io.hexaglue.spi.ir.domain.DomainPropertyView;
+import io.hexaglue.spi.ir.domain.DomainTypeView;
+import io.hexaglue.spi.types.ParameterizedRef;
+import io.hexaglue.spi.types.TypeRef;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Detects findBy methods returning a read model projected from the aggregate.
+ *
+ * <p>A findBy method whose result element type (e.g., {@code OrderSummary} in
+ * {@code List<OrderSummary>}) is a domain type other than the aggregate is a projection
+ * candidate. It is projected when every property of the read model is either the aggregate ID
+ * or a basic column of the aggregate, with the same name and the same domain type.</p>
+ *
+ * <h2>Unsupported Projections</h2>
+ * <p>Read model properties that are missing from the aggregate, typed differently, or mapped as
+ * relationships or embedded Value Objects cannot be selected as columns. Such methods are left
+ * unchanged and reported with {@link JpaDiagnosticCodes#UNSUPPORTED_PROJECTION}.</p>
+ *
+ * @since 0.4.0
+ */
+public final class ProjectionResolver {
+
+    private static final String PLUGIN_ID = "io.hexaglue.plugin.jpa";
+    private static final String ID_PROPERTY = "id";
+
+    private final DomainTypeIndex typeIndex;
+    private final Consumer<Diagnostic> diagnostics;
+
+    /**
+     * Creates a projection resolver.
+     *
+     * @param typeIndex domain type index shared by the run
+     * @param diagnostics sink receiving diagnostics emitted during resolution
+     */
+    public ProjectionResolver(DomainTypeIndex typeIndex, Consumer<Diagnostic> diagnostics) {
+        this.typeIndex = Objects.requireNonNull(typeIndex, "typeIndex");
+        this.diagnostics = Objects.requireNonNull(diagnostics, "diagnostics");
+    }
+
+    /**
+     * Attaches a projection to a query method when it returns a read model of the aggregate.
+     *
+     * @param queryMethod detected query method
+     * @param entityModel entity model of the aggregate
+     * @param portName qualified name of the port declaring the method (for diagnostics)
+     * @return query method with its projection, or the query method unchanged
+     */
+    public QueryMethodModel resolve(QueryMethodModel queryMethod, EntityModel entityModel, String portName) {
+        Objects.requireNonNull(queryMethod, "queryMethod");
+        Objects.requireNonNull(entityModel, "entityModel");
+        Objects.requireNonNull(portName, "portName");
+
+        if (queryMethod.queryType() != QueryType.FIND_BY) {
+            return queryMethod;
+        }
+
+        TypeRef elementType = elementType(queryMethod);
+        String aggregateName = entityModel.domainType().render();
+        if (elementType.render().equals(aggregateName)) {
+            return queryMethod;
+        }
+
+        Optional<DomainTypeView> readModel = typeIndex.findType(elementType.render());
+        Optional<DomainTypeView> aggregate = typeIndex.findType(aggregateName);
+        if (readModel.isEmpty()
+                || aggregate.isEmpty()
+                || readModel.get().properties().isEmpty()) {
+            return queryMethod;
+        }
+
+        Map<String, DomainPropertyView> aggregateProperties = aggregate.get().properties().stream()
+                .collect(Collectors.toMap(DomainPropertyView::name, Function.identity(), (first, second) -> first));
+        Map<String, PropertyModel> columns = entityModel.properties().stream()
+                .filter(property -> !property.embedded())
+                .collect(Collectors.toMap(PropertyModel::name, Function.identity(), (first, second) -> first));
+        Set<String> relationshipNames = entityModel.relationships().stream()
+                .map(RelationshipModel::propertyName)
+                .collect(Collectors.toSet());
+
+        List<ProjectionProperty> properties = new ArrayList<>();
+        for (DomainPropertyView property : readModel.get().properties()) {
+            String name = property.name();
+            DomainPropertyView aggregateProperty = aggregateProperties.get(name);
+
+            if (aggregateProperty == null) {
+                return unsupported(
+                        queryMethod, portName, elementType, "'" + name + "' is not a property of " + aggregateName);
+            }
+            if (!aggregateProperty.type().render().equals(property.type().render())) {
+                return unsupported(
+                        queryMethod,
+                        portName,
+                        elementType,
+                        "'" + name + "' has type "
+                                + property.type().render() + " but "
+                                + aggregateProperty.type().render()
+                                + " in the aggregate");
+            }
+
+            if (ID_PROPERTY.equals(name)) {
+                if (entityModel.idModel().isComposite()) {
+                    return unsupported(queryMethod, portName, elementType, "composite IDs cannot be projected");
+                }
+                properties.add(
+                        new ProjectionProperty(name, entityModel.idModel().unwrappedType()));
+                continue;
+            }
+
+            PropertyModel column = columns.get(name);
+            if (column == null || relationshipNames.contains(name)) {
+                return unsupported(
+                        queryMethod,
+                        portName,
+                        elementType,
+                        "'" + name + "' is not mapped to a basic column (relationship or embedded Value Object)");
+            }
+            properties.add(new ProjectionProperty(name, column.type()));
+        }
+
+        return queryMethod.withProjection(new ProjectionModel(elementType, properties));
+    }
+
+    /**
+     * Extracts the result element type (X in Optional&lt;X&gt;, List&lt;X&gt;, Page&lt;X&gt;, Window&lt;X&gt;,
+     * Stream&lt;X&gt;, Consumer&lt;X&gt;, or X).
+     */
+    private static TypeRef elementType(QueryMethodModel queryMethod) {
+        TypeRef returnType = queryMethod.returnType();
+        Optional<StreamingModel> streaming = queryMethod.streamingIfPresent();
+        if (streaming.isPresent() && streaming.get().kind() == StreamingModel.Kind.CONSUMER) {
+            // Consumer<X>: the element type is the type accepted by the consumer
+            returnType = queryMethod.parameters().stream()
+                    .filter(parameter -> streaming.get().isConsumerParameter(parameter.name()))
+                    .map(QueryMethodModel.QueryParameter::type)
+                    .findFirst()
+                    .orElse(returnType);
+        }
+        boolean wrapped = queryMethod.returnsOptional()
+                || queryMethod.returnsList()
+                || queryMethod.returnsPage()
+                || queryMethod.returnsSlice()
+                || queryMethod.keysetIfPresent().isPresent()
+                || streaming.isPresent();
+        if (wrapped
+                && returnType instanceof ParameterizedRef parameterized
+                && !parameterized.typeArguments().isEmpty()) {
+            return parameterized.typeArguments().get(0);
+        }
+        return returnType;
+    }
+
+    private QueryMethodModel unsupported(
+            QueryMethodModel queryMethod, String portName, TypeRef readModel, String reason) {
+        diagnostics.accept(Diagnostic.builder()
+                .severity(DiagnosticSeverity.WARNING)
+                .code(JpaDiagnosticCodes.UNSUPPORTED_PROJECTION)
+                .pluginId(PLUGIN_ID)
+                .message("Method '" + queryMethod.methodName() + "' in port '" + portName + "' returns "
+                        + readModel.render() + ", which cannot be generated as a projection: " + reason
+                        + ". Implement this method manually in the adapter.")
+                .build());
+        return queryMethod;
+    }
+}
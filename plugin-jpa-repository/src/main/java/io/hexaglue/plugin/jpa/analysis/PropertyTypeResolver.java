@@ -21,12 +21,12 @@ import io.hexaglue.spi.context.GenerationContextSpec;
 import io.hexaglue.spi.diagnostics.Diagnostic;
 import io.hexaglue.spi.ir.domain.DomainPropertyView;
 import io.hexaglue.spi.ir.domain.DomainTypeKind;
-import io.hexaglue.spi.ir.domain.DomainTypeView;
 import io.hexaglue.spi.options.OptionsView;
 import io.hexaglue.spi.options.PropertyMetadataHelper;
 import io.hexaglue.spi.types.TypeRef;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 /**
  * Resolves JPA property metadata from domain properties.
@@ -70,6 +70,8 @@ public final class PropertyTypeResolver {
     private final String domainTypeQualifiedName;
     private final PropertyHeuristicsDetector heuristicsDetector;
     private final TypeCompatibilityValidator typeCompatibilityValidator;
+    private final DomainTypeIndex typeIndex;
+    private final Consumer<Diagnostic> diagnostics;
 
     public PropertyTypeResolver(
             GenerationContextSpec context,
@@ -91,11 +93,39 @@ public final class PropertyTypeResolver {
             OptionsView.PluginOptionsView pluginOptions,
             String domainTypeQualifiedName,
             PropertyHeuristicsDetector heuristicsDetector) {
+        this(
+                context,
+                pluginOptions,
+                domainTypeQualifiedName,
+                heuristicsDetector,
+                DomainTypeIndex.of(context),
+                context.diagnostics()::report);
+    }
+
+    /**
+     * Constructor with custom heuristics detector, a shared type index and an explicit diagnostic sink.
+     *
+     * @param context generation context
+     * @param pluginOptions plugin options
+     * @param domainTypeQualifiedName qualified name of domain type
+     * @param heuristicsDetector heuristics detector
+     * @param typeIndex domain type index shared by the run
+     * @param diagnostics sink receiving diagnostics emitted during resolution
+     */
+    public PropertyTypeResolver(
+            GenerationContextSpec context,
+            OptionsView.PluginOptionsView pluginOptions,
+            String domainTypeQualifiedName,
+            PropertyHeuristicsDetector heuristicsDetector,
+            DomainTypeIndex typeIndex,
+            Consumer<Diagnostic> diagnostics) {
         this.context = Objects.requireNonNull(context, "context");
         this.pluginOptions = Objects.requireNonNull(pluginOptions, "pluginOptions");
         this.domainTypeQualifiedName = Objects.requireNonNull(domainTypeQualifiedName, "domainTypeQualifiedName");
         this.heuristicsDetector = Objects.requireNonNull(heuristicsDetector, "heuristicsDetector");
         this.typeCompatibilityValidator = new TypeCompatibilityValidator(PLUGIN_ID);
+        this.typeIndex = Objects.requireNonNull(typeIndex, "typeIndex");
+        this.diagnostics = Objects.requireNonNull(diagnostics, "diagnostics");
     }
 
     /**
@@ -142,25 +172,9 @@ public final class PropertyTypeResolver {
      * @return unwrapped type if single-field VO, otherwise original type
      */
     private TypeRef unwrapSingleFieldValueObject(TypeRef type) {
-        String typeName = type.render();
-
-        // Look up in IR
-        Optional<DomainTypeView> domainTypeOpt = context.model().domain().findType(typeName);
-
-        if (domainTypeOpt.isEmpty()) {
-            return type; // Not a domain type, return as-is
-        }
-
-        DomainTypeView domainType = domainTypeOpt.get();
-
-        // Only unwrap single-field VOs (RECORDs or IDENTIFIERs with exactly 1 property)
-        if ((domainType.kind() == DomainTypeKind.RECORD || domainType.kind() == DomainTypeKind.IDENTIFIER)
-                && domainType.properties().size() == 1) {
-            // Return the inner type
-            return domainType.properties().get(0).type();
-        }
-
-        return type; // Not a single-field VO, return as-is
+        // Only unwrap single-field VOs (RECORDs or IDENTIFIERs with exactly 1 property),
+        // anything else is returned as-is
+        return typeIndex.unwrappedType(type.render()).orElse(type);
     }
 
     /**
@@ -176,24 +190,8 @@ public final class PropertyTypeResolver {
      * @return true if the type should be embedded
      */
     private boolean isEmbeddedValueObject(TypeRef type) {
-        String typeName = type.render();
-
-        // Look up in IR
-        Optional<DomainTypeView> domainTypeOpt = context.model().domain().findType(typeName);
-
-        if (domainTypeOpt.isEmpty()) {
-            return false;
-        }
-
-        DomainTypeView domainType = domainTypeOpt.get();
-
-        // Must be a RECORD or IDENTIFIER
-        if (domainType.kind() != DomainTypeKind.RECORD && domainType.kind() != DomainTypeKind.IDENTIFIER) {
-            return false;
-        }
-
-        // Must have MORE than one field (single-field VOs use @Converter instead)
-        return domainType.properties().size() > 1;
+        // RECORD or IDENTIFIER with MORE than one field (single-field VOs use @Converter instead)
+        return typeIndex.lookup(type).composite();
     }
 
     /**
@@ -320,10 +318,7 @@ public final class PropertyTypeResolver {
      * @return true if enum type
      */
     private boolean isEnumType(TypeRef type) {
-        String typeName = type.render();
-        Optional<DomainTypeView> domainType = context.model().domain().findType(typeName);
-
-        return domainType.isPresent() && domainType.get().kind() == DomainTypeKind.ENUMERATION;
+        return typeIndex.lookup(type).isKind(DomainTypeKind.ENUMERATION);
     }
 
     /**
@@ -362,15 +357,12 @@ public final class PropertyTypeResolver {
      * @param propertyName property name for diagnostic context
      */
     private void validateTypeCompatibility(TypeRef type, String propertyName) {
-        String typeName = type.render();
-
         // Look up domain type kind if available
-        Optional<DomainTypeView> domainTypeOpt = context.model().domain().findType(typeName);
-        Optional<DomainTypeKind> typeKind = domainTypeOpt.map(DomainTypeView::kind);
+        Optional<DomainTypeKind> typeKind = typeIndex.kind(type.render());
 
         // Use TypeCompatibilityValidator for comprehensive validation
         Optional<Diagnostic> diagnostic = typeCompatibilityValidator.validate(type, typeKind, propertyName);
 
-        diagnostic.ifPresent(context.diagnostics()::report);
+        diagnostic.ifPresent(diagnostics);
     }
 }
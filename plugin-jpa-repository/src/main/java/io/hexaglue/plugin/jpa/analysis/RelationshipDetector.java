@@ -69,10 +69,23 @@ public final class RelationshipDetector {
 
     private final GenerationContextSpec context;
     private final String owningDomainTypeName;
+    private final DomainTypeIndex typeIndex;
 
     public RelationshipDetector(GenerationContextSpec context, String owningDomainTypeName) {
+        this(context, owningDomainTypeName, DomainTypeIndex.of(context));
+    }
+
+    /**
+     * Constructor with a shared type index.
+     *
+     * @param context generation context
+     * @param owningDomainTypeName qualified name of the aggregate owning the relationships
+     * @param typeIndex domain type index shared by the run
+     */
+    public RelationshipDetector(GenerationContextSpec context, String owningDomainTypeName, DomainTypeIndex typeIndex) {
         this.context = Objects.requireNonNull(context, "context");
         this.owningDomainTypeName = Objects.requireNonNull(owningDomainTypeName, "owningDomainTypeName");
+        this.typeIndex = Objects.requireNonNull(typeIndex, "typeIndex");
     }
 
     /**
@@ -144,7 +157,7 @@ public final class RelationshipDetector {
         String elementTypeName = elementType.render();
 
         // Look up element type in IR
-        Optional<DomainTypeView> elementDomainType = context.model().domain().findType(elementTypeName);
+        Optional<DomainTypeView> elementDomainType = typeIndex.findType(elementTypeName);
 
         if (elementDomainType.isEmpty()) {
             // Simple type (String, Integer, etc.) or unknown type
@@ -200,7 +213,7 @@ public final class RelationshipDetector {
         String typeName = propertyType.render();
 
         // Look up in IR
-        Optional<DomainTypeView> domainType = context.model().domain().findType(typeName);
+        Optional<DomainTypeView> domainType = typeIndex.findType(typeName);
 
         if (domainType.isEmpty()) {
             // Not a domain type, no relationship
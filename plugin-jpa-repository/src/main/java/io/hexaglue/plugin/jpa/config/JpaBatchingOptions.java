@@ -0,0 +1,67 @@
+/**
+ * This Source Code Form is part of the HexaGlue project.
+ * Copyright (c) 2025 Scalastic
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ *
+ * Commercial licensing options are available for organizations wishing
+ * to use HexaGlue under terms different from the MPL 2.0.
+ * Contact: info@hexaglue.io
+ */
+package io.hexaglue.plugin.jpa.config;
+
+/**
+ * JDBC batching options for the generated persistence layer.
+ *
+ * <p>Batch write port methods such as {@code saveAll(Collection<Order>)} are always generated
+ * as a single {@code repo.saveAll} call. Hibernate only groups the resulting statements into
+ * JDBC batches when {@code hibernate.jdbc.batch_size} is set, which this option does.</p>
+ *
+ * <h2>Generated Configuration</h2>
+ * <p>When {@code jdbcBatchSize} is positive, a Spring {@code @Configuration} registering a
+ * {@code HibernatePropertiesCustomizer} is generated. It sets the following properties, unless
+ * the application already defines them:</p>
+ * <ul>
+ *   <li>{@code hibernate.jdbc.batch_size}: the configured batch size</li>
+ *   <li>{@code hibernate.order_inserts} and {@code hibernate.order_updates}: group statements by
+ *       table so that batches are not broken by interleaved entities</li>
+ *   <li>{@code hibernate.jdbc.batch_versioned_data}: keep batching updates of versioned entities</li>
+ * </ul>
+ *
+ * <p>Hibernate silently disables insert batching for entities using {@code IDENTITY} ID
+ * generation, since it must execute each insert to obtain the generated key. Prefer
+ * {@code SEQUENCE} or application-assigned IDs for write-heavy aggregates.</p>
+ *
+ * <h2>Configuration Example</h2>
+ * <pre>{@code
+ * hexaglue:
+ *   plugins:
+ *     io.hexaglue.plugin.jpa:
+ *       jdbcBatchSize: 50
+ * }</pre>
+ *
+ * @param jdbcBatchSize JDBC batch size, 0 or negative to leave batching unconfigured
+ * @since 0.4.0
+ */
+public record JpaBatchingOptions(int jdbcBatchSize) {
+
+    /**
+     * Default batching options: no batching configuration generated.
+     *
+     * @return default batching options
+     */
+    public static JpaBatchingOptions defaults() {
+        return new JpaBatchingOptions(0);
+    }
+
+    /**
+     * Returns true if a batching configuration should be generated.
+     *
+     * @return true if the batch size is positive
+     */
+    public boolean isEnabled() {
+        return jdbcBatchSize > 0;
+    }
+}
@@ -0,0 +1,166 @@
+/**
+ * This Source Code Form is part of the HexaGlue project.
+ * Copyright (c) 2025 Scalastic
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ *
+ * Commercial licensing options are available for organizations wishing
+ * to use HexaGlue under terms different from the MPL 2.0.
+ * Contact: info@hexaglue.io
+ */
+package io.hexaglue.plugin.jpa.config;
+
+import io.hexaglue.spi.options.OptionsView;
+import io.hexaglue.spi.util.Strings;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Second-level cache options of an aggregate.
+ *
+ * <p>Read-mostly aggregates (countries, products, tax rates) can be served from the Hibernate
+ * second-level cache instead of the database. A cached aggregate is generated with
+ * {@code @Cacheable} and a Hibernate {@code @Cache} annotation, optionally on its child
+ * collections too, and the chosen finders are marked as cacheable queries.</p>
+ *
+ * <p>Caching is opt-in per aggregate: it is enabled by setting a concurrency strategy. The
+ * application must still enable the second-level cache and configure a region factory
+ * ({@code hibernate.cache.use_second_level_cache}, {@code hibernate.cache.region.factory_class}),
+ * and the query cache ({@code hibernate.cache.use_query_cache}) for cached queries.</p>
+ *
+ * <h2>Configuration Example</h2>
+ * <pre>{@code
+ * hexaglue:
+ *   plugins:
+ *     io.hexaglue.plugin.jpa:
+ *       types:
+ *         com.example.domain.Country:
+ *           cache:
+ *             strategy: READ_ONLY
+ *             region: catalog.country
+ *             collections: true
+ *             queries: findByIsoCode, findAllByRegion
+ * }</pre>
+ *
+ * @param strategy cache concurrency strategy
+ * @param region cache region name (empty for the Hibernate default region)
+ * @param cacheCollections true to cache the child collections
+ * @param cachedQueries names of the query methods whose results are cached
+ * @since 0.4.0
+ */
+public record JpaCacheOptions(Strategy strategy, String region, boolean cacheCollections, Set<String> cachedQueries) {
+
+    /**
+     * Cache concurrency strategies, named after Hibernate {@code CacheConcurrencyStrategy}.
+     */
+    public enum Strategy {
+        /** Immutable data: updates are rejected */
+        READ_ONLY,
+        /** Rarely updated data, without locking (stale reads possible right after an update) */
+        NONSTRICT_READ_WRITE,
+        /** Updated data, with soft locks keeping reads consistent */
+        READ_WRITE,
+        /** Fully transactional, JTA cache providers only */
+        TRANSACTIONAL
+    }
+
+    /**
+     * Compact constructor with validation and defensive copying.
+     *
+     * @throws NullPointerException if any parameter is null
+     */
+    public JpaCacheOptions {
+        Objects.requireNonNull(strategy, "strategy");
+        Objects.requireNonNull(region, "region");
+        Objects.requireNonNull(cachedQueries, "cachedQueries");
+        cachedQueries = Set.copyOf(cachedQueries);
+    }
+
+    /**
+     * Gets the region name if specified.
+     *
+     * @return region name or empty for the default region
+     */
+    public Optional<String> regionIfPresent() {
+        return region.isBlank() ? Optional.empty() : Optional.of(region);
+    }
+
+    /**
+     * Checks if the results of a query method are cached.
+     *
+     * @param methodName query method name
+     * @return true if the method is listed in {@code queries}
+     */
+    public boolean cachesQuery(String methodName) {
+        return cachedQueries.contains(methodName);
+    }
+
+    /**
+     * Resolves the cache options of an aggregate.
+     *
+     * <p>Reads {@code types.<fqcn>.cache.strategy}, {@code cache.region}, {@code cache.collections}
+     * and {@code cache.queries} (a list or a comma-separated string of method names).</p>
+     *
+     * @param pluginOptions plugin options view
+     * @param domainTypeName qualified name of the aggregate root
+     * @return cache options, or empty if the aggregate is not cached (missing or invalid strategy)
+     */
+    public static Optional<JpaCacheOptions> forType(
+            OptionsView.PluginOptionsView pluginOptions, String domainTypeName) {
+        Objects.requireNonNull(pluginOptions, "pluginOptions");
+        Objects.requireNonNull(domainTypeName, "domainTypeName");
+
+        String prefix = "types." + domainTypeName + ".cache.";
+        Optional<Strategy> strategy = parseStrategy(pluginOptions.getOrDefault(prefix + "strategy", String.class, ""));
+        if (strategy.isEmpty()) {
+            return Optional.empty();
+        }
+
+        String region =
+                pluginOptions.getOrDefault(prefix + "region", String.class, "").trim();
+        boolean cacheCollections = pluginOptions.getOrDefault(prefix + "collections", Boolean.class, false);
+        Set<String> cachedQueries = parseNames(pluginOptions.getOrDefault(prefix + "queries", Object.class, null));
+        return Optional.of(new JpaCacheOptions(strategy.get(), region, cacheCollections, cachedQueries));
+    }
+
+    /**
+     * Parses a strategy name, accepting {@code read-write} as well as {@code READ_WRITE}.
+     *
+     * @param raw raw string from configuration
+     * @return parsed strategy, or empty if raw is blank or invalid
+     */
+    public static Optional<Strategy> parseStrategy(String raw) {
+        if (Strings.isBlank(raw)) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(Strategy.valueOf(raw.trim().replace('-', '_').toUpperCase(Locale.ROOT)));
+        } catch (IllegalArgumentException e) {
+            return Optional.empty();
+        }
+    }
+
+    private static Set<String> parseNames(Object raw) {
+        if (raw == null) {
+            return Set.of();
+        }
+        Collection<?> values = raw instanceof Collection<?> collection
+                ? collection
+                : Arrays.asList(raw.toString().split(","));
+        Set<String> names = new LinkedHashSet<>();
+        for (Object value : values) {
+            String name = String.valueOf(value).trim();
+            if (!name.isEmpty()) {
+                names.add(name);
+            }
+        }
+        return names;
+    }
+}
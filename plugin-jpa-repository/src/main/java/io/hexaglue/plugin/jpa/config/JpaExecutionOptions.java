@@ -0,0 +1,124 @@
+/**
+ * This Source Code Form is part of the HexaGlue project.
+ * Copyright (c) 2025 Scalastic
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ *
+ * Commercial licensing options are available for organizations wishing
+ * to use HexaGlue under terms different from the MPL 2.0.
+ * Contact: info@hexaglue.io
+ */
+package io.hexaglue.plugin.jpa.config;
+
+import java.nio.file.Path;
+import java.util.Objects;
+
+/**
+ * Execution options controlling how the plugin schedules its work.
+ *
+ * <p>These options never change the generated code, only how fast it is produced.</p>
+ *
+ * <h2>Parallelism</h2>
+ * <ul>
+ *   <li><strong>1</strong> (default): ports are processed sequentially on the calling thread</li>
+ *   <li><strong>N &gt; 1</strong>: plans and source files are built on a bounded fork-join pool of N workers</li>
+ *   <li><strong>0 or negative</strong>: one worker per available processor</li>
+ * </ul>
+ *
+ * <p>Whatever the parallelism, files are written and diagnostics are reported in port
+ * declaration order, so the build output stays reproducible.</p>
+ *
+ * <h2>Incremental Generation</h2>
+ * <p>When {@code incremental} is enabled, the plugin fingerprints every repository port together
+ * with the domain types it reaches and the resolved options, and stores the fingerprints in a
+ * manifest file. On the next run, ports whose fingerprint is unchanged are neither planned,
+ * rendered nor written: their previously generated files are kept as they are.</p>
+ *
+ * <p>Incremental mode requires {@code outputDirectory}, the directory the generated sources of
+ * the module are written to. The manifest is resolved against it, so that each module of a
+ * multi-module build keeps its own manifest whatever the working directory, and a port is only
+ * skipped if all the files recorded for it are still present there.</p>
+ *
+ * <h2>Configuration Example</h2>
+ * <pre>{@code
+ * hexaglue:
+ *   plugins:
+ *     io.hexaglue.plugin.jpa:
+ *       parallelism: 8
+ *       incremental: true
+ *       outputDirectory: /path/to/module/target/generated-sources/annotations
+ * }</pre>
+ *
+ * @param parallelism requested number of generation workers (see above for special values)
+ * @param incremental true to skip ports whose fingerprint did not change since the last run
+ * @param outputDirectory directory the generated sources are written to, empty if not configured
+ * @param incrementalManifest path of the fingerprint manifest, relative to {@code outputDirectory}
+ * @since 0.4.0
+ */
+public record JpaExecutionOptions(
+        int parallelism, boolean incremental, String outputDirectory, String incrementalManifest) {
+
+    /** Default location of the fingerprint manifest, relative to the output directory. */
+    public static final String DEFAULT_INCREMENTAL_MANIFEST = ".hexaglue/jpa-repository.fingerprints";
+
+    public JpaExecutionOptions {
+        Objects.requireNonNull(outputDirectory, "outputDirectory");
+        Objects.requireNonNull(incrementalManifest, "incrementalManifest");
+    }
+
+    /**
+     * Default execution options: sequential, non-incremental generation.
+     *
+     * @return default execution options
+     */
+    public static JpaExecutionOptions defaults() {
+        return new JpaExecutionOptions(1, false, "", DEFAULT_INCREMENTAL_MANIFEST);
+    }
+
+    /**
+     * Returns true if the directory the generated sources are written to is known.
+     *
+     * @return true if {@code outputDirectory} is set
+     */
+    public boolean hasOutputDirectory() {
+        return !outputDirectory.isBlank();
+    }
+
+    /**
+     * Returns the fingerprint manifest, resolved against the output directory.
+     *
+     * @return manifest path (unchanged if {@code incrementalManifest} is absolute)
+     * @throws IllegalStateException if the output directory is not configured
+     */
+    public Path manifestPath() {
+        if (!hasOutputDirectory()) {
+            throw new IllegalStateException("outputDirectory is not configured");
+        }
+        return Path.of(outputDirectory).resolve(incrementalManifest);
+    }
+
+    /**
+     * Returns the effective number of workers to use.
+     *
+     * <p>Non-positive values resolve to the number of available processors.</p>
+     *
+     * @return effective worker count, always at least 1
+     */
+    public int effectiveParallelism() {
+        if (parallelism <= 0) {
+            return Math.max(1, Runtime.getRuntime().availableProcessors());
+        }
+        return parallelism;
+    }
+
+    /**
+     * Returns true if ports should be processed concurrently.
+     *
+     * @return true if more than one worker is in use
+     */
+    public boolean isParallel() {
+        return effectiveParallelism() > 1;
+    }
+}
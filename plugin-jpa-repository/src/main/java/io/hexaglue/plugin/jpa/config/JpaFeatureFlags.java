@@ -12,6 +12,9 @@
  */
 package io.hexaglue.plugin.jpa.config;
 
+import io.hexaglue.spi.options.OptionsView;
+import java.util.Objects;
+
 /**
  * Feature flags for JPA plugin capabilities.
  *
@@ -24,6 +27,11 @@ package io.hexaglue.plugin.jpa.config;
  *   <li><strong>Soft Delete</strong>: deletedAt field instead of hard deletion</li>
  *   <li><strong>Optimistic Locking</strong>: version field for concurrent modification detection</li>
  *   <li><strong>Query Methods</strong>: Generate derived query methods in Spring Data repositories</li>
+ *   <li><strong>Transactions</strong>: Generate method-level transaction boundaries on adapters</li>
+ *   <li><strong>Dynamic Update</strong>: UPDATE statements write only the changed columns</li>
+ *   <li><strong>Managed Types</strong>: Register the generated JPA classes without classpath scanning</li>
+ *   <li><strong>Runtime Hints</strong>: Register the generated classes for GraalVM native images</li>
+ *   <li><strong>Explicit Wiring</strong>: Register adapters, mappers and repositories without component scanning</li>
  * </ul>
  *
  * <h2>Configuration Example</h2>
@@ -35,19 +43,72 @@ package io.hexaglue.plugin.jpa.config;
  *       enableSoftDelete: false
  *       enableOptimisticLocking: true
  *       generateQueryMethods: true
+ *       generateTransactions: true
+ *       enableDynamicUpdate: false
+ *       generateManagedTypes: false
+ *       generateRuntimeHints: false
+ *       explicitWiring: false
  * }</pre>
  *
  * @param enableAuditing if true, add createdAt/updatedAt fields with @CreatedDate/@LastModifiedDate
  * @param enableSoftDelete if true, add deletedAt field and use @Where clause for soft deletion
  * @param enableOptimisticLocking if true, add version field with @Version annotation
  * @param generateQueryMethods if true, generate derived query methods from port method signatures
+ * @param generateTransactions if true, annotate adapter methods with read-only or read-write
+ *                             {@code @Transactional} boundaries (can be overridden per port)
+ * @param enableDynamicUpdate if true, annotate entities with {@code @DynamicUpdate} (can be
+ *                            overridden per aggregate)
+ * @param generateManagedTypes if true, generate a {@code PersistenceManagedTypes} bean listing the
+ *                             generated entities, embeddables and converters
+ * @param generateRuntimeHints if true, generate a {@code RuntimeHintsRegistrar} registering the
+ *                             generated classes for native images
+ * @param explicitWiring if true, generate a configuration registering the adapters, mappers and
+ *                       repositories explicitly, instead of relying on component scanning
  * @since 0.4.0
  */
 public record JpaFeatureFlags(
         boolean enableAuditing,
         boolean enableSoftDelete,
         boolean enableOptimisticLocking,
-        boolean generateQueryMethods) {
+        boolean generateQueryMethods,
+        boolean generateTransactions,
+        boolean enableDynamicUpdate,
+        boolean generateManagedTypes,
+        boolean generateRuntimeHints,
+        boolean explicitWiring) {
+
+    /**
+     * Resolves whether the adapter of a port gets transaction boundaries.
+     *
+     * <p>Reads {@code ports.<fqcn>.generateTransactions}, falling back to
+     * {@link #generateTransactions()}.</p>
+     *
+     * @param pluginOptions plugin options view
+     * @param portQualifiedName qualified name of the repository port
+     * @return true if the adapter methods are annotated with {@code @Transactional}
+     */
+    public boolean generateTransactionsFor(OptionsView.PluginOptionsView pluginOptions, String portQualifiedName) {
+        Objects.requireNonNull(pluginOptions, "pluginOptions");
+        Objects.requireNonNull(portQualifiedName, "portQualifiedName");
+        return pluginOptions.getOrDefault(
+                "ports." + portQualifiedName + ".generateTransactions", Boolean.class, generateTransactions);
+    }
+
+    /**
+     * Resolves whether the entity of an aggregate is annotated with {@code @DynamicUpdate}.
+     *
+     * <p>Reads {@code types.<fqcn>.dynamicUpdate}, falling back to {@link #enableDynamicUpdate()}.</p>
+     *
+     * @param pluginOptions plugin options view
+     * @param domainTypeName qualified name of the aggregate root
+     * @return true if updates of the entity write only the changed columns
+     */
+    public boolean enableDynamicUpdateFor(OptionsView.PluginOptionsView pluginOptions, String domainTypeName) {
+        Objects.requireNonNull(pluginOptions, "pluginOptions");
+        Objects.requireNonNull(domainTypeName, "domainTypeName");
+        return pluginOptions.getOrDefault(
+                "types." + domainTypeName + ".dynamicUpdate", Boolean.class, enableDynamicUpdate);
+    }
 
     /**
      * Default feature flags with commonly used settings.
@@ -58,6 +119,11 @@ public record JpaFeatureFlags(
      *   <li>Soft Delete: DISABLED (opt-in behavior)</li>
      *   <li>Optimistic Locking: ENABLED (recommended for concurrent systems)</li>
      *   <li>Query Methods: ENABLED (convenience feature)</li>
+     *   <li>Transactions: ENABLED (read-only boundaries on query methods)</li>
+     *   <li>Dynamic Update: DISABLED (statements are cached per entity, opt-in for wide tables)</li>
+     *   <li>Managed Types: DISABLED (would hide handwritten entities from scanning)</li>
+     *   <li>Runtime Hints: DISABLED (only needed for native images)</li>
+     *   <li>Explicit Wiring: DISABLED (adapters are found by component scanning)</li>
      * </ul>
      *
      * @return default feature flags
@@ -67,7 +133,12 @@ public record JpaFeatureFlags(
                 true, // enableAuditing
                 false, // enableSoftDelete
                 true, // enableOptimisticLocking
-                true // generateQueryMethods
+                true, // generateQueryMethods
+                true, // generateTransactions
+                false, // enableDynamicUpdate
+                false, // generateManagedTypes
+                false, // generateRuntimeHints
+                false // explicitWiring
                 );
     }
 
@@ -79,7 +150,7 @@ public record JpaFeatureFlags(
      * @return feature flags with all features disabled
      */
     public static JpaFeatureFlags none() {
-        return new JpaFeatureFlags(false, false, false, false);
+        return new JpaFeatureFlags(false, false, false, false, false, false, false, false, false);
     }
 
     /**
@@ -90,6 +161,6 @@ public record JpaFeatureFlags(
      * @return feature flags with all features enabled
      */
     public static JpaFeatureFlags all() {
-        return new JpaFeatureFlags(true, true, true, true);
+        return new JpaFeatureFlags(true, true, true, true, true, true, true, true, true);
     }
 }
@@ -0,0 +1,173 @@
+/**
+ * This Source Code Form is part of the HexaGlue project.
+ * Copyright (c) 2025 Scalastic
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ *
+ * Commercial licensing options are available for organizations wishing
+ * to use HexaGlue under terms different from the MPL 2.0.
+ * Contact: info@hexaglue.io
+ */
+package io.hexaglue.plugin.jpa.config;
+
+import io.hexaglue.spi.options.OptionsView;
+import io.hexaglue.spi.util.Strings;
+import java.util.Locale;
+import java.util.Objects;
+
+/**
+ * Fetching options of the aggregate child collections ({@code @OneToMany} and
+ * {@code @ElementCollection}).
+ *
+ * <p>Child collections are lazy. Without a fetch mode, initializing the collection of N loaded
+ * entities takes N statements. A collection is loaded more efficiently when:</p>
+ * <ul>
+ *   <li>it is part of the aggregate entity graph, and is join fetched by the finders; or</li>
+ *   <li>it is batch fetched ({@code @BatchSize}): the collections of up to {@code batchSize}
+ *       entities are initialized together with one IN-list query; or</li>
+ *   <li>it is subselect fetched ({@code @Fetch(FetchMode.SUBSELECT)}): the collections of all
+ *       entities loaded by a query are initialized with a single query re-running its
+ *       restriction.</li>
+ * </ul>
+ *
+ * <h2>Defaults</h2>
+ * <p>The global {@code fetchBatchSize} applies to every child collection. When it is not set,
+ * collections that cannot join the aggregate entity graph (every {@code List} collection but the
+ * first one) are still batch fetched by {@value #DEFAULT_BATCH_SIZE}, since they would otherwise be
+ * loaded one entity at a time by every finder.</p>
+ *
+ * <h2>Configuration Example</h2>
+ * <pre>{@code
+ * hexaglue:
+ *   plugins:
+ *     io.hexaglue.plugin.jpa:
+ *       fetchBatchSize: 0
+ *       types:
+ *         com.example.domain.Order:
+ *           relationships:
+ *             lines:
+ *               fetchBatchSize: 100
+ *             payments:
+ *               fetchMode: SUBSELECT
+ * }</pre>
+ *
+ * @param mode fetch mode of the collection
+ * @param batchSize number of collections initialized together (BATCH only, 0 otherwise)
+ * @since 0.4.0
+ */
+public record JpaFetchOptions(Mode mode, int batchSize) {
+
+    /** Batch size of the collections left out of the aggregate entity graph. */
+    public static final int DEFAULT_BATCH_SIZE = 50;
+
+    /**
+     * Fetch modes of a lazy collection.
+     */
+    public enum Mode {
+        /** One statement per collection (JPA default) */
+        SELECT,
+        /** {@code @BatchSize}: one IN-list statement per batch of collections */
+        BATCH,
+        /** {@code @Fetch(FetchMode.SUBSELECT)}: one statement for the collections of a whole query */
+        SUBSELECT
+    }
+
+    /**
+     * Compact constructor with validation.
+     *
+     * @throws IllegalArgumentException if the batch size does not match the mode
+     * @throws NullPointerException if mode is null
+     */
+    public JpaFetchOptions {
+        Objects.requireNonNull(mode, "mode");
+        if (mode == Mode.BATCH ? batchSize < 2 : batchSize != 0) {
+            throw new IllegalArgumentException("Invalid batchSize " + batchSize + " for fetch mode " + mode);
+        }
+    }
+
+    /**
+     * Default fetch options: one statement per collection, unless set otherwise.
+     *
+     * @return default fetch options
+     */
+    public static JpaFetchOptions defaults() {
+        return new JpaFetchOptions(Mode.SELECT, 0);
+    }
+
+    /**
+     * Creates fetch options from a batch size.
+     *
+     * @param batchSize batch size, or less than 2 for no batch fetching
+     * @return BATCH options, or SELECT options if the batch size is less than 2
+     */
+    public static JpaFetchOptions ofBatchSize(int batchSize) {
+        return batchSize < 2 ? defaults() : new JpaFetchOptions(Mode.BATCH, batchSize);
+    }
+
+    /**
+     * Resolves the fetch options of a child collection.
+     *
+     * <p>Reads {@code types.<fqcn>.relationships.<property>.fetchMode} and
+     * {@code types.<fqcn>.relationships.<property>.fetchBatchSize}, falling back to these options,
+     * and to batch fetching by {@link #DEFAULT_BATCH_SIZE} for collections left out of the
+     * aggregate entity graph.</p>
+     *
+     * @param pluginOptions plugin options view
+     * @param domainTypeName qualified name of the aggregate root
+     * @param propertyName collection property
+     * @param inAggregateGraph true if the collection is join fetched by the aggregate entity graph
+     * @return fetch options of the collection
+     */
+    public JpaFetchOptions forRelationship(
+            OptionsView.PluginOptionsView pluginOptions,
+            String domainTypeName,
+            String propertyName,
+            boolean inAggregateGraph) {
+        Objects.requireNonNull(pluginOptions, "pluginOptions");
+        Objects.requireNonNull(domainTypeName, "domainTypeName");
+        Objects.requireNonNull(propertyName, "propertyName");
+
+        String prefix = "types." + domainTypeName + ".relationships." + propertyName + ".";
+        JpaFetchOptions fallback = this;
+        if (mode == Mode.SELECT && !inAggregateGraph) {
+            fallback = ofBatchSize(DEFAULT_BATCH_SIZE);
+        }
+
+        int relationshipBatchSize = pluginOptions.getOrDefault(prefix + "fetchBatchSize", Integer.class, 0);
+        Mode relationshipMode =
+                parseModeOrDefault(pluginOptions.getOrDefault(prefix + "fetchMode", String.class, ""), null);
+        if (relationshipMode == null) {
+            return relationshipBatchSize > 0 ? ofBatchSize(relationshipBatchSize) : fallback;
+        }
+        return switch (relationshipMode) {
+            case SELECT, SUBSELECT -> new JpaFetchOptions(relationshipMode, 0);
+            case BATCH ->
+                ofBatchSize(
+                        relationshipBatchSize > 0 ? relationshipBatchSize : fallback.batchSizeOr(DEFAULT_BATCH_SIZE));
+        };
+    }
+
+    private int batchSizeOr(int defaultBatchSize) {
+        return mode == Mode.BATCH ? batchSize : defaultBatchSize;
+    }
+
+    /**
+     * Parses a fetch mode name.
+     *
+     * @param raw raw string from configuration
+     * @param fallback mode returned if raw is blank or invalid
+     * @return parsed mode or fallback
+     */
+    public static Mode parseModeOrDefault(String raw, Mode fallback) {
+        if (Strings.isBlank(raw)) {
+            return fallback;
+        }
+        try {
+            return Mode.valueOf(raw.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            return fallback;
+        }
+    }
+}
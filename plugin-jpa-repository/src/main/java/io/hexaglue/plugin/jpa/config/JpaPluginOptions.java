@@ -27,9 +27,13 @@ import java.util.Objects;
  * <ul>
  *   <li><strong>Base package</strong>: Where to generate infrastructure code</li>
  *   <li><strong>Merge mode</strong>: How to handle existing files (OVERWRITE, SKIP, etc.)</li>
- *   <li><strong>Database options</strong>: Schema, ID generation strategy, sequence names</li>
+ *   <li><strong>Database options</strong>: Schema, ID generation strategy, sequence names and allocation</li>
  *   <li><strong>Feature flags</strong>: Auditing, soft delete, optimistic locking, etc.</li>
  *   <li><strong>Naming conventions</strong>: Suffixes for entities, adapters, repositories</li>
+ *   <li><strong>Execution options</strong>: Parallelism and incremental mode of the generation pipeline</li>
+ *   <li><strong>Batching options</strong>: JDBC batching configuration for batch writes</li>
+ *   <li><strong>Query options</strong>: Fetch size of streaming query methods</li>
+ *   <li><strong>Fetch options</strong>: Batch or subselect fetching of child collections</li>
  * </ul>
  *
  * <h2>Configuration Example</h2>
@@ -42,13 +46,27 @@ import java.util.Objects;
  *       schema: public
  *       idStrategy: ASSIGNED
  *       sequenceName: ""
+ *       sequenceAllocationSize: 50
+ *       sequenceOptimizer: POOLED
  *       enableAuditing: true
  *       enableSoftDelete: false
  *       enableOptimisticLocking: true
  *       generateQueryMethods: true
+ *       generateTransactions: true
+ *       enableDynamicUpdate: false
+ *       generateManagedTypes: false
+ *       generateRuntimeHints: false
+ *       explicitWiring: false
  *       entitySuffix: Entity
  *       adapterSuffix: Adapter
  *       springDataRepositorySuffix: JpaRepository
+ *       parallelism: 1
+ *       incremental: false
+ *       jdbcBatchSize: 0
+ *       streamFetchSize: 500
+ *       explicitQueries: false
+ *       fetchBatchSize: 0
+ *       newEntityDetection: NONE
  * }</pre>
  *
  * @param basePackage base package for generated infrastructure code
@@ -56,8 +74,14 @@ import java.util.Objects;
  * @param schema database schema name (optional, empty string if not specified)
  * @param idStrategy ID generation strategy (IDENTITY, SEQUENCE, AUTO, UUID, ASSIGNED)
  * @param sequenceName sequence name for SEQUENCE strategy (optional)
+ * @param sequenceOptions sequence allocation size and optimizer for SEQUENCE strategy
  * @param featureFlags feature flags for optional capabilities
  * @param namingConventions naming conventions for generated classes
+ * @param executionOptions execution options for the generation pipeline
+ * @param batchingOptions JDBC batching options
+ * @param queryOptions options of the generated query methods
+ * @param fetchOptions default fetching of the aggregate child collections
+ * @param newEntityDetection how entities with application-assigned IDs report that they are new
  * @since 0.4.0
  */
 public record JpaPluginOptions(
@@ -66,8 +90,48 @@ public record JpaPluginOptions(
         String schema,
         IdGenerationStrategy idStrategy,
         String sequenceName,
+        JpaSequenceOptions sequenceOptions,
         JpaFeatureFlags featureFlags,
-        NamingConventions namingConventions) {
+        NamingConventions namingConventions,
+        JpaExecutionOptions executionOptions,
+        JpaBatchingOptions batchingOptions,
+        JpaQueryOptions queryOptions,
+        JpaFetchOptions fetchOptions,
+        NewEntityDetection newEntityDetection) {
+
+    /**
+     * How entities with application-assigned IDs tell Spring Data whether they are new.
+     *
+     * <p>Spring Data considers an entity with a non-null ID as existing and merges it, which
+     * loads the row before every insert. Entities implementing {@code Persistable} decide
+     * themselves, so that a new aggregate is persisted with a single INSERT.</p>
+     */
+    public enum NewEntityDetection {
+        /** No {@code Persistable}: Spring Data inspects the ID (and a wrapper version) */
+        NONE,
+        /** {@code isNew()} is true while the {@code @Version} field is null */
+        VERSION,
+        /** {@code isNew()} is a transient flag cleared by {@code @PostLoad} and {@code @PrePersist} */
+        CALLBACK;
+
+        /**
+         * Parses a detection name.
+         *
+         * @param raw raw string from configuration
+         * @param defaultValue value returned for a blank or invalid name
+         * @return parsed detection, or the default value
+         */
+        public static NewEntityDetection parseOrDefault(String raw, NewEntityDetection defaultValue) {
+            if (Strings.isBlank(raw)) {
+                return defaultValue;
+            }
+            try {
+                return valueOf(raw.trim().toUpperCase(Locale.ROOT));
+            } catch (IllegalArgumentException e) {
+                return defaultValue;
+            }
+        }
+    }
 
     /**
      * ID generation strategies for JPA entities.
@@ -97,8 +161,14 @@ public record JpaPluginOptions(
         Objects.requireNonNull(schema, "schema");
         Objects.requireNonNull(idStrategy, "idStrategy");
         Objects.requireNonNull(sequenceName, "sequenceName");
+        Objects.requireNonNull(sequenceOptions, "sequenceOptions");
         Objects.requireNonNull(featureFlags, "featureFlags");
         Objects.requireNonNull(namingConventions, "namingConventions");
+        Objects.requireNonNull(executionOptions, "executionOptions");
+        Objects.requireNonNull(batchingOptions, "batchingOptions");
+        Objects.requireNonNull(queryOptions, "queryOptions");
+        Objects.requireNonNull(fetchOptions, "fetchOptions");
+        Objects.requireNonNull(newEntityDetection, "newEntityDetection");
     }
 
     /**
@@ -139,14 +209,33 @@ public record JpaPluginOptions(
                 .toUpperCase(Locale.ROOT);
         IdGenerationStrategy idStrategy = parseIdStrategyOrDefault(idStrategyRaw);
         String sequenceName = pluginOptions.getOrDefault("sequenceName", String.class, "");
+        int allocationSize = pluginOptions.getOrDefault(
+                "sequenceAllocationSize", Integer.class, JpaSequenceOptions.DEFAULT_ALLOCATION_SIZE);
+        JpaSequenceOptions.Optimizer optimizer = JpaSequenceOptions.parseOptimizerOrDefault(
+                pluginOptions.getOrDefault("sequenceOptimizer", String.class, ""), JpaSequenceOptions.Optimizer.POOLED);
+        JpaSequenceOptions sequenceOptions = new JpaSequenceOptions(
+                allocationSize < 1 ? JpaSequenceOptions.DEFAULT_ALLOCATION_SIZE : allocationSize, optimizer);
 
         // Feature flags
         boolean enableAuditing = pluginOptions.getOrDefault("enableAuditing", Boolean.class, true);
         boolean enableSoftDelete = pluginOptions.getOrDefault("enableSoftDelete", Boolean.class, false);
         boolean enableOptimisticLocking = pluginOptions.getOrDefault("enableOptimisticLocking", Boolean.class, true);
         boolean generateQueryMethods = pluginOptions.getOrDefault("generateQueryMethods", Boolean.class, true);
-        JpaFeatureFlags featureFlags =
-                new JpaFeatureFlags(enableAuditing, enableSoftDelete, enableOptimisticLocking, generateQueryMethods);
+        boolean generateTransactions = pluginOptions.getOrDefault("generateTransactions", Boolean.class, true);
+        boolean enableDynamicUpdate = pluginOptions.getOrDefault("enableDynamicUpdate", Boolean.class, false);
+        boolean generateManagedTypes = pluginOptions.getOrDefault("generateManagedTypes", Boolean.class, false);
+        boolean generateRuntimeHints = pluginOptions.getOrDefault("generateRuntimeHints", Boolean.class, false);
+        boolean explicitWiring = pluginOptions.getOrDefault("explicitWiring", Boolean.class, false);
+        JpaFeatureFlags featureFlags = new JpaFeatureFlags(
+                enableAuditing,
+                enableSoftDelete,
+                enableOptimisticLocking,
+                generateQueryMethods,
+                generateTransactions,
+                enableDynamicUpdate,
+                generateManagedTypes,
+                generateRuntimeHints,
+                explicitWiring);
 
         // Naming conventions
         String entitySuffix = pluginOptions
@@ -160,8 +249,79 @@ public record JpaPluginOptions(
                 .trim();
         NamingConventions namingConventions = new NamingConventions(entitySuffix, adapterSuffix, repoSuffix);
 
+        // Execution options
+        int parallelism = pluginOptions.getOrDefault("parallelism", Integer.class, 1);
+        boolean incremental = pluginOptions.getOrDefault("incremental", Boolean.class, false);
+        String outputDirectory = pluginOptions
+                .getOrDefault("outputDirectory", String.class, "")
+                .trim();
+        String incrementalManifest = pluginOptions
+                .getOrDefault("incrementalManifest", String.class, JpaExecutionOptions.DEFAULT_INCREMENTAL_MANIFEST)
+                .trim();
+        if (Strings.isBlank(incrementalManifest)) {
+            incrementalManifest = JpaExecutionOptions.DEFAULT_INCREMENTAL_MANIFEST;
+        }
+        JpaExecutionOptions executionOptions =
+                new JpaExecutionOptions(parallelism, incremental, outputDirectory, incrementalManifest);
+
+        // Batching options
+        int jdbcBatchSize = pluginOptions.getOrDefault("jdbcBatchSize", Integer.class, 0);
+        JpaBatchingOptions batchingOptions = new JpaBatchingOptions(jdbcBatchSize);
+
+        // Query options
+        int streamFetchSize =
+                pluginOptions.getOrDefault("streamFetchSize", Integer.class, JpaQueryOptions.DEFAULT_STREAM_FETCH_SIZE);
+        JpaQueryOptions queryOptions = new JpaQueryOptions(
+                streamFetchSize < 1 ? JpaQueryOptions.DEFAULT_STREAM_FETCH_SIZE : streamFetchSize,
+                pluginOptions.getOrDefault("explicitQueries", Boolean.class, false));
+
+        // Fetch options
+        JpaFetchOptions fetchOptions =
+                JpaFetchOptions.ofBatchSize(pluginOptions.getOrDefault("fetchBatchSize", Integer.class, 0));
+
+        // New entity detection
+        NewEntityDetection newEntityDetection = NewEntityDetection.parseOrDefault(
+                pluginOptions.getOrDefault("newEntityDetection", String.class, ""), NewEntityDetection.NONE);
+
         return new JpaPluginOptions(
-                basePackage, mergeMode, schema, idStrategy, sequenceName, featureFlags, namingConventions);
+                basePackage,
+                mergeMode,
+                schema,
+                idStrategy,
+                sequenceName,
+                sequenceOptions,
+                featureFlags,
+                namingConventions,
+                executionOptions,
+                batchingOptions,
+                queryOptions,
+                fetchOptions,
+                newEntityDetection);
+    }
+
+    /**
+     * Returns a canonical form of every option that influences the generated code.
+     *
+     * <p>Execution options are excluded since they only change how the code is produced.
+     * Incremental generation uses this key to invalidate all ports when the configuration changes.</p>
+     *
+     * @return canonical configuration key
+     */
+    public String generationKey() {
+        return String.join(
+                "|",
+                basePackage,
+                mergeMode.name(),
+                schema,
+                idStrategy.name(),
+                sequenceName,
+                sequenceOptions.toString(),
+                featureFlags.toString(),
+                namingConventions.toString(),
+                batchingOptions.toString(),
+                queryOptions.toString(),
+                fetchOptions.toString(),
+                newEntityDetection.name());
     }
 
     /**
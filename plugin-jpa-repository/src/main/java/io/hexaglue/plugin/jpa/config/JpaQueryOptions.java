@@ -0,0 +1,75 @@
+/**
+ * This Source Code Form is part of the HexaGlue project.
+ * Copyright (c) 2025 Scalastic
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ *
+ * Commercial licensing options are available for organizations wishing
+ * to use HexaGlue under terms different from the MPL 2.0.
+ * Contact: info@hexaglue.io
+ */
+package io.hexaglue.plugin.jpa.config;
+
+/**
+ * Options of the generated query methods.
+ *
+ * <h2>Streaming</h2>
+ * <p>Port methods returning {@code Stream<Domain>}, or taking a {@code Consumer<Domain>}, are
+ * generated as Spring Data {@code Stream<Entity>} repository methods. Their rows are fetched from
+ * the JDBC cursor in chunks of {@code streamFetchSize}, and the entities are loaded read-only and
+ * detached once mapped, so that large results are processed in constant memory.</p>
+ *
+ * <h2>Explicit Queries</h2>
+ * <p>With {@code explicitQueries}, query methods whose predicate translates to JPQL are declared
+ * with {@code @Query} instead of being derived from their name, so that Spring Data does not
+ * parse method names at startup. Methods that cannot be translated stay derived.</p>
+ *
+ * <h2>Configuration Example</h2>
+ * <pre>{@code
+ * hexaglue:
+ *   plugins:
+ *     io.hexaglue.plugin.jpa:
+ *       streamFetchSize: 500
+ *       explicitQueries: true
+ * }</pre>
+ *
+ * @param streamFetchSize JDBC fetch size of streaming query methods
+ * @param explicitQueries true to declare translatable query methods with explicit JPQL
+ * @since 0.4.0
+ */
+public record JpaQueryOptions(int streamFetchSize, boolean explicitQueries) {
+
+    /** Default JDBC fetch size of streaming query methods */
+    public static final int DEFAULT_STREAM_FETCH_SIZE = 500;
+
+    /**
+     * Compact constructor with validation.
+     *
+     * @throws IllegalArgumentException if streamFetchSize is not positive
+     */
+    public JpaQueryOptions {
+        if (streamFetchSize < 1) {
+            throw new IllegalArgumentException("streamFetchSize must be positive: " + streamFetchSize);
+        }
+    }
+
+    /**
+     * Creates query options with derived query methods.
+     *
+     * @param streamFetchSize JDBC fetch size of streaming query methods
+     */
+    public JpaQueryOptions(int streamFetchSize) {
+        this(streamFetchSize, false);
+    }
+
+    /**
+     * Default query options.
+     *
+     * @return default query options
+     */
+    public static JpaQueryOptions defaults() {
+        return new JpaQueryOptions(DEFAULT_STREAM_FETCH_SIZE);
+    }
+}
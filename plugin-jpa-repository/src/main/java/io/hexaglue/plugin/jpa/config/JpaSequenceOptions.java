@@ -0,0 +1,144 @@
+/**
+ * This Source Code Form is part of the HexaGlue project.
+ * Copyright (c) 2025 Scalastic
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ *
+ * Commercial licensing options are available for organizations wishing
+ * to use HexaGlue under terms different from the MPL 2.0.
+ * Contact: info@hexaglue.io
+ */
+package io.hexaglue.plugin.jpa.config;
+
+import io.hexaglue.spi.options.OptionsView;
+import io.hexaglue.spi.util.Strings;
+import java.util.Locale;
+import java.util.Objects;
+
+/**
+ * Sequence ID generation options, used with {@code idStrategy: SEQUENCE}.
+ *
+ * <p>With an allocation size of N, Hibernate fetches one sequence value per N inserts and
+ * assigns the intermediate IDs in memory, instead of one sequence round-trip per row.</p>
+ *
+ * <h2>Optimizers</h2>
+ * <ul>
+ *   <li><strong>POOLED</strong> (default): the sequence value is the upper bound of the
+ *       allocated block. Emitted as a standard {@code @SequenceGenerator}.</li>
+ *   <li><strong>POOLED_LO</strong>: the sequence value is the lower bound of the block. Emitted
+ *       as a Hibernate {@code SequenceStyleGenerator} with the {@code pooled-lo} optimizer.</li>
+ *   <li><strong>NONE</strong>: one sequence call per insert (allocation size forced to 1).</li>
+ * </ul>
+ *
+ * <p>The database sequence must be created with {@code INCREMENT BY} equal to the allocation
+ * size, otherwise pooled optimizers generate duplicate or skipped IDs.</p>
+ *
+ * <h2>Configuration Example</h2>
+ * <pre>{@code
+ * hexaglue:
+ *   plugins:
+ *     io.hexaglue.plugin.jpa:
+ *       idStrategy: SEQUENCE
+ *       sequenceAllocationSize: 50
+ *       sequenceOptimizer: POOLED
+ *       types:
+ *         com.example.domain.Order:
+ *           sequenceName: order_seq
+ *           sequenceAllocationSize: 500
+ *           sequenceOptimizer: POOLED_LO
+ * }</pre>
+ *
+ * @param allocationSize number of IDs allocated per sequence call, at least 1
+ * @param optimizer Hibernate sequence optimizer
+ * @since 0.4.0
+ */
+public record JpaSequenceOptions(int allocationSize, Optimizer optimizer) {
+
+    /** Default allocation size, same as the JPA {@code @SequenceGenerator} default. */
+    public static final int DEFAULT_ALLOCATION_SIZE = 50;
+
+    /**
+     * Hibernate sequence optimizers.
+     */
+    public enum Optimizer {
+        /** Sequence value is the high boundary of the allocated block */
+        POOLED,
+        /** Sequence value is the low boundary of the allocated block */
+        POOLED_LO,
+        /** No optimization, one sequence call per insert */
+        NONE
+    }
+
+    /**
+     * Compact constructor with validation.
+     *
+     * @throws IllegalArgumentException if allocationSize is less than 1
+     * @throws NullPointerException if optimizer is null
+     */
+    public JpaSequenceOptions {
+        Objects.requireNonNull(optimizer, "optimizer");
+        if (allocationSize < 1) {
+            throw new IllegalArgumentException("allocationSize must be at least 1, got " + allocationSize);
+        }
+    }
+
+    /**
+     * Default sequence options: pooled optimizer with an allocation size of 50.
+     *
+     * @return default sequence options
+     */
+    public static JpaSequenceOptions defaults() {
+        return new JpaSequenceOptions(DEFAULT_ALLOCATION_SIZE, Optimizer.POOLED);
+    }
+
+    /**
+     * Resolves the sequence options of an aggregate.
+     *
+     * <p>Reads {@code types.<fqcn>.sequenceAllocationSize} and {@code types.<fqcn>.sequenceOptimizer},
+     * falling back to these options for missing or invalid values.</p>
+     *
+     * @param pluginOptions plugin options view
+     * @param domainTypeName qualified name of the aggregate root
+     * @return sequence options of the aggregate
+     */
+    public JpaSequenceOptions forType(OptionsView.PluginOptionsView pluginOptions, String domainTypeName) {
+        Objects.requireNonNull(pluginOptions, "pluginOptions");
+        Objects.requireNonNull(domainTypeName, "domainTypeName");
+
+        String prefix = "types." + domainTypeName + ".";
+        int typeAllocationSize =
+                pluginOptions.getOrDefault(prefix + "sequenceAllocationSize", Integer.class, allocationSize);
+        Optimizer typeOptimizer = parseOptimizerOrDefault(
+                pluginOptions.getOrDefault(prefix + "sequenceOptimizer", String.class, ""), optimizer);
+        return new JpaSequenceOptions(typeAllocationSize < 1 ? allocationSize : typeAllocationSize, typeOptimizer);
+    }
+
+    /**
+     * Returns the allocation size to generate, taking the optimizer into account.
+     *
+     * @return 1 for the NONE optimizer, the allocation size otherwise
+     */
+    public int effectiveAllocationSize() {
+        return optimizer == Optimizer.NONE ? 1 : allocationSize;
+    }
+
+    /**
+     * Parses an optimizer name, accepting {@code pooled-lo} as well as {@code POOLED_LO}.
+     *
+     * @param raw raw string from configuration
+     * @param fallback optimizer returned if raw is blank or invalid
+     * @return parsed optimizer or fallback
+     */
+    public static Optimizer parseOptimizerOrDefault(String raw, Optimizer fallback) {
+        if (Strings.isBlank(raw)) {
+            return fallback;
+        }
+        try {
+            return Optimizer.valueOf(raw.trim().replace('-', '_').toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            return fallback;
+        }
+    }
+}
@@ -0,0 +1,60 @@
+/**
+ * This Source Code Form is part of the HexaGlue project.
+ * Copyright (c) 2025 Scalastic
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ *
+ * Commercial licensing options are available for organizations wishing
+ * to use HexaGlue under terms different from the MPL 2.0.
+ * Contact: info@hexaglue.io
+ */
+package io.hexaglue.plugin.jpa.diagnostics;
+
+import io.hexaglue.spi.diagnostics.Diagnostic;
+import io.hexaglue.spi.diagnostics.DiagnosticReporter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Consumer;
+
+/**
+ * Buffers diagnostics emitted while processing a single port.
+ *
+ * <p>Analyzers running on worker threads report into a collector instead of the shared
+ * {@link DiagnosticReporter}. The plugin then replays each collector in port order,
+ * which keeps diagnostic output identical between sequential and parallel runs.</p>
+ *
+ * <p>A collector is confined to the thread processing its port and is not thread-safe.</p>
+ *
+ * @since 0.4.0
+ */
+public final class DiagnosticCollector implements Consumer<Diagnostic> {
+
+    private final List<Diagnostic> diagnostics = new ArrayList<>();
+
+    @Override
+    public void accept(Diagnostic diagnostic) {
+        diagnostics.add(Objects.requireNonNull(diagnostic, "diagnostic"));
+    }
+
+    /**
+     * Returns the diagnostics collected so far, in emission order.
+     *
+     * @return immutable snapshot of collected diagnostics
+     */
+    public List<Diagnostic> diagnostics() {
+        return List.copyOf(diagnostics);
+    }
+
+    /**
+     * Reports all collected diagnostics to the given reporter, in emission order.
+     *
+     * @param reporter target reporter
+     */
+    public void replayTo(DiagnosticReporter reporter) {
+        Objects.requireNonNull(reporter, "reporter");
+        diagnostics.forEach(reporter::report);
+    }
+}
@@ -57,6 +57,18 @@ public final class JpaDiagnosticCodes {
     /** Query method pattern detected in port */
     public static final DiagnosticCode QUERY_METHOD_DETECTED = DiagnosticCode.of("HG-JPA-021");
 
+    /** Port unchanged since the last run, generation skipped (incremental mode) */
+    public static final DiagnosticCode UP_TO_DATE = DiagnosticCode.of("HG-JPA-022");
+
+    /** deleteBy method generated as a single bulk statement */
+    public static final DiagnosticCode BULK_DELETE = DiagnosticCode.of("HG-JPA-023");
+
+    /** Query method kept as a derived query although explicit queries are enabled */
+    public static final DiagnosticCode DERIVED_QUERY_KEPT = DiagnosticCode.of("HG-JPA-024");
+
+    /** Update method generated as a single partial UPDATE statement */
+    public static final DiagnosticCode PARTIAL_UPDATE = DiagnosticCode.of("HG-JPA-025");
+
     /** Plugin completed successfully */
     public static final DiagnosticCode COMPLETE = DiagnosticCode.of("HG-JPA-099");
 
@@ -79,6 +91,15 @@ public final class JpaDiagnosticCodes {
     /** ID type is incompatible with generation strategy */
     public static final DiagnosticCode INCOMPATIBLE_ID_STRATEGY = DiagnosticCode.of("HG-JPA-120");
 
+    /** JDBC batching configured but IDENTITY ID generation prevents insert batching */
+    public static final DiagnosticCode BATCHING_DISABLED_BY_IDENTITY = DiagnosticCode.of("HG-JPA-121");
+
+    /** New entity detection configured but the adapter of the port is not transactional */
+    public static final DiagnosticCode NEW_ENTITY_DETECTION_IGNORED = DiagnosticCode.of("HG-JPA-122");
+
+    /** Explicit wiring declares @EnableJpaRepositories - Spring Boot repository auto-configuration backs off */
+    public static final DiagnosticCode REPOSITORY_AUTO_CONFIGURATION_DISABLED = DiagnosticCode.of("HG-JPA-123");
+
     /** Aggregate root detection heuristic may be inaccurate */
     public static final DiagnosticCode AGGREGATE_ROOT_HEURISTIC = DiagnosticCode.of("HG-JPA-130");
 
@@ -91,6 +112,33 @@ public final class JpaDiagnosticCodes {
     /** Property type cannot be mapped to JPA - converter needed */
     public static final DiagnosticCode UNMAPPABLE_TYPE = DiagnosticCode.of("HG-JPA-150");
 
+    /** Query method returns a read model that cannot be projected from the aggregate */
+    public static final DiagnosticCode UNSUPPORTED_PROJECTION = DiagnosticCode.of("HG-JPA-151");
+
+    /** Query method uses a keyset cursor that cannot seek on the entity ID */
+    public static final DiagnosticCode UNSUPPORTED_KEYSET = DiagnosticCode.of("HG-JPA-152");
+
+    /** Cached query configured for a method that is not a cacheable query method of the port */
+    public static final DiagnosticCode UNCACHEABLE_QUERY = DiagnosticCode.of("HG-JPA-153");
+
+    /** Explicit index references a property that is not a basic column of the aggregate */
+    public static final DiagnosticCode UNKNOWN_INDEX_PROPERTY = DiagnosticCode.of("HG-JPA-154");
+
+    /** deleteBy method cannot be generated as a bulk statement - entities are loaded and deleted one by one */
+    public static final DiagnosticCode UNSUPPORTED_BULK_DELETE = DiagnosticCode.of("HG-JPA-155");
+
+    /** Count query configured for a method that is not a Page finder with a JPQL-translatable predicate */
+    public static final DiagnosticCode UNSUPPORTED_COUNT_QUERY = DiagnosticCode.of("HG-JPA-156");
+
+    /** Update-style method cannot be generated as a partial UPDATE statement - implemented as a stub */
+    public static final DiagnosticCode UNSUPPORTED_PARTIAL_UPDATE = DiagnosticCode.of("HG-JPA-157");
+
+    /** Batch write method whose parameter or result is not a collection of the aggregate - implemented as a stub */
+    public static final DiagnosticCode UNSUPPORTED_BATCH_WRITE = DiagnosticCode.of("HG-JPA-158");
+
+    /** Incremental manifest could not be located, read or written - full generation performed */
+    public static final DiagnosticCode MANIFEST_UNAVAILABLE = DiagnosticCode.of("HG-JPA-160");
+
     // ========================================
     // ERRORS (200-299)
     // ========================================
@@ -12,6 +12,7 @@
  */
 package io.hexaglue.plugin.jpa.generator;
 
+import com.palantir.javapoet.AnnotationSpec;
 import com.palantir.javapoet.ClassName;
 import com.palantir.javapoet.CodeBlock;
 import com.palantir.javapoet.FieldSpec;
@@ -20,22 +21,35 @@ import com.palantir.javapoet.MethodSpec;
 import com.palantir.javapoet.ParameterSpec;
 import com.palantir.javapoet.TypeName;
 import com.palantir.javapoet.TypeSpec;
+import io.hexaglue.plugin.jpa.analysis.DomainTypeIndex;
+import io.hexaglue.plugin.jpa.analysis.PortAnalyzer;
+import io.hexaglue.plugin.jpa.model.BulkDeleteModel;
+import io.hexaglue.plugin.jpa.model.EntityModel;
 import io.hexaglue.plugin.jpa.model.IdModel;
 import io.hexaglue.plugin.jpa.model.JpaGenerationPlan;
+import io.hexaglue.plugin.jpa.model.KeysetModel;
+import io.hexaglue.plugin.jpa.model.PartialUpdateModel;
+import io.hexaglue.plugin.jpa.model.ProjectionModel;
 import io.hexaglue.plugin.jpa.model.QueryMethodModel;
+import io.hexaglue.plugin.jpa.model.StreamingModel;
 import io.hexaglue.plugin.jpa.util.TypeUtils;
 import io.hexaglue.spi.codegen.MergeMode;
 import io.hexaglue.spi.codegen.SourceFile;
-import io.hexaglue.spi.context.GenerationContextSpec;
-import io.hexaglue.spi.ir.domain.DomainTypeKind;
-import io.hexaglue.spi.ir.domain.DomainTypeView;
+import io.hexaglue.spi.ir.domain.DomainPropertyView;
 import io.hexaglue.spi.ir.ports.PortMethodView;
 import io.hexaglue.spi.ir.ports.PortParameterView;
 import io.hexaglue.spi.types.TypeRef;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Locale;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Function;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.StreamSupport;
 import javax.lang.model.element.Modifier;
 
 /**
@@ -46,30 +60,66 @@ import javax.lang.model.element.Modifier;
  *   <li><strong>Implement the port interface</strong></li>
  *   <li><strong>Delegate to Spring Data repository</strong></li>
  *   <li><strong>Use MapStruct mapper</strong> for domain ↔ entity conversion</li>
- *   <li><strong>Handle common patterns</strong>: save, findById, delete, exists, count, queries</li>
+ *   <li><strong>Handle common patterns</strong>: save, add, saveAll, findById, delete, exists, count, queries</li>
  * </ul>
  *
+ * <h2>Streaming</h2>
+ * <p>Streaming query methods map each entity lazily. Entities are detached from the persistence
+ * context once mapped, through an injected {@code EntityManager}, so that a long stream does not
+ * accumulate every row in the first-level cache. Consumer variants run in a read-only
+ * transaction and close the stream.</p>
+ *
+ * <h2>Save</h2>
+ * <p>Within a transaction, {@code save} applies the domain state to the loaded aggregate, and
+ * persists a new aggregate with an assigned ID through the injected {@code EntityManager}
+ * instead of merging it.</p>
+ *
+ * <h2>Single-Row Statements</h2>
+ * <p>{@code deleteById} and partial updates run one JPQL statement that only flushes the
+ * persistence context. Within a transaction, the adapter then detaches the affected aggregate
+ * (through {@code getReference}, which never loads it), so that a stale instance cannot be
+ * read or flushed again while the other managed entities stay attached.</p>
+ *
+ * <h2>Transactions</h2>
+ * <p>Unless disabled with {@code generateTransactions}, globally or per port, query methods run
+ * in a read-only transaction and save/delete methods in a read-write one. Stream-returning
+ * methods are left to the caller's transaction. An adapter declaring transaction boundaries is
+ * not final, so that Spring can proxy it by subclassing.</p>
+ *
+ * <h2>Wiring</h2>
+ * <p>Adapters are annotated with {@code @Component}, unless {@code explicitWiring} is enabled:
+ * the generated persistence configuration then imports them.</p>
+ *
  * <h2>Generated Code Example</h2>
  * <pre>{@code
  * @Component
- * public final class CustomerAdapter implements CustomerRepository {
+ * public class CustomerAdapter implements CustomerRepository {
  *
  *     private final CustomerJpaRepository repo;
  *     private final CustomerMapper mapper;
+ *     private final EntityManager entityManager;
  *
- *     public CustomerAdapter(CustomerJpaRepository repo, CustomerMapper mapper) {
+ *     public CustomerAdapter(CustomerJpaRepository repo, CustomerMapper mapper, EntityManager entityManager) {
  *         this.repo = Objects.requireNonNull(repo, "repo");
  *         this.mapper = Objects.requireNonNull(mapper, "mapper");
+ *         this.entityManager = Objects.requireNonNull(entityManager, "entityManager");
  *     }
  *
  *     @Override
+ *     @Transactional
  *     public Customer save(Customer customer) {
- *         CustomerEntity entity = mapper.toEntity(customer);
- *         CustomerEntity saved = repo.save(entity);
- *         return mapper.toDomain(saved);
+ *         var entity = mapper.toEntity(customer);
+ *         var existing = repo.findById(entity.getId());
+ *         if (existing.isPresent()) {
+ *             mapper.updateEntity(existing.get(), customer);
+ *             return mapper.toDomain(existing.get());
+ *         }
+ *         entityManager.persist(entity);
+ *         return mapper.toDomain(entity);
  *     }
  *
  *     @Override
+ *     @Transactional(readOnly = true)
  *     public Optional<Customer> findById(CustomerId id) {
  *         return repo.findById(id.value()).map(mapper::toDomain);
  *     }
@@ -82,10 +132,31 @@ import javax.lang.model.element.Modifier;
  */
 public final class AdapterGenerator {
 
-    private final GenerationContextSpec context;
+    /** Insert method names: add, insert. */
+    private static final Pattern INSERT_PATTERN = Pattern.compile("^(add|insert)$");
+
+    /** Collection types that can be streamed directly. */
+    private static final String[] COLLECTION_TYPES = {
+        "List<", "java.util.List<", "Collection<", "java.util.Collection<", "Set<", "java.util.Set<"
+    };
+
+    private static final ClassName ENTITY_MANAGER = ClassName.get("jakarta.persistence", "EntityManager");
+    private static final ClassName TRANSACTIONAL =
+            ClassName.get("org.springframework.transaction.annotation", "Transactional");
 
-    public AdapterGenerator(GenerationContextSpec context) {
-        this.context = Objects.requireNonNull(context, "context");
+    private final DomainTypeIndex typeIndex;
+    private final boolean explicitWiring;
+
+    /**
+     * Creates an adapter generator.
+     *
+     * @param typeIndex domain type index shared by the run
+     * @param explicitWiring true if adapters are registered by the generated configuration
+     *                       instead of being annotated with {@code @Component}
+     */
+    public AdapterGenerator(DomainTypeIndex typeIndex, boolean explicitWiring) {
+        this.typeIndex = Objects.requireNonNull(typeIndex, "typeIndex");
+        this.explicitWiring = explicitWiring;
     }
 
     /**
@@ -108,11 +179,17 @@ public final class AdapterGenerator {
         TypeName mapperType = ClassName.bestGuess(plan.mapperQualifiedName());
 
         TypeSpec.Builder adapterBuilder = TypeSpec.classBuilder(simpleName)
-                .addModifiers(Modifier.PUBLIC, Modifier.FINAL)
+                .addModifiers(Modifier.PUBLIC)
                 .addJavadoc("Spring Data JPA adapter implementing $L.\n", plan.portQualifiedName())
                 .addJavadoc("\n<p>Generated by HexaGlue JPA plugin.</p>\n")
-                .addAnnotation(ClassName.get("org.springframework.stereotype", "Component"))
                 .addSuperinterface(portType);
+        // Spring proxies transactional beans by subclassing them (CGLIB), which a final class prevents
+        if (!declaresTransactionBoundaries(plan)) {
+            adapterBuilder.addModifiers(Modifier.FINAL);
+        }
+        if (!explicitWiring) {
+            adapterBuilder.addAnnotation(ClassName.get("org.springframework.stereotype", "Component"));
+        }
 
         // Fields
         adapterBuilder.addField(FieldSpec.builder(repoType, "repo", Modifier.PRIVATE, Modifier.FINAL)
@@ -121,13 +198,25 @@ public final class AdapterGenerator {
                 .build());
 
         // Constructor
-        adapterBuilder.addMethod(MethodSpec.constructorBuilder()
+        MethodSpec.Builder constructor = MethodSpec.constructorBuilder()
                 .addModifiers(Modifier.PUBLIC)
                 .addParameter(repoType, "repo")
                 .addParameter(mapperType, "mapper")
                 .addStatement("this.repo = $T.requireNonNull(repo, $S)", Objects.class, "repo")
-                .addStatement("this.mapper = $T.requireNonNull(mapper, $S)", Objects.class, "mapper")
-                .build());
+                .addStatement("this.mapper = $T.requireNonNull(mapper, $S)", Objects.class, "mapper");
+
+        // Streamed entities are detached once mapped, and new aggregates are persisted directly
+        if (usesEntityManager(plan)) {
+            adapterBuilder.addField(FieldSpec.builder(ENTITY_MANAGER, "entityManager", Modifier.PRIVATE, Modifier.FINAL)
+                    .build());
+            constructor
+                    .addParameter(ENTITY_MANAGER, "entityManager")
+                    .addStatement(
+                            "this.entityManager = $T.requireNonNull(entityManager, $S)",
+                            Objects.class,
+                            "entityManager");
+        }
+        adapterBuilder.addMethod(constructor.build());
 
         // Implement port methods
         for (PortMethodView method : plan.port().methods()) {
@@ -138,6 +227,10 @@ public final class AdapterGenerator {
             adapterBuilder.addMethod(generateMethodImplementation(method, plan));
         }
 
+        if (detachesStreamedEntities(plan)) {
+            adapterBuilder.addMethod(generateDetachedMapping(plan));
+        }
+
         JavaFile javaFile =
                 JavaFile.builder(packageName, adapterBuilder.build()).build();
 
@@ -169,6 +262,8 @@ public final class AdapterGenerator {
             }
         }
 
+        transactionBoundary(method, plan).ifPresent(builder::addAnnotation);
+
         // Generate implementation
         CodeBlock implementation = generateImplementation(method, plan);
         builder.addCode(implementation);
@@ -176,6 +271,62 @@ public final class AdapterGenerator {
         return builder.build();
     }
 
+    /**
+     * Resolves the {@code @Transactional} boundary of a port method.
+     *
+     * <p>Reads are read-only, so that Hibernate skips dirty checking and flushing and the JDBC
+     * connection is flagged read-only; writes get a read-write boundary. Methods returning a {@code Stream}
+     * get none: the stream outlives the method, so the caller owns the transaction. Consumer
+     * variants always own the transaction the stream is read in.</p>
+     *
+     * @return boundary annotation, or empty if the method is not annotated
+     */
+    private Optional<AnnotationSpec> transactionBoundary(PortMethodView method, JpaGenerationPlan plan) {
+        Optional<QueryMethodModel> queryMethod = findQueryMethod(method.name(), plan);
+        Optional<StreamingModel> streaming = queryMethod.flatMap(QueryMethodModel::streamingIfPresent);
+        if (streaming.isPresent()) {
+            return streaming.get().kind() == StreamingModel.Kind.CONSUMER
+                    ? Optional.of(transactional(true))
+                    : Optional.empty();
+        }
+        if (!plan.transactional()) {
+            return Optional.empty();
+        }
+        if (queryMethod.isPresent()) {
+            return Optional.of(transactional(!queryMethod.get().isModifying()));
+        }
+
+        String methodName = method.name().toLowerCase(Locale.ROOT);
+        int paramCount = method.parameters().size();
+        if ((methodName.equals("save") || methodName.equals("deletebyid")) && paramCount == 1
+                || INSERT_PATTERN.matcher(method.name()).matches() && paramCount == 1
+                || PortAnalyzer.isBatchWrite(method)) {
+            return Optional.of(transactional(false));
+        }
+        if ((methodName.equals("findbyid") || methodName.equals("existsbyid")) && paramCount == 1
+                || methodName.equals("count") && paramCount == 0) {
+            return Optional.of(transactional(true));
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Returns true if any implemented port method gets a {@code @Transactional} boundary.
+     */
+    private boolean declaresTransactionBoundaries(JpaGenerationPlan plan) {
+        return plan.port().methods().stream()
+                .filter(method -> !method.isDefault() && !method.isStatic())
+                .anyMatch(method -> transactionBoundary(method, plan).isPresent());
+    }
+
+    private static AnnotationSpec transactional(boolean readOnly) {
+        AnnotationSpec.Builder annotation = AnnotationSpec.builder(TRANSACTIONAL);
+        if (readOnly) {
+            annotation.addMember("readOnly", "true");
+        }
+        return annotation.build();
+    }
+
     /**
      * Generates method implementation based on pattern matching.
      */
@@ -186,12 +337,26 @@ public final class AdapterGenerator {
         // Check if this is a derived query method
         Optional<QueryMethodModel> queryMethod = findQueryMethod(method.name(), plan);
         if (queryMethod.isPresent()) {
-            return generateQueryMethodImplementation(queryMethod.get(), method);
+            return generateQueryMethodImplementation(queryMethod.get(), method, plan);
         }
 
         // Pattern: save(Domain) -> Domain
         if (methodName.equals("save") && params.size() == 1) {
-            return generateSaveImplementation(params.get(0).name());
+            return generateSaveImplementation(params.get(0).name(), plan);
+        }
+
+        // Pattern: add(Domain) -> Domain or void (also insert)
+        if (INSERT_PATTERN.matcher(method.name()).matches() && params.size() == 1) {
+            return generateInsertImplementation(params.get(0).name(), method.returnType());
+        }
+
+        // Pattern: saveAll(Collection<Domain>) -> List<Domain> (also persistAll, storeAll)
+        // Other shapes, or elements that are not the aggregate, are reported by the plan builder
+        if (PortAnalyzer.isBatchWrite(method)) {
+            Optional<CodeBlock> saveAll = PortAnalyzer.isSupportedBatchWrite(method, plan.entityModel().domainType())
+                    ? generateSaveAllImplementation(params.get(0), method.returnType(), plan)
+                    : Optional.empty();
+            return saveAll.orElseGet(() -> generateStubImplementation(method));
         }
 
         // Pattern: findById(ID) -> Optional<Domain>
@@ -230,14 +395,167 @@ public final class AdapterGenerator {
                 .findFirst();
     }
 
-    private CodeBlock generateSaveImplementation(String paramName) {
-        return CodeBlock.builder()
-                .addStatement("var entity = mapper.toEntity($L)", paramName)
-                .addStatement("var saved = repo.save(entity)")
+    /**
+     * Generates a save that updates an existing aggregate in place.
+     *
+     * <p>{@code repo.save} of a detached entity merges it: Hibernate loads the row (unless it is
+     * already in the persistence context) and copies every attribute, collections included, onto
+     * the managed instance. Instead, the managed entity is looked up by ID and the domain state
+     * is applied to it with {@code updateEntity}, so that dirty checking flushes only what
+     * changed.</p>
+     *
+     * <ul>
+     *   <li>Assigned IDs: a lookup miss means the aggregate is new, so it is persisted directly
+     *       rather than merged, which would select the row a second time.</li>
+     *   <li>Generated IDs: an aggregate without ID is new and saved without a lookup.</li>
+     *   <li>Entities owning collections are merged onto the managed instance, which matches
+     *       children by ID (see {@link EntityModel#supportsInPlaceUpdate()}).</li>
+     * </ul>
+     *
+     * <p>The update only reaches the database if the entity stays managed until the transaction
+     * commits, so without generated transaction boundaries the adapter keeps the merge.</p>
+     */
+    private CodeBlock generateSaveImplementation(String paramName, JpaGenerationPlan plan) {
+        EntityModel entityModel = plan.entityModel();
+        CodeBlock.Builder code = CodeBlock.builder().addStatement("var entity = mapper.toEntity($L)", paramName);
+        if (!plan.transactional()) {
+            return code.addStatement("var saved = repo.save(entity)")
+                    .addStatement("return mapper.toDomain(saved)")
+                    .build();
+        }
+
+        IdModel idModel = entityModel.idModel();
+        if (idModel.requiresGeneratedValue()) {
+            if (entityModel.supportsInPlaceUpdate()) {
+                code.beginControlFlow(
+                                "if (entity.getId() != $L)",
+                                TypeUtils.isPrimitiveType(idModel.unwrappedType()) ? "0" : "null")
+                        .addStatement("var existing = repo.findById(entity.getId())")
+                        .beginControlFlow("if (existing.isPresent())")
+                        .addStatement("mapper.updateEntity(existing.get(), $L)", paramName)
+                        .addStatement("return mapper.toDomain(existing.get())")
+                        .endControlFlow()
+                        .endControlFlow();
+            }
+            return code.addStatement("var saved = repo.save(entity)")
+                    .addStatement("return mapper.toDomain(saved)")
+                    .build();
+        }
+
+        code.addStatement("var existing = repo.findById(entity.getId())")
+                .beginControlFlow("if (existing.isPresent())");
+        if (entityModel.supportsInPlaceUpdate()) {
+            code.addStatement("mapper.updateEntity(existing.get(), $L)", paramName)
+                    .addStatement("return mapper.toDomain(existing.get())");
+        } else {
+            code.addStatement("return mapper.toDomain(entityManager.merge(entity))");
+        }
+        return code.endControlFlow()
+                .addStatement("entityManager.persist(entity)")
+                .addStatement("return mapper.toDomain(entity)")
+                .build();
+    }
+
+    /**
+     * Generates the insert of a new aggregate.
+     *
+     * <p>The aggregate is saved without looking it up first. For an entity implementing
+     * {@code Persistable}, {@code repo.save} then persists it with a single INSERT; otherwise
+     * Spring Data merges an entity with an assigned ID, which selects the row first.</p>
+     */
+    private CodeBlock generateInsertImplementation(String paramName, TypeRef returnType) {
+        CodeBlock.Builder code = CodeBlock.builder();
+        if (returnType.render().equals("void")) {
+            return code.addStatement("repo.save(mapper.toEntity($L))", paramName)
+                    .build();
+        }
+        return code.addStatement("var saved = repo.save(mapper.toEntity($L))", paramName)
                 .addStatement("return mapper.toDomain(saved)")
                 .build();
     }
 
+    /**
+     * Generates a batch write: the collection is mapped once and saved with a single
+     * {@code repo.saveAll} call, so that Hibernate can group the statements into JDBC batches.
+     *
+     * <p>An entity implementing {@code Persistable} is new unless it was loaded, so the existing
+     * aggregates of the batch are first loaded with a single {@code findAllById} and updated in
+     * place (merged if the entity owns collections); the remaining entities are persisted without
+     * a select each.</p>
+     *
+     * @return implementation, or empty if the parameter or return type is not a supported collection
+     */
+    private Optional<CodeBlock> generateSaveAllImplementation(
+            PortParameterView param, TypeRef returnType, JpaGenerationPlan plan) {
+        String paramName = param.name();
+        String paramType = param.type().render();
+
+        CodeBlock source;
+        if (param.isVarArgs() || paramType.endsWith("[]")) {
+            source = CodeBlock.of("$T.stream($L)", Arrays.class, paramName);
+        } else if (startsWithAny(paramType, COLLECTION_TYPES)) {
+            source = CodeBlock.of("$L.stream()", paramName);
+        } else if (startsWithAny(paramType, "Iterable<", "java.lang.Iterable<")) {
+            source = CodeBlock.of("$T.stream($L.spliterator(), false)", StreamSupport.class, paramName);
+        } else {
+            return Optional.empty();
+        }
+
+        CodeBlock.Builder code = CodeBlock.builder();
+        if (plan.entityModel().isPersistable()) {
+            code.addStatement("var domains = $L.toList()", source)
+                    .addStatement(
+                            "var entities = domains.stream().map(mapper::toEntity).collect($T.toCollection($T::new))",
+                            Collectors.class,
+                            ArrayList.class)
+                    .addStatement(
+                            "var existing = repo.findAllById(entities.stream().map(e -> e.getId()).filter($T::nonNull)"
+                                    + ".toList()).stream().collect($T.toMap(e -> e.getId(), $T.identity()))",
+                            Objects.class,
+                            Collectors.class,
+                            Function.class)
+                    .beginControlFlow("for (int i = 0; i < entities.size(); i++)")
+                    .addStatement("var managed = existing.get(entities.get(i).getId())")
+                    .beginControlFlow("if (managed != null)");
+            if (plan.entityModel().supportsInPlaceUpdate()) {
+                code.addStatement("mapper.updateEntity(managed, domains.get(i))")
+                        .addStatement("entities.set(i, managed)");
+            } else {
+                code.addStatement("entities.set(i, entityManager.merge(entities.get(i)))");
+            }
+            code.endControlFlow().endControlFlow();
+        } else {
+            code.addStatement("var entities = $L.map(mapper::toEntity).toList()", source);
+        }
+
+        String returned = returnType.render();
+        if (returned.equals("void")) {
+            code.addStatement("repo.saveAll(entities)");
+        } else if (startsWithAny(returned, "Set<", "java.util.Set<")) {
+            code.addStatement("var saved = repo.saveAll(entities)")
+                    .addStatement(
+                            "return saved.stream().map(mapper::toDomain).collect($T.toCollection($T::new))",
+                            Collectors.class,
+                            LinkedHashSet.class);
+        } else if (startsWithAny(returned, COLLECTION_TYPES)
+                || startsWithAny(returned, "Iterable<", "java.lang.Iterable<")) {
+            code.addStatement("var saved = repo.saveAll(entities)")
+                    .addStatement("return saved.stream().map(mapper::toDomain).toList()");
+        } else {
+            return Optional.empty();
+        }
+        return Optional.of(code.build());
+    }
+
+    private static boolean startsWithAny(String typeName, String... prefixes) {
+        for (String prefix : prefixes) {
+            if (typeName.startsWith(prefix)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     private CodeBlock generateFindByIdImplementation(PortParameterView param, IdModel idModel) {
         String paramName = param.name();
         String idExpression = getIdUnwrapExpression(param.type(), paramName, idModel);
@@ -262,35 +580,30 @@ public final class AdapterGenerator {
         IdModel idModel = plan.entityModel().idModel();
         String idExpression = getIdUnwrapExpression(param.type(), paramName, idModel);
         boolean enableSoftDelete = plan.entityModel().enableSoftDelete();
+        String returned = returnsBoolean ? "boolean" : "void";
 
-        // Soft delete: load entity, set deletedAt, save
+        // Soft delete: single UPDATE of the live row
         if (enableSoftDelete) {
-            if (returnsBoolean) {
-                return CodeBlock.builder()
-                        .addStatement(
-                                "return repo.findById($L).map(entity -> { entity.setDeletedAt($T.now()); repo.save(entity); return true; }).orElse(false)",
-                                idExpression,
-                                ClassName.get("java.time", "Instant"))
-                        .build();
-            } else {
-                return CodeBlock.builder()
-                        .addStatement("var entity = repo.findById($L).orElse(null)", idExpression)
-                        .beginControlFlow("if (entity != null)")
-                        .addStatement("entity.setDeletedAt($T.now())", ClassName.get("java.time", "Instant"))
-                        .addStatement("repo.save(entity)")
-                        .endControlFlow()
-                        .build();
-            }
+            CodeBlock statement = CodeBlock.of(
+                    "repo.$L($L, $T.now())",
+                    RepositoryGenerator.SOFT_DELETE_BY_ID,
+                    idExpression,
+                    ClassName.get("java.time", "Instant"));
+            return returnAffectedRows(returned, statement, eviction(plan, idExpression));
+        }
+
+        // Hard delete without collections: single DELETE
+        if (plan.entityModel().supportsBulkDelete()) {
+            CodeBlock statement = CodeBlock.of("repo.$L($L)", RepositoryGenerator.HARD_DELETE_BY_ID, idExpression);
+            return returnAffectedRows(returned, statement, eviction(plan, idExpression));
         }
 
-        // Hard delete: use repository deleteById
+        // Hard delete with collections: load once and let JPA cascade
         if (returnsBoolean) {
             return CodeBlock.builder()
-                    .beginControlFlow("if (!repo.existsById($L))", idExpression)
-                    .addStatement("return false")
-                    .endControlFlow()
-                    .addStatement("repo.deleteById($L)", idExpression)
-                    .addStatement("return true")
+                    .addStatement(
+                            "return repo.findById($L).map(entity -> { repo.delete(entity); return true; }).orElse(false)",
+                            idExpression)
                     .build();
         } else {
             return CodeBlock.builder()
@@ -299,6 +612,23 @@ public final class AdapterGenerator {
         }
     }
 
+    /**
+     * Gets the statement evicting the aggregate of an ID once a single-row statement affected it.
+     *
+     * <p>{@code getReference} returns the managed instance if there is one, and an uninitialized
+     * proxy otherwise, so that eviction never loads the row. Without an adapter transaction, the
+     * statement ran in its own transaction, whose persistence context is already closed.</p>
+     */
+    private static Optional<CodeBlock> eviction(JpaGenerationPlan plan, String idExpression) {
+        if (!plan.transactional()) {
+            return Optional.empty();
+        }
+        return Optional.of(CodeBlock.of(
+                "entityManager.detach(entityManager.getReference($T.class, $L))",
+                ClassName.bestGuess(plan.entityQualifiedName()),
+                idExpression));
+    }
+
     /**
      * Generates implementation for a derived query method.
      *
@@ -306,14 +636,26 @@ public final class AdapterGenerator {
      * <ul>
      *   <li>EXISTS_BY → delegate to repo, return boolean</li>
      *   <li>COUNT_BY → delegate to repo, return long</li>
-     *   <li>DELETE_BY → delegate to repo, return void</li>
+     *   <li>DELETE_BY → delegate to repo, return void (or the count of a bulk delete)</li>
+     *   <li>UPDATE_BY_ID → delegate to the partial update with the unwrapped ID</li>
      *   <li>FIND_BY → delegate + map results (Optional, List, Page, or single)</li>
      * </ul>
      */
-    private CodeBlock generateQueryMethodImplementation(QueryMethodModel queryMethod, PortMethodView method) {
+    private CodeBlock generateQueryMethodImplementation(
+            QueryMethodModel queryMethod, PortMethodView method, JpaGenerationPlan plan) {
         String paramList = buildParamList(method.parameters());
         String methodName = queryMethod.methodName();
 
+        if (queryMethod.keysetIfPresent().isPresent()) {
+            return generateKeysetImplementation(
+                    queryMethod, queryMethod.keysetIfPresent().get(), method, plan);
+        }
+
+        if (queryMethod.streamingIfPresent().isPresent()) {
+            return generateStreamingImplementation(
+                    queryMethod, queryMethod.streamingIfPresent().get());
+        }
+
         switch (queryMethod.queryType()) {
             case EXISTS_BY:
                 // Delegate to repository - returns boolean directly
@@ -328,6 +670,10 @@ public final class AdapterGenerator {
                         .build();
 
             case DELETE_BY:
+                if (queryMethod.bulkDeleteIfPresent().isPresent()) {
+                    return generateBulkDeleteImplementation(
+                            queryMethod, queryMethod.bulkDeleteIfPresent().get(), paramList);
+                }
                 // Delegate to repository - returns void
                 return CodeBlock.builder()
                         .addStatement("repo.$L($L)", methodName, paramList)
@@ -337,40 +683,311 @@ public final class AdapterGenerator {
             case FIND_ALL:
                 return generateFindByImplementation(queryMethod, methodName, paramList);
 
+            case UPDATE_BY_ID:
+                if (queryMethod.partialUpdateIfPresent().isPresent()) {
+                    return generatePartialUpdateImplementation(
+                            queryMethod, queryMethod.partialUpdateIfPresent().get(), method, plan);
+                }
+                return generateStubImplementation(method);
+
             default:
                 return generateStubImplementation(method);
         }
     }
 
+    /**
+     * Generates the call of a bulk deleteBy statement, converting its affected-row count to the
+     * port return type (void, int, long or boolean).
+     */
+    private CodeBlock generateBulkDeleteImplementation(
+            QueryMethodModel queryMethod, BulkDeleteModel bulkDelete, String paramList) {
+        CodeBlock call = bulkDelete.softDelete()
+                ? CodeBlock.of(
+                        "repo.$L($L$T.now())",
+                        queryMethod.methodName(),
+                        paramList.isEmpty() ? "" : paramList + ", ",
+                        ClassName.get("java.time", "Instant"))
+                : CodeBlock.of("repo.$L($L)", queryMethod.methodName(), paramList);
+        return returnAffectedRows(queryMethod.returnType().render(), call, Optional.empty());
+    }
+
+    /**
+     * Generates the call of a partial update statement, unwrapping the ID and single-field Value
+     * Objects, and passing the update time when auditing is enabled.
+     */
+    private CodeBlock generatePartialUpdateImplementation(
+            QueryMethodModel queryMethod,
+            PartialUpdateModel partialUpdate,
+            PortMethodView method,
+            JpaGenerationPlan plan) {
+        CodeBlock.Builder arguments = CodeBlock.builder();
+        String idExpression = null;
+        for (PortParameterView param : method.parameters()) {
+            if (!arguments.isEmpty()) {
+                arguments.add(", ");
+            }
+            if (param.name().equals(partialUpdate.idParameter())) {
+                idExpression = getIdUnwrapExpression(
+                        param.type(), param.name(), plan.entityModel().idModel());
+                arguments.add("$L", idExpression);
+            } else if (partialUpdate.unwrappedParameters().containsKey(param.name())) {
+                arguments.add(
+                        "$L.$L()",
+                        param.name(),
+                        partialUpdate.unwrappedParameters().get(param.name()));
+            } else {
+                arguments.add("$L", param.name());
+            }
+        }
+        if (partialUpdate.updatedAt()) {
+            arguments.add(", $T.now()", ClassName.get("java.time", "Instant"));
+        }
+        return returnAffectedRows(
+                queryMethod.returnType().render(),
+                CodeBlock.of("repo.$L($L)", queryMethod.methodName(), arguments.build()),
+                eviction(plan, idExpression));
+    }
+
+    /**
+     * Converts the affected-row count of a modifying statement to the port return type (void,
+     * int, long or boolean), evicting the affected aggregate first when given.
+     */
+    private static CodeBlock returnAffectedRows(String returned, CodeBlock call, Optional<CodeBlock> eviction) {
+        CodeBlock.Builder code = CodeBlock.builder();
+        CodeBlock count = call;
+        if (eviction.isPresent()) {
+            if (returned.equals("void")) {
+                return code.addStatement("$L", call)
+                        .addStatement("$L", eviction.get())
+                        .build();
+            }
+            code.addStatement("int affected = $L", call).addStatement("$L", eviction.get());
+            count = CodeBlock.of("affected");
+        }
+        return switch (returned) {
+            case "void" -> code.addStatement("$L", count).build();
+            case "boolean" -> code.addStatement("return $L > 0", count).build();
+            case "long", "Long", "java.lang.Long" ->
+                code.addStatement("return (long) $L", count).build();
+            default -> code.addStatement("return $L", count).build();
+        };
+    }
+
+    /**
+     * Generates implementation for keyset-paginated query methods.
+     *
+     * <p>SCROLL delegates with the port parameters and maps the {@code Window}. CURSOR calls the
+     * first page method when the cursor is null, and the seek method otherwise.</p>
+     */
+    private CodeBlock generateKeysetImplementation(
+            QueryMethodModel queryMethod, KeysetModel keyset, PortMethodView method, JpaGenerationPlan plan) {
+        String mapperMethod = mapperMethodName(queryMethod);
+
+        if (keyset.kind() == KeysetModel.Kind.SCROLL) {
+            return CodeBlock.builder()
+                    .addStatement(
+                            "return repo.$L($L).map(mapper::$L)",
+                            keyset.repositoryMethodName(),
+                            buildParamList(method.parameters()),
+                            mapperMethod)
+                    .build();
+        }
+
+        String filterArguments = queryMethod.filterParameters().stream()
+                .map(param -> param.name() + ", ")
+                .collect(Collectors.joining());
+        PortParameterView cursor = method.parameters().stream()
+                .filter(param -> param.name().equals(keyset.cursorParameter()))
+                .findFirst()
+                .orElseThrow();
+        String cursorExpression = getIdUnwrapExpression(
+                cursor.type(), cursor.name(), plan.entityModel().idModel());
+        ClassName limitType = ClassName.get("org.springframework.data.domain", "Limit");
+
+        return CodeBlock.builder()
+                .add("var entities = $L == null\n", cursor.name())
+                .indent()
+                .indent()
+                .add(
+                        "? repo.$L($L$T.of($L))\n",
+                        keyset.repositoryMethodName(),
+                        filterArguments,
+                        limitType,
+                        keyset.limitParameter())
+                .add(
+                        ": repo.$L($L$L, $T.of($L));\n",
+                        keyset.seekMethodName(),
+                        filterArguments,
+                        cursorExpression,
+                        limitType,
+                        keyset.limitParameter())
+                .unindent()
+                .unindent()
+                .addStatement("return entities.stream().map(mapper::$L).toList()", mapperMethod)
+                .build();
+    }
+
+    /**
+     * Generates implementation for streaming query methods.
+     *
+     * <p>STREAM returns the lazily mapped stream; the caller closes it. CONSUMER reads the stream
+     * in a try-with-resources block and feeds each result to the consumer.</p>
+     */
+    private CodeBlock generateStreamingImplementation(QueryMethodModel queryMethod, StreamingModel streaming) {
+        String mapping = queryMethod
+                .projectionIfPresent()
+                .map(projection -> "mapper::" + projection.mapperMethodName())
+                .orElse("this::toDomainDetached");
+        String filterArguments = queryMethod.filterParameters().stream()
+                .map(QueryMethodModel.QueryParameter::name)
+                .collect(Collectors.joining(", "));
+
+        if (streaming.kind() == StreamingModel.Kind.STREAM) {
+            return CodeBlock.builder()
+                    .addStatement(
+                            "return repo.$L($L).map($L)", streaming.repositoryMethodName(), filterArguments, mapping)
+                    .build();
+        }
+
+        return CodeBlock.builder()
+                .beginControlFlow("try (var entities = repo.$L($L))", streaming.repositoryMethodName(), filterArguments)
+                .addStatement("entities.map($L).forEach($L)", mapping, streaming.consumerParameter())
+                .endControlFlow()
+                .build();
+    }
+
+    /**
+     * Returns true if the adapter needs an {@code EntityManager}: to detach streamed entities, to
+     * evict aggregates affected by single-row statements, or to persist and merge saved aggregates
+     * with assigned IDs.
+     */
+    private static boolean usesEntityManager(JpaGenerationPlan plan) {
+        if (detachesStreamedEntities(plan)) {
+            return true;
+        }
+        EntityModel entityModel = plan.entityModel();
+        if (!plan.transactional()) {
+            return false;
+        }
+        if (evictsAffectedAggregates(plan)) {
+            return true;
+        }
+        if (entityModel.idModel().requiresGeneratedValue()) {
+            return false;
+        }
+        return plan.port().methods().stream()
+                .filter(method -> !method.isDefault() && !method.isStatic() && method.parameters().size() == 1)
+                .anyMatch(method -> method.name().equalsIgnoreCase("save")
+                        || entityModel.isPersistable()
+                                && !entityModel.supportsInPlaceUpdate()
+                                && PortAnalyzer.isSupportedBatchWrite(method, entityModel.domainType()));
+    }
+
+    /**
+     * Returns true if the adapter runs a single-row statement: deleteById without loading, or a
+     * partial update.
+     */
+    private static boolean evictsAffectedAggregates(JpaGenerationPlan plan) {
+        EntityModel entityModel = plan.entityModel();
+        return plan.declaresDeleteById() && (entityModel.enableSoftDelete() || entityModel.supportsBulkDelete())
+                || plan.queryMethods().stream()
+                        .anyMatch(queryMethod -> queryMethod.partialUpdateIfPresent().isPresent());
+    }
+
+    /**
+     * Returns true if the adapter streams entities (rather than projections) and must detach them.
+     */
+    private static boolean detachesStreamedEntities(JpaGenerationPlan plan) {
+        return plan.queryMethods().stream()
+                .anyMatch(queryMethod -> queryMethod.streamingIfPresent().isPresent()
+                        && queryMethod.projectionIfPresent().isEmpty());
+    }
+
+    /**
+     * Generates the mapping used by streaming methods, which detaches each entity once mapped.
+     */
+    private MethodSpec generateDetachedMapping(JpaGenerationPlan plan) {
+        TypeName entityType = ClassName.bestGuess(plan.entityQualifiedName());
+        TypeName domainType = TypeUtils.toTypeName(plan.entityModel().domainType());
+        return MethodSpec.methodBuilder("toDomainDetached")
+                .addModifiers(Modifier.PRIVATE)
+                .addJavadoc("Maps a streamed entity and evicts it from the persistence context.\n")
+                .returns(domainType)
+                .addParameter(entityType, "entity")
+                .addStatement("$T domain = mapper.toDomain(entity)", domainType)
+                .addStatement("entityManager.detach(entity)")
+                .addStatement("return domain")
+                .build();
+    }
+
+    /**
+     * Gets the mapper method converting query results: the projection mapping if any, toDomain otherwise.
+     */
+    private static String mapperMethodName(QueryMethodModel queryMethod) {
+        return queryMethod
+                .projectionIfPresent()
+                .map(ProjectionModel::mapperMethodName)
+                .orElse("toDomain");
+    }
+
     /**
      * Generates implementation for findBy query methods.
+     *
+     * <p>A port returning an offset {@code Window} is backed by a {@code Slice} repository method;
+     * the window positions are the offsets of its elements.</p>
      */
     private CodeBlock generateFindByImplementation(QueryMethodModel queryMethod, String methodName, String paramList) {
+        // Projections are mapped directly to the read model, without hydrating the entity
+        String mapperMethod = mapperMethodName(queryMethod);
 
         if (queryMethod.returnsOptional()) {
             // Optional<Domain> - map single result
             return CodeBlock.builder()
-                    .addStatement("return repo.$L($L).map(mapper::toDomain)", methodName, paramList)
+                    .addStatement("return repo.$L($L).map(mapper::$L)", methodName, paramList, mapperMethod)
                     .build();
         } else if (queryMethod.returnsPage()) {
             // Page<Domain> - map page content
             return CodeBlock.builder()
-                    .addStatement("return repo.$L($L).map(mapper::toDomain)", methodName, paramList)
+                    .addStatement("return repo.$L($L).map(mapper::$L)", methodName, paramList, mapperMethod)
+                    .build();
+        } else if (queryMethod.returnsSlice() && returnsWindow(queryMethod)) {
+            // Window<Domain> - map slice content, positioned by offset
+            String pageable = queryMethod.pageableParameter().orElseThrow().name();
+            return CodeBlock.builder()
+                    .addStatement("var slice = repo.$L($L)", methodName, paramList)
+                    .addStatement(
+                            "return $T.from(slice.getContent().stream().map(mapper::$L).toList(), "
+                                    + "index -> $T.offset($L.getOffset() + index), slice.hasNext())",
+                            ClassName.get("org.springframework.data.domain", "Window"),
+                            mapperMethod,
+                            ClassName.get("org.springframework.data.domain", "ScrollPosition"),
+                            pageable)
+                    .build();
+        } else if (queryMethod.returnsSlice()) {
+            // Slice<Domain> - map slice content, no count query
+            return CodeBlock.builder()
+                    .addStatement("return repo.$L($L).map(mapper::$L)", methodName, paramList, mapperMethod)
                     .build();
         } else if (queryMethod.returnsList()) {
             // List<Domain> - stream and map
             return CodeBlock.builder()
-                    .addStatement("return repo.$L($L).stream().map(mapper::toDomain).toList()", methodName, paramList)
+                    .addStatement(
+                            "return repo.$L($L).stream().map(mapper::$L).toList()", methodName, paramList, mapperMethod)
                     .build();
         } else {
             // Single entity - need to handle null
             return CodeBlock.builder()
                     .addStatement("var entity = repo.$L($L)", methodName, paramList)
-                    .addStatement("return entity != null ? mapper.toDomain(entity) : null")
+                    .addStatement("return entity != null ? mapper.$L(entity) : null", mapperMethod)
                     .build();
         }
     }
 
+    private static boolean returnsWindow(QueryMethodModel queryMethod) {
+        String returned = queryMethod.returnType().render();
+        return returned.startsWith("Window<") || returned.startsWith("org.springframework.data.domain.Window<");
+    }
+
     private CodeBlock generateStubImplementation(PortMethodView method) {
         if (method.returnType().render().equals("void")) {
             return CodeBlock.builder()
@@ -395,16 +1012,11 @@ public final class AdapterGenerator {
             return paramName;
         }
 
-        // Look up ID type in domain model
-        Optional<DomainTypeView> domainType = context.model().domain().findType(idType.render());
+        // Single-field Value Object ID: access its inner property
+        Optional<DomainPropertyView> innerProperty = typeIndex.lookup(idType).innerProperty();
 
-        if (domainType.isPresent()) {
-            DomainTypeView type = domainType.get();
-            if ((type.kind() == DomainTypeKind.IDENTIFIER || type.kind() == DomainTypeKind.RECORD)
-                    && type.properties().size() == 1) {
-                String propertyName = type.properties().get(0).name();
-                return paramName + "." + propertyName + "()";
-            }
+        if (innerProperty.isPresent()) {
+            return paramName + "." + innerProperty.get().name() + "()";
         }
 
         return paramName;
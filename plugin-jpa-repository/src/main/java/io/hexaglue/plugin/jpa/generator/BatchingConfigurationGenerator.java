@@ -0,0 +1,142 @@
+/**
+ * This Source Code Form is part of the HexaGlue project.
+ * Copyright (c) 2025 Scalastic
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ *
+ * Commercial licensing options are available for organizations wishing
+ * to use HexaGlue under terms different from the MPL 2.0.
+ * Contact: info@hexaglue.io
+ */
+package io.hexaglue.plugin.jpa.generator;
+
+import com.palantir.javapoet.AnnotationSpec;
+import com.palantir.javapoet.ClassName;
+import com.palantir.javapoet.CodeBlock;
+import com.palantir.javapoet.JavaFile;
+import com.palantir.javapoet.MethodSpec;
+import com.palantir.javapoet.TypeSpec;
+import io.hexaglue.plugin.jpa.config.JpaBatchingOptions;
+import io.hexaglue.spi.codegen.MergeMode;
+import io.hexaglue.spi.codegen.SourceFile;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import javax.lang.model.element.Modifier;
+
+/**
+ * Generates the Spring configuration enabling Hibernate JDBC batching.
+ *
+ * <p>The plugin cannot write {@code application.properties}, so the recommended Hibernate
+ * batching properties are contributed through a {@code HibernatePropertiesCustomizer}. Values
+ * already set by the application (e.g. {@code spring.jpa.properties.hibernate.jdbc.batch_size})
+ * take precedence. The equivalent properties fragment is included in the class Javadoc.</p>
+ *
+ * <h2>Generated Code Example</h2>
+ * <pre>{@code
+ * @Configuration(proxyBeanMethods = false)
+ * public class JpaBatchingConfiguration {
+ *
+ *     @Bean
+ *     public HibernatePropertiesCustomizer jpaBatchingCustomizer() {
+ *         return properties -> {
+ *             properties.putIfAbsent("hibernate.jdbc.batch_size", "50");
+ *             properties.putIfAbsent("hibernate.order_inserts", "true");
+ *             properties.putIfAbsent("hibernate.order_updates", "true");
+ *             properties.putIfAbsent("hibernate.jdbc.batch_versioned_data", "true");
+ *         };
+ *     }
+ * }
+ * }</pre>
+ *
+ * @since 0.4.0
+ */
+public final class BatchingConfigurationGenerator {
+
+    private static final String SIMPLE_NAME = "JpaBatchingConfiguration";
+
+    private final String basePackage;
+
+    public BatchingConfigurationGenerator(String basePackage) {
+        this.basePackage = Objects.requireNonNull(basePackage, "basePackage");
+    }
+
+    /**
+     * Returns the qualified name of the generated configuration class.
+     *
+     * @return configuration qualified name
+     */
+    public String qualifiedName() {
+        return basePackage + ".config." + SIMPLE_NAME;
+    }
+
+    /**
+     * Generates the batching configuration.
+     *
+     * @param batchingOptions batching options (must be enabled)
+     * @param mergeMode merge mode for file generation
+     * @return source file containing the configuration class
+     * @throws IllegalArgumentException if batching is not enabled
+     */
+    public SourceFile generate(JpaBatchingOptions batchingOptions, MergeMode mergeMode) {
+        Objects.requireNonNull(batchingOptions, "batchingOptions");
+        Objects.requireNonNull(mergeMode, "mergeMode");
+
+        if (!batchingOptions.isEnabled()) {
+            throw new IllegalArgumentException(
+                    "JDBC batch size must be positive, got " + batchingOptions.jdbcBatchSize());
+        }
+
+        Map<String, String> properties = hibernateProperties(batchingOptions);
+
+        CodeBlock.Builder fragment = CodeBlock.builder();
+        properties.forEach((key, value) -> fragment.add("spring.jpa.properties.$L=$L\n", key, value));
+
+        CodeBlock.Builder customizer =
+                CodeBlock.builder().add("return properties -> {\n").indent();
+        properties.forEach((key, value) -> customizer.addStatement("properties.putIfAbsent($S, $S)", key, value));
+        customizer.unindent().add("};\n");
+
+        TypeSpec configuration = TypeSpec.classBuilder(SIMPLE_NAME)
+                .addModifiers(Modifier.PUBLIC)
+                .addJavadoc("Enables Hibernate JDBC batching for batch writes such as {@code saveAll}.\n")
+                .addJavadoc("\n<p>Properties already set by the application take precedence. Equivalent to:</p>\n")
+                .addJavadoc("<pre>\n$L</pre>\n", fragment.build())
+                .addJavadoc("\n<p>Generated by HexaGlue JPA plugin.</p>\n")
+                .addAnnotation(
+                        AnnotationSpec.builder(ClassName.get("org.springframework.context.annotation", "Configuration"))
+                                .addMember("proxyBeanMethods", "$L", false)
+                                .build())
+                .addMethod(MethodSpec.methodBuilder("jpaBatchingCustomizer")
+                        .addModifiers(Modifier.PUBLIC)
+                        .addAnnotation(ClassName.get("org.springframework.context.annotation", "Bean"))
+                        .returns(ClassName.get(
+                                "org.springframework.boot.autoconfigure.orm.jpa", "HibernatePropertiesCustomizer"))
+                        .addCode(customizer.build())
+                        .build())
+                .build();
+
+        JavaFile javaFile =
+                JavaFile.builder(basePackage + ".config", configuration).build();
+
+        return SourceFile.builder()
+                .qualifiedTypeName(qualifiedName())
+                .content(javaFile.toString())
+                .mergeMode(mergeMode)
+                .build();
+    }
+
+    /**
+     * Returns the Hibernate properties to set, in a stable order.
+     */
+    private static Map<String, String> hibernateProperties(JpaBatchingOptions batchingOptions) {
+        Map<String, String> properties = new LinkedHashMap<>();
+        properties.put("hibernate.jdbc.batch_size", String.valueOf(batchingOptions.jdbcBatchSize()));
+        properties.put("hibernate.order_inserts", "true");
+        properties.put("hibernate.order_updates", "true");
+        properties.put("hibernate.jdbc.batch_versioned_data", "true");
+        return properties;
+    }
+}
@@ -17,11 +17,17 @@ import com.palantir.javapoet.ClassName;
 import com.palantir.javapoet.FieldSpec;
 import com.palantir.javapoet.JavaFile;
 import com.palantir.javapoet.MethodSpec;
+import com.palantir.javapoet.ParameterizedTypeName;
 import com.palantir.javapoet.TypeName;
 import com.palantir.javapoet.TypeSpec;
+import io.hexaglue.plugin.jpa.config.JpaCacheOptions;
+import io.hexaglue.plugin.jpa.config.JpaFetchOptions;
 import io.hexaglue.plugin.jpa.config.JpaPluginOptions;
+import io.hexaglue.plugin.jpa.config.JpaPluginOptions.NewEntityDetection;
+import io.hexaglue.plugin.jpa.config.JpaSequenceOptions;
 import io.hexaglue.plugin.jpa.model.EntityModel;
 import io.hexaglue.plugin.jpa.model.IdModel;
+import io.hexaglue.plugin.jpa.model.IndexModel;
 import io.hexaglue.plugin.jpa.model.PropertyModel;
 import io.hexaglue.plugin.jpa.model.RelationshipModel;
 import io.hexaglue.plugin.jpa.util.TypeUtils;
@@ -29,6 +35,7 @@ import io.hexaglue.spi.codegen.SourceFile;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
+import java.util.Optional;
 import javax.lang.model.element.Modifier;
 
 /**
@@ -37,10 +44,14 @@ import javax.lang.model.element.Modifier;
  * <p>This generator produces fully-annotated JPA @Entity classes with:</p>
  * <ul>
  *   <li><strong>@Entity and @Table</strong>: Entity and table metadata</li>
- *   <li><strong>@Id field</strong>: Primary key with generation strategy</li>
+ *   <li><strong>@NamedEntityGraph</strong>: Aggregate graph over the child collections</li>
+ *   <li><strong>@Cacheable and @Cache</strong>: Second-level cache of read-mostly aggregates</li>
+ *   <li><strong>@Id field</strong>: Primary key with generation strategy and sequence generator</li>
  *   <li><strong>Feature fields</strong>: Version, audit, soft delete</li>
+ *   <li><strong>Persistable</strong>: {@code isNew()} for application-assigned IDs</li>
  *   <li><strong>Domain properties</strong>: All persistent fields with @Column</li>
  *   <li><strong>Relationships</strong>: @OneToMany, @ManyToOne, @Embedded, @ElementCollection</li>
+ *   <li><strong>Collection fetching</strong>: @BatchSize or @Fetch(SUBSELECT) on child collections</li>
  *   <li><strong>Accessors</strong>: Getters and setters</li>
  *   <li><strong>No-arg constructor</strong>: Required by JPA</li>
  * </ul>
@@ -111,6 +122,20 @@ public final class EntityGenerator {
         // Add @Table annotation
         addTableAnnotation(entityBuilder, entityModel);
 
+        // Add @NamedEntityGraph loading the whole aggregate
+        addAggregateGraphAnnotation(entityBuilder, entityModel);
+
+        // Add second-level cache annotations
+        entityModel.cacheIfPresent().ifPresent(cache -> {
+            entityBuilder.addAnnotation(ClassName.get("jakarta.persistence", "Cacheable"));
+            entityBuilder.addAnnotation(buildCacheAnnotation(cache, cache.regionIfPresent()));
+        });
+
+        // Write only the changed columns on update
+        if (entityModel.dynamicUpdate()) {
+            entityBuilder.addAnnotation(ClassName.get("org.hibernate.annotations", "DynamicUpdate"));
+        }
+
         // Add @Where annotation for soft delete filtering
         if (entityModel.enableSoftDelete()) {
             entityBuilder.addAnnotation(AnnotationSpec.builder(ClassName.get("org.hibernate.annotations", "Where"))
@@ -118,12 +143,22 @@ public final class EntityGenerator {
                     .build());
         }
 
+        // Tell Spring Data whether an entity with an assigned ID is new
+        if (entityModel.isPersistable()) {
+            entityBuilder.addSuperinterface(ParameterizedTypeName.get(
+                    ClassName.get("org.springframework.data.domain", "Persistable"),
+                    idTypeName(entityModel.idModel())));
+        }
+
         // Add @Id field
-        addIdField(entityBuilder, entityModel.idModel());
+        addIdField(entityBuilder, entityModel);
 
         // Add feature fields (version, audit, soft delete)
         if (entityModel.enableOptimisticLocking()) {
-            addVersionField(entityBuilder);
+            addVersionField(entityBuilder, versionTypeName(entityModel));
+        }
+        if (entityModel.newEntityDetection() == NewEntityDetection.CALLBACK) {
+            addNewEntityField(entityBuilder);
         }
         if (entityModel.enableAuditing()) {
             addAuditFields(entityBuilder);
@@ -160,7 +195,10 @@ public final class EntityGenerator {
 
         // Add accessors for technical fields
         if (entityModel.enableOptimisticLocking()) {
-            addVersionAccessors(entityBuilder);
+            addVersionAccessors(entityBuilder, versionTypeName(entityModel));
+        }
+        if (entityModel.isPersistable()) {
+            addPersistableMethods(entityBuilder, entityModel.newEntityDetection());
         }
         if (entityModel.enableAuditing()) {
             addAuditAccessors(entityBuilder);
@@ -193,7 +231,7 @@ public final class EntityGenerator {
     }
 
     /**
-     * Adds @Table annotation with table name and optional schema.
+     * Adds @Table annotation with table name, optional schema and indexes.
      */
     private void addTableAnnotation(TypeSpec.Builder entityBuilder, EntityModel entityModel) {
         AnnotationSpec.Builder tableBuilder = AnnotationSpec.builder(ClassName.get("jakarta.persistence", "Table"))
@@ -201,13 +239,50 @@ public final class EntityGenerator {
 
         entityModel.schemaIfPresent().ifPresent(schema -> tableBuilder.addMember("schema", "$S", schema));
 
+        for (IndexModel index : entityModel.indexes()) {
+            tableBuilder.addMember(
+                    "indexes",
+                    "$L",
+                    AnnotationSpec.builder(ClassName.get("jakarta.persistence", "Index"))
+                            .addMember("name", "$S", index.name())
+                            .addMember("columnList", "$S", index.columnList())
+                            .build());
+        }
+
         entityBuilder.addAnnotation(tableBuilder.build());
     }
 
+    /**
+     * Adds @NamedEntityGraph over the aggregate child collections, if any.
+     *
+     * <p>Generated code example:</p>
+     * <pre>{@code
+     * @NamedEntityGraph(name = "OrderEntity.aggregate", attributeNodes = @NamedAttributeNode("lines"))
+     * }</pre>
+     */
+    private void addAggregateGraphAnnotation(TypeSpec.Builder entityBuilder, EntityModel entityModel) {
+        entityModel.aggregateGraphNameIfPresent().ifPresent(graphName -> {
+            AnnotationSpec.Builder graphBuilder = AnnotationSpec.builder(
+                            ClassName.get("jakarta.persistence", "NamedEntityGraph"))
+                    .addMember("name", "$S", graphName);
+            for (String attribute : entityModel.aggregateGraphAttributes()) {
+                graphBuilder.addMember(
+                        "attributeNodes",
+                        "$L",
+                        AnnotationSpec.builder(ClassName.get("jakarta.persistence", "NamedAttributeNode"))
+                                .addMember("value", "$S", attribute)
+                                .build());
+            }
+            entityBuilder.addAnnotation(graphBuilder.build());
+        });
+    }
+
     /**
      * Adds @Id field with generation strategy.
      */
-    private void addIdField(TypeSpec.Builder entityBuilder, IdModel idModel) {
+    private void addIdField(TypeSpec.Builder entityBuilder, EntityModel entityModel) {
+        IdModel idModel = entityModel.idModel();
+
         // Composite IDs use @EmbeddedId
         if (idModel.isComposite()) {
             addEmbeddedIdField(entityBuilder, idModel);
@@ -222,8 +297,13 @@ public final class EntityGenerator {
 
         // Add @GeneratedValue if needed
         if (idModel.requiresGeneratedValue()) {
-            AnnotationSpec generatedValue = buildGeneratedValueAnnotation(idModel);
+            String generatorName = entityModel.entityClassName() + "IdGenerator";
+            AnnotationSpec generatedValue = buildGeneratedValueAnnotation(generatorName);
             idFieldBuilder.addAnnotation(generatedValue);
+
+            if (idStrategy == JpaPluginOptions.IdGenerationStrategy.SEQUENCE) {
+                idFieldBuilder.addAnnotation(buildSequenceGeneratorAnnotation(generatorName, entityModel));
+            }
         }
 
         entityBuilder.addField(idFieldBuilder.build());
@@ -273,7 +353,7 @@ public final class EntityGenerator {
     /**
      * Builds @GeneratedValue annotation based on strategy.
      */
-    private AnnotationSpec buildGeneratedValueAnnotation(IdModel idModel) {
+    private AnnotationSpec buildGeneratedValueAnnotation(String generatorName) {
         ClassName generatedValueClass = ClassName.get("jakarta.persistence", "GeneratedValue");
         ClassName generationTypeClass = ClassName.get("jakarta.persistence", "GenerationType");
 
@@ -285,7 +365,7 @@ public final class EntityGenerator {
                 break;
             case SEQUENCE:
                 builder.addMember("strategy", "$T.SEQUENCE", generationTypeClass);
-                idModel.sequenceNameIfPresent().ifPresent(seqName -> builder.addMember("generator", "$S", "seq"));
+                builder.addMember("generator", "$S", generatorName);
                 break;
             case AUTO:
                 builder.addMember("strategy", "$T.AUTO", generationTypeClass);
@@ -298,16 +378,83 @@ public final class EntityGenerator {
         return builder.build();
     }
 
+    /**
+     * Builds the sequence generator referenced by @GeneratedValue.
+     *
+     * <p>The sequence defaults to {@code <table>_seq}. POOLED and NONE use the standard
+     * {@code @SequenceGenerator} (Hibernate picks the pooled optimizer when allocationSize &gt; 1).
+     * POOLED_LO needs Hibernate's {@code SequenceStyleGenerator} to select the optimizer.</p>
+     */
+    private AnnotationSpec buildSequenceGeneratorAnnotation(String generatorName, EntityModel entityModel) {
+        IdModel idModel = entityModel.idModel();
+        String sequenceName = idModel.sequenceNameIfPresent().orElse(entityModel.tableName() + "_seq");
+
+        if (idModel.optimizer() == JpaSequenceOptions.Optimizer.POOLED_LO) {
+            AnnotationSpec.Builder builder = AnnotationSpec.builder(
+                            ClassName.get("org.hibernate.annotations", "GenericGenerator"))
+                    .addMember("name", "$S", generatorName)
+                    .addMember("type", "$T.class", ClassName.get("org.hibernate.id.enhanced", "SequenceStyleGenerator"))
+                    .addMember("parameters", "$L", generatorParameter("sequence_name", sequenceName))
+                    .addMember(
+                            "parameters",
+                            "$L",
+                            generatorParameter("increment_size", String.valueOf(idModel.allocationSize())))
+                    .addMember("parameters", "$L", generatorParameter("optimizer", "pooled-lo"));
+            entityModel
+                    .schemaIfPresent()
+                    .ifPresent(schema -> builder.addMember("parameters", "$L", generatorParameter("schema", schema)));
+            return builder.build();
+        }
+
+        AnnotationSpec.Builder builder = AnnotationSpec.builder(
+                        ClassName.get("jakarta.persistence", "SequenceGenerator"))
+                .addMember("name", "$S", generatorName)
+                .addMember("sequenceName", "$S", sequenceName)
+                .addMember("allocationSize", "$L", idModel.allocationSize());
+        entityModel.schemaIfPresent().ifPresent(schema -> builder.addMember("schema", "$S", schema));
+        return builder.build();
+    }
+
+    private AnnotationSpec generatorParameter(String name, String value) {
+        return AnnotationSpec.builder(ClassName.get("org.hibernate.annotations", "Parameter"))
+                .addMember("name", "$S", name)
+                .addMember("value", "$S", value)
+                .build();
+    }
+
+    /**
+     * Gets the type of the version field.
+     *
+     * <p>The version is a wrapper when it tells whether the entity is new: it stays null
+     * until the entity is persisted.</p>
+     */
+    private TypeName versionTypeName(EntityModel entityModel) {
+        return entityModel.newEntityDetection() == NewEntityDetection.VERSION
+                ? ClassName.get(Long.class)
+                : TypeName.LONG;
+    }
+
     /**
      * Adds @Version field for optimistic locking.
      */
-    private void addVersionField(TypeSpec.Builder entityBuilder) {
-        entityBuilder.addField(FieldSpec.builder(long.class, "version", Modifier.PRIVATE)
+    private void addVersionField(TypeSpec.Builder entityBuilder, TypeName versionType) {
+        entityBuilder.addField(FieldSpec.builder(versionType, "version", Modifier.PRIVATE)
                 .addAnnotation(ClassName.get("jakarta.persistence", "Version"))
                 .addJavadoc("Version field for optimistic locking.\n")
                 .build());
     }
 
+    /**
+     * Adds the transient flag telling whether the entity is new.
+     */
+    private void addNewEntityField(TypeSpec.Builder entityBuilder) {
+        entityBuilder.addField(FieldSpec.builder(boolean.class, "newEntity", Modifier.PRIVATE)
+                .addAnnotation(ClassName.get("jakarta.persistence", "Transient"))
+                .addJavadoc("True until the entity is persisted or loaded.\n")
+                .initializer("true")
+                .build());
+    }
+
     /**
      * Adds audit fields (createdAt, updatedAt).
      */
@@ -399,18 +546,7 @@ public final class EntityGenerator {
      * Adds getter and setter for ID field.
      */
     private void addIdAccessors(TypeSpec.Builder entityBuilder, IdModel idModel) {
-        TypeName idType;
-
-        // For composite IDs, use the embeddable type
-        if (idModel.isComposite()) {
-            String originalTypeName = idModel.originalType().render();
-            String embeddableSimpleName =
-                    originalTypeName.substring(originalTypeName.lastIndexOf('.') + 1) + "Embeddable";
-            String embeddablePackage = extractPackagePrefix(originalTypeName) + ".embeddable";
-            idType = ClassName.get(embeddablePackage, embeddableSimpleName);
-        } else {
-            idType = TypeUtils.toTypeName(idModel.unwrappedType());
-        }
+        TypeName idType = idTypeName(idModel);
 
         // Getter
         entityBuilder.addMethod(MethodSpec.methodBuilder("getId")
@@ -427,6 +563,45 @@ public final class EntityGenerator {
                 .build());
     }
 
+    /**
+     * Gets the type of the ID field.
+     */
+    private TypeName idTypeName(IdModel idModel) {
+        // For composite IDs, use the embeddable type
+        if (idModel.isComposite()) {
+            String originalTypeName = idModel.originalType().render();
+            String embeddableSimpleName =
+                    originalTypeName.substring(originalTypeName.lastIndexOf('.') + 1) + "Embeddable";
+            String embeddablePackage = extractPackagePrefix(originalTypeName) + ".embeddable";
+            return ClassName.get(embeddablePackage, embeddableSimpleName);
+        }
+        return TypeUtils.toTypeName(idModel.unwrappedType());
+    }
+
+    /**
+     * Adds the {@code Persistable.isNew()} implementation.
+     *
+     * <p>With {@code CALLBACK} detection, the transient flag is cleared once the entity is
+     * persisted or loaded, so that a later save merges it.</p>
+     */
+    private void addPersistableMethods(TypeSpec.Builder entityBuilder, NewEntityDetection detection) {
+        MethodSpec.Builder isNew = MethodSpec.methodBuilder("isNew")
+                .addAnnotation(Override.class)
+                .addModifiers(Modifier.PUBLIC)
+                .returns(boolean.class);
+        if (detection == NewEntityDetection.VERSION) {
+            entityBuilder.addMethod(isNew.addStatement("return version == null").build());
+            return;
+        }
+        entityBuilder.addMethod(isNew.addStatement("return newEntity").build());
+        entityBuilder.addMethod(MethodSpec.methodBuilder("markNotNew")
+                .addAnnotation(ClassName.get("jakarta.persistence", "PostLoad"))
+                .addAnnotation(ClassName.get("jakarta.persistence", "PrePersist"))
+                .addModifiers(Modifier.PROTECTED)
+                .addStatement("this.newEntity = false")
+                .build());
+    }
+
     /**
      * Adds getter and setter for a property.
      * Note: For embedded VOs, accessors use the embeddable type (entity field type).
@@ -463,18 +638,18 @@ public final class EntityGenerator {
     /**
      * Adds getter and setter for version field (optimistic locking).
      */
-    private void addVersionAccessors(TypeSpec.Builder entityBuilder) {
+    private void addVersionAccessors(TypeSpec.Builder entityBuilder, TypeName versionType) {
         // Getter
         entityBuilder.addMethod(MethodSpec.methodBuilder("getVersion")
                 .addModifiers(Modifier.PUBLIC)
-                .returns(long.class)
+                .returns(versionType)
                 .addStatement("return version")
                 .build());
 
         // Setter
         entityBuilder.addMethod(MethodSpec.methodBuilder("setVersion")
                 .addModifiers(Modifier.PUBLIC)
-                .addParameter(long.class, "version")
+                .addParameter(versionType, "version")
                 .addStatement("this.version = version")
                 .build());
     }
@@ -606,6 +781,8 @@ public final class EntityGenerator {
         relationship.mappedByIfPresent().ifPresent(mappedBy -> oneToManyBuilder.addMember("mappedBy", "$S", mappedBy));
 
         fieldBuilder.addAnnotation(oneToManyBuilder.build());
+        addCollectionFetchAnnotation(fieldBuilder, relationship);
+        addCollectionCacheAnnotation(fieldBuilder, relationship, entityModel);
 
         // Initialize collection to avoid null
         fieldBuilder.initializer("new $T<>()", ArrayList.class);
@@ -613,6 +790,67 @@ public final class EntityGenerator {
         entityBuilder.addField(fieldBuilder.build());
     }
 
+    /**
+     * Adds the Hibernate batch or subselect fetching annotation of a lazy collection.
+     *
+     * <p>Generated code example:</p>
+     * <pre>{@code
+     * @BatchSize(size = 50)
+     * @Fetch(FetchMode.SUBSELECT)
+     * }</pre>
+     */
+    private void addCollectionFetchAnnotation(FieldSpec.Builder fieldBuilder, RelationshipModel relationship) {
+        JpaFetchOptions collectionFetch = relationship.collectionFetch();
+        switch (collectionFetch.mode()) {
+            case BATCH ->
+                fieldBuilder.addAnnotation(
+                        AnnotationSpec.builder(ClassName.get("org.hibernate.annotations", "BatchSize"))
+                                .addMember("size", "$L", collectionFetch.batchSize())
+                                .build());
+            case SUBSELECT ->
+                fieldBuilder.addAnnotation(AnnotationSpec.builder(ClassName.get("org.hibernate.annotations", "Fetch"))
+                        .addMember("value", "$T.SUBSELECT", ClassName.get("org.hibernate.annotations", "FetchMode"))
+                        .build());
+            case SELECT -> {
+                // JPA default: one statement per collection
+            }
+        }
+    }
+
+    /**
+     * Adds the Hibernate @Cache annotation of a child collection, if the aggregate caches its collections.
+     *
+     * <p>The collection region is named after the entity region, e.g. {@code catalog.country.regions}.</p>
+     */
+    private void addCollectionCacheAnnotation(
+            FieldSpec.Builder fieldBuilder, RelationshipModel relationship, EntityModel entityModel) {
+        entityModel
+                .cacheIfPresent()
+                .filter(JpaCacheOptions::cacheCollections)
+                .ifPresent(cache -> fieldBuilder.addAnnotation(buildCacheAnnotation(
+                        cache, cache.regionIfPresent().map(region -> region + "." + relationship.propertyName()))));
+    }
+
+    /**
+     * Builds a Hibernate @Cache annotation.
+     *
+     * <p>Generated code example:</p>
+     * <pre>{@code
+     * @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "catalog.country")
+     * }</pre>
+     */
+    private AnnotationSpec buildCacheAnnotation(JpaCacheOptions cache, Optional<String> region) {
+        AnnotationSpec.Builder cacheBuilder = AnnotationSpec.builder(
+                        ClassName.get("org.hibernate.annotations", "Cache"))
+                .addMember(
+                        "usage",
+                        "$T.$L",
+                        ClassName.get("org.hibernate.annotations", "CacheConcurrencyStrategy"),
+                        cache.strategy().name());
+        region.ifPresent(name -> cacheBuilder.addMember("region", "$S", name));
+        return cacheBuilder.build();
+    }
+
     /**
      * Adds a @ManyToOne relationship field.
      *
@@ -709,6 +947,8 @@ public final class EntityGenerator {
         elementCollectionBuilder.addMember("fetch", "$T." + relationship.fetch().name(), fetchTypeClass);
 
         fieldBuilder.addAnnotation(elementCollectionBuilder.build());
+        addCollectionFetchAnnotation(fieldBuilder, relationship);
+        addCollectionCacheAnnotation(fieldBuilder, relationship, entityModel);
 
         // Initialize collection to avoid null
         fieldBuilder.initializer("new $T<>()", ArrayList.class);
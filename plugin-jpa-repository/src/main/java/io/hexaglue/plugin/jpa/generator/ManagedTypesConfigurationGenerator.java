@@ -0,0 +1,134 @@
+/**
+ * This Source Code Form is part of the HexaGlue project.
+ * Copyright (c) 2025 Scalastic
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ *
+ * Commercial licensing options are available for organizations wishing
+ * to use HexaGlue under terms different from the MPL 2.0.
+ * Contact: info@hexaglue.io
+ */
+package io.hexaglue.plugin.jpa.generator;
+
+import com.palantir.javapoet.AnnotationSpec;
+import com.palantir.javapoet.ClassName;
+import com.palantir.javapoet.CodeBlock;
+import com.palantir.javapoet.JavaFile;
+import com.palantir.javapoet.MethodSpec;
+import com.palantir.javapoet.TypeSpec;
+import io.hexaglue.spi.codegen.MergeMode;
+import io.hexaglue.spi.codegen.SourceFile;
+import java.util.List;
+import java.util.Objects;
+import javax.lang.model.element.Modifier;
+
+/**
+ * Generates the Spring configuration registering the generated JPA classes.
+ *
+ * <p>Spring Boot scans the entity packages for {@code @Entity}, {@code @Embeddable} and
+ * {@code @Converter} classes when it builds the {@code EntityManagerFactory}. The plugin already
+ * knows every class it generated, so it exposes them as a {@code PersistenceManagedTypes} bean,
+ * which Spring Boot uses instead of scanning. Classes are listed by name, as Spring AOT does, so
+ * that none is loaded before Hibernate needs it.</p>
+ *
+ * <p>Entities that are not generated by the plugin are no longer discovered once the bean
+ * exists; they must be added to the bean manually, or the option left disabled.</p>
+ *
+ * <h2>Generated Code Example</h2>
+ * <pre>{@code
+ * @Configuration(proxyBeanMethods = false)
+ * public class JpaManagedTypesConfiguration {
+ *
+ *     @Bean
+ *     public PersistenceManagedTypes persistenceManagedTypes() {
+ *         return PersistenceManagedTypes.of(
+ *                 List.of(
+ *                         "com.example.infrastructure.persistence.entity.OrderEntity",
+ *                         "com.example.infrastructure.persistence.embeddable.MoneyEmbeddable"),
+ *                 List.of());
+ *     }
+ * }
+ * }</pre>
+ *
+ * @since 0.4.0
+ */
+public final class ManagedTypesConfigurationGenerator {
+
+    private static final String SIMPLE_NAME = "JpaManagedTypesConfiguration";
+
+    private final String basePackage;
+
+    public ManagedTypesConfigurationGenerator(String basePackage) {
+        this.basePackage = Objects.requireNonNull(basePackage, "basePackage");
+    }
+
+    /**
+     * Returns the qualified name of the generated configuration class.
+     *
+     * @return configuration qualified name
+     */
+    public String qualifiedName() {
+        return basePackage + ".config." + SIMPLE_NAME;
+    }
+
+    /**
+     * Generates the managed types configuration.
+     *
+     * @param managedClassNames qualified names of the generated entities, embeddables and converters
+     * @param mergeMode merge mode for file generation
+     * @return source file containing the configuration class
+     */
+    public SourceFile generate(List<String> managedClassNames, MergeMode mergeMode) {
+        Objects.requireNonNull(managedClassNames, "managedClassNames");
+        Objects.requireNonNull(mergeMode, "mergeMode");
+
+        ClassName managedTypes =
+                ClassName.get("org.springframework.orm.jpa.persistenceunit", "PersistenceManagedTypes");
+        TypeSpec configuration = TypeSpec.classBuilder(SIMPLE_NAME)
+                .addModifiers(Modifier.PUBLIC)
+                .addJavadoc("Registers the JPA classes generated by HexaGlue, so that Spring Boot does not scan\n")
+                .addJavadoc("the classpath for them.\n")
+                .addJavadoc("\n<p>Generated by HexaGlue JPA plugin.</p>\n")
+                .addAnnotation(
+                        AnnotationSpec.builder(ClassName.get("org.springframework.context.annotation", "Configuration"))
+                                .addMember("proxyBeanMethods", "$L", false)
+                                .build())
+                .addMethod(MethodSpec.methodBuilder("persistenceManagedTypes")
+                        .addModifiers(Modifier.PUBLIC)
+                        .addAnnotation(ClassName.get("org.springframework.context.annotation", "Bean"))
+                        .returns(managedTypes)
+                        .addStatement(
+                                "return $T.of($L, $T.of())",
+                                managedTypes,
+                                stringList(managedClassNames),
+                                ClassName.get("java.util", "List"))
+                        .build())
+                .build();
+
+        JavaFile javaFile =
+                JavaFile.builder(basePackage + ".config", configuration).build();
+
+        return SourceFile.builder()
+                .qualifiedTypeName(qualifiedName())
+                .content(javaFile.toString())
+                .mergeMode(mergeMode)
+                .build();
+    }
+
+    /**
+     * Renders {@code List.of(...)} with one string literal per line.
+     */
+    static CodeBlock stringList(List<String> values) {
+        CodeBlock.Builder list = CodeBlock.builder().add("$T.of(", ClassName.get("java.util", "List"));
+        if (!values.isEmpty()) {
+            list.add("\n").indent().indent();
+            for (int i = 0; i < values.size(); i++) {
+                list.add(i < values.size() - 1 ? "$S,\n" : "$S", values.get(i));
+            }
+            list.unindent().unindent();
+        }
+        return list.add(")").build();
+    }
+}
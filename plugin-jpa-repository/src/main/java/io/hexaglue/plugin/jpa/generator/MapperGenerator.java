@@ -16,17 +16,21 @@ import com.palantir.javapoet.AnnotationSpec;
 import com.palantir.javapoet.ClassName;
 import com.palantir.javapoet.JavaFile;
 import com.palantir.javapoet.MethodSpec;
+import com.palantir.javapoet.ParameterSpec;
 import com.palantir.javapoet.TypeName;
 import com.palantir.javapoet.TypeSpec;
+import io.hexaglue.plugin.jpa.analysis.DomainTypeIndex;
 import io.hexaglue.plugin.jpa.model.JpaGenerationPlan;
+import io.hexaglue.plugin.jpa.model.ProjectionModel;
+import io.hexaglue.plugin.jpa.model.QueryMethodModel;
 import io.hexaglue.plugin.jpa.util.TypeUtils;
 import io.hexaglue.spi.codegen.MergeMode;
 import io.hexaglue.spi.codegen.SourceFile;
-import io.hexaglue.spi.context.GenerationContextSpec;
 import io.hexaglue.spi.ir.domain.DomainPropertyView;
-import io.hexaglue.spi.ir.domain.DomainTypeKind;
 import io.hexaglue.spi.ir.domain.DomainTypeView;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import javax.lang.model.element.Modifier;
@@ -38,8 +42,12 @@ import javax.lang.model.element.Modifier;
  * automatically. The mappers handle:</p>
  * <ul>
  *   <li><strong>Domain to Entity</strong>: toEntity(Domain) → Entity</li>
+ *   <li><strong>Domain onto Entity</strong>: updateEntity(Entity, Domain), updating a managed
+ *       entity in place, for entities without collections</li>
  *   <li><strong>Entity to Domain</strong>: toDomain(Entity) → Domain</li>
  *   <li><strong>Value Object conversion</strong>: Custom mappers for IDs and embedded VOs</li>
+ *   <li><strong>Projection to read model</strong>: toSummary(Projection) → Summary, for findBy
+ *       methods returning a {@link ProjectionModel}</li>
  * </ul>
  *
  * <h2>Generated Code Example</h2>
@@ -49,6 +57,9 @@ import javax.lang.model.element.Modifier;
  *
  *     CustomerEntity toEntity(Customer domain);
  *
+ *     @Mapping(target = "id", ignore = true)
+ *     void updateEntity(@MappingTarget CustomerEntity entity, Customer domain);
+ *
  *     Customer toDomain(CustomerEntity entity);
  *
  *     // Value Object converter for CustomerId
@@ -74,10 +85,22 @@ import javax.lang.model.element.Modifier;
  */
 public final class MapperGenerator {
 
-    private final GenerationContextSpec context;
+    /** Suffix of the implementation MapStruct generates for a mapper interface */
+    public static final String IMPLEMENTATION_SUFFIX = "Impl";
+
+    private final DomainTypeIndex typeIndex;
+    private final boolean explicitWiring;
 
-    public MapperGenerator(GenerationContextSpec context) {
-        this.context = Objects.requireNonNull(context, "context");
+    /**
+     * Creates a mapper generator.
+     *
+     * @param typeIndex domain type index shared by the run
+     * @param explicitWiring true if mappers are registered by the generated configuration, in
+     *                       which case MapStruct generates plain classes instead of components
+     */
+    public MapperGenerator(DomainTypeIndex typeIndex, boolean explicitWiring) {
+        this.typeIndex = Objects.requireNonNull(typeIndex, "typeIndex");
+        this.explicitWiring = explicitWiring;
     }
 
     /**
@@ -100,7 +123,7 @@ public final class MapperGenerator {
 
         // MapStruct annotation
         AnnotationSpec mapStructAnnotation = AnnotationSpec.builder(ClassName.get("org.mapstruct", "Mapper"))
-                .addMember("componentModel", "$S", "spring")
+                .addMember("componentModel", "$S", explicitWiring ? "default" : "spring")
                 .build();
 
         TypeSpec.Builder mapperBuilder = TypeSpec.interfaceBuilder(simpleName)
@@ -126,6 +149,12 @@ public final class MapperGenerator {
         addIgnoredMappings(toEntityBuilder, plan);
         mapperBuilder.addMethod(toEntityBuilder.build());
 
+        // updateEntity method - applies domain state to a managed entity, keeping its identity.
+        // Not generated for entities owning collections, which are merged instead.
+        if (plan.entityModel().supportsInPlaceUpdate()) {
+            mapperBuilder.addMethod(generateUpdateEntity(plan, entityType, domainType));
+        }
+
         // toDomain method
         mapperBuilder.addMethod(MethodSpec.methodBuilder("toDomain")
                 .addModifiers(Modifier.PUBLIC, Modifier.ABSTRACT)
@@ -136,6 +165,9 @@ public final class MapperGenerator {
                 .addJavadoc("@return domain object\n")
                 .build());
 
+        // Projection → read model methods (e.g., toCustomerSummary)
+        addProjectionMappings(mapperBuilder, plan);
+
         // Add @AfterMapping for bidirectional relationships
         addAfterMappingForRelationships(mapperBuilder, plan, entityType, domainType);
 
@@ -148,6 +180,56 @@ public final class MapperGenerator {
                 .build();
     }
 
+    /**
+     * Generates the mapping applying the state of a domain object to a managed entity.
+     */
+    private MethodSpec generateUpdateEntity(JpaGenerationPlan plan, TypeName entityType, TypeName domainType) {
+        MethodSpec.Builder updateEntityBuilder = MethodSpec.methodBuilder("updateEntity")
+                .addModifiers(Modifier.PUBLIC, Modifier.ABSTRACT)
+                .returns(TypeName.VOID)
+                .addParameter(ParameterSpec.builder(entityType, "entity")
+                        .addAnnotation(ClassName.get("org.mapstruct", "MappingTarget"))
+                        .build())
+                .addParameter(domainType, "domain")
+                .addJavadoc("Applies the state of a domain object to a managed JPA entity.\n")
+                .addJavadoc("\n<p>Hibernate dirty checking then writes only what changed, without a merge.</p>\n")
+                .addJavadoc("\n@param entity managed JPA entity\n")
+                .addJavadoc("@param domain domain object\n")
+                .addAnnotation(AnnotationSpec.builder(ClassName.get("org.mapstruct", "Mapping"))
+                        .addMember("target", "$S", "id")
+                        .addMember("ignore", "$L", true)
+                        .build());
+        addIgnoredMappings(updateEntityBuilder, plan);
+        return updateEntityBuilder.build();
+    }
+
+    /**
+     * Adds one mapping method per projection declared on the repository.
+     *
+     * <p>Projected properties share their names and types with the aggregate, so the Value
+     * Object converters generated for the aggregate also apply to the projections.</p>
+     */
+    private void addProjectionMappings(TypeSpec.Builder mapperBuilder, JpaGenerationPlan plan) {
+        Map<String, ProjectionModel> projections = new LinkedHashMap<>();
+        for (QueryMethodModel queryMethod : plan.queryMethods()) {
+            queryMethod
+                    .projectionIfPresent()
+                    .ifPresent(projection -> projections.putIfAbsent(projection.interfaceName(), projection));
+        }
+
+        ClassName repoType = ClassName.bestGuess(plan.springDataRepoQualifiedName());
+        for (ProjectionModel projection : projections.values()) {
+            mapperBuilder.addMethod(MethodSpec.methodBuilder(projection.mapperMethodName())
+                    .addModifiers(Modifier.PUBLIC, Modifier.ABSTRACT)
+                    .returns(TypeUtils.toTypeName(projection.domainType()))
+                    .addParameter(repoType.nestedClass(projection.interfaceName()), "projection")
+                    .addJavadoc("Converts a repository projection to $L.\n", projection.domainSimpleName())
+                    .addJavadoc("\n@param projection repository projection\n")
+                    .addJavadoc("@return read model\n")
+                    .build());
+        }
+    }
+
     /**
      * Adds @Mapping annotations to ignore JPA technical fields.
      *
@@ -197,7 +279,7 @@ public final class MapperGenerator {
      */
     private void addValueObjectConverters(TypeSpec.Builder mapperBuilder, JpaGenerationPlan plan) {
         String domainTypeName = plan.entityModel().domainType().render();
-        Optional<DomainTypeView> domainTypeOpt = context.model().domain().findType(domainTypeName);
+        Optional<DomainTypeView> domainTypeOpt = typeIndex.findType(domainTypeName);
 
         if (domainTypeOpt.isEmpty()) {
             return;
@@ -210,36 +292,25 @@ public final class MapperGenerator {
 
         // Scan properties for Value Objects
         for (DomainPropertyView property : domainType.properties()) {
-            String propertyTypeName = property.type().render();
-            Optional<DomainTypeView> propertyDomainType =
-                    context.model().domain().findType(propertyTypeName);
-
-            if (propertyDomainType.isPresent()) {
-                DomainTypeView voType = propertyDomainType.get();
-
-                // Single-field Value Object: generate converters if not already processed
-                if ((voType.kind() == DomainTypeKind.IDENTIFIER || voType.kind() == DomainTypeKind.RECORD)
-                        && voType.properties().size() == 1
-                        && !processedVoTypes.contains(voType.qualifiedName())) {
+            DomainTypeIndex.IndexedType propertyType = typeIndex.lookup(property.type());
 
+            // Single-field Value Object: generate converters if not already processed
+            if (propertyType.singleFieldValueObject()) {
+                DomainTypeView voType = propertyType.view().get();
+                if (processedVoTypes.add(voType.qualifiedName())) {
                     addValueObjectConverter(mapperBuilder, voType, voType.properties());
-                    processedVoTypes.add(voType.qualifiedName());
                 }
             }
         }
 
         // Also handle ID type if it's a Value Object and not already processed
-        String idTypeName = plan.entityModel().idModel().originalType().render();
-        Optional<DomainTypeView> idTypeOpt = context.model().domain().findType(idTypeName);
-
-        if (idTypeOpt.isPresent()) {
-            DomainTypeView idType = idTypeOpt.get();
-            if ((idType.kind() == DomainTypeKind.IDENTIFIER || idType.kind() == DomainTypeKind.RECORD)
-                    && idType.properties().size() == 1
-                    && !processedVoTypes.contains(idType.qualifiedName())) {
+        DomainTypeIndex.IndexedType idType =
+                typeIndex.lookup(plan.entityModel().idModel().originalType());
 
-                addValueObjectConverter(mapperBuilder, idType, idType.properties());
-                processedVoTypes.add(idType.qualifiedName());
+        if (idType.singleFieldValueObject()) {
+            DomainTypeView idTypeView = idType.view().get();
+            if (processedVoTypes.add(idTypeView.qualifiedName())) {
+                addValueObjectConverter(mapperBuilder, idTypeView, idTypeView.properties());
             }
         }
     }
@@ -331,7 +402,7 @@ public final class MapperGenerator {
                 .addModifiers(Modifier.PUBLIC, Modifier.DEFAULT)
                 .addAnnotation(afterMappingClass)
                 .returns(TypeName.VOID)
-                .addParameter(com.palantir.javapoet.ParameterSpec.builder(entityType, "entity")
+                .addParameter(ParameterSpec.builder(entityType, "entity")
                         .addAnnotation(mappingTargetClass)
                         .build())
                 .addParameter(domainType, "domain")
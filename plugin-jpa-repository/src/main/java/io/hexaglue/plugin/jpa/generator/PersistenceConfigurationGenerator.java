@@ -0,0 +1,157 @@
+/**
+ * This Source Code Form is part of the HexaGlue project.
+ * Copyright (c) 2025 Scalastic
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ *
+ * Commercial licensing options are available for organizations wishing
+ * to use HexaGlue under terms different from the MPL 2.0.
+ * Contact: info@hexaglue.io
+ */
+package io.hexaglue.plugin.jpa.generator;
+
+import com.palantir.javapoet.AnnotationSpec;
+import com.palantir.javapoet.ClassName;
+import com.palantir.javapoet.CodeBlock;
+import com.palantir.javapoet.JavaFile;
+import com.palantir.javapoet.MethodSpec;
+import com.palantir.javapoet.TypeSpec;
+import io.hexaglue.plugin.jpa.util.NamingUtils;
+import io.hexaglue.spi.codegen.MergeMode;
+import io.hexaglue.spi.codegen.SourceFile;
+import java.util.List;
+import java.util.Objects;
+import javax.lang.model.element.Modifier;
+
+/**
+ * Generates the Spring configuration wiring the generated adapters, mappers and repositories
+ * explicitly.
+ *
+ * <p>By default adapters are {@code @Component}s and mappers are MapStruct Spring components,
+ * found by component scanning, and Spring Boot scans the application packages for repository
+ * interfaces. With {@code explicitWiring} enabled the plugin already knows every class it
+ * generated, so the configuration:</p>
+ * <ul>
+ *   <li>Imports each adapter class</li>
+ *   <li>Declares a bean per mapper, instantiating the MapStruct implementation</li>
+ *   <li>Enables the generated Spring Data repositories by exact type</li>
+ * </ul>
+ *
+ * <p>Declaring {@code @EnableJpaRepositories} turns off the Spring Boot repository
+ * auto-configuration: repositories that are not generated by the plugin must be enabled by
+ * another configuration.</p>
+ *
+ * <h2>Generated Code Example</h2>
+ * <pre>{@code
+ * @Configuration(proxyBeanMethods = false)
+ * @Import(OrderAdapter.class)
+ * @EnableJpaRepositories(
+ *         basePackages = "com.example.infrastructure.persistence.springdata",
+ *         includeFilters = @ComponentScan.Filter(
+ *                 type = FilterType.ASSIGNABLE_TYPE,
+ *                 classes = OrderJpaRepository.class))
+ * public class JpaPersistenceConfiguration {
+ *
+ *     @Bean
+ *     public OrderMapper orderMapper() {
+ *         return new OrderMapperImpl();
+ *     }
+ * }
+ * }</pre>
+ *
+ * @since 0.4.0
+ */
+public final class PersistenceConfigurationGenerator {
+
+    private static final String SIMPLE_NAME = "JpaPersistenceConfiguration";
+    private static final String SPRING_CONTEXT_PACKAGE = "org.springframework.context.annotation";
+
+    private final String basePackage;
+
+    public PersistenceConfigurationGenerator(String basePackage) {
+        this.basePackage = Objects.requireNonNull(basePackage, "basePackage");
+    }
+
+    /**
+     * Returns the qualified name of the generated configuration class.
+     *
+     * @return configuration qualified name
+     */
+    public String qualifiedName() {
+        return basePackage + ".config." + SIMPLE_NAME;
+    }
+
+    /**
+     * Generates the persistence wiring configuration.
+     *
+     * @param adapterNames qualified names of the generated adapters
+     * @param mapperNames qualified names of the generated mapper interfaces
+     * @param repositoryNames qualified names of the generated Spring Data repositories
+     * @param mergeMode merge mode for file generation
+     * @return source file containing the configuration class
+     */
+    public SourceFile generate(
+            List<String> adapterNames, List<String> mapperNames, List<String> repositoryNames, MergeMode mergeMode) {
+        Objects.requireNonNull(adapterNames, "adapterNames");
+        Objects.requireNonNull(mapperNames, "mapperNames");
+        Objects.requireNonNull(repositoryNames, "repositoryNames");
+        Objects.requireNonNull(mergeMode, "mergeMode");
+
+        AnnotationSpec repositoryFilter = AnnotationSpec.builder(
+                        ClassName.get(SPRING_CONTEXT_PACKAGE, "ComponentScan", "Filter"))
+                .addMember("type", "$T.ASSIGNABLE_TYPE", ClassName.get(SPRING_CONTEXT_PACKAGE, "FilterType"))
+                .addMember("classes", classArray(repositoryNames))
+                .build();
+
+        TypeSpec.Builder configuration = TypeSpec.classBuilder(SIMPLE_NAME)
+                .addModifiers(Modifier.PUBLIC)
+                .addJavadoc("Registers the adapters, mappers and repositories generated by HexaGlue, without\n")
+                .addJavadoc("component scanning.\n")
+                .addJavadoc("\n<p>Generated by HexaGlue JPA plugin.</p>\n")
+                .addAnnotation(AnnotationSpec.builder(ClassName.get(SPRING_CONTEXT_PACKAGE, "Configuration"))
+                        .addMember("proxyBeanMethods", "$L", false)
+                        .build())
+                .addAnnotation(AnnotationSpec.builder(ClassName.get(SPRING_CONTEXT_PACKAGE, "Import"))
+                        .addMember("value", classArray(adapterNames))
+                        .build())
+                .addAnnotation(AnnotationSpec.builder(ClassName.get(
+                                "org.springframework.data.jpa.repository.config", "EnableJpaRepositories"))
+                        .addMember("basePackages", "$S", basePackage + ".springdata")
+                        .addMember("includeFilters", "$L", repositoryFilter)
+                        .build());
+
+        for (String mapperName : mapperNames) {
+            ClassName mapper = ClassName.bestGuess(mapperName);
+            configuration.addMethod(MethodSpec.methodBuilder(NamingUtils.decapitalize(mapper.simpleName()))
+                    .addModifiers(Modifier.PUBLIC)
+                    .addAnnotation(ClassName.get(SPRING_CONTEXT_PACKAGE, "Bean"))
+                    .returns(mapper)
+                    .addStatement(
+                            "return new $T()",
+                            ClassName.get(
+                                    mapper.packageName(), mapper.simpleName() + MapperGenerator.IMPLEMENTATION_SUFFIX))
+                    .build());
+        }
+
+        JavaFile javaFile =
+                JavaFile.builder(basePackage + ".config", configuration.build()).build();
+
+        return SourceFile.builder()
+                .qualifiedTypeName(qualifiedName())
+                .content(javaFile.toString())
+                .mergeMode(mergeMode)
+                .build();
+    }
+
+    /**
+     * Renders an annotation class array, e.g. {@code {OrderAdapter.class, CustomerAdapter.class}}.
+     */
+    private static CodeBlock classArray(List<String> qualifiedNames) {
+        CodeBlock classes = qualifiedNames.stream()
+                .map(name -> CodeBlock.of("$T.class", ClassName.bestGuess(name)))
+                .collect(CodeBlock.joining(", "));
+        return qualifiedNames.size() == 1 ? classes : CodeBlock.of("{$L}", classes);
+    }
+}
@@ -12,17 +12,31 @@
  */
 package io.hexaglue.plugin.jpa.generator;
 
+import com.palantir.javapoet.AnnotationSpec;
 import com.palantir.javapoet.ClassName;
 import com.palantir.javapoet.JavaFile;
 import com.palantir.javapoet.MethodSpec;
+import com.palantir.javapoet.ParameterSpec;
 import com.palantir.javapoet.ParameterizedTypeName;
 import com.palantir.javapoet.TypeName;
 import com.palantir.javapoet.TypeSpec;
+import io.hexaglue.plugin.jpa.config.JpaCacheOptions;
+import io.hexaglue.plugin.jpa.config.JpaQueryOptions;
+import io.hexaglue.plugin.jpa.model.BulkDeleteModel;
+import io.hexaglue.plugin.jpa.model.EntityModel;
 import io.hexaglue.plugin.jpa.model.JpaGenerationPlan;
+import io.hexaglue.plugin.jpa.model.JpqlQueryModel;
+import io.hexaglue.plugin.jpa.model.KeysetModel;
+import io.hexaglue.plugin.jpa.model.PartialUpdateModel;
+import io.hexaglue.plugin.jpa.model.ProjectionModel;
 import io.hexaglue.plugin.jpa.model.QueryMethodModel;
+import io.hexaglue.plugin.jpa.model.StreamingModel;
 import io.hexaglue.plugin.jpa.util.TypeUtils;
 import io.hexaglue.spi.codegen.MergeMode;
 import io.hexaglue.spi.codegen.SourceFile;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import javax.lang.model.element.Modifier;
 
@@ -54,14 +68,83 @@ import javax.lang.model.element.Modifier;
  *   <li>{@code existsByEmail(String)} → SELECT COUNT ... WHERE email = ?</li>
  * </ul>
  *
+ * <h2>Projections</h2>
+ * <p>findBy methods returning a read model of the aggregate return a nested closed interface
+ * projection (e.g., {@code CustomerSummaryProjection}) instead of the entity, so that Spring Data
+ * only selects the projected columns. See {@link ProjectionModel}.</p>
+ *
+ * <h2>Slices and Count Queries</h2>
+ * <p>Paginated methods returning a {@code Slice} are declared with a {@code Slice<Entity>} return
+ * type, so that Spring Data fetches one extra row instead of running a count query. Methods
+ * carrying a {@link JpqlQueryModel} are annotated with {@code @Query}, including the configured
+ * {@code countQuery}, and bind their filter parameters with {@code @Param}.</p>
+ *
+ * <h2>Keyset Pagination</h2>
+ * <p>Keyset-paginated methods are declared under the repository method names of their
+ * {@link KeysetModel}: scrolling methods return {@code Window<Entity>} ordered by ID, and cursor
+ * methods get a first page method and a method seeking past the cursor, both taking a
+ * {@code Limit}.</p>
+ *
+ * <h2>Entity Graph</h2>
+ * <p>When the entity declares an aggregate graph (see {@link EntityModel#aggregateGraphNameIfPresent()}),
+ * {@code findById} and the entity-returning findBy methods are annotated with {@code @EntityGraph},
+ * so that an aggregate and its child collections load with a join fetch instead of one statement
+ * per collection and entity. Paginated methods are left out: Hibernate would apply the page
+ * limit in memory after fetching every joined row.</p>
+ *
+ * <h2>Query Cache</h2>
+ * <p>Query methods listed in the {@code queries} cache option of the aggregate (see
+ * {@link JpaCacheOptions}) carry the Hibernate cacheable hint, so their results are served from
+ * the query cache until a table they read is modified.</p>
+ *
+ * <h2>Delete by ID</h2>
+ * <p>When the port declares {@code deleteById}, a {@code @Modifying} JPQL method returning the
+ * affected-row count is added, so that the adapter deletes with exactly one statement:
+ * {@code softDeleteById} when soft delete is enabled, {@code hardDeleteById} when the entity
+ * has no collection to cascade to. Entities with collections keep the cascading
+ * {@code JpaRepository} delete. The statement only flushes the persistence context; the adapter
+ * evicts the deleted aggregate itself, so that other managed entities stay attached.</p>
+ *
+ * <h2>Bulk Delete</h2>
+ * <p>deleteBy methods carrying a {@link BulkDeleteModel} are declared as {@code @Modifying} JPQL
+ * methods returning the affected-row count, instead of derived deletes loading every match.
+ * Since the deleted rows are not known, the persistence context is cleared after the statement.</p>
+ *
+ * <h2>Partial Update</h2>
+ * <p>Update-style methods carrying a {@link PartialUpdateModel} are declared the same way, with
+ * the ID bound as the persistence ID type, so that a state transition is a single
+ * {@code UPDATE} of one row.</p>
+ *
+ * <h2>Streaming</h2>
+ * <p>Streaming methods (see {@link StreamingModel}) return {@code Stream<Entity>} with a JDBC
+ * fetch size hint and a read-only hint, so that rows are fetched in chunks and entities are not
+ * snapshotted for dirty checking.</p>
+ *
  * @since 0.4.0
  */
 public final class RepositoryGenerator {
 
+    /** Repository method hard-deleting an aggregate root with a single statement. */
+    static final String HARD_DELETE_BY_ID = "hardDeleteById";
+
+    /** Repository method soft-deleting an aggregate root with a single statement. */
+    static final String SOFT_DELETE_BY_ID = "softDeleteById";
+
+    private static final ClassName HIBERNATE_HINTS = ClassName.get("org.hibernate.jpa", "HibernateHints");
+    private static final ClassName PARAM = ClassName.get("org.springframework.data.repository.query", "Param");
+
     private final boolean generateQueryMethods;
+    private final JpaQueryOptions queryOptions;
 
-    public RepositoryGenerator(boolean generateQueryMethods) {
+    /**
+     * Creates a repository generator.
+     *
+     * @param generateQueryMethods true to generate derived query methods
+     * @param queryOptions options of the generated query methods
+     */
+    public RepositoryGenerator(boolean generateQueryMethods, JpaQueryOptions queryOptions) {
         this.generateQueryMethods = generateQueryMethods;
+        this.queryOptions = Objects.requireNonNull(queryOptions, "queryOptions");
     }
 
     /**
@@ -97,6 +180,22 @@ public final class RepositoryGenerator {
         // Add @Repository annotation (optional but recommended)
         repoBuilder.addAnnotation(ClassName.get("org.springframework.stereotype", "Repository"));
 
+        // Load the aggregate with its child collections
+        plan.entityModel()
+                .aggregateGraphNameIfPresent()
+                .ifPresent(graphName -> repoBuilder.addMethod(MethodSpec.methodBuilder("findById")
+                        .addModifiers(Modifier.PUBLIC, Modifier.ABSTRACT)
+                        .addAnnotation(Override.class)
+                        .addAnnotation(entityGraph(graphName))
+                        .returns(ParameterizedTypeName.get(ClassName.get("java.util", "Optional"), entityType))
+                        .addParameter(idType, "id")
+                        .build()));
+
+        // Delete by ID with a single statement
+        if (plan.declaresDeleteById()) {
+            addDeleteByIdStatement(repoBuilder, plan.entityModel(), idType);
+        }
+
         // Generate derived query methods if enabled
         if (generateQueryMethods) {
             addDerivedQueryMethods(repoBuilder, plan);
@@ -111,6 +210,77 @@ public final class RepositoryGenerator {
                 .build();
     }
 
+    /**
+     * Adds the {@code @Modifying} JPQL method backing the adapter's deleteById.
+     *
+     * <p>Soft delete updates {@code deletedAt} (and the version and update timestamp) of a live
+     * row without loading it; hard delete removes the row when no collection needs cascading.
+     * Both return the affected-row count. The persistence context is flushed before the statement
+     * but not cleared: the adapter evicts the affected aggregate only.</p>
+     */
+    private void addDeleteByIdStatement(TypeSpec.Builder repoBuilder, EntityModel entityModel, TypeName idType) {
+        String entityName = entityModel.entityClassName();
+        MethodSpec.Builder methodBuilder;
+        String jpql;
+        if (entityModel.enableSoftDelete()) {
+            StringBuilder assignments = new StringBuilder("e.deletedAt = :deletedAt");
+            if (entityModel.enableAuditing()) {
+                assignments.append(", e.updatedAt = :deletedAt");
+            }
+            if (entityModel.enableOptimisticLocking()) {
+                assignments.append(", e.version = e.version + 1");
+            }
+            jpql = "update " + entityName + " e set " + assignments + " where e.id = :id and e.deletedAt is null";
+            methodBuilder = MethodSpec.methodBuilder(SOFT_DELETE_BY_ID)
+                    .addParameter(namedParameter(idType, "id"))
+                    .addParameter(namedParameter(ClassName.get("java.time", "Instant"), "deletedAt"))
+                    .addJavadoc("Soft-deletes an aggregate root without loading it.\n");
+        } else if (entityModel.supportsBulkDelete()) {
+            jpql = "delete from " + entityName + " e where e.id = :id";
+            methodBuilder = MethodSpec.methodBuilder(HARD_DELETE_BY_ID)
+                    .addParameter(namedParameter(idType, "id"))
+                    .addJavadoc("Deletes an aggregate root without loading it.\n");
+        } else {
+            return;
+        }
+
+        repoBuilder.addMethod(modifyingStatement(methodBuilder, jpql, false)
+                .addJavadoc("\n@return number of rows affected (0 or 1)\n")
+                .build());
+    }
+
+    /**
+     * Declares a method as a transactional {@code @Modifying} JPQL statement returning the affected-row count.
+     *
+     * <p>Pending changes are always flushed first. Clearing the whole persistence context is
+     * reserved for statements whose affected rows are unknown to the adapter.</p>
+     */
+    private static MethodSpec.Builder modifyingStatement(
+            MethodSpec.Builder methodBuilder, String jpql, boolean clearAutomatically) {
+        AnnotationSpec.Builder modifying = AnnotationSpec.builder(
+                        ClassName.get("org.springframework.data.jpa.repository", "Modifying"))
+                .addMember("flushAutomatically", "true");
+        if (clearAutomatically) {
+            modifying.addMember("clearAutomatically", "true");
+        }
+        return methodBuilder
+                .addModifiers(Modifier.PUBLIC, Modifier.ABSTRACT)
+                .addAnnotation(ClassName.get("org.springframework.transaction.annotation", "Transactional"))
+                .addAnnotation(modifying.build())
+                .addAnnotation(AnnotationSpec.builder(ClassName.get("org.springframework.data.jpa.repository", "Query"))
+                        .addMember("value", "$S", jpql)
+                        .build())
+                .returns(int.class);
+    }
+
+    private static ParameterSpec namedParameter(TypeName type, String name) {
+        return ParameterSpec.builder(type, name)
+                .addAnnotation(AnnotationSpec.builder(PARAM)
+                        .addMember("value", "$S", name)
+                        .build())
+                .build();
+    }
+
     /**
      * Adds derived query methods from the generation plan.
      *
@@ -118,15 +288,67 @@ public final class RepositoryGenerator {
      * to generate Spring Data repository query methods.</p>
      */
     private void addDerivedQueryMethods(TypeSpec.Builder repoBuilder, JpaGenerationPlan plan) {
+        Map<String, ProjectionModel> projections = new LinkedHashMap<>();
+        for (QueryMethodModel queryMethod : plan.queryMethods()) {
+            queryMethod
+                    .projectionIfPresent()
+                    .ifPresent(projection -> projections.putIfAbsent(projection.interfaceName(), projection));
+        }
+        projections.values().forEach(projection -> repoBuilder.addType(buildProjectionInterface(projection)));
+
         for (QueryMethodModel queryMethod : plan.queryMethods()) {
             addQueryMethod(repoBuilder, queryMethod, plan);
         }
     }
 
+    /**
+     * Builds a closed interface projection with one getter per projected property.
+     */
+    private TypeSpec buildProjectionInterface(ProjectionModel projection) {
+        TypeSpec.Builder projectionBuilder = TypeSpec.interfaceBuilder(projection.interfaceName())
+                .addModifiers(Modifier.PUBLIC, Modifier.STATIC)
+                .addJavadoc(
+                        "Closed projection for $L.\n", projection.domainType().render())
+                .addJavadoc("\n<p>Spring Data only selects the columns of the declared getters.</p>\n");
+
+        for (ProjectionModel.ProjectionProperty property : projection.properties()) {
+            projectionBuilder.addMethod(MethodSpec.methodBuilder(property.getterName())
+                    .addModifiers(Modifier.PUBLIC, Modifier.ABSTRACT)
+                    .returns(TypeUtils.toTypeName(property.type()))
+                    .build());
+        }
+
+        return projectionBuilder.build();
+    }
+
     /**
      * Adds a single derived query method from QueryMethodModel.
      */
     private void addQueryMethod(TypeSpec.Builder repoBuilder, QueryMethodModel queryMethod, JpaGenerationPlan plan) {
+        if (queryMethod.keysetIfPresent().isPresent()) {
+            addKeysetMethods(
+                    repoBuilder, queryMethod, queryMethod.keysetIfPresent().get(), plan);
+            return;
+        }
+        if (queryMethod.streamingIfPresent().isPresent()) {
+            addStreamingMethod(
+                    repoBuilder, queryMethod, queryMethod.streamingIfPresent().get(), plan);
+            return;
+        }
+        if (queryMethod.bulkDeleteIfPresent().isPresent()) {
+            addBulkDeleteMethod(
+                    repoBuilder, queryMethod, queryMethod.bulkDeleteIfPresent().get());
+            return;
+        }
+        if (queryMethod.partialUpdateIfPresent().isPresent()) {
+            addPartialUpdateMethod(
+                    repoBuilder,
+                    queryMethod,
+                    queryMethod.partialUpdateIfPresent().get(),
+                    plan);
+            return;
+        }
+
         MethodSpec.Builder methodBuilder =
                 MethodSpec.methodBuilder(queryMethod.methodName()).addModifiers(Modifier.PUBLIC, Modifier.ABSTRACT);
 
@@ -134,22 +356,259 @@ public final class RepositoryGenerator {
         TypeName returnType = buildReturnType(queryMethod, plan);
         methodBuilder.returns(returnType);
 
-        // Parameters
+        if (loadsAggregates(queryMethod)) {
+            plan.entityModel()
+                    .aggregateGraphNameIfPresent()
+                    .ifPresent(graphName -> methodBuilder.addAnnotation(entityGraph(graphName)));
+        }
+
+        if (queryMethod.queryType() != QueryMethodModel.QueryType.DELETE_BY
+                && plan.entityModel()
+                        .cacheIfPresent()
+                        .filter(cache -> cache.cachesQuery(queryMethod.methodName()))
+                        .isPresent()) {
+            methodBuilder.addAnnotation(queryHints(queryHint("HINT_CACHEABLE", "true")));
+        }
+
+        // Parameters: an explicit query binds the filter parameters by name
+        JpqlQueryModel jpql = queryMethod.jpqlIfPresent().orElse(null);
+        List<String> namedParameters = jpql == null
+                ? List.of()
+                : queryMethod.filterParameters().stream()
+                        .map(QueryMethodModel.QueryParameter::name)
+                        .toList();
         for (var param : queryMethod.parameters()) {
             TypeName paramType = TypeUtils.toTypeName(param.type());
-            methodBuilder.addParameter(paramType, param.name());
+            if (namedParameters.contains(param.name())) {
+                methodBuilder.addParameter(namedParameter(paramType, param.name()));
+            } else {
+                methodBuilder.addParameter(paramType, param.name());
+            }
         }
 
         // Add Javadoc
-        methodBuilder.addJavadoc("Derived query method: $L.\n", queryMethod.queryType());
+        if (jpql != null) {
+            methodBuilder.addAnnotation(explicitQuery(jpql));
+            methodBuilder.addJavadoc("Query method: $L, with an explicit JPQL query.\n", queryMethod.queryType());
+        } else {
+            methodBuilder.addJavadoc("Derived query method: $L.\n", queryMethod.queryType());
+        }
         if (!queryMethod.queryPredicate().isEmpty()) {
             methodBuilder.addJavadoc("\n<p>Query predicate: $L</p>\n", queryMethod.queryPredicate());
         }
-        methodBuilder.addJavadoc("\n<p>Spring Data automatically implements this based on method name.</p>\n");
+        if (jpql == null) {
+            methodBuilder.addJavadoc("\n<p>Spring Data automatically implements this based on method name.</p>\n");
+        }
+
+        repoBuilder.addMethod(methodBuilder.build());
+    }
+
+    /**
+     * Builds the {@code @Query} annotation of a query method with an explicit JPQL query.
+     */
+    private static AnnotationSpec explicitQuery(JpqlQueryModel jpql) {
+        AnnotationSpec.Builder query = AnnotationSpec.builder(
+                        ClassName.get("org.springframework.data.jpa.repository", "Query"))
+                .addMember("value", "$S", jpql.query());
+        jpql.countQueryIfPresent().ifPresent(countQuery -> query.addMember("countQuery", "$S", countQuery));
+        return query.build();
+    }
+
+    /**
+     * Adds the repository methods of a keyset-paginated query method.
+     *
+     * <p>SCROLL: one method returning {@code Window<Entity>}, with the port parameters.
+     * CURSOR: a first page method with the filter parameters and a {@code Limit}, and a seek
+     * method which also takes the cursor as the persistence ID type.</p>
+     */
+    private void addKeysetMethods(
+            TypeSpec.Builder repoBuilder, QueryMethodModel queryMethod, KeysetModel keyset, JpaGenerationPlan plan) {
+        TypeName elementType = resultElementType(queryMethod, plan);
+
+        if (keyset.kind() == KeysetModel.Kind.SCROLL) {
+            MethodSpec.Builder methodBuilder = MethodSpec.methodBuilder(keyset.repositoryMethodName())
+                    .addModifiers(Modifier.PUBLIC, Modifier.ABSTRACT)
+                    .returns(ParameterizedTypeName.get(
+                            ClassName.get("org.springframework.data.domain", "Window"), elementType));
+            for (var param : queryMethod.parameters()) {
+                methodBuilder.addParameter(TypeUtils.toTypeName(param.type()), param.name());
+            }
+            methodBuilder.addJavadoc(
+                    "Keyset scrolling for $L: seeks past the ScrollPosition instead of using OFFSET.\n",
+                    queryMethod.methodName());
+            repoBuilder.addMethod(methodBuilder.build());
+            return;
+        }
+
+        TypeName listType = ParameterizedTypeName.get(ClassName.get("java.util", "List"), elementType);
+        ClassName limitType = ClassName.get("org.springframework.data.domain", "Limit");
+        TypeName idType = TypeUtils.toTypeName(plan.entityModel().idModel().unwrappedType());
+
+        MethodSpec.Builder firstPageBuilder = MethodSpec.methodBuilder(keyset.repositoryMethodName())
+                .addModifiers(Modifier.PUBLIC, Modifier.ABSTRACT)
+                .returns(listType)
+                .addJavadoc("First keyset page for $L, ordered by ID.\n", queryMethod.methodName());
+        MethodSpec.Builder seekBuilder = MethodSpec.methodBuilder(keyset.seekMethodName())
+                .addModifiers(Modifier.PUBLIC, Modifier.ABSTRACT)
+                .returns(listType)
+                .addJavadoc(
+                        "Next keyset page for $L: seeks past the cursor on the primary key index.\n",
+                        queryMethod.methodName());
+
+        for (var param : queryMethod.filterParameters()) {
+            TypeName paramType = TypeUtils.toTypeName(param.type());
+            firstPageBuilder.addParameter(paramType, param.name());
+            seekBuilder.addParameter(paramType, param.name());
+        }
+        seekBuilder.addParameter(idType, keyset.cursorParameter());
+        firstPageBuilder.addParameter(limitType, keyset.limitParameter());
+        seekBuilder.addParameter(limitType, keyset.limitParameter());
+
+        repoBuilder.addMethod(firstPageBuilder.build());
+        repoBuilder.addMethod(seekBuilder.build());
+    }
+
+    /**
+     * Adds the {@code @Modifying} JPQL method of a bulk deleteBy method.
+     *
+     * <p>Like the delete by ID statement, it returns the affected-row count and flushes before the
+     * statement. The matching rows are not known, so the persistence context is also cleared after it.</p>
+     */
+    private void addBulkDeleteMethod(
+            TypeSpec.Builder repoBuilder, QueryMethodModel queryMethod, BulkDeleteModel bulkDelete) {
+        MethodSpec.Builder methodBuilder = MethodSpec.methodBuilder(queryMethod.methodName());
+        for (var param : queryMethod.parameters()) {
+            methodBuilder.addParameter(namedParameter(TypeUtils.toTypeName(param.type()), param.name()));
+        }
+        if (bulkDelete.softDelete()) {
+            methodBuilder.addParameter(
+                    namedParameter(ClassName.get("java.time", "Instant"), BulkDeleteModel.DELETED_AT_PARAMETER));
+        }
+        repoBuilder.addMethod(modifyingStatement(methodBuilder, bulkDelete.jpql(), true)
+                .addJavadoc(
+                        "Bulk $L for $L: affects every matching row without loading it.\n",
+                        bulkDelete.softDelete() ? "soft delete" : "delete",
+                        queryMethod.methodName())
+                .addJavadoc("\n@return number of rows affected\n")
+                .build());
+    }
 
+    /**
+     * Adds the {@code @Modifying} JPQL method of a partial update.
+     *
+     * <p>The ID is taken as the persistence ID type and the other parameters as their column type,
+     * the adapter unwrapping Value Objects. As for the delete by ID statement, the adapter evicts
+     * the updated aggregate instead of clearing the persistence context.</p>
+     */
+    private void addPartialUpdateMethod(
+            TypeSpec.Builder repoBuilder,
+            QueryMethodModel queryMethod,
+            PartialUpdateModel partialUpdate,
+            JpaGenerationPlan plan) {
+        MethodSpec.Builder methodBuilder = MethodSpec.methodBuilder(queryMethod.methodName());
+        for (var param : queryMethod.parameters()) {
+            TypeName paramType = param.name().equals(partialUpdate.idParameter())
+                    ? TypeUtils.toTypeName(plan.entityModel().idModel().unwrappedType())
+                    : TypeUtils.toTypeName(param.type());
+            methodBuilder.addParameter(namedParameter(paramType, param.name()));
+        }
+        if (partialUpdate.updatedAt()) {
+            methodBuilder.addParameter(
+                    namedParameter(ClassName.get("java.time", "Instant"), PartialUpdateModel.UPDATED_AT_PARAMETER));
+        }
+        repoBuilder.addMethod(modifyingStatement(methodBuilder, partialUpdate.jpql(), false)
+                .addJavadoc(
+                        "Partial update for $L: sets the given columns of one row without loading it.\n",
+                        queryMethod.methodName())
+                .addJavadoc("\n@return number of rows affected (0 or 1)\n")
+                .build());
+    }
+
+    /**
+     * Adds the {@code Stream<Entity>} repository method of a streaming query method.
+     *
+     * <p>The consumer parameter of a CONSUMER method is not passed to the repository.</p>
+     */
+    private void addStreamingMethod(
+            TypeSpec.Builder repoBuilder,
+            QueryMethodModel queryMethod,
+            StreamingModel streaming,
+            JpaGenerationPlan plan) {
+        AnnotationSpec queryHints = queryHints(
+                queryHint("HINT_FETCH_SIZE", String.valueOf(queryOptions.streamFetchSize())),
+                queryHint("HINT_READ_ONLY", "true"));
+
+        MethodSpec.Builder methodBuilder = MethodSpec.methodBuilder(streaming.repositoryMethodName())
+                .addModifiers(Modifier.PUBLIC, Modifier.ABSTRACT)
+                .addAnnotation(queryHints)
+                .returns(ParameterizedTypeName.get(
+                        ClassName.get("java.util.stream", "Stream"), resultElementType(queryMethod, plan)));
+
+        for (var param : queryMethod.parameters()) {
+            if (!streaming.isConsumerParameter(param.name())) {
+                methodBuilder.addParameter(TypeUtils.toTypeName(param.type()), param.name());
+            }
+        }
+
+        methodBuilder.addJavadoc(
+                "Streaming query for $L: fetches $L rows at a time, read-only.\n",
+                queryMethod.methodName(),
+                queryOptions.streamFetchSize());
+        methodBuilder.addJavadoc("\n<p>Must be consumed inside a transaction and closed.</p>\n");
         repoBuilder.addMethod(methodBuilder.build());
     }
 
+    /**
+     * Checks if a query method returns whole aggregates that can be loaded with the entity graph.
+     *
+     * <p>Projections select columns only, and paginated or limited methods (Pageable, Limit) must limit rows in the database.</p>
+     */
+    private static boolean loadsAggregates(QueryMethodModel queryMethod) {
+        return (queryMethod.queryType() == QueryMethodModel.QueryType.FIND_BY
+                        || queryMethod.queryType() == QueryMethodModel.QueryType.FIND_ALL)
+                && queryMethod.projectionIfPresent().isEmpty()
+                && !queryMethod.hasPagination()
+                && !queryMethod.returnsPage()
+                && queryMethod.parameters().stream()
+                        .noneMatch(param -> param.type().render().equals("org.springframework.data.domain.Limit"));
+    }
+
+    private static AnnotationSpec queryHints(AnnotationSpec... hints) {
+        AnnotationSpec.Builder queryHints =
+                AnnotationSpec.builder(ClassName.get("org.springframework.data.jpa.repository", "QueryHints"));
+        for (AnnotationSpec hint : hints) {
+            queryHints.addMember("value", "$L", hint);
+        }
+        return queryHints.build();
+    }
+
+    /**
+     * Builds a {@code @QueryHint} named after a {@code HibernateHints} constant.
+     */
+    private static AnnotationSpec queryHint(String hibernateHint, String value) {
+        return AnnotationSpec.builder(ClassName.get("jakarta.persistence", "QueryHint"))
+                .addMember("name", "$T.$L", HIBERNATE_HINTS, hibernateHint)
+                .addMember("value", "$S", value)
+                .build();
+    }
+
+    private static AnnotationSpec entityGraph(String graphName) {
+        return AnnotationSpec.builder(ClassName.get("org.springframework.data.jpa.repository", "EntityGraph"))
+                .addMember("value", "$S", graphName)
+                .build();
+    }
+
+    /**
+     * Gets the result element type: the projection interface if any, the entity otherwise.
+     */
+    private TypeName resultElementType(QueryMethodModel queryMethod, JpaGenerationPlan plan) {
+        return queryMethod
+                .projectionIfPresent()
+                .map(projection -> (TypeName)
+                        ClassName.bestGuess(plan.springDataRepoQualifiedName()).nestedClass(projection.interfaceName()))
+                .orElseGet(() -> ClassName.bestGuess(plan.entityQualifiedName()));
+    }
+
     /**
      * Builds the return type for a query method.
      *
@@ -161,11 +620,13 @@ public final class RepositoryGenerator {
      *   <li>FIND_BY with Optional → Optional&lt;Entity&gt;</li>
      *   <li>FIND_BY with List → List&lt;Entity&gt;</li>
      *   <li>FIND_BY with Page → Page&lt;Entity&gt;</li>
+     *   <li>FIND_BY with Slice or offset Window → Slice&lt;Entity&gt;, without count query</li>
      *   <li>FIND_BY single → Entity</li>
+     *   <li>FIND_BY with a projection → the projection interface instead of Entity</li>
      * </ul>
      */
     private TypeName buildReturnType(QueryMethodModel queryMethod, JpaGenerationPlan plan) {
-        TypeName entityType = ClassName.bestGuess(plan.entityQualifiedName());
+        TypeName entityType = resultElementType(queryMethod, plan);
 
         switch (queryMethod.queryType()) {
             case EXISTS_BY:
@@ -184,6 +645,9 @@ public final class RepositoryGenerator {
                 } else if (queryMethod.returnsPage()) {
                     return ParameterizedTypeName.get(
                             ClassName.get("org.springframework.data.domain", "Page"), entityType);
+                } else if (queryMethod.returnsSlice()) {
+                    return ParameterizedTypeName.get(
+                            ClassName.get("org.springframework.data.domain", "Slice"), entityType);
                 } else if (queryMethod.returnsList()) {
                     return ParameterizedTypeName.get(ClassName.get("java.util", "List"), entityType);
                 } else {
@@ -0,0 +1,208 @@
+/**
+ * This Source Code Form is part of the HexaGlue project.
+ * Copyright (c) 2025 Scalastic
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ *
+ * Commercial licensing options are available for organizations wishing
+ * to use HexaGlue under terms different from the MPL 2.0.
+ * Contact: info@hexaglue.io
+ */
+package io.hexaglue.plugin.jpa.generator;
+
+import com.palantir.javapoet.AnnotationSpec;
+import com.palantir.javapoet.ClassName;
+import com.palantir.javapoet.CodeBlock;
+import com.palantir.javapoet.FieldSpec;
+import com.palantir.javapoet.JavaFile;
+import com.palantir.javapoet.MethodSpec;
+import com.palantir.javapoet.ParameterizedTypeName;
+import com.palantir.javapoet.TypeName;
+import com.palantir.javapoet.TypeSpec;
+import io.hexaglue.plugin.jpa.generator.SupportClassRegistry.Kind;
+import io.hexaglue.plugin.jpa.generator.SupportClassRegistry.SupportClass;
+import io.hexaglue.spi.codegen.MergeMode;
+import io.hexaglue.spi.codegen.SourceFile;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import javax.lang.model.element.Modifier;
+
+/**
+ * Generates the Spring configuration registering GraalVM native image hints for the generated
+ * classes.
+ *
+ * <p>A native image only keeps the reflective access registered at build time. The generated
+ * configuration imports a {@code RuntimeHintsRegistrar} that registers:</p>
+ * <ul>
+ *   <li>Entities and embeddables: declared constructors, fields and methods, which Hibernate
+ *       uses to instantiate them, access their fields and invoke their lifecycle callbacks</li>
+ *   <li>Converters: declared constructors and public methods</li>
+ *   <li>MapStruct mapper implementations ({@code <Mapper>Impl}): declared constructors</li>
+ *   <li>Composite ID embeddables: Java serialization, since they implement {@code Serializable}</li>
+ * </ul>
+ *
+ * <p>Spring AOT processes the registrar during the native build and writes the matching
+ * {@code reflect-config.json} and {@code serialization-config.json}. Repository proxies are
+ * already contributed by Spring Data AOT.</p>
+ *
+ * <h2>Generated Code Example</h2>
+ * <pre>{@code
+ * @Configuration(proxyBeanMethods = false)
+ * @ImportRuntimeHints(JpaRuntimeHintsConfiguration.PersistenceHints.class)
+ * public class JpaRuntimeHintsConfiguration {
+ *
+ *     public static class PersistenceHints implements RuntimeHintsRegistrar {
+ *
+ *         private static final List<String> PERSISTENT_TYPES = List.of(
+ *                 "com.example.infrastructure.persistence.entity.OrderEntity");
+ *
+ *         @Override
+ *         public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+ *             PERSISTENT_TYPES.forEach(type -> hints.reflection().registerType(TypeReference.of(type),
+ *                     MemberCategory.INVOKE_DECLARED_CONSTRUCTORS, MemberCategory.DECLARED_FIELDS,
+ *                     MemberCategory.INVOKE_DECLARED_METHODS));
+ *             // converters, mappers and serializable types
+ *         }
+ *     }
+ * }
+ * }</pre>
+ *
+ * @since 0.4.0
+ */
+public final class RuntimeHintsConfigurationGenerator {
+
+    private static final String SIMPLE_NAME = "JpaRuntimeHintsConfiguration";
+    private static final String REGISTRAR_NAME = "PersistenceHints";
+
+    private static final ClassName MEMBER_CATEGORY = ClassName.get("org.springframework.aot.hint", "MemberCategory");
+    private static final ClassName TYPE_REFERENCE = ClassName.get("org.springframework.aot.hint", "TypeReference");
+
+    private final String basePackage;
+
+    public RuntimeHintsConfigurationGenerator(String basePackage) {
+        this.basePackage = Objects.requireNonNull(basePackage, "basePackage");
+    }
+
+    /**
+     * Returns the qualified name of the generated configuration class.
+     *
+     * @return configuration qualified name
+     */
+    public String qualifiedName() {
+        return basePackage + ".config." + SIMPLE_NAME;
+    }
+
+    /**
+     * Generates the runtime hints configuration.
+     *
+     * @param entityNames qualified names of the generated entities
+     * @param supportClasses generated embeddables and converters
+     * @param mapperNames qualified names of the generated mapper interfaces
+     * @param mergeMode merge mode for file generation
+     * @return source file containing the configuration class
+     */
+    public SourceFile generate(
+            List<String> entityNames,
+            List<SupportClass> supportClasses,
+            List<String> mapperNames,
+            MergeMode mergeMode) {
+        Objects.requireNonNull(entityNames, "entityNames");
+        Objects.requireNonNull(supportClasses, "supportClasses");
+        Objects.requireNonNull(mapperNames, "mapperNames");
+        Objects.requireNonNull(mergeMode, "mergeMode");
+
+        List<String> persistentTypes = new ArrayList<>(entityNames);
+        supportClasses.stream()
+                .filter(supportClass -> supportClass.kind() == Kind.EMBEDDABLE)
+                .map(supportClass -> supportClass.qualifiedName(basePackage))
+                .forEach(persistentTypes::add);
+        List<String> converters = supportClasses.stream()
+                .filter(supportClass -> supportClass.kind() == Kind.CONVERTER)
+                .map(supportClass -> supportClass.qualifiedName(basePackage))
+                .toList();
+        List<String> mapperImplementations = mapperNames.stream()
+                .map(name -> name + MapperGenerator.IMPLEMENTATION_SUFFIX)
+                .toList();
+        List<String> serializableTypes = supportClasses.stream()
+                .filter(SupportClass::compositeId)
+                .map(supportClass -> supportClass.qualifiedName(basePackage))
+                .toList();
+
+        ClassName registrarType = ClassName.get(basePackage + ".config", SIMPLE_NAME, REGISTRAR_NAME);
+        TypeSpec registrar = TypeSpec.classBuilder(REGISTRAR_NAME)
+                .addModifiers(Modifier.PUBLIC, Modifier.STATIC)
+                .addSuperinterface(ClassName.get("org.springframework.aot.hint", "RuntimeHintsRegistrar"))
+                .addJavadoc("Registers the reflection and serialization hints of the generated classes.\n")
+                .addField(typeList("PERSISTENT_TYPES", persistentTypes))
+                .addField(typeList("CONVERTERS", converters))
+                .addField(typeList("MAPPER_IMPLEMENTATIONS", mapperImplementations))
+                .addField(typeList("SERIALIZABLE_TYPES", serializableTypes))
+                .addMethod(MethodSpec.methodBuilder("registerHints")
+                        .addAnnotation(Override.class)
+                        .addModifiers(Modifier.PUBLIC)
+                        .addParameter(ClassName.get("org.springframework.aot.hint", "RuntimeHints"), "hints")
+                        .addParameter(ClassLoader.class, "classLoader")
+                        .addStatement(registerTypes(
+                                "PERSISTENT_TYPES",
+                                "INVOKE_DECLARED_CONSTRUCTORS",
+                                "DECLARED_FIELDS",
+                                "INVOKE_DECLARED_METHODS"))
+                        .addStatement(
+                                registerTypes("CONVERTERS", "INVOKE_DECLARED_CONSTRUCTORS", "INVOKE_PUBLIC_METHODS"))
+                        .addStatement(registerTypes("MAPPER_IMPLEMENTATIONS", "INVOKE_DECLARED_CONSTRUCTORS"))
+                        .addStatement(
+                                "SERIALIZABLE_TYPES.forEach(type -> hints.serialization().registerType($T.of(type)))",
+                                TYPE_REFERENCE)
+                        .build())
+                .build();
+
+        TypeSpec configuration = TypeSpec.classBuilder(SIMPLE_NAME)
+                .addModifiers(Modifier.PUBLIC)
+                .addJavadoc("Registers GraalVM native image hints for the persistence classes generated by HexaGlue.\n")
+                .addJavadoc("\n<p>Generated by HexaGlue JPA plugin.</p>\n")
+                .addAnnotation(
+                        AnnotationSpec.builder(ClassName.get("org.springframework.context.annotation", "Configuration"))
+                                .addMember("proxyBeanMethods", "$L", false)
+                                .build())
+                .addAnnotation(AnnotationSpec.builder(
+                                ClassName.get("org.springframework.context.annotation", "ImportRuntimeHints"))
+                        .addMember("value", "$T.class", registrarType)
+                        .build())
+                .addType(registrar)
+                .build();
+
+        JavaFile javaFile =
+                JavaFile.builder(basePackage + ".config", configuration).build();
+
+        return SourceFile.builder()
+                .qualifiedTypeName(qualifiedName())
+                .content(javaFile.toString())
+                .mergeMode(mergeMode)
+                .build();
+    }
+
+    private static FieldSpec typeList(String name, List<String> typeNames) {
+        TypeName listOfString = ParameterizedTypeName.get(List.class, String.class);
+        return FieldSpec.builder(listOfString, name, Modifier.PRIVATE, Modifier.STATIC, Modifier.FINAL)
+                .initializer(ManagedTypesConfigurationGenerator.stringList(typeNames))
+                .build();
+    }
+
+    /**
+     * Renders the registration of the reflection hints of every type of a list.
+     */
+    private static CodeBlock registerTypes(String listName, String... memberCategories) {
+        CodeBlock.Builder categories = CodeBlock.builder();
+        for (int i = 0; i < memberCategories.length; i++) {
+            categories.add(i == 0 ? "$T.$L" : ", $T.$L", MEMBER_CATEGORY, memberCategories[i]);
+        }
+        return CodeBlock.of(
+                "$L.forEach(type -> hints.reflection().registerType($T.of(type), $L))",
+                listName,
+                TYPE_REFERENCE,
+                categories.build());
+    }
+}
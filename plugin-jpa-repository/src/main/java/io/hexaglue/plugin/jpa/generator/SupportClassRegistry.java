@@ -0,0 +1,217 @@
+/**
+ * This Source Code Form is part of the HexaGlue project.
+ * Copyright (c) 2025 Scalastic
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ *
+ * Commercial licensing options are available for organizations wishing
+ * to use HexaGlue under terms different from the MPL 2.0.
+ * Contact: info@hexaglue.io
+ */
+package io.hexaglue.plugin.jpa.generator;
+
+import io.hexaglue.spi.ir.domain.DomainTypeView;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Run-wide registry of the Value Object support classes (embeddables and converters) to generate.
+ *
+ * <p>Value Objects such as {@code Money} or {@code Address} are typically shared by many
+ * aggregates. Ports only <em>register</em> the support classes they need; the plugin renders
+ * and writes each registered class exactly once, after all ports have been processed.</p>
+ *
+ * <h2>Merging</h2>
+ * <p>An embeddable used as a composite ID by one aggregate and as a plain embedded value by
+ * another is generated once, in its composite form (Serializable with equals/hashCode), which
+ * is valid for both usages.</p>
+ *
+ * <h2>Incremental Generation</h2>
+ * <p>Support classes of ports skipped because they are up to date are registered with
+ * {@link #registerExisting(SupportClass)}: they take part in merging but are only rendered again
+ * if a regenerated port also needs them.</p>
+ *
+ * <p>The registry is safe for concurrent registration from port workers.</p>
+ *
+ * @since 0.4.0
+ */
+public final class SupportClassRegistry {
+
+    /**
+     * Kind of support class.
+     */
+    public enum Kind {
+        /** {@code @Embeddable} class for a multi-field Value Object */
+        EMBEDDABLE,
+        /** {@code AttributeConverter} for a single-field Value Object */
+        CONVERTER
+    }
+
+    private final ConcurrentMap<String, Entry> entries = new ConcurrentHashMap<>();
+
+    /**
+     * Registers a support class needed by a port being generated.
+     *
+     * @param kind support class kind
+     * @param valueObject Value Object the support class is generated for
+     * @param compositeId true if the embeddable is used as a composite ID (ignored for converters)
+     * @return descriptor of the registered support class
+     */
+    public SupportClass register(Kind kind, DomainTypeView valueObject, boolean compositeId) {
+        Objects.requireNonNull(kind, "kind");
+        Objects.requireNonNull(valueObject, "valueObject");
+        SupportClass supportClass =
+                new SupportClass(kind, valueObject.qualifiedName(), kind == Kind.EMBEDDABLE && compositeId);
+        entries.merge(supportClass.key(), new Entry(supportClass, valueObject), Entry::merge);
+        return supportClass;
+    }
+
+    /**
+     * Registers a support class generated by a previous run for a port that is up to date.
+     *
+     * @param supportClass previously generated support class
+     */
+    public void registerExisting(SupportClass supportClass) {
+        Objects.requireNonNull(supportClass, "supportClass");
+        entries.merge(supportClass.key(), new Entry(supportClass, null), Entry::merge);
+    }
+
+    /**
+     * Returns the support classes to render, sorted by kind and Value Object name.
+     *
+     * <p>Only classes registered by at least one port being generated are returned.</p>
+     *
+     * @return support classes to render, each with its Value Object
+     */
+    public List<PendingSupportClass> pending() {
+        return entries.values().stream()
+                .filter(entry -> entry.valueObject() != null)
+                .map(entry -> new PendingSupportClass(entry.supportClass(), entry.valueObject()))
+                .sorted(Comparator.comparing((PendingSupportClass pending) ->
+                                pending.supportClass().kind())
+                        .thenComparing(pending -> pending.supportClass().valueObjectName()))
+                .toList();
+    }
+
+    /**
+     * Returns every registered support class, sorted by kind and Value Object name.
+     *
+     * <p>Unlike {@link #pending()}, classes registered by up-to-date ports only are included.</p>
+     *
+     * @return registered support classes
+     */
+    public List<SupportClass> all() {
+        return entries.values().stream()
+                .map(Entry::supportClass)
+                .sorted(Comparator.comparing(SupportClass::kind).thenComparing(SupportClass::valueObjectName))
+                .toList();
+    }
+
+    /**
+     * Returns the number of distinct support classes registered.
+     *
+     * @return registry size
+     */
+    public int size() {
+        return entries.size();
+    }
+
+    /**
+     * Identifies a generated support class.
+     *
+     * @param kind support class kind
+     * @param valueObjectName qualified name of the Value Object
+     * @param compositeId true for an embeddable used as a composite ID
+     */
+    public record SupportClass(Kind kind, String valueObjectName, boolean compositeId) {
+
+        private static final String COMPOSITE_SUFFIX = ":composite";
+
+        public SupportClass {
+            Objects.requireNonNull(kind, "kind");
+            Objects.requireNonNull(valueObjectName, "valueObjectName");
+        }
+
+        /**
+         * Returns a compact textual form, as stored in the incremental manifest.
+         *
+         * @return encoded support class, e.g. {@code EMBEDDABLE:com.example.OrderId:composite}
+         */
+        public String encode() {
+            return kind.name() + ":" + valueObjectName + (compositeId ? COMPOSITE_SUFFIX : "");
+        }
+
+        /**
+         * Returns the qualified name of the generated class.
+         *
+         * @param basePackage base package of the generated infrastructure code
+         * @return qualified name, e.g. {@code com.example.infra.embeddable.MoneyEmbeddable}
+         */
+        public String qualifiedName(String basePackage) {
+            Objects.requireNonNull(basePackage, "basePackage");
+            String simpleName = valueObjectName.substring(valueObjectName.lastIndexOf('.') + 1);
+            return switch (kind) {
+                case EMBEDDABLE -> basePackage + ".embeddable." + simpleName + "Embeddable";
+                case CONVERTER -> basePackage + ".converter." + simpleName + "Converter";
+            };
+        }
+
+        /**
+         * Parses the textual form produced by {@link #encode()}.
+         *
+         * @param encoded encoded support class
+         * @return support class, or empty if the text is malformed
+         */
+        public static Optional<SupportClass> decode(String encoded) {
+            Objects.requireNonNull(encoded, "encoded");
+            int separator = encoded.indexOf(':');
+            if (separator <= 0) {
+                return Optional.empty();
+            }
+            Kind kind;
+            try {
+                kind = Kind.valueOf(encoded.substring(0, separator));
+            } catch (IllegalArgumentException e) {
+                return Optional.empty();
+            }
+            String name = encoded.substring(separator + 1);
+            boolean composite = name.endsWith(COMPOSITE_SUFFIX);
+            if (composite) {
+                name = name.substring(0, name.length() - COMPOSITE_SUFFIX.length());
+            }
+            return name.isEmpty() ? Optional.empty() : Optional.of(new SupportClass(kind, name, composite));
+        }
+
+        private String key() {
+            return kind.name() + ":" + valueObjectName;
+        }
+    }
+
+    /**
+     * Support class to render, with the Value Object it is generated from.
+     *
+     * @param supportClass support class, with the merged composite flag
+     * @param valueObject Value Object to generate the class from
+     */
+    public record PendingSupportClass(SupportClass supportClass, DomainTypeView valueObject) {}
+
+    /**
+     * Registry entry. The Value Object is null until a port being generated registers the class.
+     */
+    private record Entry(SupportClass supportClass, DomainTypeView valueObject) {
+
+        Entry merge(Entry other) {
+            boolean compositeId =
+                    supportClass.compositeId() || other.supportClass().compositeId();
+            return new Entry(
+                    new SupportClass(supportClass.kind(), supportClass.valueObjectName(), compositeId),
+                    valueObject != null ? valueObject : other.valueObject());
+        }
+    }
+}
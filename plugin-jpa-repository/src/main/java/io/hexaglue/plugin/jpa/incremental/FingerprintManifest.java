@@ -0,0 +1,222 @@
+/**
+ * This Source Code Form is part of the HexaGlue project.
+ * Copyright (c) 2025 Scalastic
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ *
+ * Commercial licensing options are available for organizations wishing
+ * to use HexaGlue under terms different from the MPL 2.0.
+ * Contact: info@hexaglue.io
+ */
+package io.hexaglue.plugin.jpa.incremental;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.TreeMap;
+
+/**
+ * On-disk record of the port fingerprints of the last successful generation.
+ *
+ * <p>The manifest is a plain text file with one {@code <port qualified name>=<fingerprint>}
+ * line per port, sorted by port name so that it is stable across runs. It is followed by a
+ * {@code <port qualified name>#supportClasses=<a>,<b>} line when the port needed shared support
+ * classes (embeddables, converters), and by a {@code <port qualified name>#artifacts=<a>,<b>}
+ * line listing the qualified names of the source files generated for the port. Lines starting
+ * with {@code #} are comments.</p>
+ *
+ * <p>Instances are immutable.</p>
+ *
+ * @since 0.4.0
+ */
+public final class FingerprintManifest {
+
+    private static final String HEADER = "# HexaGlue JPA plugin - port fingerprints (generated, do not edit)";
+    private static final String SUPPORT_CLASSES_SUFFIX = "#supportClasses";
+    private static final String ARTIFACTS_SUFFIX = "#artifacts";
+
+    private final Map<String, String> fingerprints;
+    private final Map<String, List<String>> supportClasses;
+    private final Map<String, List<String>> artifacts;
+
+    /**
+     * Creates a manifest from port fingerprints.
+     *
+     * @param fingerprints fingerprints keyed by port qualified name
+     */
+    public FingerprintManifest(Map<String, String> fingerprints) {
+        this(fingerprints, Map.of());
+    }
+
+    /**
+     * Creates a manifest from port fingerprints and the support classes each port needed.
+     *
+     * @param fingerprints fingerprints keyed by port qualified name
+     * @param supportClasses encoded support classes keyed by port qualified name
+     */
+    public FingerprintManifest(Map<String, String> fingerprints, Map<String, List<String>> supportClasses) {
+        this(fingerprints, supportClasses, Map.of());
+    }
+
+    /**
+     * Creates a manifest from port fingerprints, the support classes and the source files of each port.
+     *
+     * @param fingerprints fingerprints keyed by port qualified name
+     * @param supportClasses encoded support classes keyed by port qualified name
+     * @param artifacts qualified names of the generated source files keyed by port qualified name
+     */
+    public FingerprintManifest(
+            Map<String, String> fingerprints,
+            Map<String, List<String>> supportClasses,
+            Map<String, List<String>> artifacts) {
+        this.fingerprints = Map.copyOf(Objects.requireNonNull(fingerprints, "fingerprints"));
+        this.supportClasses = Map.copyOf(Objects.requireNonNull(supportClasses, "supportClasses"));
+        this.artifacts = Map.copyOf(Objects.requireNonNull(artifacts, "artifacts"));
+    }
+
+    /**
+     * Returns a manifest with no entry.
+     *
+     * @return empty manifest
+     */
+    public static FingerprintManifest empty() {
+        return new FingerprintManifest(Map.of());
+    }
+
+    /**
+     * Reads a manifest from disk.
+     *
+     * @param path manifest file
+     * @return manifest, empty if the file does not exist
+     * @throws IOException if the file exists but cannot be read
+     */
+    public static FingerprintManifest read(Path path) throws IOException {
+        Objects.requireNonNull(path, "path");
+        if (!Files.isRegularFile(path)) {
+            return empty();
+        }
+
+        Map<String, String> fingerprints = new TreeMap<>();
+        Map<String, List<String>> supportClasses = new TreeMap<>();
+        Map<String, List<String>> artifacts = new TreeMap<>();
+        for (String line : Files.readAllLines(path, StandardCharsets.UTF_8)) {
+            String trimmed = line.trim();
+            if (trimmed.isEmpty() || trimmed.startsWith("#")) {
+                continue;
+            }
+            int separator = trimmed.indexOf('=');
+            if (separator <= 0) {
+                continue;
+            }
+            String key = trimmed.substring(0, separator);
+            String value = trimmed.substring(separator + 1);
+            if (key.endsWith(SUPPORT_CLASSES_SUFFIX)) {
+                String port = key.substring(0, key.length() - SUPPORT_CLASSES_SUFFIX.length());
+                supportClasses.put(port, List.of(value.split(",")));
+            } else if (key.endsWith(ARTIFACTS_SUFFIX)) {
+                String port = key.substring(0, key.length() - ARTIFACTS_SUFFIX.length());
+                artifacts.put(port, List.of(value.split(",")));
+            } else {
+                fingerprints.put(key, value);
+            }
+        }
+        return new FingerprintManifest(fingerprints, supportClasses, artifacts);
+    }
+
+    /**
+     * Writes the manifest to disk, creating parent directories as needed.
+     *
+     * <p>The file is written to a temporary sibling first and then moved into place, so an
+     * interrupted build never leaves a truncated manifest behind.</p>
+     *
+     * @param path manifest file
+     * @throws IOException if the file cannot be written
+     */
+    public void write(Path path) throws IOException {
+        Objects.requireNonNull(path, "path");
+        Path absolute = path.toAbsolutePath();
+        Files.createDirectories(absolute.getParent());
+
+        List<String> lines = new ArrayList<>(fingerprints.size() + 1);
+        lines.add(HEADER);
+        new TreeMap<>(fingerprints).forEach((port, fingerprint) -> {
+            lines.add(port + "=" + fingerprint);
+            List<String> portSupportClasses = supportClasses(port);
+            if (!portSupportClasses.isEmpty()) {
+                lines.add(port + SUPPORT_CLASSES_SUFFIX + "=" + String.join(",", portSupportClasses));
+            }
+            List<String> portArtifacts = artifacts(port);
+            if (!portArtifacts.isEmpty()) {
+                lines.add(port + ARTIFACTS_SUFFIX + "=" + String.join(",", portArtifacts));
+            }
+        });
+
+        Path temp = absolute.resolveSibling(absolute.getFileName() + ".tmp");
+        Files.write(temp, lines, StandardCharsets.UTF_8);
+        try {
+            Files.move(temp, absolute, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(temp, absolute, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * Returns the recorded fingerprint of a port.
+     *
+     * @param portQualifiedName port qualified name
+     * @return fingerprint, or empty if the port is not recorded
+     */
+    public Optional<String> fingerprint(String portQualifiedName) {
+        return Optional.ofNullable(fingerprints.get(portQualifiedName));
+    }
+
+    /**
+     * Returns true if the port is recorded with exactly the given fingerprint.
+     *
+     * @param portQualifiedName port qualified name
+     * @param fingerprint current fingerprint of the port
+     * @return true if the port is up to date
+     */
+    public boolean isUpToDate(String portQualifiedName, String fingerprint) {
+        return fingerprint.equals(fingerprints.get(portQualifiedName));
+    }
+
+    /**
+     * Returns the support classes a port needed when it was last generated.
+     *
+     * @param portQualifiedName port qualified name
+     * @return encoded support classes, empty if none
+     */
+    public List<String> supportClasses(String portQualifiedName) {
+        return supportClasses.getOrDefault(portQualifiedName, List.of());
+    }
+
+    /**
+     * Returns the source files generated for a port by the run that recorded it.
+     *
+     * @param portQualifiedName port qualified name
+     * @return qualified names of the generated source files, empty if not recorded
+     */
+    public List<String> artifacts(String portQualifiedName) {
+        return artifacts.getOrDefault(portQualifiedName, List.of());
+    }
+
+    /**
+     * Returns the recorded fingerprints.
+     *
+     * @return immutable map keyed by port qualified name
+     */
+    public Map<String, String> fingerprints() {
+        return fingerprints;
+    }
+}
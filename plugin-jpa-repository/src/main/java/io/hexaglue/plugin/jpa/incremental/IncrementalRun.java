@@ -0,0 +1,165 @@
+/**
+ * This Source Code Form is part of the HexaGlue project.
+ * Copyright (c) 2025 Scalastic
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ *
+ * Commercial licensing options are available for organizations wishing
+ * to use HexaGlue under terms different from the MPL 2.0.
+ * Contact: info@hexaglue.io
+ */
+package io.hexaglue.plugin.jpa.incremental;
+
+import io.hexaglue.spi.ir.ports.PortView;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
+/**
+ * Incremental state of a single generation run.
+ *
+ * <p>Compares the current port fingerprints with the manifest of the previous run, and tracks
+ * which ports completed successfully so that only those are recorded in the next manifest.
+ * A port that failed is left out and therefore regenerated on the next run.</p>
+ *
+ * <p>A port whose fingerprint is unchanged is still regenerated if one of the source files
+ * recorded for it is missing from the output directory, e.g. after the generated sources were
+ * deleted while the manifest was kept.</p>
+ *
+ * <p>This class is used by the calling thread only and is not thread-safe.</p>
+ *
+ * @since 0.4.0
+ */
+public final class IncrementalRun {
+
+    private static final IncrementalRun DISABLED =
+            new IncrementalRun(FingerprintManifest.empty(), Map.of(), Set.of(), false);
+
+    private final FingerprintManifest previous;
+    private final Map<String, String> current;
+    private final Set<String> upToDate;
+    private final boolean enabled;
+    private final Map<String, List<String>> completedSupportClasses = new HashMap<>();
+    private final Map<String, List<String>> completedArtifacts = new HashMap<>();
+
+    private IncrementalRun(
+            FingerprintManifest previous, Map<String, String> current, Set<String> upToDate, boolean enabled) {
+        this.previous = Objects.requireNonNull(previous, "previous");
+        this.current = Map.copyOf(Objects.requireNonNull(current, "current"));
+        this.upToDate = Set.copyOf(Objects.requireNonNull(upToDate, "upToDate"));
+        this.enabled = enabled;
+    }
+
+    /**
+     * Creates an incremental run.
+     *
+     * @param previous manifest of the previous run
+     * @param current current fingerprints keyed by port qualified name
+     * @param outputDirectory directory the generated sources are written to
+     * @return incremental run
+     */
+    public static IncrementalRun of(FingerprintManifest previous, Map<String, String> current, Path outputDirectory) {
+        Objects.requireNonNull(outputDirectory, "outputDirectory");
+        Set<String> upToDate = current.entrySet().stream()
+                .filter(entry -> previous.isUpToDate(entry.getKey(), entry.getValue()))
+                .map(Map.Entry::getKey)
+                .filter(port -> artifactsPresent(previous.artifacts(port), outputDirectory))
+                .collect(Collectors.toSet());
+        return new IncrementalRun(previous, current, upToDate, true);
+    }
+
+    /**
+     * Returns a run for which every port is considered stale and nothing is recorded.
+     *
+     * @return disabled incremental run
+     */
+    public static IncrementalRun disabled() {
+        return DISABLED;
+    }
+
+    /**
+     * Returns true if incremental generation is enabled for this run.
+     *
+     * @return true if enabled
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Returns true if the port did not change since the previous run and its generated source
+     * files are all still present.
+     *
+     * @param port repository port
+     * @return true if the port can be skipped
+     */
+    public boolean isUpToDate(PortView port) {
+        return upToDate.contains(port.qualifiedName());
+    }
+
+    /**
+     * Returns the support classes the port needed when it was last generated.
+     *
+     * @param port repository port
+     * @return encoded support classes recorded in the previous manifest
+     */
+    public List<String> previousSupportClasses(PortView port) {
+        return previous.supportClasses(port.qualifiedName());
+    }
+
+    /**
+     * Returns the source files generated for the port when it was last generated.
+     *
+     * @param port repository port
+     * @return qualified names of the source files recorded in the previous manifest
+     */
+    public List<String> previousArtifacts(PortView port) {
+        return previous.artifacts(port.qualifiedName());
+    }
+
+    /**
+     * Marks a port as successfully generated (or skipped because up to date).
+     *
+     * @param port repository port
+     * @param supportClasses encoded support classes the port needs
+     * @param artifacts qualified names of the source files generated for the port
+     */
+    public void completed(PortView port, List<String> supportClasses, List<String> artifacts) {
+        if (enabled) {
+            completedSupportClasses.put(port.qualifiedName(), List.copyOf(supportClasses));
+            completedArtifacts.put(port.qualifiedName(), List.copyOf(artifacts));
+        }
+    }
+
+    /**
+     * Returns the manifest to persist for the next run.
+     *
+     * @return manifest with the fingerprints of all completed ports
+     */
+    public FingerprintManifest nextManifest() {
+        Map<String, String> fingerprints = new TreeMap<>();
+        completedArtifacts.keySet().forEach(port -> fingerprints.put(port, current.get(port)));
+        return new FingerprintManifest(fingerprints, completedSupportClasses, completedArtifacts);
+    }
+
+    /**
+     * Checks that every recorded source file exists. A port recorded without any source file
+     * (manifest written by an older version) is considered stale.
+     */
+    private static boolean artifactsPresent(List<String> artifacts, Path outputDirectory) {
+        return !artifacts.isEmpty()
+                && artifacts.stream().allMatch(name -> Files.isRegularFile(sourceFile(outputDirectory, name)));
+    }
+
+    private static Path sourceFile(Path outputDirectory, String qualifiedName) {
+        return outputDirectory.resolve(qualifiedName.replace('.', '/') + ".java");
+    }
+}
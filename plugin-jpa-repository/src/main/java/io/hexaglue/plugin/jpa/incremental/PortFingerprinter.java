@@ -0,0 +1,225 @@
+/**
+ * This Source Code Form is part of the HexaGlue project.
+ * Copyright (c) 2025 Scalastic
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ *
+ * Commercial licensing options are available for organizations wishing
+ * to use HexaGlue under terms different from the MPL 2.0.
+ * Contact: info@hexaglue.io
+ */
+package io.hexaglue.plugin.jpa.incremental;
+
+import io.hexaglue.plugin.jpa.analysis.DomainTypeIndex;
+import io.hexaglue.spi.ir.domain.DomainPropertyView;
+import io.hexaglue.spi.ir.domain.DomainTypeView;
+import io.hexaglue.spi.ir.ports.PortMethodView;
+import io.hexaglue.spi.ir.ports.PortParameterView;
+import io.hexaglue.spi.ir.ports.PortView;
+import io.hexaglue.spi.options.OptionsView;
+import io.hexaglue.spi.options.PropertyMetadataHelper;
+import io.hexaglue.spi.types.CollectionMetadata;
+import io.hexaglue.spi.types.ParameterizedRef;
+import io.hexaglue.spi.types.TypeRef;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+/**
+ * Computes a stable fingerprint of everything that influences the artifacts of a port.
+ *
+ * <p>The fingerprint is a SHA-256 digest over:</p>
+ * <ul>
+ *   <li>The plugin configuration (plugin version and resolved options)</li>
+ *   <li>The port signature: qualified name, method names, parameter and return types</li>
+ *   <li>The per-port YAML options</li>
+ *   <li>The transitive closure of domain types reachable from the port: kind, property names and types</li>
+ *   <li>The per-type and per-property YAML options of every type in the closure</li>
+ * </ul>
+ *
+ * <p>Two runs producing the same fingerprint for a port generate the same files for that port,
+ * which is what allows incremental generation to skip it.</p>
+ *
+ * <h2>Per-port and Per-type Options</h2>
+ * <p>Options are looked up by key, so any new {@code ports.<fqcn>.*} or {@code types.<fqcn>.*}
+ * option read by the analyzers must also be listed in {@link #PORT_OPTION_KEYS},
+ * {@link #METHOD_OPTION_KEYS}, {@link #TYPE_OPTION_KEYS}, {@link #PROPERTY_OPTION_KEYS} or
+ * {@link #RELATIONSHIP_OPTION_KEYS},
+ * otherwise changing it would not invalidate the fingerprint.</p>
+ *
+ * @since 0.4.0
+ */
+public final class PortFingerprinter {
+
+    /** Keys read as {@code ports.<fqcn>.<key>}. */
+    static final List<String> PORT_OPTION_KEYS = List.of("generateTransactions");
+
+    /** Keys read as {@code ports.<fqcn>.methods.<method>.<key>}. */
+    static final List<String> METHOD_OPTION_KEYS = List.of("countQuery");
+
+    /** Keys read as {@code types.<fqcn>.<key>}. */
+    static final List<String> TYPE_OPTION_KEYS = List.of(
+            "tableName",
+            "sequenceName",
+            "sequenceAllocationSize",
+            "sequenceOptimizer",
+            "cache.strategy",
+            "cache.region",
+            "cache.collections",
+            "cache.queries",
+            "indexes",
+            "dynamicUpdate",
+            "newEntityDetection");
+
+    /** Keys read as {@code types.<fqcn>.properties.<property>.<key>}. */
+    static final List<String> PROPERTY_OPTION_KEYS = List.of("column.length", "column.nullable", "column.unique");
+
+    /** Keys read as {@code types.<fqcn>.relationships.<property>.<key>}. */
+    static final List<String> RELATIONSHIP_OPTION_KEYS = List.of("fetchBatchSize", "fetchMode");
+
+    private final DomainTypeIndex typeIndex;
+    private final OptionsView.PluginOptionsView pluginOptions;
+    private final String configuration;
+
+    /**
+     * Creates a fingerprinter.
+     *
+     * @param typeIndex domain type index of the run
+     * @param pluginOptions plugin options view, for per-type options
+     * @param configuration canonical form of the run-wide configuration (plugin version, resolved options)
+     */
+    public PortFingerprinter(
+            DomainTypeIndex typeIndex, OptionsView.PluginOptionsView pluginOptions, String configuration) {
+        this.typeIndex = Objects.requireNonNull(typeIndex, "typeIndex");
+        this.pluginOptions = Objects.requireNonNull(pluginOptions, "pluginOptions");
+        this.configuration = Objects.requireNonNull(configuration, "configuration");
+    }
+
+    /**
+     * Computes the fingerprint of a port.
+     *
+     * @param port port to fingerprint
+     * @return lowercase hexadecimal SHA-256 digest
+     */
+    public String fingerprint(PortView port) {
+        Objects.requireNonNull(port, "port");
+
+        MessageDigest digest = newDigest();
+        update(digest, "config", configuration);
+        update(digest, "port", port.qualifiedName());
+        for (String key : PORT_OPTION_KEYS) {
+            Object value = pluginOptions.getOrDefault("ports." + port.qualifiedName() + "." + key, Object.class, null);
+            update(digest, key, String.valueOf(value));
+        }
+
+        Deque<TypeRef> pending = new ArrayDeque<>();
+        for (PortMethodView method : port.methods()) {
+            update(digest, "method", method.name());
+            update(digest, "returns", method.returnType().render());
+            pending.add(method.returnType());
+            for (String key : METHOD_OPTION_KEYS) {
+                Object value = pluginOptions.getOrDefault(
+                        "ports." + port.qualifiedName() + ".methods." + method.name() + "." + key, Object.class, null);
+                update(digest, key, String.valueOf(value));
+            }
+            for (PortParameterView parameter : method.parameters()) {
+                update(
+                        digest,
+                        "param",
+                        parameter.name() + ":" + parameter.type().render());
+                pending.add(parameter.type());
+            }
+        }
+
+        // Sorted so that the digest does not depend on traversal order
+        for (DomainTypeView type : closure(pending).values()) {
+            updateType(digest, type);
+        }
+
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    /**
+     * Collects the domain types reachable from the given types, keyed by qualified name.
+     */
+    private Map<String, DomainTypeView> closure(Deque<TypeRef> pending) {
+        Map<String, DomainTypeView> types = new TreeMap<>();
+        Set<String> visited = new TreeSet<>();
+
+        while (!pending.isEmpty()) {
+            TypeRef type = pending.poll();
+            type.collectionMetadata().map(CollectionMetadata::elementType).ifPresent(pending::add);
+            if (type instanceof ParameterizedRef parameterized) {
+                pending.addAll(parameterized.typeArguments());
+            }
+
+            String qualifiedName = type.render();
+            if (!visited.add(qualifiedName)) {
+                continue;
+            }
+            typeIndex.findType(qualifiedName).ifPresent(view -> {
+                types.put(qualifiedName, view);
+                for (DomainPropertyView property : view.properties()) {
+                    pending.add(property.type());
+                }
+            });
+        }
+        return types;
+    }
+
+    private void updateType(MessageDigest digest, DomainTypeView type) {
+        String qualifiedName = type.qualifiedName();
+        update(digest, "type", qualifiedName);
+        update(digest, "kind", String.valueOf(type.kind()));
+        for (String key : TYPE_OPTION_KEYS) {
+            Object value = pluginOptions.getOrDefault("types." + qualifiedName + "." + key, Object.class, null);
+            update(digest, key, String.valueOf(value));
+        }
+
+        for (DomainPropertyView property : type.properties()) {
+            update(
+                    digest,
+                    "property",
+                    property.name() + ":" + property.type().render() + ":"
+                            + property.type().nullability());
+            for (String key : PROPERTY_OPTION_KEYS) {
+                Object value = PropertyMetadataHelper.getPropertyMetadata(
+                                pluginOptions, qualifiedName, property.name(), key, Object.class)
+                        .orElse(null);
+                update(digest, key, String.valueOf(value));
+            }
+            for (String key : RELATIONSHIP_OPTION_KEYS) {
+                Object value = pluginOptions.getOrDefault(
+                        "types." + qualifiedName + ".relationships." + property.name() + "." + key, Object.class, null);
+                update(digest, key, String.valueOf(value));
+            }
+        }
+    }
+
+    private static void update(MessageDigest digest, String label, String value) {
+        digest.update(label.getBytes(StandardCharsets.UTF_8));
+        digest.update((byte) '=');
+        digest.update(value.getBytes(StandardCharsets.UTF_8));
+        digest.update((byte) '\n');
+    }
+
+    private static MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            // SHA-256 is mandatory on every Java platform
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
@@ -0,0 +1,51 @@
+/**
+ * This Source Code Form is part of the HexaGlue project.
+ * Copyright (c) 2025 Scalastic
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ *
+ * Commercial licensing options are available for organizations wishing
+ * to use HexaGlue under terms different from the MPL 2.0.
+ * Contact: info@hexaglue.io
+ */
+package io.hexaglue.plugin.jpa.model;
+
+import java.util.Objects;
+
+/**
+ * Model for a deleteBy query method executed as a single JPQL statement.
+ *
+ * <p>A derived Spring Data {@code deleteBy} method loads every matching entity and removes them
+ * one by one, which issues one {@code SELECT} and then one {@code DELETE} per row (plus its
+ * cascades). A bulk deleteBy method is declared as a {@code @Modifying @Query} repository method
+ * instead, which deletes all matching rows with one statement and returns their count.</p>
+ *
+ * <h2>Statements</h2>
+ * <ul>
+ *   <li><strong>Hard delete</strong>: {@code delete from OrderEntity e where e.status = :status}.
+ *       Only generated for entities without collections, since bulk deletes do not cascade.</li>
+ *   <li><strong>Soft delete</strong>: {@code update OrderEntity e set e.deletedAt = :deletedAt
+ *       where e.status = :status and e.deletedAt is null}, with the adapter passing the deletion
+ *       time.</li>
+ * </ul>
+ *
+ * @param jpql JPQL statement, with one named parameter per port parameter
+ * @param softDelete true if the statement soft-deletes and takes a {@code deletedAt} parameter
+ * @since 0.4.0
+ */
+public record BulkDeleteModel(String jpql, boolean softDelete) {
+
+    /** Named parameter receiving the deletion time of a soft delete. */
+    public static final String DELETED_AT_PARAMETER = "deletedAt";
+
+    /**
+     * Compact constructor with validation.
+     *
+     * @throws NullPointerException if jpql is null
+     */
+    public BulkDeleteModel {
+        Objects.requireNonNull(jpql, "jpql");
+    }
+}
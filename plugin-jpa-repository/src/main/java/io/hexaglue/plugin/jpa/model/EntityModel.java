@@ -12,7 +12,10 @@
  */
 package io.hexaglue.plugin.jpa.model;
 
+import io.hexaglue.plugin.jpa.config.JpaCacheOptions;
+import io.hexaglue.plugin.jpa.config.JpaPluginOptions.NewEntityDetection;
 import io.hexaglue.spi.types.TypeRef;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
@@ -27,6 +30,7 @@ import java.util.Optional;
  *   <li><strong>ID</strong>: ID field metadata and generation strategy</li>
  *   <li><strong>Properties</strong>: All persistent fields</li>
  *   <li><strong>Feature flags</strong>: Auditing, soft delete, optimistic locking</li>
+ *   <li><strong>Caching</strong>: Second-level cache settings of read-mostly aggregates</li>
  * </ul>
  *
  * <h2>Generated Structure</h2>
@@ -62,6 +66,11 @@ import java.util.Optional;
  * @param enableAuditing if true, add createdAt/updatedAt fields
  * @param enableSoftDelete if true, add deletedAt field
  * @param enableOptimisticLocking if true, add version field
+ * @param cache second-level cache options, or null if the aggregate is not cached
+ * @param indexes table indexes (see {@link IndexModel})
+ * @param dynamicUpdate if true, UPDATE statements only write the changed columns
+ * @param newEntityDetection how the entity reports that it is new ({@code NONE} if it does not implement
+ *     {@code Persistable})
  * @since 0.4.0
  */
 public record EntityModel(
@@ -75,7 +84,11 @@ public record EntityModel(
         List<RelationshipModel> relationships,
         boolean enableAuditing,
         boolean enableSoftDelete,
-        boolean enableOptimisticLocking) {
+        boolean enableOptimisticLocking,
+        JpaCacheOptions cache,
+        List<IndexModel> indexes,
+        boolean dynamicUpdate,
+        NewEntityDetection newEntityDetection) {
 
     /**
      * Compact constructor with validation and defensive copying.
@@ -93,6 +106,8 @@ public record EntityModel(
         Objects.requireNonNull(relationships, "relationships");
         properties = List.copyOf(properties); // Defensive copy
         relationships = List.copyOf(relationships); // Defensive copy
+        indexes = indexes == null ? List.of() : List.copyOf(indexes);
+        newEntityDetection = newEntityDetection == null ? NewEntityDetection.NONE : newEntityDetection;
     }
 
     /**
@@ -122,6 +137,49 @@ public record EntityModel(
         return enableAuditing || enableSoftDelete || enableOptimisticLocking;
     }
 
+    /**
+     * Gets the second-level cache options if the aggregate is cached.
+     *
+     * @return cache options or empty if the aggregate is not cached
+     */
+    public Optional<JpaCacheOptions> cacheIfPresent() {
+        return Optional.ofNullable(cache);
+    }
+
+    /**
+     * Returns a copy of this entity model with the given table indexes.
+     *
+     * @param indexes table indexes
+     * @return entity model with the indexes
+     */
+    public EntityModel withIndexes(List<IndexModel> indexes) {
+        return new EntityModel(
+                entityClassName,
+                entityPackage,
+                tableName,
+                schema,
+                domainType,
+                idModel,
+                properties,
+                relationships,
+                enableAuditing,
+                enableSoftDelete,
+                enableOptimisticLocking,
+                cache,
+                indexes,
+                dynamicUpdate,
+                newEntityDetection);
+    }
+
+    /**
+     * Checks if the entity implements {@code Persistable} to tell Spring Data whether it is new.
+     *
+     * @return true if new entity detection is enabled
+     */
+    public boolean isPersistable() {
+        return newEntityDetection != NewEntityDetection.NONE;
+    }
+
     /**
      * Checks if this entity has any relationships.
      *
@@ -131,6 +189,88 @@ public record EntityModel(
         return !relationships.isEmpty();
     }
 
+    /**
+     * Checks if the aggregate can be hard-deleted with a single JPQL statement.
+     *
+     * <p>Bulk deletes bypass cascading, so they are only used when the entity owns no
+     * collection: child rows and collection tables would otherwise violate foreign keys.</p>
+     *
+     * @return true if the entity has no {@code @OneToMany} or {@code @ElementCollection}
+     */
+    public boolean supportsBulkDelete() {
+        return !hasCollections();
+    }
+
+    /**
+     * Checks if a managed entity can be updated in place from the domain state.
+     *
+     * <p>On a mapping target, MapStruct replaces the content of a collection with newly mapped
+     * instances ({@code clear()} then {@code addAll()}). With orphan removal, every child would
+     * then be deleted and inserted again, so entities owning a collection are merged instead.</p>
+     *
+     * @return true if the entity has no {@code @OneToMany} or {@code @ElementCollection}
+     */
+    public boolean supportsInPlaceUpdate() {
+        return !hasCollections();
+    }
+
+    /**
+     * Checks if the entity owns a collection.
+     *
+     * @return true if the entity has a {@code @OneToMany} or {@code @ElementCollection}
+     */
+    public boolean hasCollections() {
+        return relationships.stream().anyMatch(RelationshipModel::isCollection);
+    }
+
+    /**
+     * Gets the name of the named entity graph loading the aggregate with its child collections.
+     *
+     * @return graph name (e.g., "OrderEntity.aggregate") or empty if the entity has no child collection
+     */
+    public Optional<String> aggregateGraphNameIfPresent() {
+        return aggregateGraphAttributes().isEmpty() ? Optional.empty() : Optional.of(entityClassName + ".aggregate");
+    }
+
+    /**
+     * Gets the attributes of the aggregate entity graph.
+     *
+     * <p>The graph covers the intra-aggregate collections ({@code @OneToMany} and
+     * {@code @ElementCollection}), which are lazy and otherwise loaded with one statement per
+     * entity when the aggregate is mapped to the domain. Hibernate cannot fetch several unordered
+     * lists (bags) in one query, so only the first {@code List} collection is included; the other
+     * ones stay lazy.</p>
+     *
+     * @return relationship property names, in declaration order
+     */
+    public List<String> aggregateGraphAttributes() {
+        return aggregateGraphAttributes(relationships);
+    }
+
+    /**
+     * Gets the attributes of the aggregate entity graph of the given relationships.
+     *
+     * @param relationships relationships of the entity
+     * @return relationship property names, in declaration order
+     * @see #aggregateGraphAttributes()
+     */
+    public static List<String> aggregateGraphAttributes(List<RelationshipModel> relationships) {
+        List<String> attributes = new ArrayList<>();
+        boolean bagIncluded = false;
+        for (RelationshipModel relationship : relationships) {
+            if (!relationship.isIntraAggregate() || !relationship.isCollection()) {
+                continue;
+            }
+            boolean bag = relationship.collectionType() == RelationshipModel.CollectionType.LIST;
+            if (bag && bagIncluded) {
+                continue;
+            }
+            bagIncluded |= bag;
+            attributes.add(relationship.propertyName());
+        }
+        return List.copyOf(attributes);
+    }
+
     /**
      * Builder for constructing EntityModel instances.
      */
@@ -146,6 +286,10 @@ public record EntityModel(
         private boolean enableAuditing = false;
         private boolean enableSoftDelete = false;
         private boolean enableOptimisticLocking = false;
+        private JpaCacheOptions cache;
+        private List<IndexModel> indexes = List.of();
+        private boolean dynamicUpdate = false;
+        private NewEntityDetection newEntityDetection = NewEntityDetection.NONE;
 
         public Builder entityClassName(String entityClassName) {
             this.entityClassName = entityClassName;
@@ -202,6 +346,26 @@ public record EntityModel(
             return this;
         }
 
+        public Builder cache(JpaCacheOptions cache) {
+            this.cache = cache;
+            return this;
+        }
+
+        public Builder indexes(List<IndexModel> indexes) {
+            this.indexes = indexes;
+            return this;
+        }
+
+        public Builder dynamicUpdate(boolean dynamicUpdate) {
+            this.dynamicUpdate = dynamicUpdate;
+            return this;
+        }
+
+        public Builder newEntityDetection(NewEntityDetection newEntityDetection) {
+            this.newEntityDetection = newEntityDetection;
+            return this;
+        }
+
         public EntityModel build() {
             return new EntityModel(
                     entityClassName,
@@ -214,7 +378,11 @@ public record EntityModel(
                     relationships,
                     enableAuditing,
                     enableSoftDelete,
-                    enableOptimisticLocking);
+                    enableOptimisticLocking,
+                    cache,
+                    indexes,
+                    dynamicUpdate,
+                    newEntityDetection);
         }
     }
 
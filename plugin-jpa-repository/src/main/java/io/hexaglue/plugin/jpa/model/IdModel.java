@@ -13,6 +13,7 @@
 package io.hexaglue.plugin.jpa.model;
 
 import io.hexaglue.plugin.jpa.config.JpaPluginOptions;
+import io.hexaglue.plugin.jpa.config.JpaSequenceOptions;
 import io.hexaglue.spi.types.TypeRef;
 import java.util.Objects;
 import java.util.Optional;
@@ -25,7 +26,7 @@ import java.util.Optional;
  *   <li><strong>Unwrapped type</strong>: The actual persistence type (String, Long, etc.)</li>
  *   <li><strong>Original type</strong>: The domain type (CustomerId, OrderId, etc.)</li>
  *   <li><strong>Generation strategy</strong>: How the ID is generated (IDENTITY, UUID, ASSIGNED, etc.)</li>
- *   <li><strong>Sequence metadata</strong>: For SEQUENCE strategy</li>
+ *   <li><strong>Sequence metadata</strong>: For SEQUENCE strategy (name, allocation size, optimizer)</li>
  *   <li><strong>Composite flag</strong>: Whether this is a composite ID (@EmbeddedId)</li>
  * </ul>
  *
@@ -44,7 +45,9 @@ import java.util.Optional;
  * @param unwrappedType the persistence type for JPA (String, Long, etc.)
  * @param originalType the domain type (CustomerId, etc.), same as unwrappedType if not a Value Object
  * @param strategy ID generation strategy
- * @param sequenceName sequence name for SEQUENCE strategy (empty if not applicable)
+ * @param sequenceName sequence name for SEQUENCE strategy (empty to use the table-derived default)
+ * @param allocationSize number of IDs allocated per sequence call for SEQUENCE strategy
+ * @param optimizer Hibernate sequence optimizer for SEQUENCE strategy
  * @param isComposite true if this is a composite ID requiring @EmbeddedId
  * @since 0.4.0
  */
@@ -53,6 +56,8 @@ public record IdModel(
         TypeRef originalType,
         JpaPluginOptions.IdGenerationStrategy strategy,
         String sequenceName,
+        int allocationSize,
+        JpaSequenceOptions.Optimizer optimizer,
         boolean isComposite) {
 
     /**
@@ -65,6 +70,7 @@ public record IdModel(
         Objects.requireNonNull(originalType, "originalType");
         Objects.requireNonNull(strategy, "strategy");
         Objects.requireNonNull(sequenceName, "sequenceName");
+        Objects.requireNonNull(optimizer, "optimizer");
     }
 
     /**
@@ -81,7 +87,36 @@ public record IdModel(
             TypeRef originalType,
             JpaPluginOptions.IdGenerationStrategy strategy,
             String sequenceName) {
-        return new IdModel(unwrappedType, originalType, strategy, sequenceName, false);
+        JpaSequenceOptions defaults = JpaSequenceOptions.defaults();
+        return new IdModel(
+                unwrappedType,
+                originalType,
+                strategy,
+                sequenceName,
+                defaults.effectiveAllocationSize(),
+                defaults.optimizer(),
+                false);
+    }
+
+    /**
+     * Creates a sequence-generated ID model.
+     *
+     * @param unwrappedType persistence type
+     * @param originalType domain type
+     * @param sequenceName sequence name (empty to use the table-derived default)
+     * @param sequenceOptions allocation size and optimizer of the aggregate
+     * @return sequence ID model
+     */
+    public static IdModel sequence(
+            TypeRef unwrappedType, TypeRef originalType, String sequenceName, JpaSequenceOptions sequenceOptions) {
+        return new IdModel(
+                unwrappedType,
+                originalType,
+                JpaPluginOptions.IdGenerationStrategy.SEQUENCE,
+                sequenceName,
+                sequenceOptions.effectiveAllocationSize(),
+                sequenceOptions.optimizer(),
+                false);
     }
 
     /**
@@ -93,7 +128,15 @@ public record IdModel(
      * @return composite ID model
      */
     public static IdModel composite(TypeRef embeddableType) {
-        return new IdModel(embeddableType, embeddableType, JpaPluginOptions.IdGenerationStrategy.ASSIGNED, "", true);
+        JpaSequenceOptions defaults = JpaSequenceOptions.defaults();
+        return new IdModel(
+                embeddableType,
+                embeddableType,
+                JpaPluginOptions.IdGenerationStrategy.ASSIGNED,
+                "",
+                defaults.effectiveAllocationSize(),
+                defaults.optimizer(),
+                true);
     }
 
     /**
@@ -0,0 +1,108 @@
+/**
+ * This Source Code Form is part of the HexaGlue project.
+ * Copyright (c) 2025 Scalastic
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ *
+ * Commercial licensing options are available for organizations wishing
+ * to use HexaGlue under terms different from the MPL 2.0.
+ * Contact: info@hexaglue.io
+ */
+package io.hexaglue.plugin.jpa.model;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Objects;
+import java.util.zip.CRC32;
+
+/**
+ * Model for a table index declared with {@code @Table(indexes = ...)}.
+ *
+ * <p>Indexes are derived from the predicates of the derived query methods of the port, one
+ * composite index per {@code And} chain in predicate order, and merged with the indexes
+ * configured explicitly for the aggregate. See {@code IndexResolver}.</p>
+ *
+ * <h2>Generated Code Example</h2>
+ * <pre>{@code
+ * @Table(name = "orders", indexes = {
+ *     @Index(name = "idx_orders_customer_id_status", columnList = "customer_id, status")
+ * })
+ * }</pre>
+ *
+ * @param name index name (e.g., "idx_orders_customer_id_status")
+ * @param columnNames indexed column names, in index order
+ * @param derived true if derived from a query predicate, false if configured explicitly
+ * @since 0.4.0
+ */
+public record IndexModel(String name, List<String> columnNames, boolean derived) {
+
+    /**
+     * Maximum length of a derived index name: PostgreSQL truncates identifiers to 63 characters,
+     * MySQL rejects identifiers longer than 64.
+     */
+    static final int MAX_NAME_LENGTH = 63;
+
+    /** Length of the hash suffix of a truncated index name, including its separator. */
+    private static final int HASH_SUFFIX_LENGTH = 9;
+
+    /**
+     * Compact constructor with validation and defensive copying.
+     *
+     * @throws NullPointerException if any parameter is null
+     * @throws IllegalArgumentException if no column is indexed
+     */
+    public IndexModel {
+        Objects.requireNonNull(name, "name");
+        Objects.requireNonNull(columnNames, "columnNames");
+        if (columnNames.isEmpty()) {
+            throw new IllegalArgumentException("columnNames must not be empty");
+        }
+        columnNames = List.copyOf(columnNames);
+    }
+
+    /**
+     * Creates an index named after its table and columns.
+     *
+     * <p>A name longer than {@value #MAX_NAME_LENGTH} characters is truncated and suffixed with
+     * a hash of the full name (e.g., "idx_orders_customer_id_..._3f1c2a9b"), so that indexes
+     * sharing a long prefix keep distinct names and regenerating the entity keeps the same
+     * name.</p>
+     *
+     * @param tableName table name
+     * @param columnNames indexed column names, in index order
+     * @param derived true if derived from a query predicate
+     * @return index model
+     */
+    public static IndexModel of(String tableName, List<String> columnNames, boolean derived) {
+        String name = "idx_" + tableName + "_" + String.join("_", columnNames);
+        if (name.length() > MAX_NAME_LENGTH) {
+            CRC32 crc = new CRC32();
+            crc.update(name.getBytes(StandardCharsets.UTF_8));
+            String prefix = name.substring(0, MAX_NAME_LENGTH - HASH_SUFFIX_LENGTH).replaceAll("_+$", "");
+            name = prefix + "_" + String.format("%08x", crc.getValue());
+        }
+        return new IndexModel(name, columnNames, derived);
+    }
+
+    /**
+     * Gets the {@code columnList} of the {@code @Index} annotation.
+     *
+     * @return comma-separated column names (e.g., "customer_id, status")
+     */
+    public String columnList() {
+        return String.join(", ", columnNames);
+    }
+
+    /**
+     * Checks if this index is made redundant by another one starting with the same columns.
+     *
+     * @param other other index of the table
+     * @return true if the columns of this index are a strict leading prefix of the other index
+     */
+    public boolean isPrefixOf(IndexModel other) {
+        return other.columnNames.size() > columnNames.size()
+                && other.columnNames.subList(0, columnNames.size()).equals(columnNames);
+    }
+}
@@ -53,6 +53,7 @@ import java.util.Objects;
  * @param mapperQualifiedName fully qualified MapStruct mapper interface name
  * @param adapterQualifiedName fully qualified adapter class name
  * @param queryMethods list of derived query methods to generate
+ * @param transactional if true, adapter methods get {@code @Transactional} boundaries
  * @since 0.4.0
  */
 public record JpaGenerationPlan(
@@ -62,7 +63,8 @@ public record JpaGenerationPlan(
         String springDataRepoQualifiedName,
         String mapperQualifiedName,
         String adapterQualifiedName,
-        List<QueryMethodModel> queryMethods) {
+        List<QueryMethodModel> queryMethods,
+        boolean transactional) {
 
     /**
      * Compact constructor with validation.
@@ -98,6 +100,17 @@ public record JpaGenerationPlan(
         return port.simpleName();
     }
 
+    /**
+     * Checks if the port declares a {@code deleteById(ID)} method.
+     *
+     * @return true if a single-parameter deleteById method is declared
+     */
+    public boolean declaresDeleteById() {
+        return port.methods().stream()
+                .anyMatch(method -> method.name().equalsIgnoreCase("deleteById")
+                        && method.parameters().size() == 1);
+    }
+
     /**
      * Gets the entity simple class name.
      *
@@ -118,6 +131,7 @@ public record JpaGenerationPlan(
         private String mapperQualifiedName;
         private String adapterQualifiedName;
         private List<QueryMethodModel> queryMethods = List.of();
+        private boolean transactional;
 
         public Builder port(PortView port) {
             this.port = port;
@@ -154,6 +168,11 @@ public record JpaGenerationPlan(
             return this;
         }
 
+        public Builder transactional(boolean transactional) {
+            this.transactional = transactional;
+            return this;
+        }
+
         public JpaGenerationPlan build() {
             return new JpaGenerationPlan(
                     port,
@@ -162,7 +181,8 @@ public record JpaGenerationPlan(
                     springDataRepoQualifiedName,
                     mapperQualifiedName,
                     adapterQualifiedName,
-                    queryMethods);
+                    queryMethods,
+                    transactional);
         }
     }
 
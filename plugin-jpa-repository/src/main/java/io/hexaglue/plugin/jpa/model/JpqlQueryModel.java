@@ -0,0 +1,49 @@
+/**
+ * This Source Code Form is part of the HexaGlue project.
+ * Copyright (c) 2025 Scalastic
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ *
+ * Commercial licensing options are available for organizations wishing
+ * to use HexaGlue under terms different from the MPL 2.0.
+ * Contact: info@hexaglue.io
+ */
+package io.hexaglue.plugin.jpa.model;
+
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * Model for a repository query method declared with an explicit JPQL {@code @Query}.
+ *
+ * <p>A {@code Page} finder runs a {@code COUNT} query next to the page query. Spring Data derives
+ * it from the page query, counting every joined row; an explicit count query configured for the
+ * method (e.g. on a covering index, or without joins) replaces it. Since Spring Data only honors
+ * a count query on a declared query, the method is declared with the JPQL of its predicate.</p>
+ *
+ * @param query JPQL query, with one named parameter per filter parameter
+ * @param countQuery JPQL count query of a {@code Page} method, or null to let Spring Data derive it
+ * @since 0.4.0
+ */
+public record JpqlQueryModel(String query, String countQuery) {
+
+    /**
+     * Compact constructor with validation.
+     *
+     * @throws NullPointerException if query is null
+     */
+    public JpqlQueryModel {
+        Objects.requireNonNull(query, "query");
+    }
+
+    /**
+     * Gets the count query if one is configured.
+     *
+     * @return count query or empty if Spring Data derives it
+     */
+    public Optional<String> countQueryIfPresent() {
+        return Optional.ofNullable(countQuery);
+    }
+}
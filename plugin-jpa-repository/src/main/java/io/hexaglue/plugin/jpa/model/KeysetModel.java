@@ -0,0 +1,143 @@
+/**
+ * This Source Code Form is part of the HexaGlue project.
+ * Copyright (c) 2025 Scalastic
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ *
+ * Commercial licensing options are available for organizations wishing
+ * to use HexaGlue under terms different from the MPL 2.0.
+ * Contact: info@hexaglue.io
+ */
+package io.hexaglue.plugin.jpa.model;
+
+import java.util.Objects;
+
+/**
+ * Model for a keyset-paginated (seek) query method.
+ *
+ * <p>Offset pagination ({@code Pageable}) reads and discards every row before the requested
+ * page, so deep pages get linearly slower. Keyset pagination instead seeks on an indexed,
+ * ordered key: the ID of the entity, which is always backed by the primary key index.</p>
+ *
+ * <h2>Supported Signatures</h2>
+ * <ul>
+ *   <li><strong>SCROLL</strong>: Spring Data scrolling, e.g.
+ *       {@code Window<Order> findByStatus(OrderStatus status, ScrollPosition position)}. The
+ *       repository method is ordered by ID when the port method declares no ordering, so that
+ *       keyset positions are stable.</li>
+ *   <li><strong>CURSOR</strong>: an "after" cursor of the ID type plus a limit, e.g.
+ *       {@code List<Order> findByStatus(OrderStatus status, OrderId after, int limit)}. Two
+ *       repository methods are generated: one for the first page (null cursor) and one seeking
+ *       past the cursor.</li>
+ * </ul>
+ *
+ * <h2>Generated Code Example (CURSOR)</h2>
+ * <pre>{@code
+ * // Repository
+ * List<OrderEntity> findByStatusOrderByIdAsc(OrderStatus status, Limit limit);
+ * List<OrderEntity> findByStatusAndIdGreaterThanOrderByIdAsc(OrderStatus status, String after, Limit limit);
+ *
+ * // Adapter
+ * var entities = after == null
+ *         ? repo.findByStatusOrderByIdAsc(status, Limit.of(limit))
+ *         : repo.findByStatusAndIdGreaterThanOrderByIdAsc(status, after.value(), Limit.of(limit));
+ * }</pre>
+ *
+ * @param kind keyset signature kind
+ * @param repositoryMethodName repository method (SCROLL) or first page repository method (CURSOR)
+ * @param seekMethodName repository method seeking past the cursor (CURSOR only, null otherwise)
+ * @param cursorParameter name of the cursor parameter (CURSOR only, null otherwise)
+ * @param limitParameter name of the limit parameter (CURSOR only, null otherwise)
+ * @since 0.4.0
+ */
+public record KeysetModel(
+        Kind kind, String repositoryMethodName, String seekMethodName, String cursorParameter, String limitParameter) {
+
+    private static final String ORDER_BY_ID = "OrderByIdAsc";
+
+    /**
+     * Keyset signature kind.
+     */
+    public enum Kind {
+        /** Spring Data {@code Window<T>} with a {@code ScrollPosition} parameter */
+        SCROLL,
+
+        /** {@code List<T>} with an "after" cursor parameter and a limit parameter */
+        CURSOR
+    }
+
+    /**
+     * Compact constructor with validation.
+     *
+     * @throws NullPointerException if a component required by the kind is null
+     */
+    public KeysetModel {
+        Objects.requireNonNull(kind, "kind");
+        Objects.requireNonNull(repositoryMethodName, "repositoryMethodName");
+        if (kind == Kind.CURSOR) {
+            Objects.requireNonNull(seekMethodName, "seekMethodName");
+            Objects.requireNonNull(cursorParameter, "cursorParameter");
+            Objects.requireNonNull(limitParameter, "limitParameter");
+        }
+    }
+
+    /**
+     * Creates a scrolling keyset model.
+     *
+     * @param predicate query predicate (e.g., "Status"), empty for findAll
+     * @param portMethodName port method name
+     * @param ordered true if the port method already declares an ordering (OrderBy or Sort)
+     * @return scrolling keyset model
+     */
+    public static KeysetModel scroll(String predicate, String portMethodName, boolean ordered) {
+        Objects.requireNonNull(predicate, "predicate");
+        Objects.requireNonNull(portMethodName, "portMethodName");
+        String repositoryMethodName;
+        if (ordered) {
+            repositoryMethodName = portMethodName;
+        } else if (predicate.isEmpty()) {
+            repositoryMethodName = "findAllBy" + ORDER_BY_ID;
+        } else {
+            repositoryMethodName = "findBy" + predicate + ORDER_BY_ID;
+        }
+        return new KeysetModel(Kind.SCROLL, repositoryMethodName, null, null, null);
+    }
+
+    /**
+     * Creates a cursor keyset model seeking on the ID.
+     *
+     * @param predicate query predicate (e.g., "Status"), empty for findAll
+     * @param cursorParameter name of the cursor parameter
+     * @param limitParameter name of the limit parameter
+     * @return cursor keyset model
+     */
+    public static KeysetModel cursor(String predicate, String cursorParameter, String limitParameter) {
+        Objects.requireNonNull(predicate, "predicate");
+        if (predicate.isEmpty()) {
+            return new KeysetModel(
+                    Kind.CURSOR,
+                    "findAllBy" + ORDER_BY_ID,
+                    "findByIdGreaterThan" + ORDER_BY_ID,
+                    cursorParameter,
+                    limitParameter);
+        }
+        return new KeysetModel(
+                Kind.CURSOR,
+                "findBy" + predicate + ORDER_BY_ID,
+                "findBy" + predicate + "AndIdGreaterThan" + ORDER_BY_ID,
+                cursorParameter,
+                limitParameter);
+    }
+
+    /**
+     * Checks if the given parameter is the cursor or the limit (CURSOR only).
+     *
+     * @param parameterName parameter name
+     * @return true if the parameter drives pagination rather than filtering
+     */
+    public boolean isPaginationParameter(String parameterName) {
+        return parameterName.equals(cursorParameter) || parameterName.equals(limitParameter);
+    }
+}
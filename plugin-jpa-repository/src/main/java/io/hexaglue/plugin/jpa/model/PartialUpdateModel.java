@@ -0,0 +1,61 @@
+/**
+ * This Source Code Form is part of the HexaGlue project.
+ * Copyright (c) 2025 Scalastic
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ *
+ * Commercial licensing options are available for organizations wishing
+ * to use HexaGlue under terms different from the MPL 2.0.
+ * Contact: info@hexaglue.io
+ */
+package io.hexaglue.plugin.jpa.model;
+
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Model for an update-style port method executed as a single JPQL statement.
+ *
+ * <p>A method such as {@code updateStatus(OrderId id, OrderStatus status)} would otherwise need
+ * the whole aggregate to be loaded, mapped, modified and saved back. It is declared as a
+ * {@code @Modifying @Query} repository method instead, which sets the given columns of one row
+ * and returns the affected-row count:</p>
+ * <pre>{@code
+ * update OrderEntity e set e.status = :status, e.version = e.version + 1 where e.id = :id
+ * }</pre>
+ *
+ * <p>The version is incremented when optimistic locking is enabled, so that concurrent
+ * load-then-save updates of the same aggregate still fail. With auditing, the statement also
+ * sets {@code updatedAt}, with the adapter passing the current time; with soft delete, deleted
+ * rows are not updated.</p>
+ *
+ * <p>Columns holding a single-field Value Object are declared with the persistence type on the
+ * repository, so the adapter passes the inner value of such parameters, as it does for the
+ * ID.</p>
+ *
+ * @param jpql JPQL statement, with one named parameter per port parameter
+ * @param idParameter name of the port parameter holding the aggregate ID
+ * @param unwrappedParameters accessor of the inner value, by name of the port parameter holding a
+ *     single-field Value Object
+ * @param updatedAt true if the statement takes an {@code updatedAt} parameter
+ * @since 0.4.0
+ */
+public record PartialUpdateModel(
+        String jpql, String idParameter, Map<String, String> unwrappedParameters, boolean updatedAt) {
+
+    /** Named parameter receiving the update time when auditing is enabled. */
+    public static final String UPDATED_AT_PARAMETER = "updatedAt";
+
+    /**
+     * Compact constructor with validation.
+     *
+     * @throws NullPointerException if jpql, idParameter or unwrappedParameters is null
+     */
+    public PartialUpdateModel {
+        Objects.requireNonNull(jpql, "jpql");
+        Objects.requireNonNull(idParameter, "idParameter");
+        unwrappedParameters = Map.copyOf(Objects.requireNonNull(unwrappedParameters, "unwrappedParameters"));
+    }
+}
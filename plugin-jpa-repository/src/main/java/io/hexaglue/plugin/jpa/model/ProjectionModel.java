@@ -0,0 +1,108 @@
+/**
+ * This Source Code Form is part of the HexaGlue project.
+ * Copyright (c) 2025 Scalastic
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ *
+ * Commercial licensing options are available for organizations wishing
+ * to use HexaGlue under terms different from the MPL 2.0.
+ * Contact: info@hexaglue.io
+ */
+package io.hexaglue.plugin.jpa.model;
+
+import io.hexaglue.spi.types.TypeRef;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Model for a query method result that is a strict subset of the aggregate.
+ *
+ * <p>When a port method returns a read model such as {@code OrderSummary} instead of the
+ * aggregate, the Spring Data repository declares a closed interface projection for it. Spring
+ * Data then selects only the projected columns, and the adapter maps the projection directly to
+ * the read model without hydrating the full entity.</p>
+ *
+ * <h2>Generated Code Example</h2>
+ * <pre>{@code
+ * // Repository
+ * interface OrderSummaryProjection {
+ *     String getId();
+ *     OrderStatus getStatus();
+ * }
+ *
+ * List<OrderSummaryProjection> findByStatus(OrderStatus status);
+ *
+ * // Adapter
+ * return repo.findByStatus(status).stream().map(mapper::toOrderSummary).toList();
+ * }</pre>
+ *
+ * @param domainType read model returned by the port method
+ * @param properties projected properties, typed as the entity attributes
+ * @since 0.4.0
+ */
+public record ProjectionModel(TypeRef domainType, List<ProjectionProperty> properties) {
+
+    /**
+     * Projected property.
+     *
+     * @param name property name, shared by the read model and the entity
+     * @param type entity attribute type (single-field Value Objects unwrapped)
+     */
+    public record ProjectionProperty(String name, TypeRef type) {
+
+        public ProjectionProperty {
+            Objects.requireNonNull(name, "name");
+            Objects.requireNonNull(type, "type");
+        }
+
+        /**
+         * Gets the projection getter name (e.g., "status" → "getStatus").
+         *
+         * @return getter name
+         */
+        public String getterName() {
+            return "get" + Character.toUpperCase(name.charAt(0)) + name.substring(1);
+        }
+    }
+
+    /**
+     * Compact constructor with validation and defensive copying.
+     *
+     * @throws NullPointerException if domainType or properties is null
+     */
+    public ProjectionModel {
+        Objects.requireNonNull(domainType, "domainType");
+        Objects.requireNonNull(properties, "properties");
+        properties = List.copyOf(properties);
+    }
+
+    /**
+     * Gets the simple name of the read model (e.g., "OrderSummary").
+     *
+     * @return simple name
+     */
+    public String domainSimpleName() {
+        String rendered = domainType.render();
+        return rendered.substring(rendered.lastIndexOf('.') + 1);
+    }
+
+    /**
+     * Gets the name of the projection interface nested in the repository.
+     *
+     * @return interface name (e.g., "OrderSummaryProjection")
+     */
+    public String interfaceName() {
+        return domainSimpleName() + "Projection";
+    }
+
+    /**
+     * Gets the name of the mapper method converting the projection to the read model.
+     *
+     * @return mapper method name (e.g., "toOrderSummary")
+     */
+    public String mapperMethodName() {
+        return "to" + domainSimpleName();
+    }
+}
@@ -49,6 +49,42 @@ import java.util.Optional;
  * long countByStatus(CustomerStatus status);
  * }</pre>
  *
+ * <h2>Projections</h2>
+ * <p>A findBy method returning a read model that is a strict subset of the aggregate carries a
+ * {@link ProjectionModel}; see {@link #projectionIfPresent()}.</p>
+ *
+ * <h2>Keyset Pagination</h2>
+ * <p>Methods paginated with a {@code ScrollPosition} or with an "after" cursor and a limit carry a
+ * {@link KeysetModel}; see {@link #keysetIfPresent()}.</p>
+ *
+ * <h2>Streaming</h2>
+ * <p>Methods returning {@code Stream<T>} or feeding a {@code Consumer<T>} carry a
+ * {@link StreamingModel}; see {@link #streamingIfPresent()}.</p>
+ *
+ * <h2>Slices</h2>
+ * <p>Methods returning {@code Slice<T>} with a {@code Pageable} read one row past the page to
+ * tell whether a next slice exists, without the {@code COUNT} query of a {@code Page}. A
+ * {@code Window<T>} result with a {@code Pageable} (rather than a {@code ScrollPosition}) is
+ * served from the same repository {@code Slice}; see {@link #returnsSlice()}.</p>
+ *
+ * <h2>Explicit JPQL</h2>
+ * <p>Methods declared with a {@code @Query} instead of a derived query carry a
+ * {@link JpqlQueryModel}; see {@link #jpqlIfPresent()}.</p>
+ *
+ * <h2>Bulk Delete</h2>
+ * <p>deleteBy methods deleting all matching rows with a single statement carry a
+ * {@link BulkDeleteModel}; see {@link #bulkDeleteIfPresent()}.</p>
+ *
+ * <h2>Partial Update</h2>
+ * <p>Update-style methods ({@code updateStatus(id, status)}, {@code markShipped(id, shippedAt)})
+ * setting columns of one row with a single statement are of type
+ * {@link QueryType#UPDATE_BY_ID} and carry a {@link PartialUpdateModel}; see
+ * {@link #partialUpdateIfPresent()}.</p>
+ *
+ * <h2>Construction</h2>
+ * <p>Instances are created with {@link #builder()}. The {@code withX} methods copy a model
+ * through {@link #toBuilder()}, so a new component only has to be added to the builder.</p>
+ *
  * @since 0.4.0
  */
 public record QueryMethodModel(
@@ -59,7 +95,14 @@ public record QueryMethodModel(
         boolean returnsOptional,
         boolean returnsList,
         boolean returnsPage,
-        boolean hasPagination) {
+        boolean returnsSlice,
+        boolean hasPagination,
+        ProjectionModel projection,
+        KeysetModel keyset,
+        StreamingModel streaming,
+        BulkDeleteModel bulkDelete,
+        JpqlQueryModel jpql,
+        PartialUpdateModel partialUpdate) {
 
     /**
      * Query method type based on method name prefix.
@@ -78,7 +121,10 @@ public record QueryMethodModel(
         DELETE_BY,
 
         /** findAll with pagination support */
-        FIND_ALL
+        FIND_ALL,
+
+        /** Sets properties of one aggregate by ID (updateX, markX, setX, changeX) */
+        UPDATE_BY_ID
     }
 
     /**
@@ -107,6 +153,22 @@ public record QueryMethodModel(
             return type.render().equals("org.springframework.data.domain.Sort")
                     || type.render().equals("Sort");
         }
+
+        /**
+         * Checks if this is a ScrollPosition parameter.
+         */
+        public boolean isScrollPosition() {
+            return type.render().equals("org.springframework.data.domain.ScrollPosition")
+                    || type.render().equals("ScrollPosition");
+        }
+
+        /**
+         * Checks if this is a Limit parameter.
+         */
+        public boolean isLimit() {
+            return type.render().equals("org.springframework.data.domain.Limit")
+                    || type.render().equals("Limit");
+        }
     }
 
     public QueryMethodModel {
@@ -118,10 +180,136 @@ public record QueryMethodModel(
     }
 
     /**
-     * Gets the filter parameters (excluding Pageable/Sort).
+     * Gets the projection if this method returns a read model instead of the aggregate.
+     *
+     * @return projection or empty if the method returns the aggregate
+     */
+    public Optional<ProjectionModel> projectionIfPresent() {
+        return Optional.ofNullable(projection);
+    }
+
+    /**
+     * Returns a copy of this query method returning the given projection.
+     *
+     * @param projection projection of the read model
+     * @return query method model with the projection
+     */
+    public QueryMethodModel withProjection(ProjectionModel projection) {
+        Objects.requireNonNull(projection, "projection");
+        return toBuilder().projection(projection).build();
+    }
+
+    /**
+     * Gets the streaming mode if this method streams its results.
+     *
+     * @return streaming mode or empty if the method does not stream
+     */
+    public Optional<StreamingModel> streamingIfPresent() {
+        return Optional.ofNullable(streaming);
+    }
+
+    /**
+     * Returns a copy of this query method with the given streaming mode.
+     *
+     * @param streaming streaming mode, or null to remove it
+     * @return query method model with the streaming mode
+     */
+    public QueryMethodModel withStreaming(StreamingModel streaming) {
+        return toBuilder().streaming(streaming).build();
+    }
+
+    /**
+     * Gets the keyset pagination if this method seeks instead of using offsets.
+     *
+     * @return keyset pagination or empty if the method is not keyset-paginated
+     */
+    public Optional<KeysetModel> keysetIfPresent() {
+        return Optional.ofNullable(keyset);
+    }
+
+    /**
+     * Returns a copy of this query method with the given keyset pagination.
+     *
+     * @param keyset keyset pagination, or null to remove it
+     * @return query method model with the keyset pagination
+     */
+    public QueryMethodModel withKeyset(KeysetModel keyset) {
+        return toBuilder().keyset(keyset).build();
+    }
+
+    /**
+     * Gets the bulk statement if this deleteBy method does not load the entities it deletes.
+     *
+     * @return bulk delete or empty if Spring Data derives the delete
+     */
+    public Optional<BulkDeleteModel> bulkDeleteIfPresent() {
+        return Optional.ofNullable(bulkDelete);
+    }
+
+    /**
+     * Returns a copy of this query method with the given bulk delete statement.
+     *
+     * @param bulkDelete bulk delete statement, or null to remove it
+     * @return query method model with the bulk delete statement
+     */
+    public QueryMethodModel withBulkDelete(BulkDeleteModel bulkDelete) {
+        return toBuilder().bulkDelete(bulkDelete).build();
+    }
+
+    /**
+     * Gets the explicit JPQL if the repository method declares a {@code @Query} instead of a derived query.
+     *
+     * @return explicit query or empty if Spring Data derives the query from the method name
+     */
+    public Optional<JpqlQueryModel> jpqlIfPresent() {
+        return Optional.ofNullable(jpql);
+    }
+
+    /**
+     * Returns a copy of this query method with the given explicit JPQL.
+     *
+     * @param jpql explicit query, or null to remove it
+     * @return query method model with the explicit query
+     */
+    public QueryMethodModel withJpql(JpqlQueryModel jpql) {
+        return toBuilder().jpql(jpql).build();
+    }
+
+    /**
+     * Gets the partial update statement if this method sets columns of one row without loading it.
+     *
+     * @return partial update or empty if this method is not an update
+     */
+    public Optional<PartialUpdateModel> partialUpdateIfPresent() {
+        return Optional.ofNullable(partialUpdate);
+    }
+
+    /**
+     * Returns a copy of this query method with the given partial update statement.
+     *
+     * @param partialUpdate partial update statement, or null to remove it
+     * @return query method model with the partial update statement
+     */
+    public QueryMethodModel withPartialUpdate(PartialUpdateModel partialUpdate) {
+        return toBuilder().partialUpdate(partialUpdate).build();
+    }
+
+    /**
+     * Checks if this method writes to the database (deleteBy or partial update).
+     */
+    public boolean isModifying() {
+        return queryType == QueryType.DELETE_BY || queryType == QueryType.UPDATE_BY_ID;
+    }
+
+    /**
+     * Gets the filter parameters (excluding Pageable/Sort/ScrollPosition/Limit, keyset cursors and consumers).
      */
     public List<QueryParameter> filterParameters() {
-        return parameters.stream().filter(p -> !p.isPageable() && !p.isSort()).toList();
+        return parameters.stream()
+                .filter(p -> !p.isPageable() && !p.isSort() && !p.isScrollPosition() && !p.isLimit())
+                .filter(p -> keyset == null || !keyset.isPaginationParameter(p.name()))
+                .filter(p -> streaming == null || !streaming.isConsumerParameter(p.name()))
+                .toList();
     }
 
     /**
@@ -142,21 +330,21 @@ public record QueryMethodModel(
      * Checks if this is a simple single-result query (Optional or single entity).
      */
     public boolean isSingleResult() {
-        return returnsOptional || (!returnsList && !returnsPage);
+        return returnsOptional || (!returnsList && !returnsPage && !returnsSlice);
     }
 
     /**
-     * Checks if this method returns a collection (List or Page).
+     * Checks if this method returns a collection (List, Page or Slice).
      */
     public boolean returnsCollection() {
-        return returnsList || returnsPage;
+        return returnsList || returnsPage || returnsSlice;
     }
 
     /**
      * Gets the query predicate string for Spring Data (e.g., "ByEmailAndStatus").
      */
     public String queryPredicate() {
-        if (queryType == QueryType.FIND_ALL) {
+        if (queryType == QueryType.FIND_ALL || queryType == QueryType.UPDATE_BY_ID) {
             return "";
         }
 
@@ -184,6 +372,8 @@ public record QueryMethodModel(
         // Return type
         if (returnsPage) {
             signature.append("Page<");
+        } else if (returnsSlice) {
+            signature.append("Slice<");
         } else if (returnsList) {
             signature.append("List<");
         } else if (returnsOptional) {
@@ -197,12 +387,12 @@ public record QueryMethodModel(
         }
 
         // Entity type (for collection returns)
-        if (returnsPage || returnsList || returnsOptional) {
+        if (returnsPage || returnsSlice || returnsList || returnsOptional) {
             signature.append("Entity");
         }
 
         // Close generic brackets
-        if (returnsPage || returnsList || returnsOptional) {
+        if (returnsPage || returnsSlice || returnsList || returnsOptional) {
             signature.append(">");
         }
 
@@ -221,4 +411,154 @@ public record QueryMethodModel(
 
         return signature.toString();
     }
+
+    /**
+     * Returns a builder initialized with the components of this query method.
+     *
+     * @return query method builder
+     */
+    public Builder toBuilder() {
+        return new Builder()
+                .methodName(methodName)
+                .queryType(queryType)
+                .parameters(parameters)
+                .returnType(returnType)
+                .returnsOptional(returnsOptional)
+                .returnsList(returnsList)
+                .returnsPage(returnsPage)
+                .returnsSlice(returnsSlice)
+                .hasPagination(hasPagination)
+                .projection(projection)
+                .keyset(keyset)
+                .streaming(streaming)
+                .bulkDelete(bulkDelete)
+                .jpql(jpql)
+                .partialUpdate(partialUpdate);
+    }
+
+    /**
+     * Creates a new builder.
+     *
+     * @return query method builder
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Builder for constructing QueryMethodModel instances.
+     *
+     * <p>Result flags default to false and optional features to absent.</p>
+     */
+    public static class Builder {
+        private String methodName;
+        private QueryType queryType;
+        private List<QueryParameter> parameters = List.of();
+        private TypeRef returnType;
+        private boolean returnsOptional = false;
+        private boolean returnsList = false;
+        private boolean returnsPage = false;
+        private boolean returnsSlice = false;
+        private boolean hasPagination = false;
+        private ProjectionModel projection;
+        private KeysetModel keyset;
+        private StreamingModel streaming;
+        private BulkDeleteModel bulkDelete;
+        private JpqlQueryModel jpql;
+        private PartialUpdateModel partialUpdate;
+
+        public Builder methodName(String methodName) {
+            this.methodName = methodName;
+            return this;
+        }
+
+        public Builder queryType(QueryType queryType) {
+            this.queryType = queryType;
+            return this;
+        }
+
+        public Builder parameters(List<QueryParameter> parameters) {
+            this.parameters = parameters;
+            return this;
+        }
+
+        public Builder returnType(TypeRef returnType) {
+            this.returnType = returnType;
+            return this;
+        }
+
+        public Builder returnsOptional(boolean returnsOptional) {
+            this.returnsOptional = returnsOptional;
+            return this;
+        }
+
+        public Builder returnsList(boolean returnsList) {
+            this.returnsList = returnsList;
+            return this;
+        }
+
+        public Builder returnsPage(boolean returnsPage) {
+            this.returnsPage = returnsPage;
+            return this;
+        }
+
+        public Builder returnsSlice(boolean returnsSlice) {
+            this.returnsSlice = returnsSlice;
+            return this;
+        }
+
+        public Builder hasPagination(boolean hasPagination) {
+            this.hasPagination = hasPagination;
+            return this;
+        }
+
+        public Builder projection(ProjectionModel projection) {
+            this.projection = projection;
+            return this;
+        }
+
+        public Builder keyset(KeysetModel keyset) {
+            this.keyset = keyset;
+            return this;
+        }
+
+        public Builder streaming(StreamingModel streaming) {
+            this.streaming = streaming;
+            return this;
+        }
+
+        public Builder bulkDelete(BulkDeleteModel bulkDelete) {
+            this.bulkDelete = bulkDelete;
+            return this;
+        }
+
+        public Builder jpql(JpqlQueryModel jpql) {
+            this.jpql = jpql;
+            return this;
+        }
+
+        public Builder partialUpdate(PartialUpdateModel partialUpdate) {
+            this.partialUpdate = partialUpdate;
+            return this;
+        }
+
+        public QueryMethodModel build() {
+            return new QueryMethodModel(
+                    methodName,
+                    queryType,
+                    parameters,
+                    returnType,
+                    returnsOptional,
+                    returnsList,
+                    returnsPage,
+                    returnsSlice,
+                    hasPagination,
+                    projection,
+                    keyset,
+                    streaming,
+                    bulkDelete,
+                    jpql,
+                    partialUpdate);
+        }
+    }
 }
@@ -12,6 +12,7 @@
  */
 package io.hexaglue.plugin.jpa.model;
 
+import io.hexaglue.plugin.jpa.config.JpaFetchOptions;
 import io.hexaglue.spi.types.TypeRef;
 import java.util.Objects;
 import java.util.Optional;
@@ -24,7 +25,7 @@ import java.util.Optional;
  *   <li><strong>Type</strong>: ONE_TO_MANY, MANY_TO_ONE, EMBEDDED, ELEMENT_COLLECTION, etc.</li>
  *   <li><strong>Target type</strong>: The related entity or value object type</li>
  *   <li><strong>Cascade operations</strong>: PERSIST, MERGE, REMOVE, etc.</li>
- *   <li><strong>Fetch strategy</strong>: LAZY or EAGER</li>
+ *   <li><strong>Fetch strategy</strong>: LAZY or EAGER, and batch or subselect fetching of collections</li>
  *   <li><strong>Ownership</strong>: mappedBy, orphanRemoval, joinColumn</li>
  * </ul>
  *
@@ -55,6 +56,7 @@ import java.util.Optional;
  * @param mappedBy property name in the target entity that owns the relationship (for bidirectional)
  * @param joinColumnName name of the foreign key column (for unidirectional)
  * @param scope relationship scope (INTRA_AGGREGATE or INTER_AGGREGATE)
+ * @param collectionFetch fetch mode of a lazy collection (SELECT for other relationships)
  * @since 0.4.0
  */
 public record RelationshipModel(
@@ -68,7 +70,8 @@ public record RelationshipModel(
         boolean orphanRemoval,
         String mappedBy,
         String joinColumnName,
-        RelationshipScope scope) {
+        RelationshipScope scope,
+        JpaFetchOptions collectionFetch) {
 
     /**
      * Compact constructor with validation.
@@ -86,6 +89,61 @@ public record RelationshipModel(
         if (cascade == null) {
             cascade = new CascadeType[0];
         }
+        if (collectionFetch == null) {
+            collectionFetch = JpaFetchOptions.defaults();
+        }
+    }
+
+    /**
+     * Constructor without collection fetch mode (one statement per collection).
+     */
+    public RelationshipModel(
+            String propertyName,
+            RelationshipType relationshipType,
+            TypeRef targetType,
+            String targetEntityName,
+            CollectionType collectionType,
+            CascadeType[] cascade,
+            FetchType fetch,
+            boolean orphanRemoval,
+            String mappedBy,
+            String joinColumnName,
+            RelationshipScope scope) {
+        this(
+                propertyName,
+                relationshipType,
+                targetType,
+                targetEntityName,
+                collectionType,
+                cascade,
+                fetch,
+                orphanRemoval,
+                mappedBy,
+                joinColumnName,
+                scope,
+                null);
+    }
+
+    /**
+     * Returns a copy of this relationship with the given collection fetch mode.
+     *
+     * @param collectionFetch fetch mode of the collection
+     * @return relationship model with the fetch mode
+     */
+    public RelationshipModel withCollectionFetch(JpaFetchOptions collectionFetch) {
+        return new RelationshipModel(
+                propertyName,
+                relationshipType,
+                targetType,
+                targetEntityName,
+                collectionType,
+                cascade,
+                fetch,
+                orphanRemoval,
+                mappedBy,
+                joinColumnName,
+                scope,
+                collectionFetch);
     }
 
     /**
@@ -133,6 +191,16 @@ public record RelationshipModel(
         return mappedBy != null && !mappedBy.isBlank();
     }
 
+    /**
+     * Checks if this relationship maps a collection ({@code @OneToMany} or {@code @ElementCollection}).
+     *
+     * @return true for collection relationships
+     */
+    public boolean isCollection() {
+        return relationshipType == RelationshipType.ONE_TO_MANY
+                || relationshipType == RelationshipType.ELEMENT_COLLECTION;
+    }
+
     /**
      * Checks if this is an intra-aggregate relationship.
      *
@@ -166,6 +234,7 @@ public record RelationshipModel(
         private String mappedBy;
         private String joinColumnName;
         private RelationshipScope scope = RelationshipScope.INTRA_AGGREGATE;
+        private JpaFetchOptions collectionFetch = JpaFetchOptions.defaults();
 
         public Builder propertyName(String propertyName) {
             this.propertyName = propertyName;
@@ -222,6 +291,11 @@ public record RelationshipModel(
             return this;
         }
 
+        public Builder collectionFetch(JpaFetchOptions collectionFetch) {
+            this.collectionFetch = collectionFetch;
+            return this;
+        }
+
         public RelationshipModel build() {
             return new RelationshipModel(
                     propertyName,
@@ -234,7 +308,8 @@ public record RelationshipModel(
                     orphanRemoval,
                     mappedBy,
                     joinColumnName,
-                    scope);
+                    scope,
+                    collectionFetch);
         }
     }
 
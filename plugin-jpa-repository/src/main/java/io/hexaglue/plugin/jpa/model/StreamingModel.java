@@ -0,0 +1,78 @@
+/**
+ * This Source Code Form is part of the HexaGlue project.
+ * Copyright (c) 2025 Scalastic
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ *
+ * Commercial licensing options are available for organizations wishing
+ * to use HexaGlue under terms different from the MPL 2.0.
+ * Contact: info@hexaglue.io
+ */
+package io.hexaglue.plugin.jpa.model;
+
+import java.util.Objects;
+
+/**
+ * Model for a query method streaming its results.
+ *
+ * <p>List finders materialize the whole result twice, as entities and as domain objects.
+ * Streaming finders are declared as Spring Data {@code Stream<Entity>} repository methods, which
+ * read the JDBC cursor in chunks (fetch size hint) and load entities read-only. The adapter maps
+ * each entity lazily and detaches it from the persistence context once mapped.</p>
+ *
+ * <h2>Supported Signatures</h2>
+ * <ul>
+ *   <li><strong>STREAM</strong>: {@code Stream<Order> findByStatus(OrderStatus status)}. The
+ *       caller must consume the stream inside a transaction and close it.</li>
+ *   <li><strong>CONSUMER</strong>: {@code void findByStatus(OrderStatus status, Consumer<Order> action)}.
+ *       The adapter opens a read-only transaction, feeds every result to the consumer and closes
+ *       the stream.</li>
+ * </ul>
+ *
+ * <p>{@code findAll()} and {@code findAll(Consumer<Order>)} are streamed through a
+ * {@code streamAllBy()} repository method, since {@code findAll()} is already declared by
+ * {@code JpaRepository} with a list result.</p>
+ *
+ * @param kind streaming signature kind
+ * @param repositoryMethodName Spring Data repository method returning {@code Stream<Entity>}
+ * @param consumerParameter name of the consumer parameter (CONSUMER only, null otherwise)
+ * @since 0.4.0
+ */
+public record StreamingModel(Kind kind, String repositoryMethodName, String consumerParameter) {
+
+    /**
+     * Streaming signature kind.
+     */
+    public enum Kind {
+        /** Returns {@code Stream<Domain>} */
+        STREAM,
+
+        /** Returns void and feeds a {@code Consumer<Domain>} parameter */
+        CONSUMER
+    }
+
+    /**
+     * Compact constructor with validation.
+     *
+     * @throws NullPointerException if a component required by the kind is null
+     */
+    public StreamingModel {
+        Objects.requireNonNull(kind, "kind");
+        Objects.requireNonNull(repositoryMethodName, "repositoryMethodName");
+        if (kind == Kind.CONSUMER) {
+            Objects.requireNonNull(consumerParameter, "consumerParameter");
+        }
+    }
+
+    /**
+     * Checks if the given parameter is the consumer (CONSUMER only).
+     *
+     * @param parameterName parameter name
+     * @return true if the parameter receives the results rather than filtering them
+     */
+    public boolean isConsumerParameter(String parameterName) {
+        return parameterName.equals(consumerParameter);
+    }
+}
@@ -103,6 +103,19 @@ public final class NamingUtils {
         return Character.toUpperCase(str.charAt(0)) + str.substring(1);
     }
 
+    /**
+     * Decapitalizes the first letter of a string.
+     *
+     * @param str string to decapitalize
+     * @return decapitalized string, or empty string if input is null/empty
+     */
+    public static String decapitalize(String str) {
+        if (Strings.isBlank(str)) {
+            return "";
+        }
+        return Character.toLowerCase(str.charAt(0)) + str.substring(1);
+    }
+
     /**
      * Pluralizes a singular noun using simple English rules.
      *
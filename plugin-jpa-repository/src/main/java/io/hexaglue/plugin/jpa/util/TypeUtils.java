@@ -12,9 +12,11 @@
  */
 package io.hexaglue.plugin.jpa.util;
 
+import com.palantir.javapoet.ArrayTypeName;
 import com.palantir.javapoet.ClassName;
 import com.palantir.javapoet.ParameterizedTypeName;
 import com.palantir.javapoet.TypeName;
+import com.palantir.javapoet.WildcardTypeName;
 import io.hexaglue.spi.types.TypeRef;
 import java.util.Objects;
 
@@ -65,7 +67,7 @@ public final class TypeUtils {
     /**
      * Parses a type string into a JavaPoet TypeName.
      *
-     * <p>Handles primitive types, generic types, and qualified class names.</p>
+     * <p>Handles primitive types, arrays, generic types, and qualified class names.</p>
      *
      * @param typeString type string from TypeRef.render()
      * @return JavaPoet TypeName
@@ -95,6 +97,16 @@ public final class TypeUtils {
                 return TypeName.DOUBLE;
         }
 
+        // Arrays and varargs (e.g., "com.example.Order[]")
+        if (typeString.endsWith("[]")) {
+            return ArrayTypeName.of(parseTypeName(typeString.substring(0, typeString.length() - 2)));
+        }
+
+        // Upper-bounded wildcards (e.g., "? extends com.example.Order")
+        if (typeString.startsWith("? extends ")) {
+            return WildcardTypeName.subtypeOf(parseTypeName(typeString.substring("? extends ".length())));
+        }
+
         // Handle common generic types
         if (typeString.startsWith("java.util.Optional<")) {
             return parseParameterizedType("java.util.Optional", typeString);
@@ -108,10 +120,31 @@ public final class TypeUtils {
             return parseParameterizedType("java.util.Set", typeString);
         }
 
+        if (typeString.startsWith("java.util.Collection<")) {
+            return parseParameterizedType("java.util.Collection", typeString);
+        }
+
+        if (typeString.startsWith("java.lang.Iterable<")) {
+            return parseParameterizedType("java.lang.Iterable", typeString);
+        }
+
         if (typeString.startsWith("java.util.Map<")) {
             return parseMapType(typeString);
         }
 
+        // Spring Data result types (offset and keyset pagination)
+        if (typeString.startsWith("org.springframework.data.domain.Page<")) {
+            return parseParameterizedType("org.springframework.data.domain.Page", typeString);
+        }
+
+        if (typeString.startsWith("org.springframework.data.domain.Slice<")) {
+            return parseParameterizedType("org.springframework.data.domain.Slice", typeString);
+        }
+
+        if (typeString.startsWith("org.springframework.data.domain.Window<")) {
+            return parseParameterizedType("org.springframework.data.domain.Window", typeString);
+        }
+
         // Default: use bestGuess for qualified class names
         try {
             return ClassName.bestGuess(typeString);
@@ -0,0 +1,327 @@
+/**
+ * This Source Code Form is part of the HexaGlue project.
+ * Copyright (c) 2025 Scalastic
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ *
+ * Commercial licensing options are available for organizations wishing
+ * to use HexaGlue under terms different from the MPL 2.0.
+ * Contact: info@hexaglue.io
+ */
+package io.hexaglue.plugin.jpa;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import io.hexaglue.plugin.jpa.diagnostics.JpaDiagnosticCodes;
+import io.hexaglue.spi.codegen.SourceFile;
+import io.hexaglue.spi.context.GenerationContextSpec;
+import io.hexaglue.spi.diagnostics.Diagnostic;
+import io.hexaglue.spi.diagnostics.DiagnosticCode;
+import io.hexaglue.spi.ir.domain.DomainModelView;
+import io.hexaglue.spi.ir.ports.PortDirection;
+import io.hexaglue.spi.ir.ports.PortMethodView;
+import io.hexaglue.spi.ir.ports.PortParameterView;
+import io.hexaglue.spi.ir.ports.PortView;
+import io.hexaglue.spi.options.OptionsView;
+import io.hexaglue.spi.types.ClassRef;
+import io.hexaglue.spi.types.TypeRef;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link JpaRepositoryPlugin}.
+ *
+ * <p>The plugin runs against a mocked generation context that records the written source files
+ * and the reported diagnostics.</p>
+ *
+ * @since 0.4.0
+ */
+@DisplayName("JpaRepositoryPlugin")
+class JpaRepositoryPluginTest {
+
+    private static final String BASE_PACKAGE = "com.example.infrastructure.persistence";
+
+    private Map<String, Object> settings;
+    private Set<Thread> renderingThreads;
+
+    @BeforeEach
+    void setUp() {
+        settings = new HashMap<>();
+        settings.put("basePackage", BASE_PACKAGE);
+        renderingThreads = ConcurrentHashMap.newKeySet();
+    }
+
+    @Nested
+    @DisplayName("Parallel generation")
+    class ParallelGenerationTests {
+
+        @Test
+        @DisplayName("should write the same files in the same order as sequential generation")
+        void shouldWriteSameFilesAsSequential() {
+            // Given
+            Run sequential = apply(port("Order"), port("Customer"), port("Invoice"), port("Product"));
+            settings.put("parallelism", 4);
+
+            // When
+            Run parallel = apply(port("Order"), port("Customer"), port("Invoice"), port("Product"));
+
+            // Then
+            assertEquals(names(sequential), names(parallel));
+            assertEquals(contents(sequential), contents(parallel));
+            assertTrue(names(parallel).indexOf(BASE_PACKAGE + ".adapter.OrderAdapter")
+                    < names(parallel).indexOf(BASE_PACKAGE + ".entity.CustomerEntity"));
+        }
+
+        @Test
+        @DisplayName("should report the same diagnostics in the same order as sequential generation")
+        void shouldReportSameDiagnosticsAsSequential() {
+            // Given
+            Run sequential = apply(port("Order"), port("Customer"), port("Invoice"), port("Product"));
+            settings.put("parallelism", 4);
+
+            // When
+            Run parallel = apply(port("Order"), port("Customer"), port("Invoice"), port("Product"));
+
+            // Then
+            assertEquals(reports(sequential), reports(parallel));
+        }
+
+        @Test
+        @DisplayName("should render the ports on worker threads")
+        void shouldRenderOnWorkerThreads() {
+            // Given
+            settings.put("parallelism", 4);
+
+            // When
+            apply(port("Order"), port("Customer"), port("Invoice"), port("Product"));
+
+            // Then
+            assertTrue(renderingThreads.stream().anyMatch(thread -> thread != Thread.currentThread()));
+        }
+
+        @Test
+        @DisplayName("should render a single port on the calling thread")
+        void shouldRenderSinglePortOnCallingThread() {
+            // Given
+            Run sequential = apply(port("Order"));
+            settings.put("parallelism", 4);
+            renderingThreads.clear();
+
+            // When
+            Run parallel = apply(port("Order"));
+
+            // Then
+            assertEquals(Set.of(Thread.currentThread()), renderingThreads);
+            assertEquals(contents(sequential), contents(parallel));
+            assertEquals(reports(sequential), reports(parallel));
+        }
+
+        @Test
+        @DisplayName("should render all ports on the calling thread with a parallelism of 1")
+        void shouldRenderOnCallingThreadWithParallelismOfOne() {
+            // Given
+            settings.put("parallelism", 1);
+
+            // When
+            Run run = apply(port("Order"), port("Customer"), port("Invoice"), port("Product"));
+
+            // Then
+            assertEquals(Set.of(Thread.currentThread()), renderingThreads);
+            assertTrue(names(run).contains(BASE_PACKAGE + ".adapter.ProductAdapter"));
+        }
+    }
+
+    @Nested
+    @DisplayName("Explicit wiring")
+    class ExplicitWiringTests {
+
+        @Test
+        @DisplayName("should register the generated components in a configuration")
+        void shouldWriteConfiguration() {
+            // Given
+            settings.put("explicitWiring", true);
+
+            // When
+            Run run = apply(port("Order"), port("Customer"));
+
+            // Then
+            String configuration = run.content(BASE_PACKAGE + ".config.JpaPersistenceConfiguration");
+            assertTrue(configuration.contains("@Import({CustomerAdapter.class, OrderAdapter.class})"));
+            assertTrue(compact(configuration)
+                    .contains("classes={CustomerJpaRepository.class,OrderJpaRepository.class}"));
+            assertTrue(configuration.contains("return new CustomerMapperImpl();"));
+            assertTrue(configuration.contains("return new OrderMapperImpl();"));
+        }
+
+        @Test
+        @DisplayName("should not annotate the adapters and mappers for component scanning")
+        void shouldNotAnnotateForComponentScanning() {
+            // Given
+            settings.put("explicitWiring", true);
+
+            // When
+            Run run = apply(port("Order"));
+
+            // Then
+            assertFalse(run.content(BASE_PACKAGE + ".adapter.OrderAdapter").contains("@Component"));
+            assertTrue(compact(run.content(BASE_PACKAGE + ".mapper.OrderMapper"))
+                    .contains("componentModel=\"default\""));
+        }
+
+        @Test
+        @DisplayName("should report that repository auto-configuration backs off")
+        void shouldReportRepositoryAutoConfigurationDisabled() {
+            // Given
+            settings.put("explicitWiring", true);
+
+            // When
+            Run run = apply(port("Order"), port("Customer"));
+
+            // Then
+            assertEquals(1, run.count(JpaDiagnosticCodes.REPOSITORY_AUTO_CONFIGURATION_DISABLED));
+            assertTrue(run.diagnostics().stream()
+                    .filter(diagnostic ->
+                            diagnostic.code().equals(JpaDiagnosticCodes.REPOSITORY_AUTO_CONFIGURATION_DISABLED))
+                    .anyMatch(diagnostic -> diagnostic.message().contains("2 generated repository(ies)")));
+        }
+
+        @Test
+        @DisplayName("should rely on component scanning by default")
+        void shouldRelyOnComponentScanningByDefault() {
+            // When
+            Run run = apply(port("Order"));
+
+            // Then
+            assertFalse(run.files().stream()
+                    .anyMatch(file -> file.qualifiedTypeName().endsWith(".JpaPersistenceConfiguration")));
+            assertTrue(run.content(BASE_PACKAGE + ".adapter.OrderAdapter").contains("@Component"));
+            assertTrue(compact(run.content(BASE_PACKAGE + ".mapper.OrderMapper"))
+                    .contains("componentModel=\"spring\""));
+            assertEquals(0, run.count(JpaDiagnosticCodes.REPOSITORY_AUTO_CONFIGURATION_DISABLED));
+        }
+    }
+
+    // Helper methods
+
+    /**
+     * Applies the plugin to the given driven ports and records what it wrote and reported.
+     */
+    private Run apply(PortView... ports) {
+        GenerationContextSpec context = mock(GenerationContextSpec.class, RETURNS_DEEP_STUBS);
+        OptionsView.PluginOptionsView pluginOptions = mock(OptionsView.PluginOptionsView.class);
+        when(pluginOptions.getOrDefault(anyString(), any(), any()))
+                .thenAnswer(invocation -> settings.getOrDefault(invocation.getArgument(0), invocation.getArgument(2)));
+        DomainModelView domain = mock(DomainModelView.class);
+        when(context.options().forPlugin(anyString())).thenReturn(pluginOptions);
+        when(context.model().domain()).thenReturn(domain);
+        when(context.model().ports().allPorts(PortDirection.DRIVEN)).thenReturn(List.of(ports));
+
+        Run run = new Run(new ArrayList<>(), new ArrayList<>());
+        doAnswer(invocation -> run.files().add(invocation.getArgument(0)))
+                .when(context.output())
+                .write(any(SourceFile.class));
+        doAnswer(invocation -> run.diagnostics().add(invocation.getArgument(0)))
+                .when(context.diagnostics())
+                .report(any(Diagnostic.class));
+
+        new JpaRepositoryPlugin().apply(context);
+        return run;
+    }
+
+    private static List<String> names(Run run) {
+        return run.files().stream().map(SourceFile::qualifiedTypeName).toList();
+    }
+
+    private static List<String> contents(Run run) {
+        return run.files().stream().map(SourceFile::content).toList();
+    }
+
+    private static List<String> reports(Run run) {
+        return run.diagnostics().stream()
+                .map(diagnostic -> diagnostic.severity() + " " + diagnostic.code() + " " + diagnostic.message())
+                .toList();
+    }
+
+    /**
+     * Removes all whitespace, so that assertions do not depend on how annotation members are wrapped.
+     */
+    private static String compact(String source) {
+        return source.replaceAll("\\s+", "");
+    }
+
+    private PortView port(String aggregate) {
+        TypeRef aggregateType = ClassRef.of("com.example." + aggregate);
+        List<PortMethodView> methods = List.of(
+                method("save", aggregateType, parameter("aggregate", aggregateType)),
+                method(
+                        "findById",
+                        ClassRef.of("java.util.Optional<com.example." + aggregate + ">"),
+                        parameter("id", ClassRef.of("java.lang.String"))),
+                method("deleteById", ClassRef.of("void"), parameter("id", ClassRef.of("java.lang.String"))));
+
+        PortView port = mock(PortView.class);
+        when(port.qualifiedName()).thenReturn("com.example." + aggregate + "Repository");
+        when(port.simpleName()).thenReturn(aggregate + "Repository");
+        when(port.methods()).thenReturn(methods);
+        return port;
+    }
+
+    /**
+     * Creates a port method that records the threads the plugin analyzes it on.
+     */
+    private PortMethodView method(String name, TypeRef returnType, PortParameterView... parameters) {
+        PortMethodView method = mock(PortMethodView.class);
+        when(method.name()).thenAnswer(invocation -> {
+            renderingThreads.add(Thread.currentThread());
+            return name;
+        });
+        when(method.returnType()).thenReturn(returnType);
+        when(method.parameters()).thenReturn(List.of(parameters));
+        return method;
+    }
+
+    private static PortParameterView parameter(String name, TypeRef type) {
+        PortParameterView parameter = mock(PortParameterView.class);
+        when(parameter.name()).thenReturn(name);
+        when(parameter.type()).thenReturn(type);
+        return parameter;
+    }
+
+    /**
+     * Source files written and diagnostics reported by one plugin run, in order.
+     */
+    private record Run(List<SourceFile> files, List<Diagnostic> diagnostics) {
+
+        String content(String qualifiedTypeName) {
+            return files.stream()
+                    .filter(file -> file.qualifiedTypeName().equals(qualifiedTypeName))
+                    .findFirst()
+                    .orElseThrow(() -> new AssertionError("Not written: " + qualifiedTypeName))
+                    .content();
+        }
+
+        long count(DiagnosticCode code) {
+            return diagnostics.stream()
+                    .filter(diagnostic -> diagnostic.code().equals(code))
+                    .count();
+        }
+    }
+}
@@ -0,0 +1,200 @@
+/**
+ * This Source Code Form is part of the HexaGlue project.
+ * Copyright (c) 2025 Scalastic
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ *
+ * Commercial licensing options are available for organizations wishing
+ * to use HexaGlue under terms different from the MPL 2.0.
+ * Contact: info@hexaglue.io
+ */
+package io.hexaglue.plugin.jpa.analysis;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.hexaglue.plugin.jpa.config.JpaPluginOptions;
+import io.hexaglue.plugin.jpa.diagnostics.JpaDiagnosticCodes;
+import io.hexaglue.plugin.jpa.model.BulkDeleteModel;
+import io.hexaglue.plugin.jpa.model.EntityModel;
+import io.hexaglue.plugin.jpa.model.IdModel;
+import io.hexaglue.plugin.jpa.model.PropertyModel;
+import io.hexaglue.plugin.jpa.model.QueryMethodModel;
+import io.hexaglue.plugin.jpa.model.QueryMethodModel.QueryParameter;
+import io.hexaglue.plugin.jpa.model.QueryMethodModel.QueryType;
+import io.hexaglue.plugin.jpa.model.RelationshipModel;
+import io.hexaglue.spi.diagnostics.Diagnostic;
+import io.hexaglue.spi.types.ClassRef;
+import io.hexaglue.spi.types.TypeRef;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link BulkDeleteResolver}.
+ *
+ * @since 0.4.0
+ */
+@DisplayName("BulkDeleteResolver")
+class BulkDeleteResolverTest {
+
+    private static final String PORT = "com.example.OrderRepository";
+    private static final TypeRef STRING = ClassRef.of("java.lang.String");
+    private static final TypeRef INSTANT = ClassRef.of("java.time.Instant");
+
+    private List<Diagnostic> diagnostics;
+    private BulkDeleteResolver resolver;
+
+    @BeforeEach
+    void setUp() {
+        diagnostics = new ArrayList<>();
+        resolver = new BulkDeleteResolver(diagnostics::add);
+    }
+
+    @Nested
+    @DisplayName("Translation")
+    class TranslationTests {
+
+        @Test
+        @DisplayName("should delete the matching rows with a single JPQL statement")
+        void shouldTranslateHardDelete() {
+            // Given
+            QueryMethodModel method = deleteBy(
+                    "deleteByStatusAndCreatedAtBefore",
+                    "long",
+                    new QueryParameter("status", STRING, "status"),
+                    new QueryParameter("cutoff", INSTANT, "createdAt"));
+
+            // When
+            BulkDeleteModel bulkDelete = resolver.resolve(method, entity(false).build(), PORT)
+                    .bulkDeleteIfPresent()
+                    .orElseThrow();
+
+            // Then
+            assertEquals(
+                    "delete from OrderEntity e where e.status = :status and e.createdAt < :cutoff", bulkDelete.jpql());
+            assertFalse(bulkDelete.softDelete());
+            assertEquals(JpaDiagnosticCodes.BULK_DELETE, diagnostics.get(0).code());
+        }
+
+        @Test
+        @DisplayName("should soft-delete the live matching rows of an aggregate with collections")
+        void shouldTranslateSoftDelete() {
+            // Given
+            EntityModel entity = entity(true)
+                    .enableAuditing(true)
+                    .enableOptimisticLocking(true)
+                    .relationships(List.of(lines()))
+                    .build();
+            QueryMethodModel method =
+                    deleteBy("deleteByStatusOrArchivedTrue", "void", new QueryParameter("status", STRING, "status"));
+
+            // When
+            BulkDeleteModel bulkDelete =
+                    resolver.resolve(method, entity, PORT).bulkDeleteIfPresent().orElseThrow();
+
+            // Then
+            assertEquals(
+                    "update OrderEntity e set e.deletedAt = :deletedAt, e.updatedAt = :deletedAt,"
+                            + " e.version = e.version + 1"
+                            + " where (e.status = :status or e.archived = true) and e.deletedAt is null",
+                    bulkDelete.jpql());
+            assertTrue(bulkDelete.softDelete());
+        }
+    }
+
+    @Nested
+    @DisplayName("Unsupported methods")
+    class UnsupportedTests {
+
+        @Test
+        @DisplayName("should keep the derived delete when collections must cascade")
+        void shouldKeepDerivedDeleteWithCollections() {
+            // Given
+            EntityModel entity = entity(false).relationships(List.of(lines())).build();
+            QueryMethodModel method =
+                    deleteBy("deleteByStatus", "void", new QueryParameter("status", STRING, "status"));
+
+            // When
+            QueryMethodModel resolved = resolver.resolve(method, entity, PORT);
+
+            // Then
+            assertTrue(resolved.bulkDeleteIfPresent().isEmpty());
+            assertEquals(
+                    JpaDiagnosticCodes.UNSUPPORTED_BULK_DELETE,
+                    diagnostics.get(0).code());
+        }
+
+        @Test
+        @DisplayName("should keep the derived delete for operators without translation")
+        void shouldKeepDerivedDeleteForUnknownOperator() {
+            // Given
+            QueryMethodModel method =
+                    deleteBy("deleteByStatusContaining", "void", new QueryParameter("status", STRING, "status"));
+
+            // When
+            QueryMethodModel resolved = resolver.resolve(method, entity(false).build(), PORT);
+
+            // Then
+            assertTrue(resolved.bulkDeleteIfPresent().isEmpty());
+            assertEquals(
+                    JpaDiagnosticCodes.UNSUPPORTED_BULK_DELETE,
+                    diagnostics.get(0).code());
+        }
+    }
+
+    private static QueryMethodModel deleteBy(String methodName, String returnType, QueryParameter... parameters) {
+        return QueryMethodModel.builder()
+                .methodName(methodName)
+                .queryType(QueryType.DELETE_BY)
+                .parameters(List.of(parameters))
+                .returnType(ClassRef.of(returnType))
+                .build();
+    }
+
+    private static EntityModel.Builder entity(boolean softDelete) {
+        return EntityModel.builder()
+                .entityClassName("OrderEntity")
+                .entityPackage("com.example.infrastructure.persistence.entity")
+                .tableName("orders")
+                .schema("")
+                .domainType(ClassRef.of("com.example.Order"))
+                .idModel(IdModel.simple(
+                        STRING, ClassRef.of("com.example.OrderId"), JpaPluginOptions.IdGenerationStrategy.ASSIGNED, ""))
+                .properties(List.of(
+                        column("status", "status", STRING),
+                        column("createdAt", "created_at", INSTANT),
+                        column("archived", "archived", ClassRef.of("boolean"))))
+                .relationships(List.of())
+                .enableSoftDelete(softDelete);
+    }
+
+    private static PropertyModel column(String name, String columnName, TypeRef type) {
+        return PropertyModel.builder()
+                .name(name)
+                .type(type)
+                .columnName(columnName)
+                .build();
+    }
+
+    private static RelationshipModel lines() {
+        return new RelationshipModel(
+                "lines",
+                RelationshipModel.RelationshipType.ONE_TO_MANY,
+                ClassRef.of("com.example.OrderLine"),
+                null,
+                RelationshipModel.CollectionType.LIST,
+                null,
+                RelationshipModel.FetchType.LAZY,
+                false,
+                null,
+                null,
+                RelationshipModel.RelationshipScope.INTRA_AGGREGATE);
+    }
+}
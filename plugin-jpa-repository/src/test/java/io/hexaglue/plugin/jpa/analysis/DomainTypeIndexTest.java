@@ -0,0 +1,220 @@
+/**
+ * This Source Code Form is part of the HexaGlue project.
+ * Copyright (c) 2025 Scalastic
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ *
+ * Commercial licensing options are available for organizations wishing
+ * to use HexaGlue under terms different from the MPL 2.0.
+ * Contact: info@hexaglue.io
+ */
+package io.hexaglue.plugin.jpa.analysis;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.hexaglue.spi.ir.domain.DomainModelView;
+import io.hexaglue.spi.ir.domain.DomainPropertyView;
+import io.hexaglue.spi.ir.domain.DomainTypeKind;
+import io.hexaglue.spi.ir.domain.DomainTypeView;
+import io.hexaglue.spi.ir.ports.PortMethodView;
+import io.hexaglue.spi.ir.ports.PortParameterView;
+import io.hexaglue.spi.ir.ports.PortView;
+import io.hexaglue.spi.types.Nullability;
+import io.hexaglue.spi.types.TypeKind;
+import io.hexaglue.spi.types.TypeName;
+import io.hexaglue.spi.types.TypeRef;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link DomainTypeIndex}.
+ *
+ * @since 0.4.0
+ */
+@DisplayName("DomainTypeIndex")
+class DomainTypeIndexTest {
+
+    private DomainModelView domainModel;
+    private DomainTypeIndex index;
+
+    @BeforeEach
+    void setUp() {
+        domainModel = mock(DomainModelView.class);
+        index = new DomainTypeIndex(domainModel);
+    }
+
+    @Nested
+    @DisplayName("Indexed facts")
+    class IndexedFactsTests {
+
+        @Test
+        @DisplayName("should index single-field Value Object with its inner type")
+        void shouldIndexSingleFieldValueObject() {
+            // Given: CustomerId wrapping a Long
+            DomainTypeView customerId = createValueObject(
+                    "com.example.CustomerId", DomainTypeKind.IDENTIFIER, createProperty("value", "java.lang.Long"));
+            when(domainModel.findType("com.example.CustomerId")).thenReturn(Optional.of(customerId));
+
+            // When
+            DomainTypeIndex.IndexedType result = index.lookup("com.example.CustomerId");
+
+            // Then
+            assertTrue(result.exists());
+            assertTrue(result.singleFieldValueObject());
+            assertFalse(result.composite());
+            assertEquals(
+                    "java.lang.Long",
+                    index.unwrappedType("com.example.CustomerId").orElseThrow().render());
+        }
+
+        @Test
+        @DisplayName("should index multi-field Value Object as composite")
+        void shouldIndexMultiFieldValueObjectAsComposite() {
+            // Given: OrderId with two fields
+            DomainTypeView orderId = createValueObject(
+                    "com.example.OrderId",
+                    DomainTypeKind.IDENTIFIER,
+                    createProperty("customerId", "java.lang.Long"),
+                    createProperty("orderNumber", "java.lang.String"));
+            when(domainModel.findType("com.example.OrderId")).thenReturn(Optional.of(orderId));
+
+            // When
+            DomainTypeIndex.IndexedType result = index.lookup("com.example.OrderId");
+
+            // Then
+            assertTrue(result.composite());
+            assertFalse(result.singleFieldValueObject());
+            assertTrue(result.unwrappedType().isEmpty());
+        }
+
+        @Test
+        @DisplayName("should report unknown types as missing")
+        void shouldReportUnknownTypesAsMissing() {
+            // When
+            DomainTypeIndex.IndexedType result = index.lookup("java.lang.String");
+
+            // Then
+            assertFalse(result.exists());
+            assertFalse(result.isValueObject());
+            assertTrue(index.kind("java.lang.String").isEmpty());
+        }
+    }
+
+    @Nested
+    @DisplayName("Memoization")
+    class MemoizationTests {
+
+        @Test
+        @DisplayName("should query the domain model once per type name")
+        void shouldQueryDomainModelOncePerTypeName() {
+            // Given
+            DomainTypeView email = createValueObject(
+                    "com.example.Email", DomainTypeKind.RECORD, createProperty("value", "java.lang.String"));
+            when(domainModel.findType("com.example.Email")).thenReturn(Optional.of(email));
+
+            // When
+            DomainTypeIndex.IndexedType first = index.lookup("com.example.Email");
+            DomainTypeIndex.IndexedType second = index.lookup("com.example.Email");
+            index.findType("com.example.Email");
+            index.lookup("java.lang.Long");
+            index.lookup("java.lang.Long");
+
+            // Then
+            assertSame(first, second);
+            verify(domainModel, times(1)).findType("com.example.Email");
+            verify(domainModel, times(1)).findType("java.lang.Long");
+        }
+
+        @Test
+        @DisplayName("should index types reachable from port methods during warm-up")
+        void shouldIndexReachableTypesDuringWarmUp() {
+            // Given: save(Customer) where Customer has an Email property
+            DomainTypeView email = createValueObject(
+                    "com.example.Email", DomainTypeKind.RECORD, createProperty("value", "java.lang.String"));
+            DomainPropertyView emailProperty = createProperty("email", "com.example.Email");
+            DomainTypeView customer = mock(DomainTypeView.class);
+            when(customer.qualifiedName()).thenReturn("com.example.Customer");
+            when(customer.kind()).thenReturn(DomainTypeKind.AGGREGATE_ROOT);
+            when(customer.properties()).thenReturn(List.of(emailProperty));
+            when(domainModel.findType("com.example.Customer")).thenReturn(Optional.of(customer));
+            when(domainModel.findType("com.example.Email")).thenReturn(Optional.of(email));
+
+            PortView port = createPortWithMethod("save", "com.example.Customer", "void");
+
+            // When
+            index.warmUp(List.of(port));
+            index.lookup("com.example.Email");
+
+            // Then
+            assertEquals(4, index.size());
+            verify(domainModel, times(1)).findType("com.example.Email");
+        }
+    }
+
+    // Helper methods
+
+    private PortView createPortWithMethod(String methodName, String paramType, String returnType) {
+        PortView port = mock(PortView.class);
+        PortMethodView method = mock(PortMethodView.class);
+        PortParameterView parameter = mock(PortParameterView.class);
+        TypeRef paramTypeRef = createTypeRef(paramType);
+        TypeRef returnTypeRef = createTypeRef(returnType);
+
+        when(port.qualifiedName()).thenReturn("com.example.TestRepository");
+        when(port.methods()).thenReturn(List.of(method));
+        when(method.name()).thenReturn(methodName);
+        when(method.returnType()).thenReturn(returnTypeRef);
+        when(method.parameters()).thenReturn(List.of(parameter));
+        when(parameter.type()).thenReturn(paramTypeRef);
+        when(parameter.name()).thenReturn("value");
+
+        return port;
+    }
+
+    private TypeRef createTypeRef(String typeName) {
+        TypeRef type = mock(TypeRef.class);
+
+        when(type.kind()).thenReturn(TypeKind.CLASS);
+        when(type.name()).thenReturn(TypeName.of(typeName));
+        when(type.render()).thenReturn(typeName);
+        when(type.nullability()).thenReturn(Nullability.NONNULL);
+        when(type.withNullability(any())).thenReturn(type);
+        when(type.collectionMetadata()).thenReturn(Optional.empty());
+
+        return type;
+    }
+
+    private DomainTypeView createValueObject(String typeName, DomainTypeKind kind, DomainPropertyView... fields) {
+        DomainTypeView voType = mock(DomainTypeView.class);
+
+        when(voType.qualifiedName()).thenReturn(typeName);
+        when(voType.kind()).thenReturn(kind);
+        when(voType.properties()).thenReturn(List.of(fields));
+
+        return voType;
+    }
+
+    private DomainPropertyView createProperty(String name, String typeName) {
+        DomainPropertyView property = mock(DomainPropertyView.class);
+        TypeRef type = createTypeRef(typeName);
+
+        when(property.name()).thenReturn(name);
+        when(property.type()).thenReturn(type);
+
+        return property;
+    }
+}
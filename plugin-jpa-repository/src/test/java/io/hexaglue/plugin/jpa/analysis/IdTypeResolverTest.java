@@ -17,10 +17,12 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
 import io.hexaglue.plugin.jpa.config.JpaPluginOptions;
+import io.hexaglue.plugin.jpa.config.JpaSequenceOptions;
 import io.hexaglue.plugin.jpa.model.IdModel;
 import io.hexaglue.spi.context.GenerationContextSpec;
 import io.hexaglue.spi.diagnostics.DiagnosticReporter;
@@ -32,6 +34,7 @@ import io.hexaglue.spi.ir.domain.DomainTypeView;
 import io.hexaglue.spi.ir.ports.PortMethodView;
 import io.hexaglue.spi.ir.ports.PortParameterView;
 import io.hexaglue.spi.ir.ports.PortView;
+import io.hexaglue.spi.options.OptionsView;
 import io.hexaglue.spi.types.ClassRef;
 import io.hexaglue.spi.types.Nullability;
 import io.hexaglue.spi.types.TypeKind;
@@ -275,6 +278,105 @@ class IdTypeResolverTest {
         }
     }
 
+    @Nested
+    @DisplayName("Sequence generation")
+    class SequenceGenerationTests {
+
+        private OptionsView.PluginOptionsView pluginOptions;
+
+        @BeforeEach
+        void setUpSequence() {
+            OptionsView optionsView = mock(OptionsView.class);
+            pluginOptions = mock(OptionsView.PluginOptionsView.class);
+            when(context.options()).thenReturn(optionsView);
+            when(optionsView.forPlugin(any())).thenReturn(pluginOptions);
+            when(pluginOptions.getOrDefault(any(), any(), any())).thenAnswer(invocation -> invocation.getArgument(2));
+
+            when(options.idStrategy()).thenReturn(JpaPluginOptions.IdGenerationStrategy.SEQUENCE);
+            when(options.sequenceName()).thenReturn("hibernate_sequence");
+            when(options.sequenceOptions()).thenReturn(JpaSequenceOptions.defaults());
+        }
+
+        @Test
+        @DisplayName("should use global sequence options by default")
+        void shouldUseGlobalSequenceOptions() {
+            // Given
+            PortView port = createOrderPort();
+
+            // When
+            IdModel result = resolver.resolve(port);
+
+            // Then
+            assertEquals(JpaPluginOptions.IdGenerationStrategy.SEQUENCE, result.strategy());
+            assertEquals("hibernate_sequence", result.sequenceName());
+            assertEquals(JpaSequenceOptions.DEFAULT_ALLOCATION_SIZE, result.allocationSize());
+            assertEquals(JpaSequenceOptions.Optimizer.POOLED, result.optimizer());
+        }
+
+        @Test
+        @DisplayName("should apply per-aggregate sequence options")
+        void shouldApplyPerAggregateSequenceOptions() {
+            // Given
+            PortView port = createOrderPort();
+            when(pluginOptions.getOrDefault(eq("types.com.example.Order.sequenceName"), any(), any()))
+                    .thenReturn("order_seq");
+            when(pluginOptions.getOrDefault(eq("types.com.example.Order.sequenceAllocationSize"), any(), any()))
+                    .thenReturn(500);
+            when(pluginOptions.getOrDefault(eq("types.com.example.Order.sequenceOptimizer"), any(), any()))
+                    .thenReturn("pooled-lo");
+
+            // When
+            IdModel result = resolver.resolve(port);
+
+            // Then
+            assertEquals("order_seq", result.sequenceName());
+            assertEquals(500, result.allocationSize());
+            assertEquals(JpaSequenceOptions.Optimizer.POOLED_LO, result.optimizer());
+        }
+
+        @Test
+        @DisplayName("should force an allocation size of 1 without optimizer")
+        void shouldForceAllocationSizeWithoutOptimizer() {
+            // Given
+            PortView port = createOrderPort();
+            when(pluginOptions.getOrDefault(eq("types.com.example.Order.sequenceOptimizer"), any(), any()))
+                    .thenReturn("NONE");
+
+            // When
+            IdModel result = resolver.resolve(port);
+
+            // Then
+            assertEquals(1, result.allocationSize());
+        }
+
+        /**
+         * Port with save(Order) and findById(Long), so that both domain and ID types are inferred.
+         */
+        private PortView createOrderPort() {
+            PortView port = mock(PortView.class);
+            PortMethodView save = mock(PortMethodView.class);
+            PortParameterView order = mock(PortParameterView.class);
+            PortMethodView findById = mock(PortMethodView.class);
+            PortParameterView id = mock(PortParameterView.class);
+            TypeRef orderType = createTypeRef("com.example.Order");
+            TypeRef idType = createTypeRef("java.lang.Long");
+
+            when(port.qualifiedName()).thenReturn("com.example.OrderRepository");
+            when(port.methods()).thenReturn(List.of(save, findById));
+            when(save.name()).thenReturn("save");
+            when(save.parameters()).thenReturn(List.of(order));
+            when(save.returnType()).thenReturn(orderType);
+            when(order.type()).thenReturn(orderType);
+            when(order.name()).thenReturn("order");
+            when(findById.name()).thenReturn("findById");
+            when(findById.parameters()).thenReturn(List.of(id));
+            when(id.type()).thenReturn(idType);
+            when(id.name()).thenReturn("id");
+
+            return port;
+        }
+    }
+
     // Helper methods
 
     private PortView createPortWithFindById(String idType) {
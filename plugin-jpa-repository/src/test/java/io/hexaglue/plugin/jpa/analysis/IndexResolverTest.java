@@ -0,0 +1,236 @@
+/**
+ * This Source Code Form is part of the HexaGlue project.
+ * Copyright (c) 2025 Scalastic
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ *
+ * Commercial licensing options are available for organizations wishing
+ * to use HexaGlue under terms different from the MPL 2.0.
+ * Contact: info@hexaglue.io
+ */
+package io.hexaglue.plugin.jpa.analysis;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import io.hexaglue.plugin.jpa.config.JpaPluginOptions;
+import io.hexaglue.plugin.jpa.diagnostics.JpaDiagnosticCodes;
+import io.hexaglue.plugin.jpa.model.EntityModel;
+import io.hexaglue.plugin.jpa.model.IdModel;
+import io.hexaglue.plugin.jpa.model.IndexModel;
+import io.hexaglue.plugin.jpa.model.PropertyModel;
+import io.hexaglue.plugin.jpa.model.QueryMethodModel;
+import io.hexaglue.plugin.jpa.model.QueryMethodModel.QueryType;
+import io.hexaglue.spi.diagnostics.Diagnostic;
+import io.hexaglue.spi.options.OptionsView;
+import io.hexaglue.spi.types.ClassRef;
+import io.hexaglue.spi.types.TypeRef;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link IndexResolver}.
+ *
+ * @since 0.4.0
+ */
+@DisplayName("IndexResolver")
+class IndexResolverTest {
+
+    private static final TypeRef ORDER = ClassRef.of("com.example.Order");
+    private static final TypeRef STRING = ClassRef.of("java.lang.String");
+
+    private OptionsView.PluginOptionsView pluginOptions;
+    private List<Diagnostic> diagnostics;
+    private IndexResolver resolver;
+    private EntityModel entityModel;
+
+    @BeforeEach
+    void setUp() {
+        pluginOptions = mock(OptionsView.PluginOptionsView.class);
+        when(pluginOptions.getOrDefault(any(), any(), any())).thenAnswer(invocation -> invocation.getArgument(2));
+        diagnostics = new ArrayList<>();
+        resolver = new IndexResolver(pluginOptions, diagnostics::add);
+
+        entityModel = EntityModel.builder()
+                .entityClassName("OrderEntity")
+                .entityPackage("com.example.infrastructure.persistence.entity")
+                .tableName("orders")
+                .schema("")
+                .domainType(ORDER)
+                .idModel(IdModel.simple(
+                        STRING, ClassRef.of("com.example.OrderId"), JpaPluginOptions.IdGenerationStrategy.ASSIGNED, ""))
+                .properties(List.of(
+                        column("customerId", "customer_id", false),
+                        column("status", "status", false),
+                        column("createdAt", "created_at", false),
+                        column("reference", "reference", true)))
+                .relationships(List.of())
+                .build();
+    }
+
+    @Nested
+    @DisplayName("Derived indexes")
+    class DerivedIndexTests {
+
+        @Test
+        @DisplayName("should index an And chain as one composite index in predicate order")
+        void shouldIndexAndChainInPredicateOrder() {
+            // When
+            List<IndexModel> indexes =
+                    resolver.resolve(entityModel, List.of(query("findByCustomerIdAndCreatedAtAfter")));
+
+            // Then
+            assertEquals(List.of("idx_orders_customer_id_created_at"), names(indexes));
+            assertEquals("customer_id, created_at", indexes.get(0).columnList());
+        }
+
+        @Test
+        @DisplayName("should index each Or branch separately and ignore the ordering clause")
+        void shouldIndexOrBranchesSeparately() {
+            // When
+            List<IndexModel> indexes =
+                    resolver.resolve(entityModel, List.of(query("findByStatusOrCreatedAtBeforeOrderByCreatedAtDesc")));
+
+            // Then
+            assertEquals(List.of("idx_orders_status", "idx_orders_created_at"), names(indexes));
+        }
+
+        @Test
+        @DisplayName("should skip comparisons a B-tree index cannot serve")
+        void shouldSkipNonIndexableOperators() {
+            // When
+            List<IndexModel> indexes = resolver.resolve(
+                    entityModel, List.of(query("findByCustomerIdContaining"), query("countByStatusIgnoreCase")));
+
+            // Then
+            assertTrue(indexes.isEmpty());
+        }
+
+        @Test
+        @DisplayName("should drop indexes served by a longer index or a unique constraint")
+        void shouldDropRedundantIndexes() {
+            // When
+            List<IndexModel> indexes = resolver.resolve(
+                    entityModel,
+                    List.of(
+                            query("existsByCustomerId"),
+                            query("findByCustomerIdAndStatus"),
+                            query("findByReference"),
+                            query("deleteByCustomerIdAndStatus")));
+
+            // Then
+            assertEquals(List.of("idx_orders_customer_id_status"), names(indexes));
+        }
+    }
+
+    @Nested
+    @DisplayName("Explicit indexes")
+    class ExplicitIndexTests {
+
+        @Test
+        @DisplayName("should merge explicit indexes with derived ones")
+        void shouldMergeExplicitIndexes() {
+            // Given
+            when(pluginOptions.getOrDefault(eq("types.com.example.Order.indexes"), any(), any()))
+                    .thenReturn(List.of("status, createdAt", "customerId"));
+
+            // When
+            List<IndexModel> indexes = resolver.resolve(
+                    entityModel, List.of(query("findByStatusAndCreatedAtBetween"), query("findByStatus")));
+
+            // Then: explicit single-column index is kept, derived duplicates are not repeated
+            assertEquals(List.of("idx_orders_status_created_at", "idx_orders_customer_id"), names(indexes));
+            assertTrue(diagnostics.isEmpty());
+        }
+
+        @Test
+        @DisplayName("should report and skip an index on an unknown property")
+        void shouldReportUnknownProperty() {
+            // Given
+            when(pluginOptions.getOrDefault(eq("types.com.example.Order.indexes"), any(), any()))
+                    .thenReturn(List.of("status, total"));
+
+            // When
+            List<IndexModel> indexes = resolver.resolve(entityModel, List.of());
+
+            // Then
+            assertTrue(indexes.isEmpty());
+            assertEquals(1, diagnostics.size());
+            assertEquals(
+                    JpaDiagnosticCodes.UNKNOWN_INDEX_PROPERTY,
+                    diagnostics.get(0).code());
+        }
+    }
+
+    @Nested
+    @DisplayName("Index names")
+    class IndexNameTests {
+
+        @Test
+        @DisplayName("should cap long names with a hash that tells indexes with the same prefix apart")
+        void shouldCapLongNames() {
+            // Given
+            List<String> columns = List.of("shipping_address_postal_code", "shipping_address_country_code");
+
+            // When
+            IndexModel byCountry = IndexModel.of("customer_orders", columns, true);
+            IndexModel byCity = IndexModel.of(
+                    "customer_orders", List.of("shipping_address_postal_code", "shipping_address_city"), true);
+
+            // Then
+            assertEquals(63, byCountry.name().length());
+            assertTrue(byCountry.name().matches("idx_customer_orders_shipping_address_postal_code_shipp_[0-9a-f]{8}"));
+            assertEquals(byCountry.name(), IndexModel.of("customer_orders", columns, true).name());
+            assertTrue(byCity.name().length() <= 63);
+            assertNotEquals(byCountry.name(), byCity.name());
+        }
+
+        @Test
+        @DisplayName("should keep names within the limit unchanged")
+        void shouldKeepShortNames() {
+            // When
+            IndexModel index = IndexModel.of("orders", List.of("customer_id", "status"), true);
+
+            // Then
+            assertEquals("idx_orders_customer_id_status", index.name());
+        }
+    }
+
+    private static QueryMethodModel query(String methodName) {
+        QueryType queryType = methodName.startsWith("exists")
+                ? QueryType.EXISTS_BY
+                : methodName.startsWith("count")
+                        ? QueryType.COUNT_BY
+                        : methodName.startsWith("delete") ? QueryType.DELETE_BY : QueryType.FIND_BY;
+        return QueryMethodModel.builder()
+                .methodName(methodName)
+                .queryType(queryType)
+                .returnType(ClassRef.of("java.util.List"))
+                .returnsList(true)
+                .build();
+    }
+
+    private static List<String> names(List<IndexModel> indexes) {
+        return indexes.stream().map(IndexModel::name).toList();
+    }
+
+    private static PropertyModel column(String name, String columnName, boolean unique) {
+        return PropertyModel.builder()
+                .name(name)
+                .type(STRING)
+                .columnName(columnName)
+                .unique(unique)
+                .build();
+    }
+}
@@ -0,0 +1,253 @@
+/**
+ * This Source Code Form is part of the HexaGlue project.
+ * Copyright (c) 2025 Scalastic
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ *
+ * Commercial licensing options are available for organizations wishing
+ * to use HexaGlue under terms different from the MPL 2.0.
+ * Contact: info@hexaglue.io
+ */
+package io.hexaglue.plugin.jpa.analysis;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import io.hexaglue.plugin.jpa.config.JpaPluginOptions;
+import io.hexaglue.plugin.jpa.config.JpaPluginOptions.NewEntityDetection;
+import io.hexaglue.plugin.jpa.diagnostics.JpaDiagnosticCodes;
+import io.hexaglue.plugin.jpa.model.JpaGenerationPlan;
+import io.hexaglue.spi.context.GenerationContextSpec;
+import io.hexaglue.spi.diagnostics.Diagnostic;
+import io.hexaglue.spi.diagnostics.DiagnosticCode;
+import io.hexaglue.spi.ir.domain.DomainModelView;
+import io.hexaglue.spi.ir.ports.PortMethodView;
+import io.hexaglue.spi.ir.ports.PortParameterView;
+import io.hexaglue.spi.ir.ports.PortView;
+import io.hexaglue.spi.options.OptionsView;
+import io.hexaglue.spi.types.ClassRef;
+import io.hexaglue.spi.types.TypeRef;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link JpaGenerationPlanBuilder}.
+ *
+ * @since 0.4.0
+ */
+@DisplayName("JpaGenerationPlanBuilder")
+class JpaGenerationPlanBuilderTest {
+
+    private static final TypeRef ORDER = ClassRef.of("com.example.Order");
+
+    private GenerationContextSpec context;
+    private Map<String, Object> settings;
+    private List<Diagnostic> diagnostics;
+
+    @BeforeEach
+    void setUp() {
+        context = mock(GenerationContextSpec.class);
+        OptionsView options = mock(OptionsView.class);
+        OptionsView.PluginOptionsView pluginOptions = mock(OptionsView.PluginOptionsView.class);
+        settings = new HashMap<>();
+        settings.put("basePackage", "com.example.infrastructure.persistence");
+        when(context.options()).thenReturn(options);
+        when(options.forPlugin(anyString())).thenReturn(pluginOptions);
+        when(pluginOptions.getOrDefault(anyString(), any(), any()))
+                .thenAnswer(invocation -> settings.getOrDefault(invocation.getArgument(0), invocation.getArgument(2)));
+        diagnostics = new ArrayList<>();
+    }
+
+    @Nested
+    @DisplayName("Batch writes")
+    class BatchWriteTests {
+
+        @Test
+        @DisplayName("should accept a batch write of the aggregate")
+        void shouldAcceptBatchWriteOfAggregate() {
+            // When
+            build(method(
+                    "saveAll",
+                    ClassRef.of("java.util.List<com.example.Order>"),
+                    parameter("orders", ClassRef.of("java.util.Collection<com.example.Order>"))));
+
+            // Then
+            assertEquals(0, count(JpaDiagnosticCodes.UNSUPPORTED_BATCH_WRITE));
+        }
+
+        @Test
+        @DisplayName("should report a batch write of another type")
+        void shouldReportBatchWriteOfAnotherType() {
+            // When
+            build(method(
+                    "saveAll",
+                    ClassRef.of("void"),
+                    parameter("names", ClassRef.of("java.util.List<java.lang.String>"))));
+
+            // Then
+            assertEquals(1, count(JpaDiagnosticCodes.UNSUPPORTED_BATCH_WRITE));
+            assertTrue(diagnostics.stream()
+                    .filter(diagnostic -> diagnostic.code().equals(JpaDiagnosticCodes.UNSUPPORTED_BATCH_WRITE))
+                    .anyMatch(diagnostic -> diagnostic.message().contains("'saveAll'")));
+        }
+
+        @Test
+        @DisplayName("should report a batch write returning an unsupported type")
+        void shouldReportUnsupportedBatchWriteResult() {
+            // When
+            build(method(
+                    "persistAll",
+                    ClassRef.of("com.example.Order[]"),
+                    parameter("orders", ClassRef.of("com.example.Order[]"))));
+
+            // Then
+            assertEquals(1, count(JpaDiagnosticCodes.UNSUPPORTED_BATCH_WRITE));
+        }
+    }
+
+    @Nested
+    @DisplayName("New entity detection")
+    class NewEntityDetectionTests {
+
+        @Test
+        @DisplayName("should not detect new entities by default")
+        void shouldNotDetectNewEntitiesByDefault() {
+            // When
+            JpaGenerationPlan plan = build();
+
+            // Then
+            assertEquals(NewEntityDetection.NONE, plan.entityModel().newEntityDetection());
+            assertEquals(0, count(JpaDiagnosticCodes.NEW_ENTITY_DETECTION_IGNORED));
+        }
+
+        @Test
+        @DisplayName("should detect new entities from the version with optimistic locking")
+        void shouldDetectNewEntitiesFromVersion() {
+            // Given
+            settings.put("newEntityDetection", "version");
+
+            // When
+            JpaGenerationPlan plan = build();
+
+            // Then
+            assertEquals(NewEntityDetection.VERSION, plan.entityModel().newEntityDetection());
+            assertTrue(plan.entityModel().isPersistable());
+        }
+
+        @Test
+        @DisplayName("should detect new entities from lifecycle callbacks")
+        void shouldDetectNewEntitiesFromCallbacks() {
+            // Given
+            settings.put("newEntityDetection", "CALLBACK");
+
+            // When
+            JpaGenerationPlan plan = build();
+
+            // Then
+            assertEquals(NewEntityDetection.CALLBACK, plan.entityModel().newEntityDetection());
+        }
+
+        @Test
+        @DisplayName("should fall back to lifecycle callbacks without optimistic locking")
+        void shouldFallBackToCallbacksWithoutOptimisticLocking() {
+            // Given
+            settings.put("newEntityDetection", "VERSION");
+            settings.put("enableOptimisticLocking", false);
+
+            // When
+            JpaGenerationPlan plan = build();
+
+            // Then
+            assertEquals(NewEntityDetection.CALLBACK, plan.entityModel().newEntityDetection());
+            assertEquals(0, count(JpaDiagnosticCodes.NEW_ENTITY_DETECTION_IGNORED));
+        }
+
+        @Test
+        @DisplayName("should apply the detection configured for the aggregate")
+        void shouldApplyDetectionOfAggregate() {
+            // Given
+            settings.put("newEntityDetection", "VERSION");
+            settings.put("types.com.example.Order.newEntityDetection", "NONE");
+
+            // When
+            JpaGenerationPlan plan = build();
+
+            // Then
+            assertEquals(NewEntityDetection.NONE, plan.entityModel().newEntityDetection());
+        }
+
+        @Test
+        @DisplayName("should ignore and report new entity detection for a non-transactional port")
+        void shouldReportDetectionIgnoredWithoutTransactions() {
+            // Given
+            settings.put("newEntityDetection", "VERSION");
+            settings.put("ports.com.example.OrderRepository.generateTransactions", false);
+
+            // When
+            JpaGenerationPlan plan = build();
+
+            // Then
+            assertEquals(NewEntityDetection.NONE, plan.entityModel().newEntityDetection());
+            assertEquals(1, count(JpaDiagnosticCodes.NEW_ENTITY_DETECTION_IGNORED));
+            assertTrue(diagnostics.stream()
+                    .filter(diagnostic -> diagnostic.code().equals(JpaDiagnosticCodes.NEW_ENTITY_DETECTION_IGNORED))
+                    .anyMatch(diagnostic -> diagnostic.message().contains("'com.example.OrderRepository'")));
+        }
+    }
+
+    // Helper methods
+
+    private JpaGenerationPlan build(PortMethodView... extraMethods) {
+        List<PortMethodView> methods = new ArrayList<>(List.of(
+                method("save", ORDER, parameter("order", ORDER)),
+                method(
+                        "findById",
+                        ClassRef.of("java.util.Optional<com.example.Order>"),
+                        parameter("id", ClassRef.of("java.lang.String")))));
+        methods.addAll(List.of(extraMethods));
+
+        PortView port = mock(PortView.class);
+        when(port.qualifiedName()).thenReturn("com.example.OrderRepository");
+        when(port.simpleName()).thenReturn("OrderRepository");
+        when(port.methods()).thenReturn(methods);
+
+        JpaPluginOptions options =
+                JpaPluginOptions.resolve(context.options().forPlugin("io.hexaglue.plugin.jpa"), context);
+        return new JpaGenerationPlanBuilder(
+                        context, options, new DomainTypeIndex(mock(DomainModelView.class)), diagnostics::add)
+                .build(port);
+    }
+
+    private long count(DiagnosticCode code) {
+        return diagnostics.stream()
+                .filter(diagnostic -> diagnostic.code().equals(code))
+                .count();
+    }
+
+    private static PortMethodView method(String name, TypeRef returnType, PortParameterView... parameters) {
+        PortMethodView method = mock(PortMethodView.class);
+        when(method.name()).thenReturn(name);
+        when(method.returnType()).thenReturn(returnType);
+        when(method.parameters()).thenReturn(List.of(parameters));
+        return method;
+    }
+
+    private static PortParameterView parameter(String name, TypeRef type) {
+        PortParameterView parameter = mock(PortParameterView.class);
+        when(parameter.name()).thenReturn(name);
+        when(parameter.type()).thenReturn(type);
+        return parameter;
+    }
+}
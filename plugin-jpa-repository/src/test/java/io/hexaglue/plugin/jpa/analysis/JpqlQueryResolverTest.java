@@ -0,0 +1,209 @@
+/**
+ * This Source Code Form is part of the HexaGlue project.
+ * Copyright (c) 2025 Scalastic
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ *
+ * Commercial licensing options are available for organizations wishing
+ * to use HexaGlue under terms different from the MPL 2.0.
+ * Contact: info@hexaglue.io
+ */
+package io.hexaglue.plugin.jpa.analysis;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import io.hexaglue.plugin.jpa.config.JpaPluginOptions;
+import io.hexaglue.plugin.jpa.config.JpaQueryOptions;
+import io.hexaglue.plugin.jpa.diagnostics.JpaDiagnosticCodes;
+import io.hexaglue.plugin.jpa.model.EntityModel;
+import io.hexaglue.plugin.jpa.model.IdModel;
+import io.hexaglue.plugin.jpa.model.JpqlQueryModel;
+import io.hexaglue.plugin.jpa.model.PropertyModel;
+import io.hexaglue.plugin.jpa.model.QueryMethodModel;
+import io.hexaglue.plugin.jpa.model.QueryMethodModel.QueryParameter;
+import io.hexaglue.plugin.jpa.model.QueryMethodModel.QueryType;
+import io.hexaglue.spi.diagnostics.Diagnostic;
+import io.hexaglue.spi.options.OptionsView;
+import io.hexaglue.spi.types.ClassRef;
+import io.hexaglue.spi.types.TypeRef;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link JpqlQueryResolver}.
+ *
+ * @since 0.4.0
+ */
+@DisplayName("JpqlQueryResolver")
+class JpqlQueryResolverTest {
+
+    private static final String PORT = "com.example.OrderRepository";
+    private static final TypeRef STRING = ClassRef.of("java.lang.String");
+    private static final QueryParameter STATUS = new QueryParameter("status", STRING, "status");
+    private static final QueryParameter PAGEABLE =
+            new QueryParameter("pageable", ClassRef.of("org.springframework.data.domain.Pageable"), "");
+
+    private List<Diagnostic> diagnostics;
+    private OptionsView.PluginOptionsView pluginOptions;
+
+    @BeforeEach
+    void setUp() {
+        diagnostics = new ArrayList<>();
+        pluginOptions = mock(OptionsView.PluginOptionsView.class);
+        when(pluginOptions.getOrDefault(any(), any(), any())).thenAnswer(invocation -> invocation.getArgument(2));
+    }
+
+    @Nested
+    @DisplayName("Count queries")
+    class CountQueryTests {
+
+        @Test
+        @DisplayName("should declare a Page finder with its predicate and the configured count query")
+        void shouldDeclareCountQuery() {
+            // Given
+            String countQuery = "select count(e.id) from OrderEntity e where e.status = :status";
+            when(pluginOptions.getOrDefault(eq("ports." + PORT + ".methods.findByStatus.countQuery"), any(), any()))
+                    .thenReturn(countQuery);
+            QueryMethodModel method = findBy("findByStatus", true, STATUS, PAGEABLE);
+
+            // When
+            JpqlQueryModel jpql = resolver(false)
+                    .resolve(method, entity(), PORT)
+                    .jpqlIfPresent()
+                    .orElseThrow();
+
+            // Then
+            assertEquals("select e from OrderEntity e where e.status = :status", jpql.query());
+            assertEquals(Optional.of(countQuery), jpql.countQueryIfPresent());
+            assertTrue(diagnostics.isEmpty());
+        }
+
+        @Test
+        @DisplayName("should ignore a count query configured for a method that is not a Page finder")
+        void shouldIgnoreCountQueryWithoutPage() {
+            // Given
+            when(pluginOptions.getOrDefault(eq("ports." + PORT + ".methods.findByStatus.countQuery"), any(), any()))
+                    .thenReturn("select count(e) from OrderEntity e");
+            QueryMethodModel method = findBy("findByStatus", false, STATUS);
+
+            // When
+            QueryMethodModel resolved = resolver(false).resolve(method, entity(), PORT);
+
+            // Then
+            assertTrue(resolved.jpqlIfPresent().isEmpty());
+            assertEquals(
+                    JpaDiagnosticCodes.UNSUPPORTED_COUNT_QUERY,
+                    diagnostics.get(0).code());
+        }
+    }
+
+    @Nested
+    @DisplayName("Explicit queries")
+    class ExplicitQueryTests {
+
+        @Test
+        @DisplayName("should declare translatable finders with JPQL and a count query for pages")
+        void shouldDeclareExplicitQueries() {
+            // When
+            JpqlQueryModel page = resolver(true)
+                    .resolve(findBy("findByStatus", true, STATUS, PAGEABLE), entity(), PORT)
+                    .jpqlIfPresent()
+                    .orElseThrow();
+            JpqlQueryModel exists = resolver(true)
+                    .resolve(method("existsByStatus", QueryType.EXISTS_BY, "boolean", STATUS), entity(), PORT)
+                    .jpqlIfPresent()
+                    .orElseThrow();
+
+            // Then
+            assertEquals("select e from OrderEntity e where e.status = :status", page.query());
+            assertEquals(
+                    Optional.of("select count(e) from OrderEntity e where e.status = :status"),
+                    page.countQueryIfPresent());
+            assertEquals(
+                    "select case when count(e) > 0 then true else false end from OrderEntity e"
+                            + " where e.status = :status",
+                    exists.query());
+        }
+
+        @Test
+        @DisplayName("should keep and report methods without an equivalent JPQL query")
+        void shouldKeepUntranslatableMethods() {
+            // Given
+            QueryMethodModel containing = findBy("findByStatusContaining", false, STATUS);
+            QueryMethodModel delete = method("deleteByStatus", QueryType.DELETE_BY, "void", STATUS);
+
+            // When
+            QueryMethodModel resolvedContaining = resolver(true).resolve(containing, entity(), PORT);
+            QueryMethodModel resolvedDelete = resolver(true).resolve(delete, entity(), PORT);
+
+            // Then
+            assertTrue(resolvedContaining.jpqlIfPresent().isEmpty());
+            assertTrue(resolvedDelete.jpqlIfPresent().isEmpty());
+            assertEquals(2, diagnostics.size());
+            assertTrue(diagnostics.stream()
+                    .allMatch(diagnostic -> diagnostic.code().equals(JpaDiagnosticCodes.DERIVED_QUERY_KEPT)));
+        }
+    }
+
+    private JpqlQueryResolver resolver(boolean explicitQueries) {
+        return new JpqlQueryResolver(
+                pluginOptions,
+                new JpaQueryOptions(JpaQueryOptions.DEFAULT_STREAM_FETCH_SIZE, explicitQueries),
+                diagnostics::add);
+    }
+
+    private static QueryMethodModel findBy(String methodName, boolean page, QueryParameter... parameters) {
+        return QueryMethodModel.builder()
+                .methodName(methodName)
+                .queryType(QueryType.FIND_BY)
+                .parameters(List.of(parameters))
+                .returnType(ClassRef.of(
+                        page
+                                ? "org.springframework.data.domain.Page<com.example.Order>"
+                                : "java.util.List<com.example.Order>"))
+                .returnsList(!page)
+                .returnsPage(page)
+                .hasPagination(page)
+                .build();
+    }
+
+    private static QueryMethodModel method(
+            String methodName, QueryType queryType, String returnType, QueryParameter... parameters) {
+        return QueryMethodModel.builder()
+                .methodName(methodName)
+                .queryType(queryType)
+                .parameters(List.of(parameters))
+                .returnType(ClassRef.of(returnType))
+                .build();
+    }
+
+    private static EntityModel entity() {
+        return EntityModel.builder()
+                .entityClassName("OrderEntity")
+                .entityPackage("com.example.infrastructure.persistence.entity")
+                .tableName("orders")
+                .schema("")
+                .domainType(ClassRef.of("com.example.Order"))
+                .idModel(IdModel.simple(
+                        STRING, ClassRef.of("com.example.OrderId"), JpaPluginOptions.IdGenerationStrategy.ASSIGNED, ""))
+                .properties(List.of(PropertyModel.builder()
+                        .name("status")
+                        .type(STRING)
+                        .columnName("status")
+                        .build()))
+                .relationships(List.of())
+                .build();
+    }
+}
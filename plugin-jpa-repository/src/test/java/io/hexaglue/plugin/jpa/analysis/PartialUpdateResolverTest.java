@@ -0,0 +1,276 @@
+/**
+ * This Source Code Form is part of the HexaGlue project.
+ * Copyright (c) 2025 Scalastic
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ *
+ * Commercial licensing options are available for organizations wishing
+ * to use HexaGlue under terms different from the MPL 2.0.
+ * Contact: info@hexaglue.io
+ */
+package io.hexaglue.plugin.jpa.analysis;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import io.hexaglue.plugin.jpa.config.JpaPluginOptions;
+import io.hexaglue.plugin.jpa.diagnostics.JpaDiagnosticCodes;
+import io.hexaglue.plugin.jpa.model.EntityModel;
+import io.hexaglue.plugin.jpa.model.IdModel;
+import io.hexaglue.plugin.jpa.model.PartialUpdateModel;
+import io.hexaglue.plugin.jpa.model.PropertyModel;
+import io.hexaglue.plugin.jpa.model.QueryMethodModel;
+import io.hexaglue.plugin.jpa.model.QueryMethodModel.QueryType;
+import io.hexaglue.spi.diagnostics.Diagnostic;
+import io.hexaglue.spi.ir.domain.DomainModelView;
+import io.hexaglue.spi.ir.domain.DomainPropertyView;
+import io.hexaglue.spi.ir.domain.DomainTypeKind;
+import io.hexaglue.spi.ir.domain.DomainTypeView;
+import io.hexaglue.spi.ir.ports.PortMethodView;
+import io.hexaglue.spi.ir.ports.PortParameterView;
+import io.hexaglue.spi.types.ClassRef;
+import io.hexaglue.spi.types.TypeRef;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link PartialUpdateResolver}.
+ *
+ * @since 0.4.0
+ */
+@DisplayName("PartialUpdateResolver")
+class PartialUpdateResolverTest {
+
+    private static final String PORT = "com.example.OrderRepository";
+    private static final TypeRef ORDER_ID = ClassRef.of("com.example.OrderId");
+    private static final TypeRef STATUS = ClassRef.of("com.example.OrderStatus");
+    private static final TypeRef INSTANT = ClassRef.of("java.time.Instant");
+    private static final TypeRef STRING = ClassRef.of("java.lang.String");
+    private static final TypeRef EMAIL = ClassRef.of("com.example.Email");
+
+    private List<Diagnostic> diagnostics;
+    private PartialUpdateResolver resolver;
+
+    @BeforeEach
+    void setUp() {
+        DomainModelView domainModel = mock(DomainModelView.class);
+        DomainTypeView email = mock(DomainTypeView.class);
+        DomainPropertyView value = mock(DomainPropertyView.class);
+        when(value.name()).thenReturn("value");
+        when(value.type()).thenReturn(STRING);
+        when(email.qualifiedName()).thenReturn("com.example.Email");
+        when(email.kind()).thenReturn(DomainTypeKind.RECORD);
+        when(email.properties()).thenReturn(List.of(value));
+        when(domainModel.findType("com.example.Email")).thenReturn(Optional.of(email));
+
+        diagnostics = new ArrayList<>();
+        resolver = new PartialUpdateResolver(new DomainTypeIndex(domainModel), diagnostics::add);
+    }
+
+    @Nested
+    @DisplayName("Translation")
+    class TranslationTests {
+
+        @Test
+        @DisplayName("should set the named column of one row with a single JPQL statement")
+        void shouldTranslateUpdate() {
+            // Given
+            PortMethodView method =
+                    method("updateStatus", "void", parameter("id", ORDER_ID), parameter("status", STATUS));
+
+            // When
+            QueryMethodModel update =
+                    resolver.resolve(method, entity().build(), PORT).orElseThrow();
+
+            // Then
+            assertEquals(QueryType.UPDATE_BY_ID, update.queryType());
+            assertEquals(
+                    "update OrderEntity e set e.status = :status where e.id = :id",
+                    update.partialUpdateIfPresent().orElseThrow().jpql());
+            assertEquals(JpaDiagnosticCodes.PARTIAL_UPDATE, diagnostics.get(0).code());
+        }
+
+        @Test
+        @DisplayName("should qualify the parameter with the method subject and increment the version")
+        void shouldTranslateMarkWithLocking() {
+            // Given
+            EntityModel entity = entity().enableAuditing(true)
+                    .enableSoftDelete(true)
+                    .enableOptimisticLocking(true)
+                    .build();
+            PortMethodView method =
+                    method("markShipped", "boolean", parameter("orderId", ORDER_ID), parameter("at", INSTANT));
+
+            // When
+            PartialUpdateModel update = resolver.resolve(method, entity, PORT)
+                    .orElseThrow()
+                    .partialUpdateIfPresent()
+                    .orElseThrow();
+
+            // Then
+            assertEquals(
+                    "update OrderEntity e set e.shippedAt = :at, e.updatedAt = :updatedAt,"
+                            + " e.version = e.version + 1 where e.id = :orderId and e.deletedAt is null",
+                    update.jpql());
+            assertEquals("orderId", update.idParameter());
+            assertTrue(update.updatedAt());
+        }
+
+        @Test
+        @DisplayName("should bind the inner value of a Value Object parameter to its column")
+        void shouldUnwrapValueObjectParameter() {
+            // Given
+            PortMethodView method =
+                    method("updateEmail", "void", parameter("id", ORDER_ID), parameter("email", EMAIL));
+
+            // When
+            QueryMethodModel update =
+                    resolver.resolve(method, entity().build(), PORT).orElseThrow();
+
+            // Then
+            assertEquals(
+                    "update OrderEntity e set e.email = :email where e.id = :id",
+                    update.partialUpdateIfPresent().orElseThrow().jpql());
+            assertEquals(
+                    Map.of("email", "value"),
+                    update.partialUpdateIfPresent().orElseThrow().unwrappedParameters());
+            assertEquals(STRING, update.parameters().get(1).type());
+        }
+
+        @Test
+        @DisplayName("should accept an ID named id with the persistence type of the ID")
+        void shouldAcceptUnwrappedId() {
+            // Given
+            PortMethodView method =
+                    method("updateStatus", "void", parameter("id", STRING), parameter("status", STATUS));
+
+            // When
+            Optional<QueryMethodModel> resolved = resolver.resolve(method, entity().build(), PORT);
+
+            // Then
+            assertEquals("id", resolved.orElseThrow().partialUpdateIfPresent().orElseThrow().idParameter());
+        }
+    }
+
+    @Nested
+    @DisplayName("Unsupported methods")
+    class UnsupportedTests {
+
+        @Test
+        @DisplayName("should ignore methods that do not take the ID first")
+        void shouldIgnoreNonUpdateSignature() {
+            // Given
+            PortMethodView method = method("updateStatus", "void", parameter("status", STATUS));
+
+            // When
+            Optional<QueryMethodModel> resolved = resolver.resolve(method, entity().build(), PORT);
+
+            // Then
+            assertTrue(resolved.isEmpty());
+            assertTrue(diagnostics.isEmpty());
+        }
+
+        @Test
+        @DisplayName("should report parameters that are not basic columns")
+        void shouldReportUnknownProperty() {
+            // Given
+            PortMethodView method =
+                    method("changeCarrier", "void", parameter("id", ORDER_ID), parameter("carrier", STATUS));
+
+            // When
+            Optional<QueryMethodModel> resolved = resolver.resolve(method, entity().build(), PORT);
+
+            // Then
+            assertTrue(resolved.isEmpty());
+            assertEquals(
+                    JpaDiagnosticCodes.UNSUPPORTED_PARTIAL_UPDATE,
+                    diagnostics.get(0).code());
+        }
+
+        @Test
+        @DisplayName("should report parameters that do not have the type of their column")
+        void shouldReportMismatchedType() {
+            // Given
+            PortMethodView method =
+                    method("updateEmail", "void", parameter("id", ORDER_ID), parameter("email", STATUS));
+
+            // When
+            Optional<QueryMethodModel> resolved = resolver.resolve(method, entity().build(), PORT);
+
+            // Then
+            assertTrue(resolved.isEmpty());
+            assertEquals(
+                    JpaDiagnosticCodes.UNSUPPORTED_PARTIAL_UPDATE,
+                    diagnostics.get(0).code());
+            assertTrue(diagnostics.get(0).message().contains("column 'email' holds a java.lang.String"));
+        }
+
+        @Test
+        @DisplayName("should ignore methods whose first parameter named id is not typed as the ID")
+        void shouldIgnoreIdOfOtherType() {
+            // Given
+            PortMethodView method = method(
+                    "updateStatus",
+                    "void",
+                    parameter("id", ClassRef.of("java.lang.Long")),
+                    parameter("status", STATUS));
+
+            // When
+            Optional<QueryMethodModel> resolved = resolver.resolve(method, entity().build(), PORT);
+
+            // Then
+            assertTrue(resolved.isEmpty());
+            assertTrue(diagnostics.isEmpty());
+        }
+    }
+
+    private static PortMethodView method(String name, String returnType, PortParameterView... parameters) {
+        PortMethodView method = mock(PortMethodView.class);
+        TypeRef returned = ClassRef.of(returnType);
+        when(method.name()).thenReturn(name);
+        when(method.returnType()).thenReturn(returned);
+        when(method.parameters()).thenReturn(List.of(parameters));
+        return method;
+    }
+
+    private static PortParameterView parameter(String name, TypeRef type) {
+        PortParameterView parameter = mock(PortParameterView.class);
+        when(parameter.name()).thenReturn(name);
+        when(parameter.type()).thenReturn(type);
+        return parameter;
+    }
+
+    private static EntityModel.Builder entity() {
+        return EntityModel.builder()
+                .entityClassName("OrderEntity")
+                .entityPackage("com.example.infrastructure.persistence.entity")
+                .tableName("orders")
+                .schema("")
+                .domainType(ClassRef.of("com.example.Order"))
+                .idModel(IdModel.simple(
+                        ClassRef.of("java.lang.String"), ORDER_ID, JpaPluginOptions.IdGenerationStrategy.ASSIGNED, ""))
+                .properties(List.of(
+                        column("status", "status", STATUS),
+                        column("shippedAt", "shipped_at", INSTANT),
+                        column("email", "email", STRING)))
+                .relationships(List.of());
+    }
+
+    private static PropertyModel column(String name, String columnName, TypeRef type) {
+        return PropertyModel.builder()
+                .name(name)
+                .type(type)
+                .columnName(columnName)
+                .build();
+    }
+}
@@ -0,0 +1,256 @@
+/**
+ * This Source Code Form is part of the HexaGlue project.
+ * Copyright (c) 2025 Scalastic
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ *
+ * Commercial licensing options are available for organizations wishing
+ * to use HexaGlue under terms different from the MPL 2.0.
+ * Contact: info@hexaglue.io
+ */
+package io.hexaglue.plugin.jpa.analysis;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import io.hexaglue.plugin.jpa.model.KeysetModel;
+import io.hexaglue.plugin.jpa.model.QueryMethodModel;
+import io.hexaglue.plugin.jpa.model.QueryMethodModel.QueryParameter;
+import io.hexaglue.plugin.jpa.model.QueryMethodModel.QueryType;
+import io.hexaglue.plugin.jpa.model.StreamingModel;
+import io.hexaglue.spi.ir.ports.PortMethodView;
+import io.hexaglue.spi.ir.ports.PortParameterView;
+import io.hexaglue.spi.types.ClassRef;
+import io.hexaglue.spi.types.TypeRef;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link PortMethodAnalyzer}.
+ *
+ * @since 0.4.0
+ */
+@DisplayName("PortMethodAnalyzer")
+class PortMethodAnalyzerTest {
+
+    private PortMethodAnalyzer analyzer;
+
+    @BeforeEach
+    void setUp() {
+        analyzer = new PortMethodAnalyzer();
+    }
+
+    @Nested
+    @DisplayName("Keyset pagination")
+    class KeysetPaginationTests {
+
+        @Test
+        @DisplayName("should detect an after cursor and a limit on a findBy method")
+        void shouldDetectCursorKeyset() {
+            // Given
+            PortMethodView method = method(
+                    "findByStatus",
+                    "java.util.List<com.example.Order>",
+                    parameter("status", "com.example.OrderStatus"),
+                    parameter("after", "com.example.OrderId"),
+                    parameter("limit", "int"));
+
+            // When
+            QueryMethodModel result = analyzer.analyzeMethod(method).orElseThrow();
+
+            // Then: cursor and limit drive pagination, not filtering
+            KeysetModel keyset = result.keysetIfPresent().orElseThrow();
+            assertEquals(KeysetModel.Kind.CURSOR, keyset.kind());
+            assertEquals("findByStatusOrderByIdAsc", keyset.repositoryMethodName());
+            assertEquals("findByStatusAndIdGreaterThanOrderByIdAsc", keyset.seekMethodName());
+            assertEquals(
+                    List.of("status"),
+                    result.filterParameters().stream().map(QueryParameter::name).toList());
+        }
+
+        @Test
+        @DisplayName("should detect a keyset findAll instead of skipping it as basic CRUD")
+        void shouldDetectFindAllCursorKeyset() {
+            // Given
+            PortMethodView method = method(
+                    "findAll",
+                    "java.util.List<com.example.Order>",
+                    parameter("afterId", "com.example.OrderId"),
+                    parameter("pageSize", "java.lang.Integer"));
+
+            // When
+            QueryMethodModel result = analyzer.analyzeMethod(method).orElseThrow();
+
+            // Then
+            assertEquals(QueryType.FIND_ALL, result.queryType());
+            KeysetModel keyset = result.keysetIfPresent().orElseThrow();
+            assertEquals("findAllByOrderByIdAsc", keyset.repositoryMethodName());
+            assertEquals("findByIdGreaterThanOrderByIdAsc", keyset.seekMethodName());
+            assertTrue(result.filterParameters().isEmpty());
+        }
+
+        @Test
+        @DisplayName("should order Window scrolling by ID when the method declares no ordering")
+        void shouldDetectScrollKeyset() {
+            // Given
+            PortMethodView method = method(
+                    "findByStatus",
+                    "org.springframework.data.domain.Window<com.example.Order>",
+                    parameter("status", "com.example.OrderStatus"),
+                    parameter("position", "org.springframework.data.domain.ScrollPosition"));
+
+            // When
+            QueryMethodModel result = analyzer.analyzeMethod(method).orElseThrow();
+
+            // Then
+            KeysetModel keyset = result.keysetIfPresent().orElseThrow();
+            assertEquals(KeysetModel.Kind.SCROLL, keyset.kind());
+            assertEquals("findByStatusOrderByIdAsc", keyset.repositoryMethodName());
+        }
+
+        @Test
+        @DisplayName("should keep offset pagination for Pageable methods")
+        void shouldNotDetectKeysetForPageable() {
+            // Given
+            PortMethodView method = method(
+                    "findByStatus",
+                    "org.springframework.data.domain.Page<com.example.Order>",
+                    parameter("status", "com.example.OrderStatus"),
+                    parameter("pageable", "org.springframework.data.domain.Pageable"));
+
+            // When
+            QueryMethodModel result = analyzer.analyzeMethod(method).orElseThrow();
+
+            // Then
+            assertTrue(result.keysetIfPresent().isEmpty());
+            assertTrue(result.hasPagination());
+        }
+    }
+
+    @Nested
+    @DisplayName("Slices")
+    class SliceTests {
+
+        @Test
+        @DisplayName("should detect a Slice finder")
+        void shouldDetectSlice() {
+            // Given
+            PortMethodView method = method(
+                    "findByStatus",
+                    "org.springframework.data.domain.Slice<com.example.Order>",
+                    parameter("status", "com.example.OrderStatus"),
+                    parameter("pageable", "org.springframework.data.domain.Pageable"));
+
+            // When
+            QueryMethodModel result = analyzer.analyzeMethod(method).orElseThrow();
+
+            // Then
+            assertTrue(result.returnsSlice());
+            assertFalse(result.returnsPage());
+            assertFalse(result.isSingleResult());
+        }
+
+        @Test
+        @DisplayName("should back an offset Window with a Slice")
+        void shouldDetectOffsetWindow() {
+            // Given
+            PortMethodView method = method(
+                    "findByStatus",
+                    "org.springframework.data.domain.Window<com.example.Order>",
+                    parameter("status", "com.example.OrderStatus"),
+                    parameter("pageable", "org.springframework.data.domain.Pageable"));
+
+            // When
+            QueryMethodModel result = analyzer.analyzeMethod(method).orElseThrow();
+
+            // Then
+            assertTrue(result.returnsSlice());
+            assertTrue(result.keysetIfPresent().isEmpty());
+        }
+    }
+
+    @Nested
+    @DisplayName("Streaming")
+    class StreamingTests {
+
+        @Test
+        @DisplayName("should stream a findBy method returning a Stream")
+        void shouldDetectStream() {
+            // Given
+            PortMethodView method = method(
+                    "findByStatus",
+                    "java.util.stream.Stream<com.example.Order>",
+                    parameter("status", "com.example.OrderStatus"));
+
+            // When
+            QueryMethodModel result = analyzer.analyzeMethod(method).orElseThrow();
+
+            // Then
+            StreamingModel streaming = result.streamingIfPresent().orElseThrow();
+            assertEquals(StreamingModel.Kind.STREAM, streaming.kind());
+            assertEquals("findByStatus", streaming.repositoryMethodName());
+        }
+
+        @Test
+        @DisplayName("should not filter on the consumer parameter")
+        void shouldDetectConsumer() {
+            // Given
+            PortMethodView method = method(
+                    "findByStatus",
+                    "void",
+                    parameter("status", "com.example.OrderStatus"),
+                    parameter("action", "java.util.function.Consumer<com.example.Order>"));
+
+            // When
+            QueryMethodModel result = analyzer.analyzeMethod(method).orElseThrow();
+
+            // Then
+            StreamingModel streaming = result.streamingIfPresent().orElseThrow();
+            assertEquals(StreamingModel.Kind.CONSUMER, streaming.kind());
+            assertEquals("action", streaming.consumerParameter());
+            assertEquals(
+                    List.of("status"),
+                    result.filterParameters().stream().map(QueryParameter::name).toList());
+        }
+
+        @Test
+        @DisplayName("should stream findAll through a dedicated repository method")
+        void shouldDetectFindAllStream() {
+            // Given
+            PortMethodView method = method("findAll", "java.util.stream.Stream<com.example.Order>");
+
+            // When
+            QueryMethodModel result = analyzer.analyzeMethod(method).orElseThrow();
+
+            // Then: JpaRepository already declares findAll() with a list result
+            assertEquals(QueryType.FIND_ALL, result.queryType());
+            assertEquals(
+                    "streamAllBy", result.streamingIfPresent().orElseThrow().repositoryMethodName());
+        }
+    }
+
+    private static PortMethodView method(String name, String returnType, PortParameterView... parameters) {
+        PortMethodView method = mock(PortMethodView.class);
+        TypeRef returnTypeRef = ClassRef.of(returnType);
+        when(method.name()).thenReturn(name);
+        when(method.returnType()).thenReturn(returnTypeRef);
+        when(method.parameters()).thenReturn(List.of(parameters));
+        return method;
+    }
+
+    private static PortParameterView parameter(String name, String type) {
+        PortParameterView parameter = mock(PortParameterView.class);
+        TypeRef typeRef = ClassRef.of(type);
+        when(parameter.name()).thenReturn(name);
+        when(parameter.type()).thenReturn(typeRef);
+        return parameter;
+    }
+}
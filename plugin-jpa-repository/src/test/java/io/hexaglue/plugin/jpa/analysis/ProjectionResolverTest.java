@@ -0,0 +1,190 @@
+/**
+ * This Source Code Form is part of the HexaGlue project.
+ * Copyright (c) 2025 Scalastic
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ *
+ * Commercial licensing options are available for organizations wishing
+ * to use HexaGlue under terms different from the MPL 2.0.
+ * Contact: info@hexaglue.io
+ */
+package io.hexaglue.plugin.jpa.analysis;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import io.hexaglue.plugin.jpa.config.JpaPluginOptions;
+import io.hexaglue.plugin.jpa.diagnostics.JpaDiagnosticCodes;
+import io.hexaglue.plugin.jpa.model.EntityModel;
+import io.hexaglue.plugin.jpa.model.IdModel;
+import io.hexaglue.plugin.jpa.model.ProjectionModel;
+import io.hexaglue.plugin.jpa.model.PropertyModel;
+import io.hexaglue.plugin.jpa.model.QueryMethodModel;
+import io.hexaglue.plugin.jpa.model.QueryMethodModel.QueryParameter;
+import io.hexaglue.plugin.jpa.model.QueryMethodModel.QueryType;
+import io.hexaglue.spi.diagnostics.Diagnostic;
+import io.hexaglue.spi.ir.domain.DomainModelView;
+import io.hexaglue.spi.ir.domain.DomainPropertyView;
+import io.hexaglue.spi.ir.domain.DomainTypeKind;
+import io.hexaglue.spi.ir.domain.DomainTypeView;
+import io.hexaglue.spi.types.ClassRef;
+import io.hexaglue.spi.types.ParameterizedRef;
+import io.hexaglue.spi.types.TypeRef;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link ProjectionResolver}.
+ *
+ * @since 0.4.0
+ */
+@DisplayName("ProjectionResolver")
+class ProjectionResolverTest {
+
+    private static final TypeRef ORDER = ClassRef.of("com.example.Order");
+    private static final TypeRef ORDER_ID = ClassRef.of("com.example.OrderId");
+    private static final TypeRef ORDER_STATUS = ClassRef.of("com.example.OrderStatus");
+    private static final TypeRef STRING = ClassRef.of("java.lang.String");
+
+    private DomainModelView domainModel;
+    private List<Diagnostic> diagnostics;
+    private ProjectionResolver resolver;
+    private EntityModel entityModel;
+
+    @BeforeEach
+    void setUp() {
+        domainModel = mock(DomainModelView.class);
+        diagnostics = new ArrayList<>();
+        resolver = new ProjectionResolver(new DomainTypeIndex(domainModel), diagnostics::add);
+
+        // Order(OrderId id, OrderStatus status, String notes)
+        registerType(
+                "com.example.Order",
+                DomainTypeKind.AGGREGATE_ROOT,
+                property("id", ORDER_ID),
+                property("status", ORDER_STATUS),
+                property("notes", STRING));
+        registerType("com.example.OrderId", DomainTypeKind.IDENTIFIER, property("value", STRING));
+
+        entityModel = EntityModel.builder()
+                .entityClassName("OrderEntity")
+                .entityPackage("com.example.infrastructure.persistence.entity")
+                .tableName("orders")
+                .schema("")
+                .domainType(ORDER)
+                .idModel(IdModel.simple(STRING, ORDER_ID, JpaPluginOptions.IdGenerationStrategy.ASSIGNED, ""))
+                .properties(List.of(column("status", ORDER_STATUS), column("notes", STRING)))
+                .relationships(List.of())
+                .build();
+    }
+
+    @Nested
+    @DisplayName("Read models")
+    class ReadModelTests {
+
+        @Test
+        @DisplayName("should project a read model typed with the entity attribute types")
+        void shouldProjectSubsetOfAggregate() {
+            // Given: OrderSummary(OrderId id, OrderStatus status)
+            registerType(
+                    "com.example.OrderSummary",
+                    DomainTypeKind.RECORD,
+                    property("id", ORDER_ID),
+                    property("status", ORDER_STATUS));
+            QueryMethodModel queryMethod = findByStatus("com.example.OrderSummary");
+
+            // When
+            QueryMethodModel result = resolver.resolve(queryMethod, entityModel, "com.example.OrderRepository");
+
+            // Then: the ID is unwrapped to the entity ID type
+            ProjectionModel projection = result.projectionIfPresent().orElseThrow();
+            assertEquals("OrderSummaryProjection", projection.interfaceName());
+            assertEquals("toOrderSummary", projection.mapperMethodName());
+            assertEquals(
+                    List.of("getId:java.lang.String", "getStatus:com.example.OrderStatus"),
+                    projection.properties().stream()
+                            .map(property -> property.getterName() + ":"
+                                    + property.type().render())
+                            .toList());
+            assertTrue(diagnostics.isEmpty());
+        }
+
+        @Test
+        @DisplayName("should warn and keep the method unchanged when a property is not in the aggregate")
+        void shouldRejectUnknownProperty() {
+            // Given: OrderView(OrderId id, String customerName)
+            registerType(
+                    "com.example.OrderView",
+                    DomainTypeKind.RECORD,
+                    property("id", ORDER_ID),
+                    property("customerName", STRING));
+            QueryMethodModel queryMethod = findByStatus("com.example.OrderView");
+
+            // When
+            QueryMethodModel result = resolver.resolve(queryMethod, entityModel, "com.example.OrderRepository");
+
+            // Then
+            assertSame(queryMethod, result);
+            assertEquals(1, diagnostics.size());
+            assertEquals(
+                    JpaDiagnosticCodes.UNSUPPORTED_PROJECTION,
+                    diagnostics.get(0).code());
+        }
+
+        @Test
+        @DisplayName("should not project methods returning the aggregate")
+        void shouldIgnoreAggregateResult() {
+            // Given
+            QueryMethodModel queryMethod = findByStatus("com.example.Order");
+
+            // When
+            QueryMethodModel result = resolver.resolve(queryMethod, entityModel, "com.example.OrderRepository");
+
+            // Then
+            assertTrue(result.projectionIfPresent().isEmpty());
+            assertTrue(diagnostics.isEmpty());
+        }
+    }
+
+    private QueryMethodModel findByStatus(String elementType) {
+        ParameterizedRef returnType = mock(ParameterizedRef.class);
+        when(returnType.render()).thenReturn("java.util.List<" + elementType + ">");
+        when(returnType.typeArguments()).thenReturn(List.of(ClassRef.of(elementType)));
+        return QueryMethodModel.builder()
+                .methodName("findByStatus")
+                .queryType(QueryType.FIND_BY)
+                .parameters(List.of(new QueryParameter("status", ORDER_STATUS, "status")))
+                .returnType(returnType)
+                .returnsList(true)
+                .build();
+    }
+
+    private void registerType(String qualifiedName, DomainTypeKind kind, DomainPropertyView... properties) {
+        DomainTypeView type = mock(DomainTypeView.class);
+        when(type.qualifiedName()).thenReturn(qualifiedName);
+        when(type.kind()).thenReturn(kind);
+        when(type.properties()).thenReturn(List.of(properties));
+        when(domainModel.findType(qualifiedName)).thenReturn(Optional.of(type));
+    }
+
+    private static DomainPropertyView property(String name, TypeRef type) {
+        DomainPropertyView property = mock(DomainPropertyView.class);
+        when(property.name()).thenReturn(name);
+        when(property.type()).thenReturn(type);
+        return property;
+    }
+
+    private static PropertyModel column(String name, TypeRef type) {
+        return PropertyModel.builder().name(name).type(type).columnName(name).build();
+    }
+}
@@ -0,0 +1,91 @@
+/**
+ * This Source Code Form is part of the HexaGlue project.
+ * Copyright (c) 2025 Scalastic
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ *
+ * Commercial licensing options are available for organizations wishing
+ * to use HexaGlue under terms different from the MPL 2.0.
+ * Contact: info@hexaglue.io
+ */
+package io.hexaglue.plugin.jpa.config;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import io.hexaglue.plugin.jpa.config.JpaCacheOptions.Strategy;
+import io.hexaglue.spi.options.OptionsView;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link JpaCacheOptions}.
+ *
+ * @since 0.4.0
+ */
+@DisplayName("JpaCacheOptions")
+class JpaCacheOptionsTest {
+
+    private static final String PREFIX = "types.com.example.Country.cache.";
+
+    private OptionsView.PluginOptionsView pluginOptions;
+
+    @BeforeEach
+    void setUp() {
+        pluginOptions = mock(OptionsView.PluginOptionsView.class);
+        when(pluginOptions.getOrDefault(any(), any(), any())).thenAnswer(invocation -> invocation.getArgument(2));
+    }
+
+    @Test
+    @DisplayName("should not cache aggregates without a strategy")
+    void shouldNotCacheByDefault() {
+        assertTrue(JpaCacheOptions.forType(pluginOptions, "com.example.Country").isEmpty());
+    }
+
+    @Test
+    @DisplayName("should resolve the cache options of the aggregate")
+    void shouldResolveCacheOptions() {
+        // Given
+        when(pluginOptions.getOrDefault(eq(PREFIX + "strategy"), any(), any())).thenReturn("read-only");
+        when(pluginOptions.getOrDefault(eq(PREFIX + "region"), any(), any())).thenReturn("catalog.country");
+        when(pluginOptions.getOrDefault(eq(PREFIX + "collections"), any(), any()))
+                .thenReturn(true);
+        when(pluginOptions.getOrDefault(eq(PREFIX + "queries"), any(), any()))
+                .thenReturn("findByIsoCode, countByRegion");
+
+        // When
+        Optional<JpaCacheOptions> cache = JpaCacheOptions.forType(pluginOptions, "com.example.Country");
+
+        // Then
+        assertEquals(
+                Optional.of(new JpaCacheOptions(
+                        Strategy.READ_ONLY, "catalog.country", true, Set.of("findByIsoCode", "countByRegion"))),
+                cache);
+    }
+
+    @Test
+    @DisplayName("should accept cached queries as a YAML list")
+    void shouldAcceptQueryList() {
+        // Given
+        when(pluginOptions.getOrDefault(eq(PREFIX + "strategy"), any(), any())).thenReturn("READ_WRITE");
+        when(pluginOptions.getOrDefault(eq(PREFIX + "queries"), any(), any())).thenReturn(List.of("findByIsoCode"));
+
+        // When
+        JpaCacheOptions cache =
+                JpaCacheOptions.forType(pluginOptions, "com.example.Country").orElseThrow();
+
+        // Then
+        assertTrue(cache.cachesQuery("findByIsoCode"));
+        assertTrue(cache.regionIfPresent().isEmpty());
+    }
+}
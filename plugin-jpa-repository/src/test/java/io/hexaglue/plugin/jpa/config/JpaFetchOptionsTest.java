@@ -0,0 +1,95 @@
+/**
+ * This Source Code Form is part of the HexaGlue project.
+ * Copyright (c) 2025 Scalastic
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ *
+ * Commercial licensing options are available for organizations wishing
+ * to use HexaGlue under terms different from the MPL 2.0.
+ * Contact: info@hexaglue.io
+ */
+package io.hexaglue.plugin.jpa.config;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import io.hexaglue.plugin.jpa.config.JpaFetchOptions.Mode;
+import io.hexaglue.spi.options.OptionsView;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link JpaFetchOptions}.
+ *
+ * @since 0.4.0
+ */
+@DisplayName("JpaFetchOptions")
+class JpaFetchOptionsTest {
+
+    private static final String PREFIX = "types.com.example.Order.relationships.lines.";
+
+    private OptionsView.PluginOptionsView pluginOptions;
+
+    @BeforeEach
+    void setUp() {
+        pluginOptions = mock(OptionsView.PluginOptionsView.class);
+        when(pluginOptions.getOrDefault(any(), any(), any())).thenAnswer(invocation -> invocation.getArgument(2));
+    }
+
+    @Test
+    @DisplayName("should keep collections of the aggregate entity graph unannotated by default")
+    void shouldNotBatchGraphCollectionsByDefault() {
+        // When
+        JpaFetchOptions resolved =
+                JpaFetchOptions.defaults().forRelationship(pluginOptions, "com.example.Order", "lines", true);
+
+        // Then
+        assertEquals(JpaFetchOptions.defaults(), resolved);
+    }
+
+    @Test
+    @DisplayName("should batch fetch collections left out of the aggregate entity graph")
+    void shouldBatchCollectionsOutsideGraph() {
+        // When
+        JpaFetchOptions resolved =
+                JpaFetchOptions.defaults().forRelationship(pluginOptions, "com.example.Order", "lines", false);
+
+        // Then
+        assertEquals(new JpaFetchOptions(Mode.BATCH, JpaFetchOptions.DEFAULT_BATCH_SIZE), resolved);
+    }
+
+    @Test
+    @DisplayName("should apply the batch size of the relationship")
+    void shouldApplyRelationshipBatchSize() {
+        // Given
+        when(pluginOptions.getOrDefault(eq(PREFIX + "fetchBatchSize"), any(), any()))
+                .thenReturn(100);
+
+        // When
+        JpaFetchOptions resolved =
+                JpaFetchOptions.ofBatchSize(20).forRelationship(pluginOptions, "com.example.Order", "lines", true);
+
+        // Then
+        assertEquals(new JpaFetchOptions(Mode.BATCH, 100), resolved);
+    }
+
+    @Test
+    @DisplayName("should apply the fetch mode of the relationship")
+    void shouldApplyRelationshipFetchMode() {
+        // Given
+        when(pluginOptions.getOrDefault(eq(PREFIX + "fetchMode"), any(), any())).thenReturn("subselect");
+
+        // When
+        JpaFetchOptions resolved =
+                JpaFetchOptions.ofBatchSize(20).forRelationship(pluginOptions, "com.example.Order", "lines", false);
+
+        // Then
+        assertEquals(new JpaFetchOptions(Mode.SUBSELECT, 0), resolved);
+    }
+}
@@ -0,0 +1,704 @@
+/**
+ * This Source Code Form is part of the HexaGlue project.
+ * Copyright (c) 2025 Scalastic
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ *
+ * Commercial licensing options are available for organizations wishing
+ * to use HexaGlue under terms different from the MPL 2.0.
+ * Contact: info@hexaglue.io
+ */
+package io.hexaglue.plugin.jpa.generator;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import io.hexaglue.plugin.jpa.analysis.DomainTypeIndex;
+import io.hexaglue.plugin.jpa.analysis.PartialUpdateResolver;
+import io.hexaglue.plugin.jpa.config.JpaPluginOptions.IdGenerationStrategy;
+import io.hexaglue.plugin.jpa.config.JpaPluginOptions.NewEntityDetection;
+import io.hexaglue.plugin.jpa.model.EntityModel;
+import io.hexaglue.plugin.jpa.model.IdModel;
+import io.hexaglue.plugin.jpa.model.JpaGenerationPlan;
+import io.hexaglue.plugin.jpa.model.PartialUpdateModel;
+import io.hexaglue.plugin.jpa.model.PropertyModel;
+import io.hexaglue.plugin.jpa.model.QueryMethodModel;
+import io.hexaglue.plugin.jpa.model.QueryMethodModel.QueryParameter;
+import io.hexaglue.plugin.jpa.model.QueryMethodModel.QueryType;
+import io.hexaglue.plugin.jpa.model.RelationshipModel;
+import io.hexaglue.plugin.jpa.model.RelationshipModel.CollectionType;
+import io.hexaglue.plugin.jpa.model.RelationshipModel.RelationshipScope;
+import io.hexaglue.plugin.jpa.model.RelationshipModel.RelationshipType;
+import io.hexaglue.spi.codegen.MergeMode;
+import io.hexaglue.spi.ir.domain.DomainModelView;
+import io.hexaglue.spi.ir.domain.DomainPropertyView;
+import io.hexaglue.spi.ir.domain.DomainTypeKind;
+import io.hexaglue.spi.ir.domain.DomainTypeView;
+import io.hexaglue.spi.ir.ports.PortMethodView;
+import io.hexaglue.spi.ir.ports.PortParameterView;
+import io.hexaglue.spi.ir.ports.PortView;
+import io.hexaglue.spi.types.ClassRef;
+import io.hexaglue.spi.types.TypeRef;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link AdapterGenerator}.
+ *
+ * @since 0.4.0
+ */
+@DisplayName("AdapterGenerator")
+class AdapterGeneratorTest {
+
+    private static final TypeRef ORDER = ClassRef.of("com.example.Order");
+    private static final TypeRef ORDER_ID = ClassRef.of("com.example.OrderId");
+
+    private DomainTypeIndex typeIndex;
+    private AdapterGenerator generator;
+
+    @BeforeEach
+    void setUp() {
+        DomainModelView domainModel = mock(DomainModelView.class);
+        DomainTypeView orderId = mock(DomainTypeView.class);
+        DomainPropertyView value = mock(DomainPropertyView.class);
+        TypeRef valueType = ClassRef.of("java.lang.String");
+        when(value.name()).thenReturn("value");
+        when(value.type()).thenReturn(valueType);
+        when(orderId.qualifiedName()).thenReturn("com.example.OrderId");
+        when(orderId.kind()).thenReturn(DomainTypeKind.IDENTIFIER);
+        when(orderId.properties()).thenReturn(List.of(value));
+        when(domainModel.findType("com.example.OrderId")).thenReturn(Optional.of(orderId));
+        DomainTypeView email = mock(DomainTypeView.class);
+        when(email.qualifiedName()).thenReturn("com.example.Email");
+        when(email.kind()).thenReturn(DomainTypeKind.RECORD);
+        when(email.properties()).thenReturn(List.of(value));
+        when(domainModel.findType("com.example.Email")).thenReturn(Optional.of(email));
+
+        typeIndex = new DomainTypeIndex(domainModel);
+        generator = new AdapterGenerator(typeIndex, false);
+    }
+
+    @Nested
+    @DisplayName("Transaction boundaries")
+    class TransactionTests {
+
+        @Test
+        @DisplayName("should annotate reads as read-only and writes as read-write")
+        void shouldAnnotateReadsAndWrites() {
+            // When
+            String adapter = generate(plan(entity().build(), true, crudMethods()));
+
+            // Then
+            assertTrue(compact(adapter).contains("@Transactional(readOnly=true)publicOptional<Order>findById("));
+            assertTrue(compact(adapter).contains("@Transactional(readOnly=true)publiclongcount("));
+            assertTrue(adapter.contains("@Transactional\n  public Order save("));
+            assertTrue(adapter.contains("@Transactional\n  public void deleteById("));
+        }
+
+        @Test
+        @DisplayName("should not make a transactional adapter final, so that Spring can proxy it")
+        void shouldNotMakeTransactionalAdapterFinal() {
+            // When
+            String adapter = generate(plan(entity().build(), true, crudMethods()));
+
+            // Then
+            assertTrue(adapter.contains("public class OrderAdapter implements OrderRepository"));
+            assertFalse(adapter.contains("final class OrderAdapter"));
+        }
+
+        @Test
+        @DisplayName("should keep the adapter final when transactions are disabled")
+        void shouldKeepAdapterFinalWithoutTransactions() {
+            // When
+            String adapter = generate(plan(entity().build(), false, crudMethods()));
+
+            // Then
+            assertTrue(adapter.contains("public final class OrderAdapter implements OrderRepository"));
+            assertFalse(adapter.contains("@Transactional"));
+        }
+    }
+
+    @Nested
+    @DisplayName("Save")
+    class SaveTests {
+
+        @Test
+        @DisplayName("should persist an aggregate with an assigned ID directly after a lookup miss")
+        void shouldPersistAssignedIdAfterLookupMiss() {
+            // When
+            String adapter = generate(plan(entity().build(), true, crudMethods()));
+
+            // Then
+            assertTrue(adapter.contains("var existing = repo.findById(entity.getId());"));
+            assertTrue(adapter.contains("mapper.updateEntity(existing.get(), order);"));
+            assertTrue(adapter.contains("entityManager.persist(entity);\n    return mapper.toDomain(entity);"));
+            assertFalse(adapter.contains("repo.save("));
+        }
+
+        @Test
+        @DisplayName("should persist an aggregate with a UUID directly after a lookup miss")
+        void shouldPersistUuidAfterLookupMiss() {
+            // Given
+            EntityModel entity = entity().idModel(id(ClassRef.of("java.util.UUID"), IdGenerationStrategy.UUID))
+                    .build();
+
+            // When
+            String adapter = generate(plan(entity, true, crudMethods()));
+
+            // Then
+            assertTrue(adapter.contains("var existing = repo.findById(entity.getId());"));
+            assertTrue(adapter.contains("entityManager.persist(entity);"));
+            assertFalse(adapter.contains("repo.save("));
+        }
+
+        @Test
+        @DisplayName("should skip the lookup of an aggregate without a generated ID")
+        void shouldSkipLookupWithoutGeneratedId() {
+            // Given
+            EntityModel entity = entity().idModel(id(ClassRef.of("java.lang.Long"), IdGenerationStrategy.IDENTITY))
+                    .build();
+
+            // When
+            String adapter = generate(plan(entity, true, crudMethods()));
+
+            // Then
+            assertTrue(adapter.contains("if (entity.getId() != null) {\n      var existing = repo.findById("));
+            assertTrue(adapter.contains("var saved = repo.save(entity);"));
+            assertFalse(adapter.contains("entityManager.persist"));
+        }
+
+        @Test
+        @DisplayName("should compare a primitive generated ID with zero")
+        void shouldComparePrimitiveGeneratedIdWithZero() {
+            // Given
+            EntityModel entity = entity().idModel(id(ClassRef.of("long"), IdGenerationStrategy.SEQUENCE))
+                    .build();
+
+            // When
+            String adapter = generate(plan(entity, true, crudMethods()));
+
+            // Then
+            assertTrue(adapter.contains("if (entity.getId() != 0) {"));
+            assertTrue(adapter.contains("var saved = repo.save(entity);"));
+        }
+
+        @Test
+        @DisplayName("should merge an aggregate owning a child collection instead of updating it in place")
+        void shouldMergeAggregateWithChildCollection() {
+            // Given
+            EntityModel entity = entity().relationships(List.of(lines())).build();
+
+            // When
+            String adapter = generate(plan(entity, true, crudMethods()));
+
+            // Then
+            assertTrue(adapter.contains("return mapper.toDomain(entityManager.merge(entity));"));
+            assertTrue(adapter.contains("entityManager.persist(entity);"));
+            assertFalse(adapter.contains("updateEntity"));
+        }
+
+        @Test
+        @DisplayName("should save an aggregate with a generated ID owning a child collection without lookup")
+        void shouldSaveGeneratedIdAggregateWithChildCollection() {
+            // Given
+            EntityModel entity = entity().idModel(id(ClassRef.of("java.lang.Long"), IdGenerationStrategy.IDENTITY))
+                    .relationships(List.of(lines()))
+                    .build();
+
+            // When
+            String adapter = generate(plan(entity, true, crudMethods()));
+
+            // Then
+            assertTrue(adapter.contains("var entity = mapper.toEntity(order);\n    var saved = repo.save(entity);"));
+            assertFalse(adapter.contains("updateEntity"));
+        }
+
+        @Test
+        @DisplayName("should keep the repository save without transaction boundaries")
+        void shouldKeepRepositorySaveWithoutTransactions() {
+            // When
+            String adapter = generate(plan(entity().build(), false, crudMethods()));
+
+            // Then
+            assertTrue(adapter.contains("var saved = repo.save(entity);"));
+            assertFalse(adapter.contains("updateEntity"));
+            assertFalse(adapter.contains("entityManager"));
+        }
+    }
+
+    @Nested
+    @DisplayName("Batch writes")
+    class BatchWriteTests {
+
+        @Test
+        @DisplayName("should stream an array parameter")
+        void shouldStreamArrayParameter() {
+            // When
+            String adapter = generate(batchWrite(
+                    ClassRef.of("java.util.List<com.example.Order>"),
+                    parameter("orders", ClassRef.of("com.example.Order[]"))));
+
+            // Then
+            assertTrue(adapter.contains("var entities = Arrays.stream(orders).map(mapper::toEntity).toList();"));
+            assertTrue(adapter.contains("return saved.stream().map(mapper::toDomain).toList();"));
+        }
+
+        @Test
+        @DisplayName("should declare and stream a varargs parameter")
+        void shouldStreamVarargsParameter() {
+            // Given
+            PortParameterView orders = parameter("orders", ClassRef.of("com.example.Order[]"));
+            when(orders.isVarArgs()).thenReturn(true);
+
+            // When
+            String adapter = generate(batchWrite(ClassRef.of("void"), orders));
+
+            // Then
+            assertTrue(adapter.contains("public void saveAll(Order... orders)"));
+            assertTrue(adapter.contains("var entities = Arrays.stream(orders).map(mapper::toEntity).toList();"));
+            assertTrue(adapter.contains("repo.saveAll(entities);"));
+        }
+
+        @Test
+        @DisplayName("should stream a List parameter")
+        void shouldStreamListParameter() {
+            // When
+            String adapter = generate(batchWrite(
+                    ClassRef.of("java.util.List<com.example.Order>"),
+                    parameter("orders", ClassRef.of("java.util.List<com.example.Order>"))));
+
+            // Then
+            assertTrue(adapter.contains("var entities = orders.stream().map(mapper::toEntity).toList();"));
+            assertTrue(adapter.contains("var saved = repo.saveAll(entities);"));
+        }
+
+        @Test
+        @DisplayName("should collect a Set result in iteration order")
+        void shouldCollectSetResult() {
+            // When
+            String adapter = generate(batchWrite(
+                    ClassRef.of("java.util.Set<com.example.Order>"),
+                    parameter("orders", ClassRef.of("java.util.Set<com.example.Order>"))));
+
+            // Then
+            assertTrue(adapter.contains("var entities = orders.stream().map(mapper::toEntity).toList();"));
+            assertTrue(adapter.contains("return saved.stream().map(mapper::toDomain)"
+                    + ".collect(Collectors.toCollection(LinkedHashSet::new));"));
+        }
+
+        @Test
+        @DisplayName("should stream an Iterable parameter")
+        void shouldStreamIterableParameter() {
+            // When
+            String adapter = generate(batchWrite(
+                    ClassRef.of("java.lang.Iterable<com.example.Order>"),
+                    parameter("orders", ClassRef.of("java.lang.Iterable<com.example.Order>"))));
+
+            // Then
+            assertTrue(adapter.contains("var entities = StreamSupport.stream(orders.spliterator(), false)"
+                    + ".map(mapper::toEntity).toList();"));
+            assertTrue(adapter.contains("return saved.stream().map(mapper::toDomain).toList();"));
+        }
+
+        @Test
+        @DisplayName("should stub a batch write whose elements are not the aggregate")
+        void shouldStubBatchWriteOfAnotherType() {
+            // When
+            String adapter = generate(batchWrite(
+                    ClassRef.of("void"), parameter("names", ClassRef.of("java.util.List<java.lang.String>"))));
+
+            // Then
+            assertTrue(adapter.contains("// TODO: Implement saveAll"));
+            assertFalse(adapter.contains("repo.saveAll("));
+        }
+
+        @Test
+        @DisplayName("should stub a batch write returning an array")
+        void shouldStubBatchWriteReturningArray() {
+            // When
+            String adapter = generate(batchWrite(
+                    ClassRef.of("com.example.Order[]"),
+                    parameter("orders", ClassRef.of("java.util.List<com.example.Order>"))));
+
+            // Then
+            assertTrue(adapter.contains("throw new UnsupportedOperationException("));
+            assertFalse(adapter.contains("repo.saveAll("));
+        }
+
+        private JpaGenerationPlan batchWrite(TypeRef returnType, PortParameterView parameter) {
+            return plan(entity().build(), true, List.of(method("saveAll", returnType, parameter)));
+        }
+    }
+
+    @Nested
+    @DisplayName("New entity detection")
+    class NewEntityDetectionTests {
+
+        @Test
+        @DisplayName("should save an added aggregate without looking it up")
+        void shouldSaveAddedAggregateWithoutLookup() {
+            // Given
+            EntityModel entity = entity().newEntityDetection(NewEntityDetection.VERSION).build();
+
+            // When
+            String adapter = generate(plan(entity, true, List.of(method("add", ORDER, parameter("order", ORDER)))));
+
+            // Then
+            assertTrue(adapter.contains(
+                    "var saved = repo.save(mapper.toEntity(order));\n    return mapper.toDomain(saved);"));
+            assertFalse(adapter.contains("findById"));
+        }
+
+        @Test
+        @DisplayName("should save an inserted aggregate returning nothing")
+        void shouldSaveInsertedAggregate() {
+            // Given
+            EntityModel entity = entity().newEntityDetection(NewEntityDetection.CALLBACK).build();
+
+            // When
+            String adapter = generate(
+                    plan(entity, true, List.of(method("insert", ClassRef.of("void"), parameter("order", ORDER)))));
+
+            // Then
+            assertTrue(adapter.contains("public void insert(Order order)"));
+            assertTrue(adapter.contains("repo.save(mapper.toEntity(order));"));
+        }
+
+        @Test
+        @DisplayName("should load the existing aggregates of a batch once and update them in place")
+        void shouldUpdateExistingAggregatesOfBatch() {
+            // Given
+            EntityModel entity = entity().newEntityDetection(NewEntityDetection.VERSION).build();
+
+            // When
+            String adapter = generate(plan(entity, true, List.of(saveAll())));
+
+            // Then
+            assertTrue(adapter.contains("var existing = repo.findAllById(entities.stream().map(e -> e.getId())"));
+            assertTrue(adapter.contains("for (int i = 0; i < entities.size(); i++) {"));
+            assertTrue(adapter.contains(
+                    "mapper.updateEntity(managed, domains.get(i));\n        entities.set(i, managed);"));
+            assertTrue(adapter.contains("repo.saveAll(entities);"));
+        }
+
+        @Test
+        @DisplayName("should merge the existing aggregates of a batch owning a child collection")
+        void shouldMergeExistingAggregatesOfBatchWithChildCollection() {
+            // Given
+            EntityModel entity = entity().newEntityDetection(NewEntityDetection.CALLBACK)
+                    .relationships(List.of(lines()))
+                    .build();
+
+            // When
+            String adapter = generate(plan(entity, true, List.of(saveAll())));
+
+            // Then
+            assertTrue(adapter.contains("repo.findAllById("));
+            assertTrue(adapter.contains("entities.set(i, entityManager.merge(entities.get(i)));"));
+            assertFalse(adapter.contains("updateEntity"));
+        }
+
+        @Test
+        @DisplayName("should not look up the aggregates of a batch without new entity detection")
+        void shouldNotLookUpBatchWithoutDetection() {
+            // When
+            String adapter = generate(plan(entity().build(), true, List.of(saveAll())));
+
+            // Then
+            assertFalse(adapter.contains("findAllById"));
+            assertTrue(adapter.contains("var entities = orders.stream().map(mapper::toEntity).toList();"));
+        }
+
+        private PortMethodView saveAll() {
+            return method(
+                    "saveAll",
+                    ClassRef.of("void"),
+                    parameter("orders", ClassRef.of("java.util.List<com.example.Order>")));
+        }
+    }
+
+    @Nested
+    @DisplayName("Delete by ID")
+    class DeleteByIdTests {
+
+        private static final String EVICTION =
+                "entityManager.detach(entityManager.getReference(OrderEntity.class, id.value()));";
+
+        @Test
+        @DisplayName("should soft-delete with a single statement and evict the aggregate only")
+        void shouldSoftDeleteAndEvict() {
+            // Given
+            EntityModel entity = entity().enableSoftDelete(true).build();
+
+            // When
+            String adapter = generate(plan(entity, true, List.of(deleteById("void"))));
+
+            // Then
+            assertTrue(adapter.contains("repo.softDeleteById(id.value(), Instant.now());\n    " + EVICTION));
+            assertTrue(adapter.contains("EntityManager entityManager"));
+            assertFalse(adapter.contains("entityManager.clear()"));
+        }
+
+        @Test
+        @DisplayName("should report a soft delete of a live row as true")
+        void shouldReturnSoftDeleteResult() {
+            // Given
+            EntityModel entity = entity().enableSoftDelete(true).build();
+
+            // When
+            String adapter = generate(plan(entity, true, List.of(deleteById("boolean"))));
+
+            // Then
+            assertTrue(adapter.contains("int affected = repo.softDeleteById(id.value(), Instant.now());\n    "
+                    + EVICTION + "\n    return affected > 0;"));
+        }
+
+        @Test
+        @DisplayName("should hard-delete an aggregate without collections with a single statement")
+        void shouldHardDeleteAndEvict() {
+            // When
+            String adapter = generate(plan(entity().build(), true, List.of(deleteById("void"))));
+
+            // Then
+            assertTrue(adapter.contains("repo.hardDeleteById(id.value());\n    " + EVICTION));
+        }
+
+        @Test
+        @DisplayName("should report a hard delete of an existing row as true")
+        void shouldReturnHardDeleteResult() {
+            // When
+            String adapter = generate(plan(entity().build(), true, List.of(deleteById("boolean"))));
+
+            // Then
+            assertTrue(adapter.contains("int affected = repo.hardDeleteById(id.value());\n    "
+                    + EVICTION + "\n    return affected > 0;"));
+        }
+
+        @Test
+        @DisplayName("should load and delete an aggregate owning a child collection")
+        void shouldFallBackToCascadingDelete() {
+            // Given
+            EntityModel entity = entity().relationships(List.of(lines())).build();
+
+            // When
+            String adapter = generate(plan(entity, true, List.of(deleteById("void"))));
+
+            // Then
+            assertTrue(adapter.contains("repo.deleteById(id.value());"));
+            assertFalse(adapter.contains("hardDeleteById"));
+            assertFalse(adapter.contains("entityManager"));
+        }
+
+        @Test
+        @DisplayName("should report a cascading delete of an existing aggregate as true")
+        void shouldReturnCascadingDeleteResult() {
+            // Given
+            EntityModel entity = entity().relationships(List.of(lines())).build();
+
+            // When
+            String adapter = generate(plan(entity, true, List.of(deleteById("boolean"))));
+
+            // Then
+            assertTrue(adapter.contains("return repo.findById(id.value())"
+                    + ".map(entity -> { repo.delete(entity); return true; }).orElse(false);"));
+        }
+
+        @Test
+        @DisplayName("should not evict without an adapter transaction")
+        void shouldNotEvictWithoutTransaction() {
+            // When
+            String adapter = generate(plan(entity().build(), false, List.of(deleteById("boolean"))));
+
+            // Then
+            assertTrue(adapter.contains("return repo.hardDeleteById(id.value()) > 0;"));
+            assertFalse(adapter.contains("entityManager"));
+        }
+
+        @Test
+        @DisplayName("should evict the aggregate of a partial update")
+        void shouldEvictPartialUpdate() {
+            // Given
+            List<PortMethodView> methods = List.of(method(
+                    "markShipped",
+                    ClassRef.of("boolean"),
+                    parameter("id", ORDER_ID),
+                    parameter("at", ClassRef.of("java.time.Instant"))));
+            QueryMethodModel markShipped = QueryMethodModel.builder()
+                    .methodName("markShipped")
+                    .queryType(QueryType.UPDATE_BY_ID)
+                    .parameters(List.of(
+                            new QueryParameter("id", ORDER_ID, "id"),
+                            new QueryParameter("at", ClassRef.of("java.time.Instant"), "shippedAt")))
+                    .returnType(ClassRef.of("boolean"))
+                    .partialUpdate(new PartialUpdateModel(
+                            "update OrderEntity e set e.shippedAt = :at where e.id = :id", "id", Map.of(), false))
+                    .build();
+
+            // When
+            String adapter = generate(plan(entity().build(), true, methods, List.of(markShipped)));
+
+            // Then
+            assertTrue(adapter.contains("int affected = repo.markShipped(id.value(), at);\n    "
+                    + EVICTION + "\n    return affected > 0;"));
+        }
+
+        private PortMethodView deleteById(String returnType) {
+            return method("deleteById", ClassRef.of(returnType), parameter("id", ORDER_ID));
+        }
+    }
+
+    @Nested
+    @DisplayName("Partial updates")
+    class PartialUpdateTests {
+
+        @Test
+        @DisplayName("should pass the inner value of a Value Object parameter")
+        void shouldUnwrapValueObjectParameter() {
+            // Given
+            List<PortMethodView> methods = List.of(updateEmail(ClassRef.of("com.example.Email")));
+
+            // When
+            String adapter = generate(plan(entity().build(), false, methods, resolve(methods)));
+
+            // Then
+            assertTrue(adapter.contains("repo.updateEmail(id.value(), email.value());"));
+        }
+
+        @Test
+        @DisplayName("should keep a stub when a parameter does not have the column type")
+        void shouldKeepStubForMismatchedType() {
+            // Given
+            List<PortMethodView> methods = List.of(updateEmail(ClassRef.of("java.lang.Integer")));
+
+            // When
+            String adapter = generate(plan(entity().build(), false, methods, resolve(methods)));
+
+            // Then
+            assertTrue(adapter.contains("// TODO: Implement updateEmail"));
+            assertFalse(adapter.contains("repo.updateEmail("));
+        }
+
+        private PortMethodView updateEmail(TypeRef emailType) {
+            return method("updateEmail", ClassRef.of("void"), parameter("id", ORDER_ID), parameter("email", emailType));
+        }
+
+        /**
+         * Resolves the partial updates of port methods, as the generation plan builder does.
+         */
+        private List<QueryMethodModel> resolve(List<PortMethodView> methods) {
+            EntityModel entity = entity().properties(List.of(PropertyModel.builder()
+                            .name("email")
+                            .type(ClassRef.of("java.lang.String"))
+                            .columnName("email")
+                            .build()))
+                    .build();
+            PartialUpdateResolver resolver = new PartialUpdateResolver(typeIndex, diagnostic -> {});
+            return methods.stream()
+                    .flatMap(method -> resolver.resolve(method, entity, "com.example.OrderRepository").stream())
+                    .toList();
+        }
+    }
+
+    // Helper methods
+
+    private String generate(JpaGenerationPlan plan) {
+        return generator.generate(plan, MergeMode.OVERWRITE).content();
+    }
+
+    /**
+     * Removes all whitespace, so that assertions do not depend on how annotation members are wrapped.
+     */
+    private static String compact(String source) {
+        return source.replaceAll("\\s+", "");
+    }
+
+    private static List<PortMethodView> crudMethods() {
+        return List.of(
+                method("save", ORDER, parameter("order", ORDER)),
+                method("findById", ClassRef.of("java.util.Optional<com.example.Order>"), parameter("id", ORDER_ID)),
+                method("deleteById", ClassRef.of("void"), parameter("id", ORDER_ID)),
+                method("count", ClassRef.of("long")));
+    }
+
+    private static JpaGenerationPlan plan(EntityModel entity, boolean transactional, List<PortMethodView> methods) {
+        return plan(entity, transactional, methods, List.of());
+    }
+
+    private static JpaGenerationPlan plan(
+            EntityModel entity,
+            boolean transactional,
+            List<PortMethodView> methods,
+            List<QueryMethodModel> queryMethods) {
+        PortView port = mock(PortView.class);
+        when(port.qualifiedName()).thenReturn("com.example.OrderRepository");
+        when(port.simpleName()).thenReturn("OrderRepository");
+        when(port.methods()).thenReturn(methods);
+
+        String base = "com.example.infrastructure.persistence";
+        return JpaGenerationPlan.builder()
+                .port(port)
+                .entityModel(entity)
+                .entityQualifiedName(entity.qualifiedClassName())
+                .springDataRepoQualifiedName(base + ".springdata.OrderJpaRepository")
+                .mapperQualifiedName(base + ".mapper.OrderMapper")
+                .adapterQualifiedName(base + ".adapter.OrderAdapter")
+                .queryMethods(queryMethods)
+                .transactional(transactional)
+                .build();
+    }
+
+    private static EntityModel.Builder entity() {
+        return EntityModel.builder()
+                .entityClassName("OrderEntity")
+                .entityPackage("com.example.infrastructure.persistence.entity")
+                .tableName("orders")
+                .schema("")
+                .domainType(ORDER)
+                .idModel(IdModel.simple(ClassRef.of("java.lang.String"), ORDER_ID, IdGenerationStrategy.ASSIGNED, ""))
+                .properties(List.of())
+                .relationships(List.of());
+    }
+
+    private static IdModel id(TypeRef type, IdGenerationStrategy strategy) {
+        return IdModel.simple(type, ORDER_ID, strategy, "");
+    }
+
+    private static RelationshipModel lines() {
+        return new RelationshipModel(
+                "lines",
+                RelationshipType.ONE_TO_MANY,
+                ClassRef.of("com.example.OrderLine"),
+                "OrderLineEntity",
+                CollectionType.LIST,
+                null,
+                RelationshipModel.FetchType.LAZY,
+                true,
+                null,
+                null,
+                RelationshipScope.INTRA_AGGREGATE);
+    }
+
+    private static PortMethodView method(String name, TypeRef returnType, PortParameterView... parameters) {
+        PortMethodView method = mock(PortMethodView.class);
+        when(method.name()).thenReturn(name);
+        when(method.returnType()).thenReturn(returnType);
+        when(method.parameters()).thenReturn(List.of(parameters));
+        return method;
+    }
+
+    private static PortParameterView parameter(String name, TypeRef type) {
+        PortParameterView parameter = mock(PortParameterView.class);
+        when(parameter.name()).thenReturn(name);
+        when(parameter.type()).thenReturn(type);
+        return parameter;
+    }
+}
@@ -0,0 +1,141 @@
+/**
+ * This Source Code Form is part of the HexaGlue project.
+ * Copyright (c) 2025 Scalastic
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ *
+ * Commercial licensing options are available for organizations wishing
+ * to use HexaGlue under terms different from the MPL 2.0.
+ * Contact: info@hexaglue.io
+ */
+package io.hexaglue.plugin.jpa.generator;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import io.hexaglue.plugin.jpa.config.JpaPluginOptions;
+import io.hexaglue.plugin.jpa.config.JpaPluginOptions.IdGenerationStrategy;
+import io.hexaglue.plugin.jpa.config.JpaPluginOptions.NewEntityDetection;
+import io.hexaglue.plugin.jpa.model.EntityModel;
+import io.hexaglue.plugin.jpa.model.IdModel;
+import io.hexaglue.spi.codegen.MergeMode;
+import io.hexaglue.spi.context.GenerationContextSpec;
+import io.hexaglue.spi.options.OptionsView;
+import io.hexaglue.spi.types.ClassRef;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link EntityGenerator}.
+ *
+ * @since 0.4.0
+ */
+@DisplayName("EntityGenerator")
+class EntityGeneratorTest {
+
+    private EntityGenerator generator;
+
+    @BeforeEach
+    void setUp() {
+        GenerationContextSpec context = mock(GenerationContextSpec.class);
+        OptionsView.PluginOptionsView pluginOptions = mock(OptionsView.PluginOptionsView.class);
+        when(pluginOptions.getOrDefault(anyString(), any(), any()))
+                .thenAnswer(invocation -> invocation.getArgument(2));
+        when(pluginOptions.getOrDefault("basePackage", String.class, ""))
+                .thenReturn("com.example.infrastructure.persistence");
+
+        generator = new EntityGenerator(JpaPluginOptions.resolve(pluginOptions, context));
+    }
+
+    @Nested
+    @DisplayName("New entity detection")
+    class NewEntityDetectionTests {
+
+        @Test
+        @DisplayName("should not implement Persistable without new entity detection")
+        void shouldNotImplementPersistableWithoutDetection() {
+            // When
+            String entity = generate(entity(NewEntityDetection.NONE, true));
+
+            // Then
+            assertFalse(entity.contains("Persistable"));
+            assertTrue(entity.contains("@Version\n  private long version;"));
+            assertFalse(entity.contains("newEntity"));
+        }
+
+        @Test
+        @DisplayName("should detect new entities from a wrapper version")
+        void shouldDetectNewEntitiesFromVersion() {
+            // When
+            String entity = generate(entity(NewEntityDetection.VERSION, true));
+
+            // Then
+            assertTrue(entity.contains("implements Persistable<String>"));
+            assertTrue(entity.contains("@Version\n  private Long version;"));
+            assertTrue(entity.contains("public boolean isNew() {\n    return version == null;\n  }"));
+            assertFalse(entity.contains("newEntity"));
+            assertFalse(entity.contains("@PostLoad"));
+        }
+
+        @Test
+        @DisplayName("should detect new entities from a transient flag cleared by lifecycle callbacks")
+        void shouldDetectNewEntitiesFromCallbacks() {
+            // When
+            String entity = generate(entity(NewEntityDetection.CALLBACK, true));
+
+            // Then
+            assertTrue(entity.contains("implements Persistable<String>"));
+            assertTrue(entity.contains("@Transient\n  private boolean newEntity = true;"));
+            assertTrue(entity.contains("public boolean isNew() {\n    return newEntity;\n  }"));
+            assertTrue(entity.contains(
+                    "@PostLoad\n  @PrePersist\n  protected void markNotNew() {\n    this.newEntity = false;\n  }"));
+            assertTrue(entity.contains("@Version\n  private long version;"));
+        }
+
+        @Test
+        @DisplayName("should detect new entities from callbacks without a version field")
+        void shouldDetectNewEntitiesFromCallbacksWithoutVersion() {
+            // When
+            String entity = generate(entity(NewEntityDetection.CALLBACK, false));
+
+            // Then
+            assertTrue(entity.contains("return newEntity;"));
+            assertFalse(entity.contains("@Version"));
+        }
+    }
+
+    // Helper methods
+
+    private String generate(EntityModel entity) {
+        return generator.generate(entity, MergeMode.OVERWRITE).content();
+    }
+
+    private static EntityModel entity(NewEntityDetection detection, boolean optimisticLocking) {
+        return EntityModel.builder()
+                .entityClassName("OrderEntity")
+                .entityPackage("com.example.infrastructure.persistence.entity")
+                .tableName("orders")
+                .schema("")
+                .domainType(ClassRef.of("com.example.Order"))
+                .idModel(IdModel.simple(
+                        ClassRef.of("java.lang.String"),
+                        ClassRef.of("com.example.OrderId"),
+                        IdGenerationStrategy.ASSIGNED,
+                        ""))
+                .properties(List.of())
+                .relationships(List.of())
+                .enableAuditing(false)
+                .enableOptimisticLocking(optimisticLocking)
+                .newEntityDetection(detection)
+                .build();
+    }
+}
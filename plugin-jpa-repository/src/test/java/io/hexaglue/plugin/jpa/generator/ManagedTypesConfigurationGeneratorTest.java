@@ -0,0 +1,76 @@
+/**
+ * This Source Code Form is part of the HexaGlue project.
+ * Copyright (c) 2025 Scalastic
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ *
+ * Commercial licensing options are available for organizations wishing
+ * to use HexaGlue under terms different from the MPL 2.0.
+ * Contact: info@hexaglue.io
+ */
+package io.hexaglue.plugin.jpa.generator;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.hexaglue.spi.codegen.MergeMode;
+import io.hexaglue.spi.codegen.SourceFile;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link ManagedTypesConfigurationGenerator}.
+ *
+ * @since 0.4.0
+ */
+@DisplayName("ManagedTypesConfigurationGenerator")
+class ManagedTypesConfigurationGeneratorTest {
+
+    private static final String BASE_PACKAGE = "com.example.infrastructure.persistence";
+
+    private final ManagedTypesConfigurationGenerator generator = new ManagedTypesConfigurationGenerator(BASE_PACKAGE);
+
+    @Test
+    @DisplayName("should expose the generated classes as managed types")
+    void shouldExposeManagedTypes() {
+        // When
+        SourceFile file = generator.generate(
+                List.of(
+                        BASE_PACKAGE + ".entity.OrderEntity",
+                        BASE_PACKAGE + ".embeddable.MoneyEmbeddable",
+                        BASE_PACKAGE + ".converter.EmailConverter"),
+                MergeMode.OVERWRITE);
+
+        // Then
+        assertEquals(BASE_PACKAGE + ".config.JpaManagedTypesConfiguration", file.qualifiedTypeName());
+        assertTrue(file.content().contains("@Bean\n  public PersistenceManagedTypes persistenceManagedTypes() {"));
+        assertTrue(compact(file.content())
+                .contains("returnPersistenceManagedTypes.of(List.of(\"" + BASE_PACKAGE + ".entity.OrderEntity\",\""
+                        + BASE_PACKAGE + ".embeddable.MoneyEmbeddable\",\"" + BASE_PACKAGE
+                        + ".converter.EmailConverter\"),List.of());"));
+    }
+
+    @Test
+    @DisplayName("should declare a lite configuration")
+    void shouldDeclareLiteConfiguration() {
+        // When
+        String configuration = generator
+                .generate(List.of(BASE_PACKAGE + ".entity.OrderEntity"), MergeMode.OVERWRITE)
+                .content();
+
+        // Then
+        assertTrue(compact(configuration).contains("@Configuration(proxyBeanMethods=false)"));
+    }
+
+    // Helper methods
+
+    /**
+     * Removes all whitespace, so that assertions do not depend on how statements are wrapped.
+     */
+    private static String compact(String source) {
+        return source.replaceAll("\\s+", "");
+    }
+}
@@ -0,0 +1,131 @@
+/**
+ * This Source Code Form is part of the HexaGlue project.
+ * Copyright (c) 2025 Scalastic
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ *
+ * Commercial licensing options are available for organizations wishing
+ * to use HexaGlue under terms different from the MPL 2.0.
+ * Contact: info@hexaglue.io
+ */
+package io.hexaglue.plugin.jpa.generator;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import io.hexaglue.plugin.jpa.analysis.DomainTypeIndex;
+import io.hexaglue.plugin.jpa.config.JpaPluginOptions.IdGenerationStrategy;
+import io.hexaglue.plugin.jpa.model.EntityModel;
+import io.hexaglue.plugin.jpa.model.IdModel;
+import io.hexaglue.plugin.jpa.model.JpaGenerationPlan;
+import io.hexaglue.plugin.jpa.model.RelationshipModel;
+import io.hexaglue.plugin.jpa.model.RelationshipModel.CollectionType;
+import io.hexaglue.plugin.jpa.model.RelationshipModel.RelationshipScope;
+import io.hexaglue.plugin.jpa.model.RelationshipModel.RelationshipType;
+import io.hexaglue.spi.codegen.MergeMode;
+import io.hexaglue.spi.ir.domain.DomainModelView;
+import io.hexaglue.spi.ir.ports.PortView;
+import io.hexaglue.spi.types.ClassRef;
+import io.hexaglue.spi.types.TypeRef;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link MapperGenerator}.
+ *
+ * @since 0.4.0
+ */
+@DisplayName("MapperGenerator")
+class MapperGeneratorTest {
+
+    private static final TypeRef ORDER = ClassRef.of("com.example.Order");
+
+    private DomainTypeIndex typeIndex;
+
+    @BeforeEach
+    void setUp() {
+        typeIndex = new DomainTypeIndex(mock(DomainModelView.class));
+    }
+
+    @Nested
+    @DisplayName("In-place update")
+    class UpdateEntityTests {
+
+        @Test
+        @DisplayName("should generate updateEntity for an aggregate without collections")
+        void shouldGenerateUpdateEntityWithoutCollections() {
+            // When
+            String mapper = generate(new MapperGenerator(typeIndex, false), entity(List.of()));
+
+            // Then
+            assertTrue(mapper.contains("void updateEntity(@MappingTarget OrderEntity entity, Order domain);"));
+        }
+
+        @Test
+        @DisplayName("should not generate updateEntity for an aggregate owning a child collection")
+        void shouldNotGenerateUpdateEntityWithChildCollection() {
+            // When
+            String mapper = generate(new MapperGenerator(typeIndex, false), entity(List.of(lines())));
+
+            // Then
+            assertFalse(mapper.contains("updateEntity"));
+            assertTrue(mapper.contains("OrderEntity toEntity(Order domain);"));
+            assertTrue(mapper.contains("Order toDomain(OrderEntity entity);"));
+        }
+    }
+
+    // Helper methods
+
+    private static String generate(MapperGenerator generator, EntityModel entity) {
+        PortView port = mock(PortView.class);
+        when(port.qualifiedName()).thenReturn("com.example.OrderRepository");
+        when(port.simpleName()).thenReturn("OrderRepository");
+
+        String base = "com.example.infrastructure.persistence";
+        JpaGenerationPlan plan = JpaGenerationPlan.builder()
+                .port(port)
+                .entityModel(entity)
+                .entityQualifiedName(entity.qualifiedClassName())
+                .springDataRepoQualifiedName(base + ".springdata.OrderJpaRepository")
+                .mapperQualifiedName(base + ".mapper.OrderMapper")
+                .adapterQualifiedName(base + ".adapter.OrderAdapter")
+                .build();
+        return generator.generate(plan, MergeMode.OVERWRITE).content();
+    }
+
+    private static EntityModel entity(List<RelationshipModel> relationships) {
+        return EntityModel.builder()
+                .entityClassName("OrderEntity")
+                .entityPackage("com.example.infrastructure.persistence.entity")
+                .tableName("orders")
+                .schema("")
+                .domainType(ORDER)
+                .idModel(IdModel.simple(
+                        ClassRef.of("java.lang.String"), ClassRef.of("java.lang.String"), IdGenerationStrategy.ASSIGNED, ""))
+                .properties(List.of())
+                .relationships(relationships)
+                .build();
+    }
+
+    private static RelationshipModel lines() {
+        return new RelationshipModel(
+                "lines",
+                RelationshipType.ONE_TO_MANY,
+                ClassRef.of("com.example.OrderLine"),
+                "OrderLineEntity",
+                CollectionType.LIST,
+                null,
+                RelationshipModel.FetchType.LAZY,
+                true,
+                null,
+                null,
+                RelationshipScope.INTRA_AGGREGATE);
+    }
+}
@@ -0,0 +1,162 @@
+/**
+ * This Source Code Form is part of the HexaGlue project.
+ * Copyright (c) 2025 Scalastic
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ *
+ * Commercial licensing options are available for organizations wishing
+ * to use HexaGlue under terms different from the MPL 2.0.
+ * Contact: info@hexaglue.io
+ */
+package io.hexaglue.plugin.jpa.generator;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.hexaglue.spi.codegen.MergeMode;
+import io.hexaglue.spi.codegen.SourceFile;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link PersistenceConfigurationGenerator}.
+ *
+ * @since 0.4.0
+ */
+@DisplayName("PersistenceConfigurationGenerator")
+class PersistenceConfigurationGeneratorTest {
+
+    private static final String BASE_PACKAGE = "com.example.infrastructure.persistence";
+
+    private final PersistenceConfigurationGenerator generator = new PersistenceConfigurationGenerator(BASE_PACKAGE);
+
+    @Test
+    @DisplayName("should place the configuration in the config package")
+    void shouldPlaceConfigurationInConfigPackage() {
+        // When
+        SourceFile file = generator.generate(
+                adapters("Order"), mappers("Order"), repositories("Order"), MergeMode.OVERWRITE);
+
+        // Then
+        assertEquals(BASE_PACKAGE + ".config.JpaPersistenceConfiguration", generator.qualifiedName());
+        assertEquals(generator.qualifiedName(), file.qualifiedTypeName());
+        assertTrue(file.content().contains("package " + BASE_PACKAGE + ".config;"));
+        assertTrue(compact(file.content()).contains("@Configuration(proxyBeanMethods=false)"));
+    }
+
+    @Nested
+    @DisplayName("Single port")
+    class SinglePortTests {
+
+        @Test
+        @DisplayName("should import the adapter without an array")
+        void shouldImportAdapterWithoutArray() {
+            // When
+            String configuration = generate("Order");
+
+            // Then
+            assertTrue(configuration.contains("@Import(OrderAdapter.class)"));
+        }
+
+        @Test
+        @DisplayName("should enable only the generated repository")
+        void shouldEnableOnlyGeneratedRepository() {
+            // When
+            String configuration = compact(generate("Order"));
+
+            // Then
+            assertTrue(configuration.contains("@EnableJpaRepositories(basePackages=\"" + BASE_PACKAGE
+                    + ".springdata\",includeFilters=@ComponentScan.Filter(type=FilterType.ASSIGNABLE_TYPE,"
+                    + "classes=OrderJpaRepository.class))"));
+        }
+
+        @Test
+        @DisplayName("should declare the mapper implementation as a bean")
+        void shouldDeclareMapperBean() {
+            // When
+            String configuration = generate("Order");
+
+            // Then
+            assertTrue(configuration.contains(
+                    "@Bean\n  public OrderMapper orderMapper() {\n    return new OrderMapperImpl();\n  }"));
+        }
+    }
+
+    @Nested
+    @DisplayName("Several ports")
+    class SeveralPortsTests {
+
+        @Test
+        @DisplayName("should import the adapters as an array")
+        void shouldImportAdaptersAsArray() {
+            // When
+            String configuration = generate("Customer", "Order");
+
+            // Then
+            assertTrue(configuration.contains("@Import({CustomerAdapter.class, OrderAdapter.class})"));
+        }
+
+        @Test
+        @DisplayName("should include the repositories as an array")
+        void shouldIncludeRepositoriesAsArray() {
+            // When
+            String configuration = compact(generate("Customer", "Order"));
+
+            // Then
+            assertTrue(configuration.contains("classes={CustomerJpaRepository.class,OrderJpaRepository.class}"));
+        }
+
+        @Test
+        @DisplayName("should declare one bean per mapper")
+        void shouldDeclareOneBeanPerMapper() {
+            // When
+            String configuration = generate("Customer", "Order");
+
+            // Then
+            assertTrue(configuration.contains("public CustomerMapper customerMapper() {"));
+            assertTrue(configuration.contains("return new CustomerMapperImpl();"));
+            assertTrue(configuration.contains("public OrderMapper orderMapper() {"));
+            assertTrue(configuration.contains("return new OrderMapperImpl();"));
+            assertFalse(configuration.contains("@Component"));
+        }
+    }
+
+    // Helper methods
+
+    private String generate(String... aggregates) {
+        return generator
+                .generate(adapters(aggregates), mappers(aggregates), repositories(aggregates), MergeMode.OVERWRITE)
+                .content();
+    }
+
+    /**
+     * Removes all whitespace, so that assertions do not depend on how annotation members are wrapped.
+     */
+    private static String compact(String source) {
+        return source.replaceAll("\\s+", "");
+    }
+
+    private static List<String> adapters(String... aggregates) {
+        return names("adapter", "Adapter", aggregates);
+    }
+
+    private static List<String> mappers(String... aggregates) {
+        return names("mapper", "Mapper", aggregates);
+    }
+
+    private static List<String> repositories(String... aggregates) {
+        return names("springdata", "JpaRepository", aggregates);
+    }
+
+    private static List<String> names(String subPackage, String suffix, String... aggregates) {
+        return Arrays.stream(aggregates)
+                .map(aggregate -> BASE_PACKAGE + "." + subPackage + "." + aggregate + suffix)
+                .toList();
+    }
+}
@@ -0,0 +1,179 @@
+/**
+ * This Source Code Form is part of the HexaGlue project.
+ * Copyright (c) 2025 Scalastic
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ *
+ * Commercial licensing options are available for organizations wishing
+ * to use HexaGlue under terms different from the MPL 2.0.
+ * Contact: info@hexaglue.io
+ */
+package io.hexaglue.plugin.jpa.generator;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import io.hexaglue.plugin.jpa.config.JpaPluginOptions.IdGenerationStrategy;
+import io.hexaglue.plugin.jpa.config.JpaQueryOptions;
+import io.hexaglue.plugin.jpa.model.BulkDeleteModel;
+import io.hexaglue.plugin.jpa.model.EntityModel;
+import io.hexaglue.plugin.jpa.model.IdModel;
+import io.hexaglue.plugin.jpa.model.JpaGenerationPlan;
+import io.hexaglue.plugin.jpa.model.QueryMethodModel;
+import io.hexaglue.plugin.jpa.model.QueryMethodModel.QueryParameter;
+import io.hexaglue.plugin.jpa.model.QueryMethodModel.QueryType;
+import io.hexaglue.plugin.jpa.model.RelationshipModel;
+import io.hexaglue.plugin.jpa.model.RelationshipModel.CollectionType;
+import io.hexaglue.plugin.jpa.model.RelationshipModel.RelationshipScope;
+import io.hexaglue.plugin.jpa.model.RelationshipModel.RelationshipType;
+import io.hexaglue.spi.codegen.MergeMode;
+import io.hexaglue.spi.ir.ports.PortMethodView;
+import io.hexaglue.spi.ir.ports.PortParameterView;
+import io.hexaglue.spi.ir.ports.PortView;
+import io.hexaglue.spi.types.ClassRef;
+import io.hexaglue.spi.types.TypeRef;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link RepositoryGenerator}.
+ *
+ * @since 0.4.0
+ */
+@DisplayName("RepositoryGenerator")
+class RepositoryGeneratorTest {
+
+    private static final TypeRef ORDER = ClassRef.of("com.example.Order");
+    private static final TypeRef ORDER_ID = ClassRef.of("com.example.OrderId");
+
+    private final RepositoryGenerator generator = new RepositoryGenerator(true, JpaQueryOptions.defaults());
+
+    @Nested
+    @DisplayName("Modifying statements")
+    class ModifyingStatementTests {
+
+        @Test
+        @DisplayName("should flush without clearing the persistence context on soft delete by ID")
+        void shouldNotClearOnSoftDeleteById() {
+            // When
+            String repository = generate(entity().enableSoftDelete(true).build(), List.of());
+
+            // Then
+            assertTrue(compact(repository).contains("@Modifying(flushAutomatically=true)@Query"));
+            assertTrue(repository.contains("int softDeleteById("));
+            assertFalse(repository.contains("clearAutomatically"));
+        }
+
+        @Test
+        @DisplayName("should flush without clearing the persistence context on hard delete by ID")
+        void shouldNotClearOnHardDeleteById() {
+            // When
+            String repository = generate(entity().build(), List.of());
+
+            // Then
+            assertTrue(compact(repository).contains("@Modifying(flushAutomatically=true)@Query"));
+            assertTrue(repository.contains("int hardDeleteById("));
+            assertFalse(repository.contains("clearAutomatically"));
+        }
+
+        @Test
+        @DisplayName("should keep the cascading delete of an aggregate owning a child collection")
+        void shouldNotDeclareHardDeleteWithChildCollection() {
+            // When
+            String repository = generate(entity().relationships(List.of(lines())).build(), List.of());
+
+            // Then
+            assertFalse(repository.contains("hardDeleteById"));
+            assertFalse(repository.contains("@Modifying"));
+        }
+
+        @Test
+        @DisplayName("should clear the persistence context after a bulk delete")
+        void shouldClearAfterBulkDelete() {
+            // Given
+            QueryMethodModel deleteByStatus = QueryMethodModel.builder()
+                    .methodName("deleteByStatus")
+                    .queryType(QueryType.DELETE_BY)
+                    .parameters(List.of(new QueryParameter("status", ClassRef.of("java.lang.String"), "status")))
+                    .returnType(ClassRef.of("long"))
+                    .bulkDelete(new BulkDeleteModel("delete from OrderEntity e where e.status = :status", false))
+                    .build();
+
+            // When
+            String repository = generate(entity().build(), List.of(deleteByStatus));
+
+            // Then
+            assertTrue(compact(repository).contains("@Modifying(flushAutomatically=true,clearAutomatically=true)"));
+            assertTrue(repository.contains("int deleteByStatus("));
+        }
+    }
+
+    // Helper methods
+
+    private String generate(EntityModel entity, List<QueryMethodModel> queryMethods) {
+        PortMethodView deleteById = mock(PortMethodView.class);
+        PortParameterView id = mock(PortParameterView.class);
+        when(id.name()).thenReturn("id");
+        when(id.type()).thenReturn(ORDER_ID);
+        when(deleteById.name()).thenReturn("deleteById");
+        when(deleteById.returnType()).thenReturn(ClassRef.of("void"));
+        when(deleteById.parameters()).thenReturn(List.of(id));
+
+        PortView port = mock(PortView.class);
+        when(port.qualifiedName()).thenReturn("com.example.OrderRepository");
+        when(port.simpleName()).thenReturn("OrderRepository");
+        when(port.methods()).thenReturn(List.of(deleteById));
+
+        String base = "com.example.infrastructure.persistence";
+        JpaGenerationPlan plan = JpaGenerationPlan.builder()
+                .port(port)
+                .entityModel(entity)
+                .entityQualifiedName(entity.qualifiedClassName())
+                .springDataRepoQualifiedName(base + ".springdata.OrderJpaRepository")
+                .mapperQualifiedName(base + ".mapper.OrderMapper")
+                .adapterQualifiedName(base + ".adapter.OrderAdapter")
+                .queryMethods(queryMethods)
+                .build();
+        return generator.generate(plan, MergeMode.OVERWRITE).content();
+    }
+
+    /**
+     * Removes all whitespace, so that assertions do not depend on how annotation members are wrapped.
+     */
+    private static String compact(String source) {
+        return source.replaceAll("\\s+", "");
+    }
+
+    private static EntityModel.Builder entity() {
+        return EntityModel.builder()
+                .entityClassName("OrderEntity")
+                .entityPackage("com.example.infrastructure.persistence.entity")
+                .tableName("orders")
+                .schema("")
+                .domainType(ORDER)
+                .idModel(IdModel.simple(ClassRef.of("java.lang.String"), ORDER_ID, IdGenerationStrategy.ASSIGNED, ""))
+                .properties(List.of())
+                .relationships(List.of());
+    }
+
+    private static RelationshipModel lines() {
+        return new RelationshipModel(
+                "lines",
+                RelationshipType.ONE_TO_MANY,
+                ClassRef.of("com.example.OrderLine"),
+                "OrderLineEntity",
+                CollectionType.LIST,
+                null,
+                RelationshipModel.FetchType.LAZY,
+                true,
+                null,
+                null,
+                RelationshipScope.INTRA_AGGREGATE);
+    }
+}
@@ -0,0 +1,188 @@
+/**
+ * This Source Code Form is part of the HexaGlue project.
+ * Copyright (c) 2025 Scalastic
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ *
+ * Commercial licensing options are available for organizations wishing
+ * to use HexaGlue under terms different from the MPL 2.0.
+ * Contact: info@hexaglue.io
+ */
+package io.hexaglue.plugin.jpa.generator;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.hexaglue.plugin.jpa.generator.SupportClassRegistry.Kind;
+import io.hexaglue.plugin.jpa.generator.SupportClassRegistry.SupportClass;
+import io.hexaglue.spi.codegen.MergeMode;
+import io.hexaglue.spi.codegen.SourceFile;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link RuntimeHintsConfigurationGenerator}.
+ *
+ * @since 0.4.0
+ */
+@DisplayName("RuntimeHintsConfigurationGenerator")
+class RuntimeHintsConfigurationGeneratorTest {
+
+    private static final String BASE_PACKAGE = "com.example.infrastructure.persistence";
+
+    private final RuntimeHintsConfigurationGenerator generator = new RuntimeHintsConfigurationGenerator(BASE_PACKAGE);
+
+    @Test
+    @DisplayName("should import the registrar from the config package")
+    void shouldImportRegistrar() {
+        // When
+        SourceFile file = generator.generate(List.of(), List.of(), List.of(), MergeMode.OVERWRITE);
+
+        // Then
+        assertEquals(BASE_PACKAGE + ".config.JpaRuntimeHintsConfiguration", file.qualifiedTypeName());
+        assertTrue(compact(file.content())
+                .contains("@ImportRuntimeHints(JpaRuntimeHintsConfiguration.PersistenceHints.class)"));
+        assertTrue(compact(file.content())
+                .contains("publicstaticclassPersistenceHintsimplementsRuntimeHintsRegistrar{"));
+    }
+
+    @Nested
+    @DisplayName("Type lists")
+    class TypeListTests {
+
+        @Test
+        @DisplayName("should list entities and embeddables as persistent types")
+        void shouldListPersistentTypes() {
+            // When
+            String hints = compact(generate());
+
+            // Then
+            assertTrue(hints.contains("PERSISTENT_TYPES=List.of(\"" + BASE_PACKAGE + ".entity.OrderEntity\",\""
+                    + BASE_PACKAGE + ".embeddable.MoneyEmbeddable\",\"" + BASE_PACKAGE
+                    + ".embeddable.OrderLineIdEmbeddable\");"));
+        }
+
+        @Test
+        @DisplayName("should list converters")
+        void shouldListConverters() {
+            // When
+            String hints = compact(generate());
+
+            // Then
+            assertTrue(hints.contains("CONVERTERS=List.of(\"" + BASE_PACKAGE + ".converter.EmailConverter\");"));
+        }
+
+        @Test
+        @DisplayName("should list the MapStruct implementations of the mappers")
+        void shouldListMapperImplementations() {
+            // When
+            String hints = compact(generate());
+
+            // Then
+            assertTrue(hints.contains(
+                    "MAPPER_IMPLEMENTATIONS=List.of(\"" + BASE_PACKAGE + ".mapper.OrderMapperImpl\");"));
+        }
+
+        @Test
+        @DisplayName("should list only composite ID embeddables as serializable types")
+        void shouldListCompositeIdsAsSerializable() {
+            // When
+            String hints = compact(generate());
+
+            // Then
+            assertTrue(hints.contains(
+                    "SERIALIZABLE_TYPES=List.of(\"" + BASE_PACKAGE + ".embeddable.OrderLineIdEmbeddable\");"));
+        }
+
+        @Test
+        @DisplayName("should render empty lists without generated types")
+        void shouldRenderEmptyLists() {
+            // When
+            String hints = compact(generator.generate(List.of(), List.of(), List.of(), MergeMode.OVERWRITE)
+                    .content());
+
+            // Then
+            assertTrue(hints.contains("PERSISTENT_TYPES=List.of();"));
+            assertTrue(hints.contains("CONVERTERS=List.of();"));
+            assertTrue(hints.contains("MAPPER_IMPLEMENTATIONS=List.of();"));
+            assertTrue(hints.contains("SERIALIZABLE_TYPES=List.of();"));
+        }
+    }
+
+    @Nested
+    @DisplayName("Hint registration")
+    class HintRegistrationTests {
+
+        @Test
+        @DisplayName("should open persistent types to Hibernate reflection")
+        void shouldRegisterPersistentTypes() {
+            // When
+            String hints = compact(generate());
+
+            // Then
+            assertTrue(hints.contains("PERSISTENT_TYPES.forEach(type->hints.reflection().registerType("
+                    + "TypeReference.of(type),MemberCategory.INVOKE_DECLARED_CONSTRUCTORS,"
+                    + "MemberCategory.DECLARED_FIELDS,MemberCategory.INVOKE_DECLARED_METHODS));"));
+        }
+
+        @Test
+        @DisplayName("should register constructors and public methods of converters")
+        void shouldRegisterConverters() {
+            // When
+            String hints = compact(generate());
+
+            // Then
+            assertTrue(hints.contains("CONVERTERS.forEach(type->hints.reflection().registerType("
+                    + "TypeReference.of(type),MemberCategory.INVOKE_DECLARED_CONSTRUCTORS,"
+                    + "MemberCategory.INVOKE_PUBLIC_METHODS));"));
+        }
+
+        @Test
+        @DisplayName("should register only the constructors of mapper implementations")
+        void shouldRegisterMapperImplementations() {
+            // When
+            String hints = compact(generate());
+
+            // Then
+            assertTrue(hints.contains("MAPPER_IMPLEMENTATIONS.forEach(type->hints.reflection().registerType("
+                    + "TypeReference.of(type),MemberCategory.INVOKE_DECLARED_CONSTRUCTORS));"));
+        }
+
+        @Test
+        @DisplayName("should register serialization of composite IDs")
+        void shouldRegisterSerialization() {
+            // When
+            String hints = compact(generate());
+
+            // Then
+            assertTrue(hints.contains(
+                    "SERIALIZABLE_TYPES.forEach(type->hints.serialization().registerType(TypeReference.of(type)));"));
+        }
+    }
+
+    // Helper methods
+
+    private String generate() {
+        return generator
+                .generate(
+                        List.of(BASE_PACKAGE + ".entity.OrderEntity"),
+                        List.of(
+                                new SupportClass(Kind.EMBEDDABLE, "com.example.Money", false),
+                                new SupportClass(Kind.EMBEDDABLE, "com.example.OrderLineId", true),
+                                new SupportClass(Kind.CONVERTER, "com.example.Email", false)),
+                        List.of(BASE_PACKAGE + ".mapper.OrderMapper"),
+                        MergeMode.OVERWRITE)
+                .content();
+    }
+
+    /**
+     * Removes all whitespace, so that assertions do not depend on how statements are wrapped.
+     */
+    private static String compact(String source) {
+        return source.replaceAll("\\s+", "");
+    }
+}
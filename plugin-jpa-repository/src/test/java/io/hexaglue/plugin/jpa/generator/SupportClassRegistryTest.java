@@ -0,0 +1,191 @@
+/**
+ * This Source Code Form is part of the HexaGlue project.
+ * Copyright (c) 2025 Scalastic
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ *
+ * Commercial licensing options are available for organizations wishing
+ * to use HexaGlue under terms different from the MPL 2.0.
+ * Contact: info@hexaglue.io
+ */
+package io.hexaglue.plugin.jpa.generator;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import io.hexaglue.plugin.jpa.generator.SupportClassRegistry.Kind;
+import io.hexaglue.plugin.jpa.generator.SupportClassRegistry.PendingSupportClass;
+import io.hexaglue.plugin.jpa.generator.SupportClassRegistry.SupportClass;
+import io.hexaglue.spi.ir.domain.DomainTypeView;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link SupportClassRegistry}.
+ *
+ * @since 0.4.0
+ */
+@DisplayName("SupportClassRegistry")
+class SupportClassRegistryTest {
+
+    private SupportClassRegistry registry;
+    private DomainTypeView money;
+    private DomainTypeView address;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SupportClassRegistry();
+        money = valueObject("com.example.Money");
+        address = valueObject("com.example.Address");
+    }
+
+    @Nested
+    @DisplayName("Registration")
+    class RegistrationTests {
+
+        @Test
+        @DisplayName("should keep a single entry for a Value Object shared by several ports")
+        void shouldDeduplicateSharedValueObject() throws Exception {
+            // Given: 8 workers registering the same embeddable concurrently
+            ExecutorService executor = Executors.newFixedThreadPool(8);
+            try {
+                Callable<SupportClass> task = () -> registry.register(Kind.EMBEDDABLE, money, false);
+                List<Future<SupportClass>> results = executor.invokeAll(Collections.nCopies(8, task));
+                for (Future<SupportClass> result : results) {
+                    result.get();
+                }
+            } finally {
+                executor.shutdown();
+            }
+
+            // Then
+            assertEquals(1, registry.size());
+            assertEquals(1, registry.pending().size());
+        }
+
+        @Test
+        @DisplayName("should generate a composite embeddable when any port uses it as composite ID")
+        void shouldMergeCompositeFlag() {
+            // When
+            registry.register(Kind.EMBEDDABLE, money, false);
+            registry.register(Kind.EMBEDDABLE, money, true);
+            registry.register(Kind.EMBEDDABLE, money, false);
+
+            // Then
+            assertTrue(registry.pending().get(0).supportClass().compositeId());
+        }
+
+        @Test
+        @DisplayName("should never mark converters as composite")
+        void shouldIgnoreCompositeFlagForConverters() {
+            // When
+            SupportClass converter = registry.register(Kind.CONVERTER, money, true);
+
+            // Then
+            assertFalse(converter.compositeId());
+        }
+
+        @Test
+        @DisplayName("should only render classes registered by a port being generated")
+        void shouldNotRenderExistingOnly() {
+            // Given: Address comes from an up-to-date port only
+            registry.registerExisting(new SupportClass(Kind.EMBEDDABLE, "com.example.Address", false));
+            registry.registerExisting(new SupportClass(Kind.EMBEDDABLE, "com.example.Money", true));
+            registry.register(Kind.EMBEDDABLE, money, false);
+
+            // When
+            List<PendingSupportClass> pending = registry.pending();
+
+            // Then: Money keeps the composite form of the previous run
+            assertEquals(1, pending.size());
+            assertEquals("com.example.Money", pending.get(0).supportClass().valueObjectName());
+            assertTrue(pending.get(0).supportClass().compositeId());
+        }
+
+        @Test
+        @DisplayName("should list the classes of up-to-date ports among all registered classes")
+        void shouldListAllRegistered() {
+            // Given
+            registry.registerExisting(new SupportClass(Kind.CONVERTER, "com.example.Email", false));
+            registry.register(Kind.EMBEDDABLE, money, false);
+
+            // When
+            List<String> qualifiedNames = registry.all().stream()
+                    .map(supportClass -> supportClass.qualifiedName("com.example.infra"))
+                    .toList();
+
+            // Then
+            assertEquals(
+                    List.of(
+                            "com.example.infra.embeddable.MoneyEmbeddable",
+                            "com.example.infra.converter.EmailConverter"),
+                    qualifiedNames);
+        }
+
+        @Test
+        @DisplayName("should list embeddables before converters, sorted by name")
+        void shouldSortPending() {
+            // When
+            registry.register(Kind.CONVERTER, address, false);
+            registry.register(Kind.EMBEDDABLE, money, false);
+            registry.register(Kind.EMBEDDABLE, address, false);
+
+            // Then
+            assertEquals(
+                    List.of(
+                            "EMBEDDABLE:com.example.Address",
+                            "EMBEDDABLE:com.example.Money",
+                            "CONVERTER:com.example.Address"),
+                    registry.pending().stream()
+                            .map(pending -> pending.supportClass().encode())
+                            .toList());
+        }
+    }
+
+    @Nested
+    @DisplayName("Encoding")
+    class EncodingTests {
+
+        @Test
+        @DisplayName("should round-trip through the manifest form")
+        void shouldRoundTrip() {
+            // Given
+            SupportClass supportClass = new SupportClass(Kind.EMBEDDABLE, "com.example.OrderId", true);
+
+            // When
+            String encoded = supportClass.encode();
+
+            // Then
+            assertEquals("EMBEDDABLE:com.example.OrderId:composite", encoded);
+            assertEquals(Optional.of(supportClass), SupportClass.decode(encoded));
+        }
+
+        @Test
+        @DisplayName("should reject malformed entries")
+        void shouldRejectMalformed() {
+            assertTrue(SupportClass.decode("com.example.Money").isEmpty());
+            assertTrue(SupportClass.decode("UNKNOWN:com.example.Money").isEmpty());
+            assertTrue(SupportClass.decode("CONVERTER:").isEmpty());
+        }
+    }
+
+    private static DomainTypeView valueObject(String qualifiedName) {
+        DomainTypeView type = mock(DomainTypeView.class);
+        when(type.qualifiedName()).thenReturn(qualifiedName);
+        return type;
+    }
+}
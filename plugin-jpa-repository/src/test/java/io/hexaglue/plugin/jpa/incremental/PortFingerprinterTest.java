@@ -0,0 +1,278 @@
+/**
+ * This Source Code Form is part of the HexaGlue project.
+ * Copyright (c) 2025 Scalastic
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ *
+ * Commercial licensing options are available for organizations wishing
+ * to use HexaGlue under terms different from the MPL 2.0.
+ * Contact: info@hexaglue.io
+ */
+package io.hexaglue.plugin.jpa.incremental;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import io.hexaglue.plugin.jpa.analysis.DomainTypeIndex;
+import io.hexaglue.spi.ir.domain.DomainModelView;
+import io.hexaglue.spi.ir.domain.DomainPropertyView;
+import io.hexaglue.spi.ir.domain.DomainTypeKind;
+import io.hexaglue.spi.ir.domain.DomainTypeView;
+import io.hexaglue.spi.ir.ports.PortMethodView;
+import io.hexaglue.spi.ir.ports.PortParameterView;
+import io.hexaglue.spi.ir.ports.PortView;
+import io.hexaglue.spi.options.OptionsView;
+import io.hexaglue.spi.types.Nullability;
+import io.hexaglue.spi.types.TypeKind;
+import io.hexaglue.spi.types.TypeName;
+import io.hexaglue.spi.types.TypeRef;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Unit tests for {@link PortFingerprinter} and {@link FingerprintManifest}.
+ *
+ * @since 0.4.0
+ */
+@DisplayName("PortFingerprinter")
+class PortFingerprinterTest {
+
+    private static final String CUSTOMER_ADAPTER = "com.example.infrastructure.persistence.adapter.CustomerAdapter";
+
+    private DomainModelView domainModel;
+    private OptionsView.PluginOptionsView pluginOptions;
+    private PortView port;
+
+    @BeforeEach
+    void setUp() {
+        domainModel = mock(DomainModelView.class);
+        pluginOptions = mock(OptionsView.PluginOptionsView.class);
+        when(pluginOptions.getOrDefault(any(), any(), any())).thenAnswer(invocation -> invocation.getArgument(2));
+
+        DomainTypeView customer = createCustomer("java.lang.String");
+        when(domainModel.findType("com.example.Customer")).thenReturn(Optional.of(customer));
+        port = createPortWithSave("com.example.Customer");
+    }
+
+    @Nested
+    @DisplayName("Fingerprint")
+    class FingerprintTests {
+
+        @Test
+        @DisplayName("should be stable for unchanged inputs")
+        void shouldBeStableForUnchangedInputs() {
+            // When
+            String first = fingerprinter("v1").fingerprint(port);
+            String second = fingerprinter("v1").fingerprint(port);
+
+            // Then
+            assertEquals(first, second);
+            assertEquals(64, first.length(), "Should be a hexadecimal SHA-256 digest");
+        }
+
+        @Test
+        @DisplayName("should change when a property of a reachable domain type changes")
+        void shouldChangeWhenReachableTypeChanges() {
+            // Given
+            String before = fingerprinter("v1").fingerprint(port);
+            DomainTypeView changedCustomer = createCustomer("java.lang.Integer");
+            when(domainModel.findType("com.example.Customer")).thenReturn(Optional.of(changedCustomer));
+
+            // When
+            String after = fingerprinter("v1").fingerprint(port);
+
+            // Then
+            assertNotEquals(before, after);
+        }
+
+        @Test
+        @DisplayName("should change when the configuration changes")
+        void shouldChangeWhenConfigurationChanges() {
+            assertNotEquals(
+                    fingerprinter("v1").fingerprint(port), fingerprinter("v2").fingerprint(port));
+        }
+
+        @Test
+        @DisplayName("should change when a per-type option changes")
+        void shouldChangeWhenPerTypeOptionChanges() {
+            // Given
+            String before = fingerprinter("v1").fingerprint(port);
+            when(pluginOptions.getOrDefault(eq("types.com.example.Customer.tableName"), any(), any()))
+                    .thenReturn("clients");
+
+            // When
+            String after = fingerprinter("v1").fingerprint(port);
+
+            // Then
+            assertNotEquals(before, after);
+        }
+
+        @Test
+        @DisplayName("should change when a per-port option changes")
+        void shouldChangeWhenPerPortOptionChanges() {
+            // Given
+            String before = fingerprinter("v1").fingerprint(port);
+            when(pluginOptions.getOrDefault(
+                            eq("ports." + port.qualifiedName() + ".generateTransactions"), any(), any()))
+                    .thenReturn(false);
+
+            // When
+            String after = fingerprinter("v1").fingerprint(port);
+
+            // Then
+            assertNotEquals(before, after);
+        }
+    }
+
+    @Nested
+    @DisplayName("Manifest")
+    class ManifestTests {
+
+        @Test
+        @DisplayName("should round-trip fingerprints through the manifest file")
+        void shouldRoundTripFingerprints(@TempDir Path tempDir) throws Exception {
+            // Given
+            Path path = tempDir.resolve(".hexaglue/jpa.fingerprints");
+            String fingerprint = fingerprinter("v1").fingerprint(port);
+            writeSource(tempDir, CUSTOMER_ADAPTER);
+            IncrementalRun run = IncrementalRun.of(
+                    FingerprintManifest.empty(), Map.of(port.qualifiedName(), fingerprint), tempDir);
+            assertFalse(run.isUpToDate(port));
+            run.completed(port, List.of("EMBEDDABLE:com.example.Address"), List.of(CUSTOMER_ADAPTER));
+
+            // When
+            run.nextManifest().write(path);
+            FingerprintManifest reloaded = FingerprintManifest.read(path);
+
+            // Then
+            assertTrue(Files.isRegularFile(path));
+            assertTrue(IncrementalRun.of(reloaded, Map.of(port.qualifiedName(), fingerprint), tempDir)
+                    .isUpToDate(port));
+            assertEquals(List.of("EMBEDDABLE:com.example.Address"), reloaded.supportClasses(port.qualifiedName()));
+            assertEquals(List.of(CUSTOMER_ADAPTER), reloaded.artifacts(port.qualifiedName()));
+        }
+
+        @Test
+        @DisplayName("should regenerate a port whose outputs were deleted while the manifest was kept")
+        void shouldRegenerateWhenOutputsDeleted(@TempDir Path tempDir) throws Exception {
+            // Given
+            Path path = tempDir.resolve(".hexaglue/jpa.fingerprints");
+            String fingerprint = fingerprinter("v1").fingerprint(port);
+            Path adapter = writeSource(tempDir, CUSTOMER_ADAPTER);
+            IncrementalRun run = IncrementalRun.of(
+                    FingerprintManifest.empty(), Map.of(port.qualifiedName(), fingerprint), tempDir);
+            run.completed(port, List.of(), List.of(CUSTOMER_ADAPTER));
+            run.nextManifest().write(path);
+
+            // When
+            Files.delete(adapter);
+            FingerprintManifest reloaded = FingerprintManifest.read(path);
+            IncrementalRun next = IncrementalRun.of(reloaded, Map.of(port.qualifiedName(), fingerprint), tempDir);
+
+            // Then
+            assertFalse(next.isUpToDate(port));
+        }
+
+        @Test
+        @DisplayName("should regenerate a port recorded without outputs")
+        void shouldRegenerateWhenNoOutputsRecorded(@TempDir Path tempDir) {
+            // Given
+            String fingerprint = fingerprinter("v1").fingerprint(port);
+            FingerprintManifest previous = new FingerprintManifest(Map.of(port.qualifiedName(), fingerprint));
+
+            // When
+            IncrementalRun run = IncrementalRun.of(previous, Map.of(port.qualifiedName(), fingerprint), tempDir);
+
+            // Then
+            assertFalse(run.isUpToDate(port));
+        }
+
+        @Test
+        @DisplayName("should treat a missing manifest as empty")
+        void shouldTreatMissingManifestAsEmpty(@TempDir Path tempDir) throws Exception {
+            FingerprintManifest manifest = FingerprintManifest.read(tempDir.resolve("missing"));
+
+            assertTrue(manifest.fingerprints().isEmpty());
+        }
+    }
+
+    // Helper methods
+
+    private static Path writeSource(Path outputDirectory, String qualifiedName) throws Exception {
+        Path source = outputDirectory.resolve(qualifiedName.replace('.', '/') + ".java");
+        Files.createDirectories(source.getParent());
+        return Files.writeString(source, "// generated");
+    }
+
+    private PortFingerprinter fingerprinter(String configuration) {
+        return new PortFingerprinter(new DomainTypeIndex(domainModel), pluginOptions, configuration);
+    }
+
+    private PortView createPortWithSave(String domainType) {
+        PortView repositoryPort = mock(PortView.class);
+        PortMethodView method = mock(PortMethodView.class);
+        PortParameterView parameter = mock(PortParameterView.class);
+        TypeRef paramType = createTypeRef(domainType);
+        TypeRef returnType = createTypeRef("void");
+
+        when(repositoryPort.qualifiedName()).thenReturn("com.example.CustomerRepository");
+        when(repositoryPort.methods()).thenReturn(List.of(method));
+        when(method.name()).thenReturn("save");
+        when(method.returnType()).thenReturn(returnType);
+        when(method.parameters()).thenReturn(List.of(parameter));
+        when(parameter.type()).thenReturn(paramType);
+        when(parameter.name()).thenReturn("customer");
+
+        return repositoryPort;
+    }
+
+    private DomainTypeView createCustomer(String nameType) {
+        DomainPropertyView name = createProperty("name", nameType);
+        DomainTypeView customer = mock(DomainTypeView.class);
+
+        when(customer.qualifiedName()).thenReturn("com.example.Customer");
+        when(customer.kind()).thenReturn(DomainTypeKind.AGGREGATE_ROOT);
+        when(customer.properties()).thenReturn(List.of(name));
+
+        return customer;
+    }
+
+    private TypeRef createTypeRef(String typeName) {
+        TypeRef type = mock(TypeRef.class);
+
+        when(type.kind()).thenReturn(TypeKind.CLASS);
+        when(type.name()).thenReturn(TypeName.of(typeName));
+        when(type.render()).thenReturn(typeName);
+        when(type.nullability()).thenReturn(Nullability.NONNULL);
+        when(type.withNullability(any())).thenReturn(type);
+        when(type.collectionMetadata()).thenReturn(Optional.empty());
+
+        return type;
+    }
+
+    private DomainPropertyView createProperty(String name, String typeName) {
+        DomainPropertyView property = mock(DomainPropertyView.class);
+        TypeRef type = createTypeRef(typeName);
+
+        when(property.name()).thenReturn(name);
+        when(property.type()).thenReturn(type);
+
+        return property;
+    }
+}
@@ -0,0 +1,127 @@
+/**
+ * This Source Code Form is part of the HexaGlue project.
+ * Copyright (c) 2025 Scalastic
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ *
+ * Commercial licensing options are available for organizations wishing
+ * to use HexaGlue under terms different from the MPL 2.0.
+ * Contact: info@hexaglue.io
+ */
+package io.hexaglue.plugin.jpa.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.hexaglue.plugin.jpa.config.JpaPluginOptions.IdGenerationStrategy;
+import io.hexaglue.plugin.jpa.model.RelationshipModel.CollectionType;
+import io.hexaglue.plugin.jpa.model.RelationshipModel.RelationshipScope;
+import io.hexaglue.plugin.jpa.model.RelationshipModel.RelationshipType;
+import io.hexaglue.spi.types.ClassRef;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link EntityModel}.
+ *
+ * @since 0.4.0
+ */
+@DisplayName("EntityModel")
+class EntityModelTest {
+
+    @Nested
+    @DisplayName("Aggregate entity graph")
+    class AggregateGraphTests {
+
+        @Test
+        @DisplayName("should cover the child collections of the aggregate")
+        void shouldCoverChildCollections() {
+            // Given
+            EntityModel entity = entity(
+                    relationship(
+                            "lines",
+                            RelationshipType.ONE_TO_MANY,
+                            CollectionType.LIST,
+                            RelationshipScope.INTRA_AGGREGATE),
+                    relationship(
+                            "tags",
+                            RelationshipType.ELEMENT_COLLECTION,
+                            CollectionType.SET,
+                            RelationshipScope.INTRA_AGGREGATE),
+                    relationship("address", RelationshipType.EMBEDDED, null, RelationshipScope.INTRA_AGGREGATE));
+
+            // Then
+            assertEquals(Optional.of("OrderEntity.aggregate"), entity.aggregateGraphNameIfPresent());
+            assertEquals(List.of("lines", "tags"), entity.aggregateGraphAttributes());
+        }
+
+        @Test
+        @DisplayName("should include a single List collection")
+        void shouldIncludeSingleBag() {
+            // Given: Hibernate cannot fetch two bags at once
+            EntityModel entity = entity(
+                    relationship(
+                            "lines",
+                            RelationshipType.ONE_TO_MANY,
+                            CollectionType.LIST,
+                            RelationshipScope.INTRA_AGGREGATE),
+                    relationship(
+                            "notes",
+                            RelationshipType.ELEMENT_COLLECTION,
+                            CollectionType.LIST,
+                            RelationshipScope.INTRA_AGGREGATE));
+
+            // Then
+            assertEquals(List.of("lines"), entity.aggregateGraphAttributes());
+        }
+
+        @Test
+        @DisplayName("should not declare a graph without child collections")
+        void shouldSkipEntityWithoutCollections() {
+            // Given
+            EntityModel entity = entity(
+                    relationship("customer", RelationshipType.MANY_TO_ONE, null, RelationshipScope.INTER_AGGREGATE));
+
+            // Then
+            assertTrue(entity.aggregateGraphNameIfPresent().isEmpty());
+        }
+    }
+
+    private static EntityModel entity(RelationshipModel... relationships) {
+        return EntityModel.builder()
+                .entityClassName("OrderEntity")
+                .entityPackage("com.example.entity")
+                .tableName("orders")
+                .schema("")
+                .domainType(ClassRef.of("com.example.Order"))
+                .idModel(IdModel.simple(
+                        ClassRef.of("java.lang.String"),
+                        ClassRef.of("com.example.OrderId"),
+                        IdGenerationStrategy.ASSIGNED,
+                        ""))
+                .properties(List.of())
+                .relationships(List.of(relationships))
+                .build();
+    }
+
+    private static RelationshipModel relationship(
+            String name, RelationshipType type, CollectionType collectionType, RelationshipScope scope) {
+        return new RelationshipModel(
+                name,
+                type,
+                ClassRef.of("com.example.Line"),
+                null,
+                collectionType,
+                null,
+                RelationshipModel.FetchType.LAZY,
+                false,
+                null,
+                null,
+                scope);
+    }
+}
@@ -0,0 +1,78 @@
+/**
+ * This Source Code Form is part of the HexaGlue project.
+ * Copyright (c) 2025 Scalastic
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at https://mozilla.org/MPL/2.0/.
+ *
+ * Commercial licensing options are available for organizations wishing
+ * to use HexaGlue under terms different from the MPL 2.0.
+ * Contact: info@hexaglue.io
+ */
+package io.hexaglue.plugin.jpa.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.hexaglue.plugin.jpa.model.QueryMethodModel.QueryParameter;
+import io.hexaglue.plugin.jpa.model.QueryMethodModel.QueryType;
+import io.hexaglue.spi.types.ClassRef;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link QueryMethodModel}.
+ *
+ * @since 0.4.0
+ */
+@DisplayName("QueryMethodModel")
+class QueryMethodModelTest {
+
+    @Nested
+    @DisplayName("Builder")
+    class BuilderTests {
+
+        @Test
+        @DisplayName("should default result flags to false and features to absent")
+        void shouldApplyDefaults() {
+            // When
+            QueryMethodModel method = QueryMethodModel.builder()
+                    .methodName("countByStatus")
+                    .queryType(QueryType.COUNT_BY)
+                    .returnType(ClassRef.of("long"))
+                    .build();
+
+            // Then
+            assertTrue(method.parameters().isEmpty());
+            assertFalse(method.returnsCollection());
+            assertTrue(method.keysetIfPresent().isEmpty());
+            assertTrue(method.partialUpdateIfPresent().isEmpty());
+        }
+
+        @Test
+        @DisplayName("should keep the other components when a feature is added")
+        void shouldKeepComponentsOnCopy() {
+            // Given
+            StreamingModel streaming = new StreamingModel(StreamingModel.Kind.STREAM, "findByStatus", null);
+            QueryMethodModel method = QueryMethodModel.builder()
+                    .methodName("findByStatus")
+                    .queryType(QueryType.FIND_BY)
+                    .parameters(List.of(new QueryParameter("status", ClassRef.of("java.lang.String"), "status")))
+                    .returnType(ClassRef.of("java.util.stream.Stream<com.example.Order>"))
+                    .streaming(streaming)
+                    .build();
+            JpqlQueryModel jpql = new JpqlQueryModel("select e from OrderEntity e where e.status = :status", null);
+
+            // When
+            QueryMethodModel copy = method.withJpql(jpql);
+
+            // Then
+            assertEquals(method.toBuilder().jpql(jpql).build(), copy);
+            assertEquals(streaming, copy.streamingIfPresent().orElseThrow());
+        }
+    }
+}